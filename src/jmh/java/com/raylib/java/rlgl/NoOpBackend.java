@@ -0,0 +1,132 @@
+package com.raylib.java.rlgl;
+
+import java.awt.image.DataBuffer;
+import java.nio.ByteBuffer;
+
+// GL_33 backend with no OpenGL calls: render batch CPU side (vertex writes, flushes, upload ranges) is measured alone
+// NOTE: Batch uploads go to a no-op GL stand-in, buffer mapping fails so uploads use glBufferSubData() path
+class NoOpBackend extends GL_33{
+
+    static final rlBatchGL NO_OP_GL = new rlBatchGL(){
+        @Override
+        public void glBindBuffer(int target, int buffer){
+        }
+
+        @Override
+        public void glBufferData(int target, long size, int usage){
+        }
+
+        @Override
+        public void nglBufferSubData(int target, long offset, long size, long data){
+        }
+
+        @Override
+        public long nglMapBufferRange(int target, long offset, long length, int access){
+            return 0;
+        }
+
+        @Override
+        public boolean glUnmapBuffer(int target){
+            return true;
+        }
+
+        @Override
+        public long glFenceSync(int condition, int flags){
+            return 1;
+        }
+
+        @Override
+        public int glClientWaitSync(long sync, int flags, long timeout){
+            return 0x911A;  // GL_ALREADY_SIGNALED
+        }
+
+        @Override
+        public void glDeleteSync(long sync){
+        }
+
+        @Override
+        public void glActiveTexture(int texture){
+        }
+
+        @Override
+        public void glBindTexture(int target, int texture){
+        }
+
+        @Override
+        public void glDrawArrays(int mode, int first, int count){
+        }
+
+        @Override
+        public void glDrawElements(int mode, int count, int type, long indices){
+        }
+    };
+
+    private int nextId = 1;     // Fake GL objects ids
+    int drawBatches;            // rlDrawBatchCalls() calls, keeps draws from being optimized away
+
+    NoOpBackend(){
+        super(NO_OP_GL);
+    }
+
+    // Init rlgl state with a no-op backend, framebuffer width x height
+    static NoOpBackend Init(int width, int height){
+        NoOpBackend backend = new NoOpBackend();
+
+        new RLGL();
+        RLGL.rlglInitBackend(backend, width, height);
+
+        return backend;
+    }
+
+    @Override
+    public void rlLoadBatchBuffers(rlRenderBatch batch){
+        for (rlVertexBuffer vertexBuffer : batch.rlVertexBuffer){
+            for (int i = 0; i < vertexBuffer.vboId.length; i++){
+                vertexBuffer.vboId[i] = nextId++;
+            }
+        }
+    }
+
+    @Override
+    public void rlUnloadBatchBuffers(rlRenderBatch batch){
+    }
+
+    @Override
+    protected void rlDrawBatchCalls(rlRenderBatch batch){
+        drawBatches++;
+    }
+
+    @Override
+    public int rlLoadTexture(DataBuffer data, int width, int height, int format, int mipmapCount){
+        return nextId++;
+    }
+
+    @Override
+    public int rlLoadTextureBuffer(ByteBuffer data, int width, int height, int format){
+        return nextId++;
+    }
+
+    @Override
+    public void rlUpdateTexture(int id, int offsetX, int offsetY, int width, int height, int format, byte[] data){
+    }
+
+    @Override
+    public void rlUnloadTexture(int id){
+    }
+
+    @Override
+    public void rlBlendMode(int mode){
+    }
+
+    @Override
+    public void rlViewport(int x, int y, int width, int height){
+    }
+
+    @Override
+    public void rlClearColor(float r, float g, float b, float a){
+    }
+
+    @Override
+    public void rlClearScreenBuffers(){
+    }
+}
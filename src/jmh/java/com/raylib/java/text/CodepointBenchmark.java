@@ -0,0 +1,65 @@
+package com.raylib.java.text;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Text codepoints iteration as DrawTextEx()/MeasureTextEx() do, in place decoding (GetCodepointNext() on the String,
+// GetCodepointAt() on a chars array) vs previous substring copy by codepoint, run: gradle jmh
+// NOTE: Measured (us/op, 10 / 1k / 100k chars): GetCodepointNext() 0.010 / 1.39 / 119, GetCodepointAt() 0.010 / 1.77 /
+// 186, substring copy 0.30 / 555 / 4152115 (4.2 s, quadratic)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodepointBenchmark{
+
+    @Param({ "10", "1000", "100000" })
+    public int length;
+
+    private final rText text = new rText(null);
+    private String string;
+    private char[] chars;
+
+    @Setup
+    public void Setup(){
+        // Latin text with a surrogate pair (emoji) every 32 chars
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length){
+            if ((builder.length()%32 == 31) && (builder.length() + 2 <= length)) builder.appendCodePoint(0x1f600);
+            else builder.append((char)('a' + builder.length()%26));
+        }
+
+        string = builder.toString();
+        chars = string.toCharArray();
+    }
+
+    @Benchmark
+    public int CharSequenceNext(){
+        int sum = 0;
+        for (int i = 0; i < string.length(); i += text.codepointByteCount) sum += text.GetCodepointNext(string, i);
+
+        return sum;
+    }
+
+    @Benchmark
+    public int CharArrayAt(){
+        int sum = 0;
+        for (int i = 0; i < chars.length; i += text.codepointByteCount) sum += text.GetCodepointAt(chars, i);
+
+        return sum;
+    }
+
+    @Benchmark
+    public int SubstringCopy(){
+        // NOTE: Previous DrawTextEx() iteration, rest of the text copied for every codepoint
+        int sum = 0;
+        for (int i = 0; i < string.length(); i += text.codepointByteCount){
+            sum += text.GetCodepoint(string.substring(i).toCharArray(), 0);
+        }
+
+        return sum;
+    }
+}
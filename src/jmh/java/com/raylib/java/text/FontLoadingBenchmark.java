@@ -0,0 +1,93 @@
+package com.raylib.java.text;
+
+import com.raylib.java.Config;
+import com.raylib.java.textures.Image;
+import com.raylib.java.textures.RectPacker;
+import org.lwjgl.stb.STBTTFontinfo;
+import org.lwjgl.stb.STBTruetype;
+import org.lwjgl.system.MemoryUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import static com.raylib.java.text.rText.FontType.FONT_DEFAULT;
+
+// Font startup CPU side on a 3000 glyphs font: LoadFontData() glyphs rasterization and GenImageFontAtlas() packing,
+// sequential vs parallel rasterization (ForkJoin common pool), several font sizes, run: gradle jmh
+// NOTE: First 3000 codepoints available in font file are loaded, font file can be set with -p fontFile=<path>
+// NOTE: Measured (ms/op, DejaVuSans, 16 / 32 / 64 px, single CPU machine so parallel tasks can not run at once):
+// glyphs sequential 19.4 / 26.6 / 44.4, parallel 21.7 / 33.0 / 33.2; glyphs and atlas sequential 21.6 / 37.9 / 74.3,
+// parallel 27.5 / 43.1 / 84.2 (errors up to 50%, parallel speedup requires several cores)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FontLoadingBenchmark{
+
+    private static final int GLYPHS = 3000;
+
+    @Param({ "/usr/share/fonts/truetype/dejavu/DejaVuSans.ttf" })
+    public String fontFile;
+
+    @Param({ "16", "32", "64" })
+    public int fontSize;
+
+    @Param({ "false", "true" })
+    public boolean parallel;
+
+    private final rText text = new rText(null);
+    private byte[] fileData;
+    private final int[] codepoints = new int[GLYPHS];
+    private boolean parallelLoading;
+
+    @Setup
+    public void Setup() throws IOException{
+        fileData = Files.readAllBytes(Paths.get(fontFile));
+
+        // Codepoints with a glyph in font, from space
+        STBTTFontinfo fontInfo = STBTTFontinfo.create();
+        ByteBuffer fontBuffer = MemoryUtil.memAlloc(fileData.length);
+        fontBuffer.put(fileData).flip();
+
+        if (!STBTruetype.stbtt_InitFont(fontInfo, fontBuffer)) throw new IllegalStateException("Font not valid: " + fontFile);
+
+        int count = 0;
+        for (int codepoint = 32; (count < GLYPHS) && (codepoint < 0x110000); codepoint++){
+            if (STBTruetype.stbtt_FindGlyphIndex(fontInfo, codepoint) != 0) codepoints[count++] = codepoint;
+        }
+
+        MemoryUtil.memFree(fontBuffer);
+
+        if (count < GLYPHS) throw new IllegalStateException("Font has less than " + GLYPHS + " glyphs: " + fontFile);
+
+        parallelLoading = Config.SUPPORT_FONT_PARALLEL_LOADING;
+        Config.SUPPORT_FONT_PARALLEL_LOADING = parallel;
+    }
+
+    @TearDown
+    public void TearDown(){
+        Config.SUPPORT_FONT_PARALLEL_LOADING = parallelLoading;
+    }
+
+    @Benchmark
+    public GlyphInfo[] LoadGlyphs(){
+        return text.LoadFontData(fileData, fileData.length, fontSize, codepoints, GLYPHS, FONT_DEFAULT);
+    }
+
+    @Benchmark
+    public Image LoadGlyphsAndAtlas(){
+        Font font = new Font();
+        font.baseSize = fontSize;
+        font.glyphCount = GLYPHS;
+        font.glyphPadding = 4;
+        font.glyphs = text.LoadFontData(fileData, fileData.length, fontSize, codepoints, GLYPHS, FONT_DEFAULT);
+
+        return text.GenImageFontAtlas(font, RectPacker.PackMethod.PACK_SKYLINE);
+    }
+}
@@ -0,0 +1,81 @@
+package com.raylib.java.textures;
+
+import com.raylib.java.Config;
+import com.raylib.java.core.Color;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.raylib.java.rlgl.RLGL.rlPixelFormat.RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
+
+// Image row bands parallel processing (SUPPORT_IMAGE_PARALLEL_PROCESSING) sweep: image size x ForkJoin common pool threads
+// NOTE: Every nested class is a thread count, Serial runs with parallel processing disabled, run: gradle jmh
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+public abstract class ImageParallelBenchmark{
+
+    @Param({"256", "512", "1024", "2048"})
+    int size;
+
+    private final rTextures textures = new rTextures(null);
+    private Image image;
+
+    abstract boolean IsParallel();
+
+    @Setup
+    public void Setup(){
+        Config.SUPPORT_IMAGE_PARALLEL_PROCESSING = IsParallel();
+
+        byte[] data = new byte[size*size*4];
+        for (int i = 0; i < data.length; i++) data[i] = (byte) (i*31);
+
+        image = new Image(data, size, size, RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8, 1);
+    }
+
+    @TearDown
+    public void TearDown(){
+        textures.UnloadImage(image);
+    }
+
+    @Benchmark
+    public Image ColorContrast(){
+        textures.ImageColorContrast(image, 0.0f);
+        return image;
+    }
+
+    @Benchmark
+    public Color[] LoadColors(){
+        return textures.LoadImageColors(image);
+    }
+
+    @Fork(1)
+    public static class Serial extends ImageParallelBenchmark{
+        boolean IsParallel(){
+            return false;
+        }
+    }
+
+    @Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=1")
+    public static class Threads1 extends ImageParallelBenchmark{
+        boolean IsParallel(){
+            return true;
+        }
+    }
+
+    @Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=2")
+    public static class Threads2 extends ImageParallelBenchmark{
+        boolean IsParallel(){
+            return true;
+        }
+    }
+
+    @Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=4")
+    public static class Threads4 extends ImageParallelBenchmark{
+        boolean IsParallel(){
+            return true;
+        }
+    }
+}
@@ -115,6 +115,21 @@ public class Config{
      * Support VR simulation functionality (stereo rendering)
      */
     public static boolean SUPPORT_VR_SIMULATOR = false;
+    /**
+     * Orphan render batch vertex buffers storage before every upload, driver provides new storage instead of waiting for
+     * the GPU to finish reading previous batch data
+     */
+    public static boolean SUPPORT_BATCH_BUFFER_ORPHANING = true;
+    /**
+     * Store default render batch vertex data interleaved (position, texcoord, color) in a single buffer and VBO
+     */
+    public static boolean SUPPORT_BATCH_INTERLEAVED_VERTICES = false;
+    /**
+     * Default shader samples from a per draw call table of textures (texture slot stored by vertex), texture changes
+     * only start a new draw call once RL_BATCH_TEXTURE_SLOTS different textures are used (OpenGL 3.3 only), set before
+     * InitWindow()
+     */
+    public static boolean SUPPORT_BATCH_MULTI_TEXTURE = false;
 
     // rlgl: Configuration values
     //------------------------------------------------------------------------------------
@@ -123,12 +138,16 @@ public class Config{
     final static int ES2_DEFAULT_BATCH_BUFFER_ELEMENTS = 2048;    // Default internal render batch limits
 
 
-    final static int RL_DEFAULT_BATCH_BUFFERS = 1;      // Default number of batch buffers (multi-buffering)
+    public static int RL_DEFAULT_BATCH_BUFFERS = 1;      // Default number of batch buffers (multi-buffering), set before InitWindow()
+    public final static long RL_BATCH_FENCE_TIMEOUT = 1000000000L; // Batch buffer fence wait timeout (nanoseconds)
     public final static int RL_DEFAULT_BATCH_DRAWCALLS = 256;      // Default number of batch draw calls (by state changes:
     // mode, texture)
 
     public final static int RL_DEFAULT_BATCH_MAX_TEXTURE_UNITS = 4; // Maximum number of textures units that can be activated on batch
     // drawing (SetShaderValueTexture())
+    public final static int RL_BATCH_TEXTURE_SLOTS = 16;         // Maximum number of textures sampled by a single batch draw call
+    // (SUPPORT_BATCH_MULTI_TEXTURE), slots skip the active texture units (RL_DEFAULT_BATCH_MAX_TEXTURE_UNITS)
+    // NOTE: Slots use texture units up to RL_BATCH_TEXTURE_SLOTS + RL_DEFAULT_BATCH_MAX_TEXTURE_UNITS - 1 (GL_MAX_TEXTURE_IMAGE_UNITS)
     public final static int RL_MAX_MATRIX_STACK_SIZE = 32;      // Maximum size of internal Matrix stack
     public final static int RL_MAX_SHADER_LOCATIONS = 32;      // Maximum number of shader locations supported
 
@@ -142,6 +161,7 @@ public class Config{
     public static final String RL_DEFAULT_SHADER_ATTRIB_NAME_COLOR       =  "vertexColor";       // Binded by default to shader location: 3
     public static final String RL_DEFAULT_SHADER_ATTRIB_NAME_TANGENT     = "vertexTangent";     // Binded by default to shader location: 4
     public static final String RL_DEFAULT_SHADER_ATTRIB_NAME_TEXCOORD2   = "vertexTexCoord2";   // Binded by default to shader location: 5
+    public static final String RL_DEFAULT_SHADER_ATTRIB_NAME_TEXSLOT     = "vertexTexSlot";     // Binded by default to shader location: 6
     public static final String RL_DEFAULT_SHADER_UNIFORM_NAME_MVP        = "mvp";               // model-view-projection matrix
     public static final String RL_DEFAULT_SHADER_UNIFORM_NAME_VIEW       = "matView";           // view matrix
     public static final String RL_DEFAULT_SHADER_UNIFORM_NAME_PROJECTION = "matProjection";     // projection matrix
@@ -151,6 +171,16 @@ public class Config{
     public static final String RL_DEFAULT_SHADER_SAMPLER2D_NAME_TEXTURE0 = "texture0";          // texture0 (texture slot active 0)
     public static final String RL_DEFAULT_SHADER_SAMPLER2D_NAME_TEXTURE1 = "texture1";          // texture1 (texture slot active 1)
     public static final String RL_DEFAULT_SHADER_SAMPLER2D_NAME_TEXTURE2 = "texture2";          // texture2 (texture slot active 2)
+    public static final String RL_DEFAULT_SHADER_SAMPLER2D_NAME_TEXTURES = "textures";          // textures[] (batch texture slots, SUPPORT_BATCH_MULTI_TEXTURE)
+
+    //------------------------------------------------------------------------------------
+    // Module: raymath - Configuration Flags
+    //------------------------------------------------------------------------------------
+    /**
+     * RaymathBatch functions use jdk.incubator.vector SIMD kernels when they are built (gradle -PvectorApi) and
+     * the module is available at runtime (--add-modules jdk.incubator.vector), scalar loops are used otherwise
+     */
+    public static boolean SUPPORT_VECTOR_API = true;
 
     //------------------------------------------------------------------------------------
     // Module: rShapes - Configuration Flags
@@ -197,6 +227,22 @@ public class Config{
      * If not defined, still some functions are supported: ImageFormat(), ImageCrop(), ImageToPOT()
      */
     public static boolean SUPPORT_IMAGE_MANIPULATION = true;
+    /**
+     * Track image native data allocations (debug mode): images data not unloaded (UnloadImage()/Image.close())
+     * and released by garbage collector is reported with the allocation stack trace
+     */
+    public static boolean SUPPORT_IMAGE_LEAK_TRACKING = false;
+    /**
+     * Process big images in parallel row bands (ForkJoin common pool) on pixel operations: ImageFormat(), ImageColor*(),
+     * ImageAlphaPremultiply(), GenImageCellular()... used for images with IMAGE_PARALLEL_MIN_PIXELS pixels or more
+     */
+    public static boolean SUPPORT_IMAGE_PARALLEL_PROCESSING = true;
+
+    // textures: Configuration values
+    //------------------------------------------------------------------------------------
+    public final static int IMAGE_SCRATCH_BUFFER_MAX_SIZE = 16*1024*1024;   // Maximum size of pooled native scratch buffers (by thread): LoadImageFromMemory()
+    public final static int IMAGE_PARALLEL_MIN_PIXELS = 256*256;            // Minimum image size (pixels) processed in parallel: ImageFormat(), ImageColor*()
+    public final static int IMAGE_PARALLEL_BAND_PIXELS = 16*1024;           // Pixels processed by a parallel task (row band size)
 
 
     //------------------------------------------------------------------------------------
@@ -222,12 +268,45 @@ public class Config{
      */
     public static boolean SUPPORT_TEXT_MANIPULATION = true;
 
+    /**
+     * Cache layouts of texts drawn with DrawText()/DrawTextEx() (LRU), static texts are not decoded, measured
+     * and tessellated again every frame
+     * NOTE: A text layout is only cached when the text is drawn a second time, texts drawn once are not cached
+     */
+    public static boolean SUPPORT_TEXT_LAYOUT_CACHE = true;
+
+    /**
+     * Rasterize font glyphs in parallel (ForkJoin common pool) on LoadFontData(), used for fonts with
+     * FONT_PARALLEL_LOADING_MIN_GLYPHS glyphs or more
+     */
+    public static boolean SUPPORT_FONT_PARALLEL_LOADING = true;
+
+    /**
+     * Cache generated fonts (atlas and glyphs metrics) in FONT_CACHE_DIRECTORY binary files: LoadFontFromMemoryEx()
+     * NOTE: Fonts are only generated on first load, cache file is memory mapped on next loads.
+     * Disabled by default (opt-in), cache files are written to disk
+     */
+    public static boolean SUPPORT_FONT_CACHE = false;
+
+    /**
+     * Extract font kerning pairs on TTF/OTF font loading and apply them when drawing/measuring text
+     * NOTE: Pairs are looked up in a KerningTable (no per-frame stb_truetype calls)
+     */
+    public static boolean SUPPORT_FONT_KERNING = true;
+
     // text: Configuration values
     //------------------------------------------------------------------------------------
     public final static int MAX_TEXT_BUFFER_LENGTH = 1024;        // Size of internal static buffers used on some functions:
     // TextFormat(), TextSubtext(), TextToUpper(), TextToLower(), TextToPascal(), TextSplit()
     public final static int MAX_TEXT_UNICODE_CHARS = 512;        // Maximum number of unicode codepoints: GetCodepoints()
     public final static int MAX_TEXTSPLIT_COUNT = 128;        // Maximum number of substrings to split: TextSplit()
+    public final static int MAX_TEXT_LAYOUT_CACHE = 256;        // Maximum number of text layouts cached: DrawTextEx()
+    public final static int MAX_TEXT_LAYOUT_CACHE_CHARS = 1024; // Maximum text length (chars) cached: DrawTextEx()
+    public final static int FONT_ATLAS_PAGE_SIZE = 1024;        // Dynamic font atlas pages size: LoadFontDynamic()
+    public final static int FONT_ATLAS_MAX_PAGES = 4;           // Maximum number of dynamic font atlas pages
+    public final static int FONT_PARALLEL_LOADING_MIN_GLYPHS = 128; // Minimum number of glyphs rasterized in parallel: LoadFontData()
+    public final static int FONT_KERNING_MAX_PAIR_GLYPHS = 512; // Maximum glyphs to query all pairs kerning (no kern table, GPOS only)
+    public static String FONT_CACHE_DIRECTORY = null;           // Generated fonts cache files directory, null: user cache directory
 
 
     //------------------------------------------------------------------------------------
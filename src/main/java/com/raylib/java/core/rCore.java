@@ -212,7 +212,7 @@ public class rCore{
         else if (SUPPORT_MODULE_RSHAPES){
             // Set default texture and rectangle to be used for shapes drawing
             // NOTE: rlgl default texture is a 1x1 pixel UNCOMPRESSED_R8G8B8A8
-            Texture2D texture = new Texture2D(rlgl.rlGetTextureIdDefault(), 1, 1, 1, RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
+            Texture2D texture = new Texture2D(RLGL.rlGetTextureIdDefault(), 1, 1, 1, RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
             SetShapesTexture(texture, new Rectangle(0.0f, 0.0f, 1.0f, 1.0f));    // WARNING: Module required: rshapes
         }
 
@@ -1022,7 +1022,7 @@ public class rCore{
      * End canvas drawing and swap buffers (double buffering)
      */
     public void EndDrawing(){
-        rlgl.rlDrawRenderBatchActive();      // Update and draw internal render batch
+        RLGL.rlDrawRenderBatchActive();      // Update and draw internal render batch
 
         if(SUPPORT_GIF_RECORDING) {
             // Draw record indicator
@@ -1073,7 +1073,7 @@ public class rCore{
                     DrawText("EVENTS PLAYING", 50, CORE.Window.screen.height - 25, 10, GREEN);
                 }
 
-                rlgl.rlDrawRenderBatchActive();  // Update and draw internal render batch
+                RLGL.rlDrawRenderBatchActive();  // Update and draw internal render batch
             }*/
         }
 
@@ -1118,7 +1118,7 @@ public class rCore{
 
     // Initialize 2D mode with custom camera (2D)
     public void BeginMode2D(Camera2D camera){
-        rlgl.rlDrawRenderBatchActive();                         // Draw Buffers (Only OpenGL 3+ and ES2)
+        RLGL.rlDrawRenderBatchActive();                         // Draw Buffers (Only OpenGL 3+ and ES2)
 
         RLGL.rlLoadIdentity();                   // Reset current matrix (modelview)
 
@@ -1131,7 +1131,7 @@ public class rCore{
 
     // Ends 2D mode with custom camera
     public void EndMode2D(){
-        rlgl.rlDrawRenderBatchActive();                         // Draw Buffers (Only OpenGL 3+ and ES2)
+        RLGL.rlDrawRenderBatchActive();                         // Draw Buffers (Only OpenGL 3+ and ES2)
 
         RLGL.rlLoadIdentity();                   // Reset current matrix (modelview)
         RLGL.rlMultMatrixf(MatrixToFloat(window.getScreenScale())); // Apply screen scaling if required
@@ -1139,7 +1139,7 @@ public class rCore{
 
     // Initializes 3D mode with custom camera (3D)
     public void BeginMode3D(Camera3D camera){
-        rlgl.rlDrawRenderBatchActive();                         // Draw Buffers (Only OpenGL 3+ and ES2)
+        RLGL.rlDrawRenderBatchActive();                         // Draw Buffers (Only OpenGL 3+ and ES2)
 
         RLGL.rlMatrixMode(RLGL.RL_PROJECTION);        // Switch to projection matrix
         RLGL.rlPushMatrix();                     // Save previous matrix, which contains the settings for the 2d ortho projection
@@ -1176,7 +1176,7 @@ public class rCore{
 
     // Ends 3D mode and returns to default 2D orthographic mode
     public void EndMode3D(){
-        rlgl.rlDrawRenderBatchActive();                         // Process internal buffers (update + draw)
+        RLGL.rlDrawRenderBatchActive();                         // Process internal buffers (update + draw)
 
         RLGL.rlMatrixMode(RLGL.RL_PROJECTION);        // Switch to projection matrix
         RLGL.rlPopMatrix();                      // Restore previous matrix (projection) from matrix stack
@@ -1191,7 +1191,7 @@ public class rCore{
 
     // Initializes render texture for drawing
     public void BeginTextureMode(RenderTexture target){
-        rlgl.rlDrawRenderBatchActive();                         // Draw Buffers (Only OpenGL 3+ and ES2)
+        RLGL.rlDrawRenderBatchActive();                         // Draw Buffers (Only OpenGL 3+ and ES2)
 
         RLGL.rlEnableFramebuffer(target.getId());     // Enable render target
 
@@ -1220,7 +1220,7 @@ public class rCore{
 
     // Ends drawing to render texture
     public void EndTextureMode(){
-        rlgl.rlDrawRenderBatchActive();                 // Draw Buffers (Only OpenGL 3+ and ES2)
+        RLGL.rlDrawRenderBatchActive();                 // Draw Buffers (Only OpenGL 3+ and ES2)
 
         RLGL.rlDisableFramebuffer();     // Disable render target (fbo)
 
@@ -1234,29 +1234,29 @@ public class rCore{
 
     // Begin custom shader mode
     public void BeginShaderMode(Shader shader){
-        rlgl.rlSetShader(shader.getId(), shader.getLocs());
+        RLGL.rlSetShader(shader.getId(), shader.getLocs());
     }
 
     // End custom shader mode (returns to default shader)
     public void EndShaderMode(){
-        rlgl.rlSetShader(rlgl.rlGetShaderIdDefault(), rlgl.rlGetShaderLocsDefault());
+        RLGL.rlSetShader(RLGL.rlGetShaderIdDefault(), RLGL.rlGetShaderLocsDefault());
     }
 
     // Begin blending mode (alpha, additive, multiplied)
     // NOTE: Only 3 blending modes supported, default blend mode is alpha
     public void BeginBlendMode(int mode){
-        rlgl.rlSetBlendMode(mode);
+        RLGL.rlSetBlendMode(mode);
     }
 
     // End blending mode (reset to default: alpha blending)
     public void EndBlendMode(){
-        rlgl.rlSetBlendMode(rlBlendMode.RL_BLEND_ALPHA);
+        RLGL.rlSetBlendMode(rlBlendMode.RL_BLEND_ALPHA);
     }
 
     // Begin scissor mode (define screen area for following drawing)
     // NOTE: Scissor rec refers to bottom-left corner, we change it to upper-left
     public void BeginScissorMode(int x, int y, int width, int height){
-        rlgl.rlDrawRenderBatchActive(); // Force drawing elements
+        RLGL.rlDrawRenderBatchActive(); // Force drawing elements
 
         rlgl.rlEnableScissorTest();
 
@@ -1279,7 +1279,7 @@ public class rCore{
 
     // End scissor mode
     public void EndScissorMode(){
-        rlgl.rlDrawRenderBatchActive(); // Force drawing elements
+        RLGL.rlDrawRenderBatchActive(); // Force drawing elements
         rlgl.rlDisableScissorTest();
     }
 
@@ -1466,7 +1466,7 @@ public class rCore{
 
     // Get shader attribute location
     public int GetShaderLocationAttrib(Shader shader, String attribName){
-        return rlgl.rlGetLocationAttrib(shader.id, attribName);
+        return RLGL.rlGetLocationAttrib(shader.id, attribName);
     }
 
     // Set shader uniform value
@@ -1484,7 +1484,7 @@ public class rCore{
     // Set shader uniform value (matrix 4x4)
     public void SetShaderValueMatrix(Shader shader, int locIndex, Matrix mat){
         rlEnableShader(shader.getId());
-        rlgl.rlSetUniformMatrix(locIndex, mat);
+        RLGL.rlSetUniformMatrix(locIndex, mat);
         //rlDisableShader();
     }
 
@@ -1736,7 +1736,7 @@ public class rCore{
         if (SUPPORT_MODULE_RTEXTURES) {
             Vector2 scale = GetWindowScaleDPI();
 
-            short[] imgData = rlgl.rlReadScreenPixels((int)((float)window.render.width*scale.x), (int)((float)window.render.height*scale.y));
+            short[] imgData = RLGL.rlReadScreenPixels((int)((float)window.render.width*scale.x), (int)((float)window.render.height*scale.y));
             byte[] dataB = new byte[imgData.length];
             IntStream.range(0, dataB.length).forEach(i -> dataB[i] = (byte) imgData[i]);
             Image image = new Image(dataB, window.render.width, window.render.height, 1,
@@ -1599,6 +1599,8 @@ public class rModels{
                 boolean updated = false; // set to true when anim vertex information is updated
                 Vector3 animVertex = new Vector3();
                 Vector3 animNormal = new Vector3();
+                Quaternion invRotation = new Quaternion();
+                Quaternion boneRotation = new Quaternion();
 
                 Vector3 inTranslation = new Vector3();
                 Quaternion inRotation = new Quaternion();
@@ -1640,13 +1642,18 @@ public class rModels{
                         outRotation = anim.framePoses[frame][boneId].rotation;
                         outScale = anim.framePoses[frame][boneId].scale;
 
+                        // NOTE: Vectors and quaternions are updated in place, no allocation by processed vertex
+                        QuaternionMultiplyTo(boneRotation, outRotation, QuaternionInvertTo(invRotation, inRotation));
+
                         // Vertices processing
                         // NOTE: We use meshes.vertices (default vertex position) to calculate meshes.animVertices (animated vertex position)
-                        animVertex = new Vector3(mesh.vertices[vCounter], mesh.vertices[vCounter + 1], mesh.vertices[vCounter + 2]);
-                        animVertex = Vector3Multiply(animVertex, outScale);
-                        animVertex = Vector3Subtract(animVertex, inTranslation);
-                        animVertex = Vector3RotateByQuaternion(animVertex, QuaternionMultiply(outRotation, QuaternionInvert(inRotation)));
-                        animVertex = Vector3Add(animVertex, outTranslation);
+                        animVertex.x = mesh.vertices[vCounter];
+                        animVertex.y = mesh.vertices[vCounter + 1];
+                        animVertex.z = mesh.vertices[vCounter + 2];
+                        Vector3MultiplyTo(animVertex, animVertex, outScale);
+                        Vector3SubtractTo(animVertex, animVertex, inTranslation);
+                        Vector3RotateByQuaternionTo(animVertex, animVertex, boneRotation);
+                        Vector3AddTo(animVertex, animVertex, outTranslation);
                         // animVertex = Vector3Transform(animVertex, model.transform);
                         mesh.animVertices[vCounter] += animVertex.x*boneWeight;
                         mesh.animVertices[vCounter + 1] += animVertex.y*boneWeight;
@@ -1656,8 +1663,10 @@ public class rModels{
                         // Normals processing
                         // NOTE: We use meshes.baseNormals (default normal) to calculate meshes.normals (animated normals)
                         if (mesh.normals != null) {
-                            animNormal = new Vector3(mesh.normals[vCounter], mesh.normals[vCounter + 1], mesh.normals[vCounter + 2]);
-                            animNormal = Vector3RotateByQuaternion(animNormal, QuaternionMultiply(outRotation, QuaternionInvert(inRotation)));
+                            animNormal.x = mesh.normals[vCounter];
+                            animNormal.y = mesh.normals[vCounter + 1];
+                            animNormal.z = mesh.normals[vCounter + 2];
+                            Vector3RotateByQuaternionTo(animNormal, animNormal, boneRotation);
                             mesh.animNormals[vCounter] += animNormal.x*boneWeight;
                             mesh.animNormals[vCounter + 1] += animNormal.y*boneWeight;
                             mesh.animNormals[vCounter + 2] += animNormal.z*boneWeight;
@@ -3303,30 +3312,31 @@ public class rModels{
         // Check if mesh vertex data on CPU for testing
         if (mesh.vertices != null) {
             int triangleCount = mesh.triangleCount;
+            Vector3 a = new Vector3(), b = new Vector3(), c = new Vector3();
 
             // Test against all triangles in mesh
+            // NOTE: Triangle vertex are read from mesh vertex data and transformed in place, no allocation by triangle
             for (int i = 0; i < triangleCount; i++) {
-                Vector3 a, b, c;
-                Vector3[] vertdata = new Vector3[mesh.vertices.length];
-
-                for(int j = 0, k = 0; j < vertdata.length; j+=3, k++) {
-                    vertdata[k] = new Vector3(mesh.vertices[j], mesh.vertices[j + 1], mesh.vertices[j + 2]);
-                }
+                int ia, ib, ic;
 
                 if (mesh.indices != null) {
-                    a = vertdata[(int) mesh.indices[i*3 + 0]];
-                    b = vertdata[(int) mesh.indices[i*3 + 1]];
-                    c = vertdata[(int) mesh.indices[i*3 + 2]];
+                    ia = (int) mesh.indices[i*3 + 0];
+                    ib = (int) mesh.indices[i*3 + 1];
+                    ic = (int) mesh.indices[i*3 + 2];
                 }
                 else {
-                    a = vertdata[i*3 + 0];
-                    b = vertdata[i*3 + 1];
-                    c = vertdata[i*3 + 2];
+                    ia = i*3 + 0;
+                    ib = i*3 + 1;
+                    ic = i*3 + 2;
                 }
 
-                a = Vector3Transform(a, transform);
-                b = Vector3Transform(b, transform);
-                c = Vector3Transform(c, transform);
+                a.x = mesh.vertices[ia*3]; a.y = mesh.vertices[ia*3 + 1]; a.z = mesh.vertices[ia*3 + 2];
+                b.x = mesh.vertices[ib*3]; b.y = mesh.vertices[ib*3 + 1]; b.z = mesh.vertices[ib*3 + 2];
+                c.x = mesh.vertices[ic*3]; c.y = mesh.vertices[ic*3 + 1]; c.z = mesh.vertices[ic*3 + 2];
+
+                Vector3TransformTo(a, a, transform);
+                Vector3TransformTo(b, b, transform);
+                Vector3TransformTo(c, c, transform);
 
                 RayCollision triHitInfo = GetRayCollisionTriangle(ray, a, b, c);
 
@@ -3347,20 +3357,19 @@ public class rModels{
         float EPSILON = 0.000001f;        // A small number
 
         RayCollision collision = new RayCollision();
-        Vector3 edge1 = new Vector3();
-        Vector3 edge2 = new Vector3();
-        Vector3 p, q, tv;
+        Vector3 d = ray.direction, o = ray.position;
         float det, invDet, u, v, t;
 
+        // NOTE: Test vectors are kept in local values (no allocation, no shared state between calls)
         // Find vectors for two edges sharing V1
-        edge1 = Vector3Subtract(p2, p1);
-        edge2 = Vector3Subtract(p3, p1);
+        float e1x = p2.x - p1.x, e1y = p2.y - p1.y, e1z = p2.z - p1.z;     // Vector3Subtract(p2, p1)
+        float e2x = p3.x - p1.x, e2y = p3.y - p1.y, e2z = p3.z - p1.z;     // Vector3Subtract(p3, p1)
 
         // Begin calculating determinant - also used to calculate u parameter
-        p = Vector3CrossProduct(ray.direction, edge2);
+        float px = d.y*e2z - d.z*e2y, py = d.z*e2x - d.x*e2z, pz = d.x*e2y - d.y*e2x;  // Vector3CrossProduct(ray.direction, edge2)
 
         // If determinant is near zero, ray lies in plane of triangle or ray is parallel to plane of triangle
-        det = Vector3DotProduct(edge1, p);
+        det = e1x*px + e1y*py + e1z*pz;
 
         // Avoid culling!
         if ((det > -EPSILON) && (det < EPSILON)) {
@@ -3370,10 +3379,10 @@ public class rModels{
         invDet = 1.0f/det;
 
         // Calculate distance from V1 to ray origin
-        tv = Vector3Subtract(ray.position, p1);
+        float tx = o.x - p1.x, ty = o.y - p1.y, tz = o.z - p1.z;           // Vector3Subtract(ray.position, p1)
 
         // Calculate u parameter and test bound
-        u = Vector3DotProduct(tv, p)*invDet;
+        u = (tx*px + ty*py + tz*pz)*invDet;
 
         // The intersection lies outside of the triangle
         if ((u < 0.0f) || (u > 1.0f)) {
@@ -3381,24 +3390,24 @@ public class rModels{
         }
 
         // Prepare to test v parameter
-        q = Vector3CrossProduct(tv, edge1);
+        float qx = ty*e1z - tz*e1y, qy = tz*e1x - tx*e1z, qz = tx*e1y - ty*e1x;  // Vector3CrossProduct(tv, edge1)
 
         // Calculate V parameter and test bound
-        v = Vector3DotProduct(ray.direction, q)*invDet;
+        v = (d.x*qx + d.y*qy + d.z*qz)*invDet;
 
         // The intersection lies outside of the triangle
         if ((v < 0.0f) || ((u + v) > 1.0f)) {
             return collision;
         }
 
-        t = Vector3DotProduct(edge2, q)*invDet;
+        t = (e2x*qx + e2y*qy + e2z*qz)*invDet;
 
         if (t > EPSILON) {
             // Ray hit, get hit point and normal
             collision.hit = true;
             collision.distance = t;
-            collision.normal = Vector3Normalize(Vector3CrossProduct(edge1, edge2));
-            collision.point = Vector3Add(ray.position, Vector3Scale(ray.direction, t));
+            collision.normal = Vector3Normalize(new Vector3(e1y*e2z - e1z*e2y, e1z*e2x - e1x*e2z, e1x*e2y - e1y*e2x));
+            collision.point = new Vector3(o.x + d.x*t, o.y + d.y*t, o.z + d.z*t);
         }
 
         return collision;
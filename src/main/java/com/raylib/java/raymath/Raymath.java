@@ -12,6 +12,9 @@ public class Raymath{
      *       required code is directly re-implemented inside
      *     - Functions input parameters are always received by value (2 unavoidable exceptions)
      *     - Functions always use a variable named "result" for return
+     *     - Functions with To (vectors, quaternions) or Into (matrices) suffix store the result in the
+     *       provided dst object (first parameter) and return it, no allocation; dst can be an input
+     *       parameter. Functions returning a new object are implemented on top of those
      *     - Functions are always defined inline
      *     - Angles are always in radians (DEG2RAD/RAD2DEG macros provided for convenience)
      *
@@ -146,7 +149,15 @@ public class Raymath{
      * @return sum of v1 and v2
      */
     public static Vector2 Vector2Add(Vector2 v1, Vector2 v2){
-        return new Vector2(v1.x + v2.x, v1.y + v2.y);
+        return Vector2AddTo(new Vector2(), v1, v2);
+    }
+
+    // Add two vectors (v1 + v2), result stored in dst
+    public static Vector2 Vector2AddTo(Vector2 dst, Vector2 v1, Vector2 v2){
+        dst.x = v1.x + v2.x;
+        dst.y = v1.y + v2.y;
+
+        return dst;
     }
 
     /**
@@ -156,7 +167,15 @@ public class Raymath{
      * @return sum of v and add
      */
     public static Vector2 Vector2AddValue(Vector2 v, float add){
-        return new Vector2(v.x + add, v.y + add);
+        return Vector2AddValueTo(new Vector2(), v, add);
+    }
+
+    // Add vector and float value, result stored in dst
+    public static Vector2 Vector2AddValueTo(Vector2 dst, Vector2 v, float add){
+        dst.x = v.x + add;
+        dst.y = v.y + add;
+
+        return dst;
     }
 
     /**
@@ -166,7 +185,15 @@ public class Raymath{
      * @return difference between v1 and v2
      */
     public static Vector2 Vector2Subtract(Vector2 v1, Vector2 v2){
-        return new Vector2(v1.x - v2.x, v1.y - v2.y);
+        return Vector2SubtractTo(new Vector2(), v1, v2);
+    }
+
+    // Subtract two vectors (v1 - v2), result stored in dst
+    public static Vector2 Vector2SubtractTo(Vector2 dst, Vector2 v1, Vector2 v2){
+        dst.x = v1.x - v2.x;
+        dst.y = v1.y - v2.y;
+
+        return dst;
     }
 
     /**
@@ -176,7 +203,15 @@ public class Raymath{
      * @return difference of v and sub
      */
     public static Vector2 Vector2SubtractValue(Vector2 v, float sub){
-        return new Vector2(v.x - sub, v.y - sub);
+        return Vector2SubtractValueTo(new Vector2(), v, sub);
+    }
+
+    // Subtract vector by float value, result stored in dst
+    public static Vector2 Vector2SubtractValueTo(Vector2 dst, Vector2 v, float sub){
+        dst.x = v.x - sub;
+        dst.y = v.y - sub;
+
+        return dst;
     }
 
     /**
@@ -243,135 +278,204 @@ public class Raymath{
     }
 
     public static Vector2 Vector2Scale(Vector2 v, float scale){
-        return new Vector2(v.x * scale, v.y * scale);
+        return Vector2ScaleTo(new Vector2(), v, scale);
+    }
+
+    // Scale vector (multiply by value), result stored in dst
+    public static Vector2 Vector2ScaleTo(Vector2 dst, Vector2 v, float scale){
+        dst.x = v.x*scale;
+        dst.y = v.y*scale;
+
+        return dst;
     }
 
     public static Vector2 Vector2Multiply(Vector2 v1, Vector2 v2){
-        return new Vector2(v1.x * v2.x, v2.x * v2.y);
+        return Vector2MultiplyTo(new Vector2(), v1, v2);
+    }
+
+    // Multiply vector by vector, result stored in dst
+    public static Vector2 Vector2MultiplyTo(Vector2 dst, Vector2 v1, Vector2 v2){
+        dst.x = v1.x*v2.x;
+        dst.y = v1.y*v2.y;
+
+        return dst;
     }
 
     public static Vector2 Vector2Negate(Vector2 v){
-        return new Vector2(-v.x, -v.y);
+        return Vector2NegateTo(new Vector2(), v);
+    }
+
+    // Negate vector, result stored in dst
+    public static Vector2 Vector2NegateTo(Vector2 dst, Vector2 v){
+        dst.x = -v.x;
+        dst.y = -v.y;
+
+        return dst;
     }
 
     public static Vector2 Vector2Divide(Vector2 v1, Vector2 v2){
-        return new Vector2(v1.x / v2.x, v1.y / v2.y);
+        return Vector2DivideTo(new Vector2(), v1, v2);
+    }
+
+    // Divide vector by vector, result stored in dst
+    public static Vector2 Vector2DivideTo(Vector2 dst, Vector2 v1, Vector2 v2){
+        dst.x = v1.x/v2.x;
+        dst.y = v1.y/v2.y;
+
+        return dst;
     }
 
     public static Vector2 Vector2Normalize(Vector2 v){
-        Vector2 result = new Vector2();
+        return Vector2NormalizeTo(new Vector2(), v);
+    }
+
+    // Normalize provided vector, result stored in dst
+    public static Vector2 Vector2NormalizeTo(Vector2 dst, Vector2 v){
         float length = (float) Math.sqrt((v.x*v.x) + (v.y*v.y));
         if (length > 0) {
             float ilength = 1.0f/length;
-            result.x = v.x*ilength;
-            result.y = v.y*ilength;
+            dst.x = v.x*ilength;
+            dst.y = v.y*ilength;
         }
-        return result;
+        else {
+            dst.x = 0.0f;
+            dst.y = 0.0f;
+        }
+
+        return dst;
     }
 
     // Transforms a Vector2 by a given Matrix
     public static Vector2 Vector2Transform(Vector2 v, Matrix mat) {
-        Vector2 result = new Vector2();
+        return Vector2TransformTo(new Vector2(), v, mat);
+    }
 
+    // Transforms a Vector2 by a given Matrix, result stored in dst
+    public static Vector2 Vector2TransformTo(Vector2 dst, Vector2 v, Matrix mat) {
         float x = v.x;
         float y = v.y;
         float z = 0;
 
-        result.x = mat.m0*x + mat.m4*y + mat.m8*z + mat.m12;
-        result.y = mat.m1*x + mat.m5*y + mat.m9*z + mat.m13;
+        dst.x = mat.m0*x + mat.m4*y + mat.m8*z + mat.m12;
+        dst.y = mat.m1*x + mat.m5*y + mat.m9*z + mat.m13;
 
-        return result;
+        return dst;
     }
 
     public static Vector2 Vector2Lerp(Vector2 v1, Vector2 v2, float amount){
-        Vector2 result = new Vector2();
+        return Vector2LerpTo(new Vector2(), v1, v2, amount);
+    }
 
-        result.x = v1.x + amount * (v2.x - v1.x);
-        result.y = v1.y + amount * (v2.y - v1.y);
+    // Calculate linear interpolation between two vectors, result stored in dst
+    public static Vector2 Vector2LerpTo(Vector2 dst, Vector2 v1, Vector2 v2, float amount){
+        dst.x = v1.x + amount * (v2.x - v1.x);
+        dst.y = v1.y + amount * (v2.y - v1.y);
 
-        return result;
+        return dst;
     }
 
     public static Vector2 Vector2Reflect(Vector2 v, Vector2 normal){
-        Vector2 result = new Vector2();
+        return Vector2ReflectTo(new Vector2(), v, normal);
+    }
 
-        float dotProduct = Vector2DotProduct(v, normal);
+    // Calculate reflected vector to normal, result stored in dst
+    public static Vector2 Vector2ReflectTo(Vector2 dst, Vector2 v, Vector2 normal){
+        float dotProduct = v.x*normal.x + v.y*normal.y;
+        float nx = normal.x, ny = normal.y;
 
-        result.x = v.x - (2.0f * normal.x) * dotProduct;
-        result.y = v.y - (2.0f * normal.y) * dotProduct;
+        dst.x = v.x - (2.0f*nx)*dotProduct;
+        dst.y = v.y - (2.0f*ny)*dotProduct;
 
-        return result;
+        return dst;
     }
 
     public static Vector2 Vector2Rotate(Vector2 v, float angle){
-        Vector2 result = new Vector2();
+        return Vector2RotateTo(new Vector2(), v, angle);
+    }
 
+    // Rotate vector by angle, result stored in dst
+    public static Vector2 Vector2RotateTo(Vector2 dst, Vector2 v, float angle){
         float cosres = (float) Math.cos(angle);
         float sinres = (float) Math.sin(angle);
+        float x = v.x, y = v.y;
 
-        result.x = v.x*cosres - v.y*sinres;
-        result.y = v.x*sinres + v.y*cosres;
+        dst.x = x*cosres - y*sinres;
+        dst.y = x*sinres + y*cosres;
 
-        return result;
+        return dst;
     }
 
     public static Vector2 Vector2MoveTowards(Vector2 v, Vector2 target, float maxDistance){
-        Vector2 result = new Vector2();
+        return Vector2MoveTowardsTo(new Vector2(), v, target, maxDistance);
+    }
 
+    // Move vector towards target, result stored in dst
+    public static Vector2 Vector2MoveTowardsTo(Vector2 dst, Vector2 v, Vector2 target, float maxDistance){
         float dx = target.x - v.x;
         float dy = target.y - v.y;
         float value = (dx * dx) + (dy * dy);
 
         if (value == 0 || maxDistance >= 0 && value <= maxDistance * maxDistance) {
-            result.x = target.x;
-            result.y = target.y;
-            return result;
+            dst.x = target.x;
+            dst.y = target.y;
+            return dst;
         }
 
         float dist = (float) Math.sqrt(value);
 
-        result.x = v.x + dx / dist * maxDistance;
-        result.y = v.y + dy / dist * maxDistance;
+        dst.x = v.x + dx / dist * maxDistance;
+        dst.y = v.y + dy / dist * maxDistance;
 
-        return result;
+        return dst;
     }
 
 
     // Invert the given vector
     public static Vector2 Vector2Invert(Vector2 v) {
-        Vector2 result = new Vector2(1.0f/v.x, 1.0f/v.y);
-        return result;
+        return Vector2InvertTo(new Vector2(), v);
+    }
+
+    // Invert the given vector, result stored in dst
+    public static Vector2 Vector2InvertTo(Vector2 dst, Vector2 v) {
+        dst.x = 1.0f/v.x;
+        dst.y = 1.0f/v.y;
+
+        return dst;
     }
 
     // Clamp the components of the vector between
     // min and max values specified by the given vectors
     public static Vector2 Vector2Clamp(Vector2 v, Vector2 min, Vector2 max) {
-        Vector2 result = new Vector2();
+        return Vector2ClampTo(new Vector2(), v, min, max);
+    }
 
-        result.x = Math.min(max.x, Math.max(min.x, v.x));
-        result.y = Math.min(max.y, Math.max(min.y, v.y));
+    // Clamp the components of the vector between min and max vectors, result stored in dst
+    public static Vector2 Vector2ClampTo(Vector2 dst, Vector2 v, Vector2 min, Vector2 max) {
+        dst.x = Math.min(max.x, Math.max(min.x, v.x));
+        dst.y = Math.min(max.y, Math.max(min.y, v.y));
 
-        return result;
+        return dst;
     }
 
     // Clamp the magnitude of the vector between two min and max values
     public static Vector2 Vector2ClampValue(Vector2 v, float min, float max) {
-        Vector2 result = v;
+        return Vector2ClampValueTo(new Vector2(), v, min, max);
+    }
+
+    // Clamp the magnitude of the vector between two min and max values, result stored in dst
+    public static Vector2 Vector2ClampValueTo(Vector2 dst, Vector2 v, float min, float max) {
+        float scale = 1.0f;
         float length = (v.x*v.x) + (v.y*v.y);
         if (length > 0.0f) {
             length = (float) Math.sqrt(length);
-            if (length < min) {
-                float scale = min/length;
-                result.x = v.x*scale;
-                result.y = v.y*scale;
-            }
-            else if (length > max) {
-                float scale = max/length;
-                result.x = v.x*scale;
-                result.y = v.y*scale;
-            }
+            if (length < min) scale = min/length;
+            else if (length > max) scale = max/length;
         }
-        return result;
+
+        dst.x = v.x*scale;
+        dst.y = v.y*scale;
+
+        return dst;
     }
 
     // Check whether two given vectors are almost equal
@@ -394,57 +498,128 @@ public class Raymath{
     }
 
     public static Vector3 Vector3Add(Vector3 v1, Vector3 v2){
-        return new Vector3(v1.x + v2.x, v1.y + v2.y, v1.z + v2.z);
+        return Vector3AddTo(new Vector3(), v1, v2);
+    }
+
+    // Add two vectors, result stored in dst
+    public static Vector3 Vector3AddTo(Vector3 dst, Vector3 v1, Vector3 v2){
+        dst.x = v1.x + v2.x;
+        dst.y = v1.y + v2.y;
+        dst.z = v1.z + v2.z;
+
+        return dst;
     }
 
     public static Vector3 Vector3AddValue(Vector3 v, float add){
-        return new Vector3(v.x + add, v.y + add, v.z + add);
+        return Vector3AddValueTo(new Vector3(), v, add);
+    }
+
+    // Add vector and float value, result stored in dst
+    public static Vector3 Vector3AddValueTo(Vector3 dst, Vector3 v, float add){
+        dst.x = v.x + add;
+        dst.y = v.y + add;
+        dst.z = v.z + add;
+
+        return dst;
     }
 
     public static Vector3 Vector3Subtract(Vector3 v1, Vector3 v2){
-        return new Vector3(v1.x - v2.x, v1.y - v2.y, v1.z - v2.z);
+        return Vector3SubtractTo(new Vector3(), v1, v2);
+    }
+
+    // Subtract two vectors, result stored in dst
+    public static Vector3 Vector3SubtractTo(Vector3 dst, Vector3 v1, Vector3 v2){
+        dst.x = v1.x - v2.x;
+        dst.y = v1.y - v2.y;
+        dst.z = v1.z - v2.z;
+
+        return dst;
     }
 
     public static Vector3 Vector3SubtractValue(Vector3 v, float sub){
-        return new Vector3(v.x - sub, v.y - sub, v.z - sub);
+        return Vector3SubtractValueTo(new Vector3(), v, sub);
+    }
+
+    // Subtract vector by float value, result stored in dst
+    public static Vector3 Vector3SubtractValueTo(Vector3 dst, Vector3 v, float sub){
+        dst.x = v.x - sub;
+        dst.y = v.y - sub;
+        dst.z = v.z - sub;
+
+        return dst;
     }
 
     public static Vector3 Vector3Scale(Vector3 v, float scale){
-        return new Vector3(v.x * scale, v.y * scale, v.z * scale);
+        return Vector3ScaleTo(new Vector3(), v, scale);
+    }
+
+    // Multiply vector by scalar, result stored in dst
+    public static Vector3 Vector3ScaleTo(Vector3 dst, Vector3 v, float scale){
+        dst.x = v.x*scale;
+        dst.y = v.y*scale;
+        dst.z = v.z*scale;
+
+        return dst;
     }
 
     public static Vector3 Vector3Multiply(Vector3 v1, Vector3 v2){
-        return new Vector3(v1.x * v2.x, v1.y * v2.y, v1.z * v2.z);
+        return Vector3MultiplyTo(new Vector3(), v1, v2);
+    }
+
+    // Multiply vector by vector, result stored in dst
+    public static Vector3 Vector3MultiplyTo(Vector3 dst, Vector3 v1, Vector3 v2){
+        dst.x = v1.x*v2.x;
+        dst.y = v1.y*v2.y;
+        dst.z = v1.z*v2.z;
+
+        return dst;
     }
 
     public static Vector3 Vector3CrossProduct(Vector3 v1, Vector3 v2){
-        Vector3 result = new Vector3();
+        return Vector3CrossProductTo(new Vector3(), v1, v2);
+    }
 
-        result.x = v1.y * v2.z - v1.z * v2.y;
-        result.y = v1.z * v2.x - v1.x * v2.z;
-        result.z = v1.x * v2.y - v1.y * v2.x;
+    // Calculate two vectors cross product, result stored in dst
+    public static Vector3 Vector3CrossProductTo(Vector3 dst, Vector3 v1, Vector3 v2){
+        float x = v1.y*v2.z - v1.z*v2.y;
+        float y = v1.z*v2.x - v1.x*v2.z;
+        float z = v1.x*v2.y - v1.y*v2.x;
 
-        return result;
+        dst.x = x;
+        dst.y = y;
+        dst.z = z;
+
+        return dst;
     }
 
     public static Vector3 Vector3Perpendicular(Vector3 v){
-        Vector3 result;
+        return Vector3PerpendicularTo(new Vector3(), v);
+    }
 
+    // Calculate one vector perpendicular vector, result stored in dst
+    public static Vector3 Vector3PerpendicularTo(Vector3 dst, Vector3 v){
         float min = Math.abs(v.x);
-        Vector3 cardinalAxis = new Vector3(1.0f, 0.0f, 0.0f);
+        float cx = 1.0f, cy = 0.0f, cz = 0.0f;      // Cardinal axis
 
         if (Math.abs(v.y) < min){
             min = Math.abs(v.y);
-            cardinalAxis = new Vector3(0.0f, 1.0f, 0.0f);
+            cx = 0.0f;
+            cy = 1.0f;
         }
 
         if (Math.abs(v.z) < min){
-            cardinalAxis = new Vector3(0.0f, 0.0f, 1.0f);
+            cx = 0.0f;
+            cy = 0.0f;
+            cz = 1.0f;
         }
 
-        result = Vector3CrossProduct(v, cardinalAxis);
+        // Vector3CrossProduct(v, cardinalAxis)
+        float x = v.x, y = v.y, z = v.z;
+        dst.x = y*cz - z*cy;
+        dst.y = z*cx - x*cz;
+        dst.z = x*cy - y*cx;
 
-        return result;
+        return dst;
     }
 
     public static float Vector3Length(Vector3 v){
@@ -494,29 +669,46 @@ public class Raymath{
     }
 
     public static Vector3 Vector3Negate(Vector3 v){
-        return new Vector3(-v.x, -v.y, -v.z);
+        return Vector3NegateTo(new Vector3(), v);
+    }
+
+    // Negate provided vector, result stored in dst
+    public static Vector3 Vector3NegateTo(Vector3 dst, Vector3 v){
+        dst.x = -v.x;
+        dst.y = -v.y;
+        dst.z = -v.z;
+
+        return dst;
     }
 
     public static Vector3 Vector3Divide(Vector3 v1, Vector3 v2){
-        return new Vector3(v1.x / v2.x, v1.y / v2.y, v1.z / v2.z);
+        return Vector3DivideTo(new Vector3(), v1, v2);
+    }
+
+    // Divide vector by vector, result stored in dst
+    public static Vector3 Vector3DivideTo(Vector3 dst, Vector3 v1, Vector3 v2){
+        dst.x = v1.x/v2.x;
+        dst.y = v1.y/v2.y;
+        dst.z = v1.z/v2.z;
+
+        return dst;
     }
 
     public static Vector3 Vector3Normalize(Vector3 v){
-        Vector3 result = new Vector3();
-        result.x = v.x;
-        result.y = v.y;
-        result.z = v.z;
+        return Vector3NormalizeTo(new Vector3(), v);
+    }
 
-        float length, ilength;
-        length = Vector3Length(result);
+    // Normalize provided vector, result stored in dst
+    public static Vector3 Vector3NormalizeTo(Vector3 dst, Vector3 v){
+        float length = (float) Math.sqrt(v.x*v.x + v.y*v.y + v.z*v.z);
         if (length == 0.0f) length = 1.0f;
-        ilength = 1.0f / length;
+        float ilength = 1.0f/length;
 
-        result.x *= ilength;
-        result.y *= ilength;
-        result.z *= ilength;
+        dst.x = v.x*ilength;
+        dst.y = v.y*ilength;
+        dst.z = v.z*ilength;
 
-        return result;
+        return dst;
     }
 
     public static Vector3[] Vector3OrthoNormalize(Vector3 v1, Vector3 v2){
@@ -529,30 +721,71 @@ public class Raymath{
     }
 
     public static Vector3 Vector3Transform(Vector3 v, Matrix m){
-        Vector3 result = new Vector3(v.x, v.y, v.z);
+        return Vector3TransformTo(new Vector3(), v, m);
+    }
 
-        result.x = (m.m0 * result.x) + (m.m4 * result.y) + (m.m8 * result.z) + m.m12;
-        result.y = (m.m1 * result.x) + (m.m5 * result.y) + (m.m9 * result.z) + m.m13;
-        result.z = (m.m2 * result.x) + (m.m6 * result.y) + (m.m10 * result.z) + m.m14;
+    // Transforms a Vector3 by a given Matrix, result stored in dst
+    public static Vector3 Vector3TransformTo(Vector3 dst, Vector3 v, Matrix m){
+        float x = v.x;
+        float y = v.y;
+        float z = v.z;
 
-        return result;
+        dst.x = (m.m0 * x) + (m.m4 * y) + (m.m8 * z) + m.m12;
+        dst.y = (m.m1 * x) + (m.m5 * y) + (m.m9 * z) + m.m13;
+        dst.z = (m.m2 * x) + (m.m6 * y) + (m.m10 * z) + m.m14;
+
+        return dst;
+    }
+
+    // Transforms a vector stored in array by a given Matrix, result stored in dst array
+    // NOTE: Vector components are read from src[srcOffset..srcOffset + 2], dst can be the same array than src
+    public static void Vector3TransformArray(float[] dst, int dstOffset, float[] src, int srcOffset, Matrix m){
+        float x = src[srcOffset];
+        float y = src[srcOffset + 1];
+        float z = src[srcOffset + 2];
+
+        dst[dstOffset] = (m.m0 * x) + (m.m4 * y) + (m.m8 * z) + m.m12;
+        dst[dstOffset + 1] = (m.m1 * x) + (m.m5 * y) + (m.m9 * z) + m.m13;
+        dst[dstOffset + 2] = (m.m2 * x) + (m.m6 * y) + (m.m10 * z) + m.m14;
     }
 
     public static Vector3 Vector3RotateByQuaternion(Vector3 v, Quaternion q){
-        Vector3 result = new Vector3();
+        return Vector3RotateByQuaternionTo(new Vector3(), v, q);
+    }
 
-        result.x = v.x*(q.x*q.x + q.w*q.w - q.y*q.y - q.z*q.z) + v.y*(2*q.x*q.y - 2*q.w*q.z) + v.z*(2*q.x*q.z + 2*q.w*q.y);
-        result.y = v.x*(2*q.w*q.z + 2*q.x*q.y) + v.y*(q.w*q.w - q.x*q.x + q.y*q.y - q.z*q.z) + v.z*(-2*q.w*q.x + 2*q.y*q.z);
-        result.z = v.x*(-2*q.w*q.y + 2*q.x*q.z) + v.y*(2*q.w*q.x + 2*q.y*q.z)+ v.z*(q.w*q.w - q.x*q.x - q.y*q.y + q.z*q.z);
+    // Transform a vector by quaternion rotation, result stored in dst
+    public static Vector3 Vector3RotateByQuaternionTo(Vector3 dst, Vector3 v, Quaternion q){
+        float x = v.x, y = v.y, z = v.z;
 
-        return result;
+        dst.x = x*(q.x*q.x + q.w*q.w - q.y*q.y - q.z*q.z) + y*(2*q.x*q.y - 2*q.w*q.z) + z*(2*q.x*q.z + 2*q.w*q.y);
+        dst.y = x*(2*q.w*q.z + 2*q.x*q.y) + y*(q.w*q.w - q.x*q.x + q.y*q.y - q.z*q.z) + z*(-2*q.w*q.x + 2*q.y*q.z);
+        dst.z = x*(-2*q.w*q.y + 2*q.x*q.z) + y*(2*q.w*q.x + 2*q.y*q.z)+ z*(q.w*q.w - q.x*q.x - q.y*q.y + q.z*q.z);
+
+        return dst;
+    }
+
+    // Transform a vector stored in array by quaternion rotation, result stored in dst array
+    // NOTE: Vector components are read from src[srcOffset..srcOffset + 2], dst can be the same array than src
+    public static void Vector3RotateByQuaternionArray(float[] dst, int dstOffset, float[] src, int srcOffset, Quaternion q){
+        float x = src[srcOffset], y = src[srcOffset + 1], z = src[srcOffset + 2];
+
+        dst[dstOffset] = x*(q.x*q.x + q.w*q.w - q.y*q.y - q.z*q.z) + y*(2*q.x*q.y - 2*q.w*q.z) + z*(2*q.x*q.z + 2*q.w*q.y);
+        dst[dstOffset + 1] = x*(2*q.w*q.z + 2*q.x*q.y) + y*(q.w*q.w - q.x*q.x + q.y*q.y - q.z*q.z) + z*(-2*q.w*q.x + 2*q.y*q.z);
+        dst[dstOffset + 2] = x*(-2*q.w*q.y + 2*q.x*q.z) + y*(2*q.w*q.x + 2*q.y*q.z)+ z*(q.w*q.w - q.x*q.x - q.y*q.y + q.z*q.z);
     }
 
     // Rotates a vector around an axis
     public static Vector3 Vector3RotateByAxisAngle(Vector3 v, Vector3 axis, float angle) {
+        return Vector3RotateByAxisAngleTo(new Vector3(), v, axis, angle);
+    }
+
+    // Rotates a vector around an axis, result stored in dst
+    // NOTE: Axis is normalized internally, provided axis is not modified
+    public static Vector3 Vector3RotateByAxisAngleTo(Vector3 dst, Vector3 v, Vector3 axis, float angle) {
         // Using Euler-Rodrigues Formula
         // Ref.: https://en.wikipedia.org/w/index.php?title=Euler%E2%80%93Rodrigues_formula
-        Vector3 result = new Vector3(v.x, v.y, v.z);
+        float vx = v.x, vy = v.y, vz = v.z;
+
         // Vector3Normalize(axis);
         float length = (float) Math.sqrt(axis.x * axis.x + axis.y * axis.y + axis.z * axis.z);
 
@@ -561,131 +794,187 @@ public class Raymath{
         }
 
         float ilength = 1.0f / length;
-        axis.x *= ilength;
-        axis.y *= ilength;
-        axis.z *= ilength;
 
         angle /= 2.0f;
         float a = (float) Math.sin(angle);
-        float b = axis.x * a;
-        float c = axis.y * a;
-        float d = axis.z * a;
+        float b = axis.x * ilength * a;
+        float c = axis.y * ilength * a;
+        float d = axis.z * ilength * a;
         a = (float) Math.cos(angle);
 
-        Vector3 w = new Vector3(b, c, d);
-
-        // Vector3CrossProduct(w, v)
-        Vector3 wv = new Vector3(w.y * v.z - w.z * v.y, w.z * v.x - w.x * v.z, w.x * v.y - w.y * v.x);
+        // Vector3CrossProduct(w, v), w = (b, c, d)
+        float wvx = c * vz - d * vy;
+        float wvy = d * vx - b * vz;
+        float wvz = b * vy - c * vx;
 
         // Vector3CrossProduct(w, wv)
-        Vector3 wwv = new Vector3(w.y * wv.z - w.z * wv.y, w.z * wv.x - w.x * wv.z, w.x * wv.y - w.y * wv.x);
+        float wwvx = c * wvz - d * wvy;
+        float wwvy = d * wvx - b * wvz;
+        float wwvz = b * wvy - c * wvx;
 
-        // Vector3Scale(wv, 2 * a)
+        // v + Vector3Scale(wv, 2 * a) + Vector3Scale(wwv, 2)
         a *= 2;
-        wv.x *= a;
-        wv.y *= a;
-        wv.z *= a;
-
-        // Vector3Scale(wwv, 2)
-        wwv.x *= 2;
-        wwv.y *= 2;
-        wwv.z *= 2;
-
-        result.x += wv.x;
-        result.y += wv.y;
-        result.z += wv.z;
+        dst.x = vx + wvx * a + wwvx * 2;
+        dst.y = vy + wvy * a + wwvy * 2;
+        dst.z = vz + wvz * a + wwvz * 2;
 
-        result.x += wwv.x;
-        result.y += wwv.y;
-        result.z += wwv.z;
-
-        return result;
+        return dst;
     }
 
 
     public static Vector3 Vector3Lerp(Vector3 v1, Vector3 v2, float amount){
-        Vector3 result = new Vector3();
+        return Vector3LerpTo(new Vector3(), v1, v2, amount);
+    }
 
-        result.x = v1.x + amount * (v2.x - v1.x);
-        result.y = v1.y + amount * (v2.y - v1.y);
-        result.z = v1.z + amount * (v2.z - v1.z);
+    // Calculate linear interpolation between two vectors, result stored in dst
+    public static Vector3 Vector3LerpTo(Vector3 dst, Vector3 v1, Vector3 v2, float amount){
+        dst.x = v1.x + amount * (v2.x - v1.x);
+        dst.y = v1.y + amount * (v2.y - v1.y);
+        dst.z = v1.z + amount * (v2.z - v1.z);
 
-        return result;
+        return dst;
     }
 
     public static Vector3 Vector3Reflect(Vector3 v, Vector3 normal){
-        Vector3 result = new Vector3();
-        float dotProduct = Vector3DotProduct(v, normal);
+        return Vector3ReflectTo(new Vector3(), v, normal);
+    }
 
-        result.x = v.x - (2.0f * normal.x) * dotProduct;
-        result.y = v.y - (2.0f * normal.y) * dotProduct;
-        result.z = v.z - (2.0f * normal.z) * dotProduct;
+    // Calculate reflected vector to normal, result stored in dst
+    public static Vector3 Vector3ReflectTo(Vector3 dst, Vector3 v, Vector3 normal){
+        float dotProduct = v.x*normal.x + v.y*normal.y + v.z*normal.z;
+        float nx = normal.x, ny = normal.y, nz = normal.z;
 
-        return result;
+        dst.x = v.x - (2.0f * nx) * dotProduct;
+        dst.y = v.y - (2.0f * ny) * dotProduct;
+        dst.z = v.z - (2.0f * nz) * dotProduct;
+
+        return dst;
     }
 
     public static Vector3 Vector3Min(Vector3 v1, Vector3 v2){
-        Vector3 result = new Vector3();
+        return Vector3MinTo(new Vector3(), v1, v2);
+    }
 
-        result.x = Math.min(v1.x, v2.x);
-        result.y = Math.min(v1.y, v2.y);
-        result.z = Math.min(v1.z, v2.z);
+    // Get min value for each pair of components, result stored in dst
+    public static Vector3 Vector3MinTo(Vector3 dst, Vector3 v1, Vector3 v2){
+        dst.x = Math.min(v1.x, v2.x);
+        dst.y = Math.min(v1.y, v2.y);
+        dst.z = Math.min(v1.z, v2.z);
 
-        return result;
+        return dst;
     }
 
     public static Vector3 Vector3Max(Vector3 v1, Vector3 v2){
-        Vector3 result = new Vector3();
+        return Vector3MaxTo(new Vector3(), v1, v2);
+    }
 
-        result.x = Math.max(v1.x, v2.x);
-        result.y = Math.max(v1.y, v2.y);
-        result.z = Math.max(v1.z, v2.z);
+    // Get max value for each pair of components, result stored in dst
+    public static Vector3 Vector3MaxTo(Vector3 dst, Vector3 v1, Vector3 v2){
+        dst.x = Math.max(v1.x, v2.x);
+        dst.y = Math.max(v1.y, v2.y);
+        dst.z = Math.max(v1.z, v2.z);
 
-        return result;
+        return dst;
     }
 
     public static Vector3 Vector3Barycenter(Vector3 p, Vector3 a, Vector3 b, Vector3 c){
+        return Vector3BarycenterTo(new Vector3(), p, a, b, c);
+    }
+
+    // Compute barycenter coordinates (u, v, w) for point p with respect to triangle (a, b, c), result stored in dst
+    public static Vector3 Vector3BarycenterTo(Vector3 dst, Vector3 p, Vector3 a, Vector3 b, Vector3 c){
         //Vector v0 = b - a, v1 = c - a, v2 = p - a;
 
-        Vector3 v0 = new Vector3(b.x - a.x, b.y - a.y, b.z - a.z);   // Vector3Subtract(b, a)
-        Vector3 v1 = new Vector3(c.x - a.x, c.y - a.y, c.z - a.z);   // Vector3Subtract(c, a)
-        Vector3 v2 = new Vector3(p.x - a.x, p.y - a.y, p.z - a.z);   // Vector3Subtract(p, a)
-        float d00 = (v0.x*v0.x + v0.y*v0.y + v0.z*v0.z);    // Vector3DotProduct(v0, v0)
-        float d01 = (v0.x*v1.x + v0.y*v1.y + v0.z*v1.z);    // Vector3DotProduct(v0, v1)
-        float d11 = (v1.x*v1.x + v1.y*v1.y + v1.z*v1.z);    // Vector3DotProduct(v1, v1)
-        float d20 = (v2.x*v0.x + v2.y*v0.y + v2.z*v0.z);    // Vector3DotProduct(v2, v0)
-        float d21 = (v2.x*v1.x + v2.y*v1.y + v2.z*v1.z);    // Vector3DotProduct(v2, v1)
+        float v0x = b.x - a.x, v0y = b.y - a.y, v0z = b.z - a.z;   // Vector3Subtract(b, a)
+        float v1x = c.x - a.x, v1y = c.y - a.y, v1z = c.z - a.z;   // Vector3Subtract(c, a)
+        float v2x = p.x - a.x, v2y = p.y - a.y, v2z = p.z - a.z;   // Vector3Subtract(p, a)
+        float d00 = (v0x*v0x + v0y*v0y + v0z*v0z);    // Vector3DotProduct(v0, v0)
+        float d01 = (v0x*v1x + v0y*v1y + v0z*v1z);    // Vector3DotProduct(v0, v1)
+        float d11 = (v1x*v1x + v1y*v1y + v1z*v1z);    // Vector3DotProduct(v1, v1)
+        float d20 = (v2x*v0x + v2y*v0y + v2z*v0z);    // Vector3DotProduct(v2, v0)
+        float d21 = (v2x*v1x + v2y*v1y + v2z*v1z);    // Vector3DotProduct(v2, v1)
 
         float denom = d00 * d11 - d01 * d01;
 
-        Vector3 result = new Vector3();
-
-        result.y = (d11 * d20 - d01 * d21) / denom;
-        result.z = (d00 * d21 - d01 * d20) / denom;
-        result.x = 1.0f - (result.z + result.y);
+        dst.y = (d11 * d20 - d01 * d21) / denom;
+        dst.z = (d00 * d21 - d01 * d20) / denom;
+        dst.x = 1.0f - (dst.z + dst.y);
 
-        return result;
+        return dst;
     }
 
     public static Vector3 Vector3Unproject(Vector3 source, Matrix projection, Matrix view){
-        Vector3 result = new Vector3();
-
-        // Calculate unproject matrix (multiply view patrix by projection matrix) and invert it
-        Matrix matViewProj = MatrixMultiply(view, projection);
-        matViewProj = MatrixInvert(matViewProj);
+        return Vector3UnprojectTo(new Vector3(), source, projection, view);
+    }
+
+    // Projects a Vector3 from screen space into object space, result stored in dst
+    // NOTE: Unproject matrix is computed in local values, equivalent to MatrixInvert(MatrixMultiply(view, projection))
+    public static Vector3 Vector3UnprojectTo(Vector3 dst, Vector3 source, Matrix projection, Matrix view){
+        // Calculate unproject matrix (multiply view patrix by projection matrix)
+        Matrix l = view, r = projection;
+        float a00 = l.m0*r.m0 + l.m1*r.m4 + l.m2*r.m8 + l.m3*r.m12;
+        float a01 = l.m0*r.m1 + l.m1*r.m5 + l.m2*r.m9 + l.m3*r.m13;
+        float a02 = l.m0*r.m2 + l.m1*r.m6 + l.m2*r.m10 + l.m3*r.m14;
+        float a03 = l.m0*r.m3 + l.m1*r.m7 + l.m2*r.m11 + l.m3*r.m15;
+        float a10 = l.m4*r.m0 + l.m5*r.m4 + l.m6*r.m8 + l.m7*r.m12;
+        float a11 = l.m4*r.m1 + l.m5*r.m5 + l.m6*r.m9 + l.m7*r.m13;
+        float a12 = l.m4*r.m2 + l.m5*r.m6 + l.m6*r.m10 + l.m7*r.m14;
+        float a13 = l.m4*r.m3 + l.m5*r.m7 + l.m6*r.m11 + l.m7*r.m15;
+        float a20 = l.m8*r.m0 + l.m9*r.m4 + l.m10*r.m8 + l.m11*r.m12;
+        float a21 = l.m8*r.m1 + l.m9*r.m5 + l.m10*r.m9 + l.m11*r.m13;
+        float a22 = l.m8*r.m2 + l.m9*r.m6 + l.m10*r.m10 + l.m11*r.m14;
+        float a23 = l.m8*r.m3 + l.m9*r.m7 + l.m10*r.m11 + l.m11*r.m15;
+        float a30 = l.m12*r.m0 + l.m13*r.m4 + l.m14*r.m8 + l.m15*r.m12;
+        float a31 = l.m12*r.m1 + l.m13*r.m5 + l.m14*r.m9 + l.m15*r.m13;
+        float a32 = l.m12*r.m2 + l.m13*r.m6 + l.m14*r.m10 + l.m15*r.m14;
+        float a33 = l.m12*r.m3 + l.m13*r.m7 + l.m14*r.m11 + l.m15*r.m15;
+
+        // Invert unproject matrix (see MatrixInvertInto())
+        float b00 = a00 * a11 - a01 * a10;
+        float b01 = a00 * a12 - a02 * a10;
+        float b02 = a00 * a13 - a03 * a10;
+        float b03 = a01 * a12 - a02 * a11;
+        float b04 = a01 * a13 - a03 * a11;
+        float b05 = a02 * a13 - a03 * a12;
+        float b06 = a20 * a31 - a21 * a30;
+        float b07 = a20 * a32 - a22 * a30;
+        float b08 = a20 * a33 - a23 * a30;
+        float b09 = a21 * a32 - a22 * a31;
+        float b10 = a21 * a33 - a23 * a31;
+        float b11 = a22 * a33 - a23 * a32;
 
-        // Create quaternion from source point
-        Quaternion quat = new Quaternion(source.x, source.y, source.z, 1.0f );
+        float invDet = 1.0f / (b00 * b11 - b01 * b10 + b02 * b09 + b03 * b08 - b04 * b07 + b05 * b06);
 
-        // Multiply quat point by unproject matrix
-        quat = QuaternionTransform(quat, matViewProj);
+        float i0 = (a11 * b11 - a12 * b10 + a13 * b09) * invDet;
+        float i1 = (-a01 * b11 + a02 * b10 - a03 * b09) * invDet;
+        float i2 = (a31 * b05 - a32 * b04 + a33 * b03) * invDet;
+        float i3 = (-a21 * b05 + a22 * b04 - a23 * b03) * invDet;
+        float i4 = (-a10 * b11 + a12 * b08 - a13 * b07) * invDet;
+        float i5 = (a00 * b11 - a02 * b08 + a03 * b07) * invDet;
+        float i6 = (-a30 * b05 + a32 * b02 - a33 * b01) * invDet;
+        float i7 = (a20 * b05 - a22 * b02 + a23 * b01) * invDet;
+        float i8 = (a10 * b10 - a11 * b08 + a13 * b06) * invDet;
+        float i9 = (-a00 * b10 + a01 * b08 - a03 * b06) * invDet;
+        float i10 = (a30 * b04 - a31 * b02 + a33 * b00) * invDet;
+        float i11 = (-a20 * b04 + a21 * b02 - a23 * b00) * invDet;
+        float i12 = (-a10 * b09 + a11 * b07 - a12 * b06) * invDet;
+        float i13 = (a00 * b09 - a01 * b07 + a02 * b06) * invDet;
+        float i14 = (-a30 * b03 + a31 * b01 - a32 * b00) * invDet;
+        float i15 = (a20 * b03 - a21 * b01 + a22 * b00) * invDet;
+
+        // Multiply source point (x, y, z, 1) by unproject matrix, QuaternionTransform()
+        float x = source.x, y = source.y, z = source.z;
+        float qx = i0*x + i4*y + i8*z + i12;
+        float qy = i1*x + i5*y + i9*z + i13;
+        float qz = i2*x + i6*y + i10*z + i14;
+        float qw = i3*x + i7*y + i11*z + i15;
 
         // Normalized world points in vectors
-        result.x = quat.x/quat.w;
-        result.y = quat.y/quat.w;
-        result.z = quat.z/quat.w;
+        dst.x = qx/qw;
+        dst.y = qy/qw;
+        dst.z = qz/qw;
 
-        return result;
+        return dst;
     }
 
     public static Float3 Vector3ToFloatV(Vector3 v){
@@ -694,45 +983,52 @@ public class Raymath{
 
     // Invert the given vector
     public static Vector3 Vector3Invert(Vector3 v) {
-        Vector3 result = new Vector3(1.0f/v.x, 1.0f/v.y, 1.0f/v.z);
+        return Vector3InvertTo(new Vector3(), v);
+    }
 
-        return result;
+    // Invert the given vector, result stored in dst
+    public static Vector3 Vector3InvertTo(Vector3 dst, Vector3 v) {
+        dst.x = 1.0f/v.x;
+        dst.y = 1.0f/v.y;
+        dst.z = 1.0f/v.z;
+
+        return dst;
     }
     // Clamp the components of the vector between
     // min and max values specified by the given vectors
     public static Vector3 Vector3Clamp(Vector3 v, Vector3 min, Vector3 max) {
-        Vector3 result = new Vector3();
+        return Vector3ClampTo(new Vector3(), v, min, max);
+    }
 
-        result.x = Math.min(max.x, Math.max(min.x, v.x));
-        result.y = Math.min(max.y, Math.max(min.y, v.y));
-        result.z = Math.min(max.z, Math.max(min.z, v.z));
+    // Clamp the components of the vector between min and max vectors, result stored in dst
+    public static Vector3 Vector3ClampTo(Vector3 dst, Vector3 v, Vector3 min, Vector3 max) {
+        dst.x = Math.min(max.x, Math.max(min.x, v.x));
+        dst.y = Math.min(max.y, Math.max(min.y, v.y));
+        dst.z = Math.min(max.z, Math.max(min.z, v.z));
 
-        return result;
+        return dst;
     }
 
     // Clamp the magnitude of the vector between two values
     public static Vector3 Vector3ClampValue(Vector3 v, float min, float max) {
-        Vector3 result = v;
+        return Vector3ClampValueTo(new Vector3(), v, min, max);
+    }
+
+    // Clamp the magnitude of the vector between two values, result stored in dst
+    public static Vector3 Vector3ClampValueTo(Vector3 dst, Vector3 v, float min, float max) {
+        float scale = 1.0f;
         float length = (v.x*v.x) + (v.y*v.y) + (v.z*v.z);
-        if (length > 0.0f)
-        {
+        if (length > 0.0f) {
             length = (float) Math.sqrt(length);
-            if (length < min)
-            {
-                float scale = min/length;
-                result.x = v.x*scale;
-                result.y = v.y*scale;
-                result.z = v.z*scale;
-            }
-            else if (length > max)
-            {
-                float scale = max/length;
-                result.x = v.x*scale;
-                result.y = v.y*scale;
-                result.z = v.z*scale;
-            }
+            if (length < min) scale = min/length;
+            else if (length > max) scale = max/length;
         }
-        return result;
+
+        dst.x = v.x*scale;
+        dst.y = v.y*scale;
+        dst.z = v.z*scale;
+
+        return dst;
     }
 
     // Check whether two given vectors are almost equal
@@ -751,20 +1047,30 @@ public class Raymath{
     // from where the ray comes to the refractive index of the medium
     // on the other side of the surface
     public static Vector3 Vector3Refract(Vector3 v, Vector3 n, float r) {
-        Vector3 result = new Vector3();
+        return Vector3RefractTo(new Vector3(), v, n, r);
+    }
 
+    // Compute the direction of a refracted ray, result stored in dst (zero vector on total internal reflection)
+    public static Vector3 Vector3RefractTo(Vector3 dst, Vector3 v, Vector3 n, float r) {
         float dot = v.x*n.x + v.y*n.y + v.z*n.z;
         float d = 1.0f - r*r*(1.0f - dot*dot);
 
         if (d >= 0.0f) {
             d = (float) Math.sqrt(d);
-            v.x = r*v.x - (r*dot + d)*n.x;
-            v.y = r*v.y - (r*dot + d)*n.y;
-            v.z = r*v.z - (r*dot + d)*n.z;
-            result = v;
+            float x = r*v.x - (r*dot + d)*n.x;
+            float y = r*v.y - (r*dot + d)*n.y;
+            float z = r*v.z - (r*dot + d)*n.z;
+            dst.x = x;
+            dst.y = y;
+            dst.z = z;
+        }
+        else {
+            dst.x = 0.0f;
+            dst.y = 0.0f;
+            dst.z = 0.0f;
         }
 
-        return result;
+        return dst;
     }
 
 
@@ -792,31 +1098,39 @@ public class Raymath{
     }
 
     public static Matrix MatrixTranspose(Matrix mat){
-        Matrix result = new Matrix();
-
-        result.m0 = mat.m0;
-        result.m1 = mat.m4;
-        result.m2 = mat.m8;
-        result.m3 = mat.m12;
-        result.m4 = mat.m1;
-        result.m5 = mat.m5;
-        result.m6 = mat.m9;
-        result.m7 = mat.m13;
-        result.m8 = mat.m2;
-        result.m9 = mat.m6;
-        result.m10 = mat.m10;
-        result.m11 = mat.m14;
-        result.m12 = mat.m3;
-        result.m13 = mat.m7;
-        result.m14 = mat.m11;
-        result.m15 = mat.m15;
+        return MatrixTransposeInto(new Matrix(), mat);
+    }
 
-        return result;
+    // Transposes provided matrix, result stored in dst
+    public static Matrix MatrixTransposeInto(Matrix dst, Matrix mat){
+        float m1 = mat.m1, m2 = mat.m2, m3 = mat.m3, m6 = mat.m6, m7 = mat.m7, m11 = mat.m11;
+
+        dst.m0 = mat.m0;
+        dst.m1 = mat.m4;
+        dst.m2 = mat.m8;
+        dst.m3 = mat.m12;
+        dst.m4 = m1;
+        dst.m5 = mat.m5;
+        dst.m6 = mat.m9;
+        dst.m7 = mat.m13;
+        dst.m8 = m2;
+        dst.m9 = m6;
+        dst.m10 = mat.m10;
+        dst.m11 = mat.m14;
+        dst.m12 = m3;
+        dst.m13 = m7;
+        dst.m14 = m11;
+        dst.m15 = mat.m15;
+
+        return dst;
     }
 
     public static Matrix MatrixInvert(Matrix mat){
-        Matrix result = new Matrix();
+        return MatrixInvertInto(new Matrix(), mat);
+    }
 
+    // Invert provided matrix, result stored in dst
+    public static Matrix MatrixInvertInto(Matrix dst, Matrix mat){
         // Cache the matrix values (speed optimization)
         float a00 = mat.m0, a01 = mat.m1, a02 = mat.m2, a03 = mat.m3;
         float a10 = mat.m4, a11 = mat.m5, a12 = mat.m6, a13 = mat.m7;
@@ -839,114 +1153,149 @@ public class Raymath{
         // Calculate the invert determinant (inlined to avoid double-caching)
         float invDet = 1.0f / (b00 * b11 - b01 * b10 + b02 * b09 + b03 * b08 - b04 * b07 + b05 * b06);
 
-        result.m0 = (a11 * b11 - a12 * b10 + a13 * b09) * invDet;
-        result.m1 = (-a01 * b11 + a02 * b10 - a03 * b09) * invDet;
-        result.m2 = (a31 * b05 - a32 * b04 + a33 * b03) * invDet;
-        result.m3 = (-a21 * b05 + a22 * b04 - a23 * b03) * invDet;
-        result.m4 = (-a10 * b11 + a12 * b08 - a13 * b07) * invDet;
-        result.m5 = (a00 * b11 - a02 * b08 + a03 * b07) * invDet;
-        result.m6 = (-a30 * b05 + a32 * b02 - a33 * b01) * invDet;
-        result.m7 = (a20 * b05 - a22 * b02 + a23 * b01) * invDet;
-        result.m8 = (a10 * b10 - a11 * b08 + a13 * b06) * invDet;
-        result.m9 = (-a00 * b10 + a01 * b08 - a03 * b06) * invDet;
-        result.m10 = (a30 * b04 - a31 * b02 + a33 * b00) * invDet;
-        result.m11 = (-a20 * b04 + a21 * b02 - a23 * b00) * invDet;
-        result.m12 = (-a10 * b09 + a11 * b07 - a12 * b06) * invDet;
-        result.m13 = (a00 * b09 - a01 * b07 + a02 * b06) * invDet;
-        result.m14 = (-a30 * b03 + a31 * b01 - a32 * b00) * invDet;
-        result.m15 = (a20 * b03 - a21 * b01 + a22 * b00) * invDet;
-
-        return result;
+        dst.m0 = (a11 * b11 - a12 * b10 + a13 * b09) * invDet;
+        dst.m1 = (-a01 * b11 + a02 * b10 - a03 * b09) * invDet;
+        dst.m2 = (a31 * b05 - a32 * b04 + a33 * b03) * invDet;
+        dst.m3 = (-a21 * b05 + a22 * b04 - a23 * b03) * invDet;
+        dst.m4 = (-a10 * b11 + a12 * b08 - a13 * b07) * invDet;
+        dst.m5 = (a00 * b11 - a02 * b08 + a03 * b07) * invDet;
+        dst.m6 = (-a30 * b05 + a32 * b02 - a33 * b01) * invDet;
+        dst.m7 = (a20 * b05 - a22 * b02 + a23 * b01) * invDet;
+        dst.m8 = (a10 * b10 - a11 * b08 + a13 * b06) * invDet;
+        dst.m9 = (-a00 * b10 + a01 * b08 - a03 * b06) * invDet;
+        dst.m10 = (a30 * b04 - a31 * b02 + a33 * b00) * invDet;
+        dst.m11 = (-a20 * b04 + a21 * b02 - a23 * b00) * invDet;
+        dst.m12 = (-a10 * b09 + a11 * b07 - a12 * b06) * invDet;
+        dst.m13 = (a00 * b09 - a01 * b07 + a02 * b06) * invDet;
+        dst.m14 = (-a30 * b03 + a31 * b01 - a32 * b00) * invDet;
+        dst.m15 = (a20 * b03 - a21 * b01 + a22 * b00) * invDet;
+
+        return dst;
     }
 
     public static Matrix MatrixIdentity(){
-        return new Matrix(
-                1.0f, 0.0f, 0.0f, 0.0f,
-                0.0f, 1.0f, 0.0f, 0.0f,
-                0.0f, 0.0f, 1.0f, 0.0f,
-                0.0f, 0.0f, 0.0f, 1.0f);
+        return MatrixIdentityInto(new Matrix());
     }
 
-    public static Matrix MatrixAdd(Matrix left, Matrix right){
-        Matrix result = MatrixIdentity();
-
-        result.m0 = left.m0 + right.m0;
-        result.m1 = left.m1 + right.m1;
-        result.m2 = left.m2 + right.m2;
-        result.m3 = left.m3 + right.m3;
-        result.m4 = left.m4 + right.m4;
-        result.m5 = left.m5 + right.m5;
-        result.m6 = left.m6 + right.m6;
-        result.m7 = left.m7 + right.m7;
-        result.m8 = left.m8 + right.m8;
-        result.m9 = left.m9 + right.m9;
-        result.m10 = left.m10 + right.m10;
-        result.m11 = left.m11 + right.m11;
-        result.m12 = left.m12 + right.m12;
-        result.m13 = left.m13 + right.m13;
-        result.m14 = left.m14 + right.m14;
-        result.m15 = left.m15 + right.m15;
+    // Get identity matrix, result stored in dst
+    public static Matrix MatrixIdentityInto(Matrix dst){
+        dst.m0 = 1.0f; dst.m4 = 0.0f; dst.m8 = 0.0f; dst.m12 = 0.0f;
+        dst.m1 = 0.0f; dst.m5 = 1.0f; dst.m9 = 0.0f; dst.m13 = 0.0f;
+        dst.m2 = 0.0f; dst.m6 = 0.0f; dst.m10 = 1.0f; dst.m14 = 0.0f;
+        dst.m3 = 0.0f; dst.m7 = 0.0f; dst.m11 = 0.0f; dst.m15 = 1.0f;
 
-        return result;
+        return dst;
     }
 
-    public static Matrix MatrixSubtract(Matrix left, Matrix right){
-        Matrix result = MatrixIdentity();
-
-        result.m0 = left.m0 - right.m0;
-        result.m1 = left.m1 - right.m1;
-        result.m2 = left.m2 - right.m2;
-        result.m3 = left.m3 - right.m3;
-        result.m4 = left.m4 - right.m4;
-        result.m5 = left.m5 - right.m5;
-        result.m6 = left.m6 - right.m6;
-        result.m7 = left.m7 - right.m7;
-        result.m8 = left.m8 - right.m8;
-        result.m9 = left.m9 - right.m9;
-        result.m10 = left.m10 - right.m10;
-        result.m11 = left.m11 - right.m11;
-        result.m12 = left.m12 - right.m12;
-        result.m13 = left.m13 - right.m13;
-        result.m14 = left.m14 - right.m14;
-        result.m15 = left.m15 - right.m15;
+    public static Matrix MatrixAdd(Matrix left, Matrix right){
+        return MatrixAddInto(new Matrix(), left, right);
+    }
+
+    // Add two matrices (left + right), result stored in dst
+    public static Matrix MatrixAddInto(Matrix dst, Matrix left, Matrix right){
+        dst.m0 = left.m0 + right.m0;
+        dst.m1 = left.m1 + right.m1;
+        dst.m2 = left.m2 + right.m2;
+        dst.m3 = left.m3 + right.m3;
+        dst.m4 = left.m4 + right.m4;
+        dst.m5 = left.m5 + right.m5;
+        dst.m6 = left.m6 + right.m6;
+        dst.m7 = left.m7 + right.m7;
+        dst.m8 = left.m8 + right.m8;
+        dst.m9 = left.m9 + right.m9;
+        dst.m10 = left.m10 + right.m10;
+        dst.m11 = left.m11 + right.m11;
+        dst.m12 = left.m12 + right.m12;
+        dst.m13 = left.m13 + right.m13;
+        dst.m14 = left.m14 + right.m14;
+        dst.m15 = left.m15 + right.m15;
+
+        return dst;
+    }
 
-        return result;
+    public static Matrix MatrixSubtract(Matrix left, Matrix right){
+        return MatrixSubtractInto(new Matrix(), left, right);
+    }
+
+    // Subtract two matrices (left - right), result stored in dst
+    public static Matrix MatrixSubtractInto(Matrix dst, Matrix left, Matrix right){
+        dst.m0 = left.m0 - right.m0;
+        dst.m1 = left.m1 - right.m1;
+        dst.m2 = left.m2 - right.m2;
+        dst.m3 = left.m3 - right.m3;
+        dst.m4 = left.m4 - right.m4;
+        dst.m5 = left.m5 - right.m5;
+        dst.m6 = left.m6 - right.m6;
+        dst.m7 = left.m7 - right.m7;
+        dst.m8 = left.m8 - right.m8;
+        dst.m9 = left.m9 - right.m9;
+        dst.m10 = left.m10 - right.m10;
+        dst.m11 = left.m11 - right.m11;
+        dst.m12 = left.m12 - right.m12;
+        dst.m13 = left.m13 - right.m13;
+        dst.m14 = left.m14 - right.m14;
+        dst.m15 = left.m15 - right.m15;
+
+        return dst;
     }
 
     public static Matrix MatrixMultiply(Matrix left, Matrix right){
-        Matrix result = new Matrix();
-
-        result.m0 = left.m0*right.m0 + left.m1*right.m4 + left.m2*right.m8 + left.m3*right.m12;
-        result.m1 = left.m0*right.m1 + left.m1*right.m5 + left.m2*right.m9 + left.m3*right.m13;
-        result.m2 = left.m0*right.m2 + left.m1*right.m6 + left.m2*right.m10 + left.m3*right.m14;
-        result.m3 = left.m0*right.m3 + left.m1*right.m7 + left.m2*right.m11 + left.m3*right.m15;
-        result.m4 = left.m4*right.m0 + left.m5*right.m4 + left.m6*right.m8 + left.m7*right.m12;
-        result.m5 = left.m4*right.m1 + left.m5*right.m5 + left.m6*right.m9 + left.m7*right.m13;
-        result.m6 = left.m4*right.m2 + left.m5*right.m6 + left.m6*right.m10 + left.m7*right.m14;
-        result.m7 = left.m4*right.m3 + left.m5*right.m7 + left.m6*right.m11 + left.m7*right.m15;
-        result.m8 = left.m8*right.m0 + left.m9*right.m4 + left.m10*right.m8 + left.m11*right.m12;
-        result.m9 = left.m8*right.m1 + left.m9*right.m5 + left.m10*right.m9 + left.m11*right.m13;
-        result.m10 = left.m8*right.m2 + left.m9*right.m6 + left.m10*right.m10 + left.m11*right.m14;
-        result.m11 = left.m8*right.m3 + left.m9*right.m7 + left.m10*right.m11 + left.m11*right.m15;
-        result.m12 = left.m12*right.m0 + left.m13*right.m4 + left.m14*right.m8 + left.m15*right.m12;
-        result.m13 = left.m12*right.m1 + left.m13*right.m5 + left.m14*right.m9 + left.m15*right.m13;
-        result.m14 = left.m12*right.m2 + left.m13*right.m6 + left.m14*right.m10 + left.m15*right.m14;
-        result.m15 = left.m12*right.m3 + left.m13*right.m7 + left.m14*right.m11 + left.m15*right.m15;
-
-        return result;
+        return MatrixMultiplyInto(new Matrix(), left, right);
+    }
+
+    // Get two matrix multiplication, result stored in dst
+    public static Matrix MatrixMultiplyInto(Matrix dst, Matrix left, Matrix right){
+        // NOTE: Values are cached, dst can be left or right matrix
+        float l0 = left.m0, l1 = left.m1, l2 = left.m2, l3 = left.m3;
+        float l4 = left.m4, l5 = left.m5, l6 = left.m6, l7 = left.m7;
+        float l8 = left.m8, l9 = left.m9, l10 = left.m10, l11 = left.m11;
+        float l12 = left.m12, l13 = left.m13, l14 = left.m14, l15 = left.m15;
+        float r0 = right.m0, r1 = right.m1, r2 = right.m2, r3 = right.m3;
+        float r4 = right.m4, r5 = right.m5, r6 = right.m6, r7 = right.m7;
+        float r8 = right.m8, r9 = right.m9, r10 = right.m10, r11 = right.m11;
+        float r12 = right.m12, r13 = right.m13, r14 = right.m14, r15 = right.m15;
+
+        dst.m0 = l0*r0 + l1*r4 + l2*r8 + l3*r12;
+        dst.m1 = l0*r1 + l1*r5 + l2*r9 + l3*r13;
+        dst.m2 = l0*r2 + l1*r6 + l2*r10 + l3*r14;
+        dst.m3 = l0*r3 + l1*r7 + l2*r11 + l3*r15;
+        dst.m4 = l4*r0 + l5*r4 + l6*r8 + l7*r12;
+        dst.m5 = l4*r1 + l5*r5 + l6*r9 + l7*r13;
+        dst.m6 = l4*r2 + l5*r6 + l6*r10 + l7*r14;
+        dst.m7 = l4*r3 + l5*r7 + l6*r11 + l7*r15;
+        dst.m8 = l8*r0 + l9*r4 + l10*r8 + l11*r12;
+        dst.m9 = l8*r1 + l9*r5 + l10*r9 + l11*r13;
+        dst.m10 = l8*r2 + l9*r6 + l10*r10 + l11*r14;
+        dst.m11 = l8*r3 + l9*r7 + l10*r11 + l11*r15;
+        dst.m12 = l12*r0 + l13*r4 + l14*r8 + l15*r12;
+        dst.m13 = l12*r1 + l13*r5 + l14*r9 + l15*r13;
+        dst.m14 = l12*r2 + l13*r6 + l14*r10 + l15*r14;
+        dst.m15 = l12*r3 + l13*r7 + l14*r11 + l15*r15;
+
+        return dst;
     }
 
     public static Matrix MatrixTranslate(float x, float y, float z){
-        return new Matrix(
-                1.0f, 0.0f, 0.0f, x,
-                0.0f, 1.0f, 0.0f, y,
-                0.0f, 0.0f, 1.0f, z,
-                0.0f, 0.0f, 0.0f, 1.0f);
+        return MatrixTranslateInto(new Matrix(), x, y, z);
+    }
+
+    // Get translation matrix, result stored in dst
+    public static Matrix MatrixTranslateInto(Matrix dst, float x, float y, float z){
+        dst.m0 = 1.0f; dst.m4 = 0.0f; dst.m8 = 0.0f; dst.m12 = x;
+        dst.m1 = 0.0f; dst.m5 = 1.0f; dst.m9 = 0.0f; dst.m13 = y;
+        dst.m2 = 0.0f; dst.m6 = 0.0f; dst.m10 = 1.0f; dst.m14 = z;
+        dst.m3 = 0.0f; dst.m7 = 0.0f; dst.m11 = 0.0f; dst.m15 = 1.0f;
+
+        return dst;
     }
 
     public static Matrix MatrixRotate(Vector3 axis, float angle){
-        Matrix result = new Matrix();
+        return MatrixRotateInto(new Matrix(), axis, angle);
+    }
 
+    // Create rotation matrix from axis and angle, result stored in dst
+    // NOTE: Angle should be provided in radians
+    public static Matrix MatrixRotateInto(Matrix dst, Vector3 axis, float angle){
         float x = axis.x, y = axis.y, z = axis.z;
 
         float lengthSquared = x*x + y*y + z*z;
@@ -962,89 +1311,110 @@ public class Raymath{
         float cosres = (float) Math.cos(angle);
         float t = 1.0f - cosres;
 
-        result.m0 = x*x*t + cosres;
-        result.m1 = y*x*t + z*sinres;
-        result.m2 = z*x*t - y*sinres;
-        result.m3 = 0.0f;
+        dst.m0 = x*x*t + cosres;
+        dst.m1 = y*x*t + z*sinres;
+        dst.m2 = z*x*t - y*sinres;
+        dst.m3 = 0.0f;
 
-        result.m4 = x*y*t - z*sinres;
-        result.m5 = y*y*t + cosres;
-        result.m6 = z*y*t + x*sinres;
-        result.m7 = 0.0f;
+        dst.m4 = x*y*t - z*sinres;
+        dst.m5 = y*y*t + cosres;
+        dst.m6 = z*y*t + x*sinres;
+        dst.m7 = 0.0f;
 
-        result.m8 = x*z*t + y*sinres;
-        result.m9 = y*z*t - x*sinres;
-        result.m10 = z*z*t + cosres;
-        result.m11 = 0.0f;
+        dst.m8 = x*z*t + y*sinres;
+        dst.m9 = y*z*t - x*sinres;
+        dst.m10 = z*z*t + cosres;
+        dst.m11 = 0.0f;
 
-        result.m12 = 0.0f;
-        result.m13 = 0.0f;
-        result.m14 = 0.0f;
-        result.m15 = 1.0f;
+        dst.m12 = 0.0f;
+        dst.m13 = 0.0f;
+        dst.m14 = 0.0f;
+        dst.m15 = 1.0f;
 
-
-        return result;
+        return dst;
     }
 
     // Get x-rotation matrix
     // NOTE: Angle must be provided in radians
     public static Matrix MatrixRotateX(float angle){
-        Matrix result = MatrixIdentity();
+        return MatrixRotateXInto(new Matrix(), angle);
+    }
+
+    // Get x-rotation matrix, result stored in dst
+    // NOTE: Angle must be provided in radians
+    public static Matrix MatrixRotateXInto(Matrix dst, float angle){
+        MatrixIdentityInto(dst);
 
         float cosres = (float) Math.cos(angle);
         float sinres = (float) Math.sin(angle);
 
-        result.m5 = cosres;
+        dst.m5 = cosres;
 
-        result.m6 = sinres;
-        result.m9 = -sinres;
+        dst.m6 = sinres;
+        dst.m9 = -sinres;
 
-        result.m10 = cosres;
+        dst.m10 = cosres;
 
-        return result;
+        return dst;
     }
 
     // Get y-rotation matrix
     // NOTE: Angle must be provided in radians
     public static Matrix MatrixRotateY(float angle){
-        Matrix result = MatrixIdentity();
+        return MatrixRotateYInto(new Matrix(), angle);
+    }
+
+    // Get y-rotation matrix, result stored in dst
+    // NOTE: Angle must be provided in radians
+    public static Matrix MatrixRotateYInto(Matrix dst, float angle){
+        MatrixIdentityInto(dst);
 
         float cosres = (float) Math.cos(angle);
         float sinres = (float) Math.sin(angle);
 
-        result.m0 = cosres;
+        dst.m0 = cosres;
 
-        result.m2 = -sinres;
-        result.m8 = sinres;
+        dst.m2 = -sinres;
+        dst.m8 = sinres;
 
-        result.m10 = cosres;
+        dst.m10 = cosres;
 
-        return result;
+        return dst;
     }
 
     // Get z-rotation matrix
     // NOTE: Angle must be provided in radians
     public static Matrix MatrixRotateZ(float angle){
-        Matrix result = MatrixIdentity();
+        return MatrixRotateZInto(new Matrix(), angle);
+    }
+
+    // Get z-rotation matrix, result stored in dst
+    // NOTE: Angle must be provided in radians
+    public static Matrix MatrixRotateZInto(Matrix dst, float angle){
+        MatrixIdentityInto(dst);
 
         float cosres = (float) Math.cos(angle);
         float sinres = (float) Math.sin(angle);
 
-        result.m0 = cosres;
+        dst.m0 = cosres;
 
-        result.m1 = sinres;
-        result.m4 = -sinres;
+        dst.m1 = sinres;
+        dst.m4 = -sinres;
 
-        result.m5 = cosres;
+        dst.m5 = cosres;
 
-        return result;
+        return dst;
     }
 
     // Get xyz-rotation matrix
     // NOTE: Angle must be provided in radians
     public static Matrix MatrixRotateXYZ(Vector3 angle){
-        Matrix result = MatrixIdentity();
+        return MatrixRotateXYZInto(new Matrix(), angle);
+    }
 
+    // Get xyz-rotation matrix, result stored in dst
+    // NOTE: Angle must be provided in radians
+    public static Matrix MatrixRotateXYZInto(Matrix dst, Vector3 angle){
         float cosz = (float) Math.cos(-angle.z);
         float sinz = (float) Math.sin(-angle.z);
         float cosy = (float) Math.cos(-angle.y);
@@ -1052,26 +1422,32 @@ public class Raymath{
         float cosx = (float) Math.cos(-angle.x);
         float sinx = (float) Math.sin(-angle.x);
 
-        result.m0 = cosz*cosy;
-        result.m1 = (cosz*siny*sinx) - (sinz*cosx);
-        result.m2 = (cosz*siny*cosx) + (sinz*sinx);
+        MatrixIdentityInto(dst);
 
-        result.m4 = sinz*cosy;
-        result.m5 = (sinz*siny*sinx) + (cosz*cosx);
-        result.m6 = (sinz*siny*cosx) - (cosz*sinx);
+        dst.m0 = cosz*cosy;
+        dst.m1 = (cosz*siny*sinx) - (sinz*cosx);
+        dst.m2 = (cosz*siny*cosx) + (sinz*sinx);
 
-        result.m8 = -siny;
-        result.m9 = cosy*sinx;
-        result.m10= cosy * cosx;
+        dst.m4 = sinz*cosy;
+        dst.m5 = (sinz*siny*sinx) + (cosz*cosx);
+        dst.m6 = (sinz*siny*cosx) - (cosz*sinx);
 
-        return result;
+        dst.m8 = -siny;
+        dst.m9 = cosy*sinx;
+        dst.m10= cosy * cosx;
+
+        return dst;
     }
 
     // Get zyx-rotation matrix
     // NOTE: Angle must be provided in radians
     public static Matrix MatrixRotateZYX(Vector3 angle){
-        Matrix result = new Matrix();
+        return MatrixRotateZYXInto(new Matrix(), angle);
+    }
 
+    // Get zyx-rotation matrix, result stored in dst
+    // NOTE: Angle must be provided in radians
+    public static Matrix MatrixRotateZYXInto(Matrix dst, Vector3 angle){
         float cz = (float) Math.cos(angle.z);
         float sz = (float) Math.sin(angle.z);
         float cy = (float) Math.cos(angle.y);
@@ -1079,175 +1455,199 @@ public class Raymath{
         float cx = (float) Math.cos(angle.x);
         float sx = (float) Math.sin(angle.x);
 
-        result.m0 = cz*cy;
-        result.m4 = cz*sy*sx - cx*sz;
-        result.m8 = sz*sx + cz*cx*sy;
-        result.m12 = 0;
+        dst.m0 = cz*cy;
+        dst.m4 = cz*sy*sx - cx*sz;
+        dst.m8 = sz*sx + cz*cx*sy;
+        dst.m12 = 0;
 
-        result.m1 = cy*sz;
-        result.m5 = cz*cx + sz*sy*sx;
-        result.m9 = cx*sz*sy - cz*sx;
-        result.m13 = 0;
+        dst.m1 = cy*sz;
+        dst.m5 = cz*cx + sz*sy*sx;
+        dst.m9 = cx*sz*sy - cz*sx;
+        dst.m13 = 0;
 
-        result.m2 = -sy;
-        result.m6 = cy*sx;
-        result.m10 = cy*cx;
-        result.m14 = 0;
+        dst.m2 = -sy;
+        dst.m6 = cy*sx;
+        dst.m10 = cy*cx;
+        dst.m14 = 0;
 
-        result.m3 = 0;
-        result.m7 = 0;
-        result.m11 = 0;
-        result.m15 = 1;
+        dst.m3 = 0;
+        dst.m7 = 0;
+        dst.m11 = 0;
+        dst.m15 = 1;
 
-        return result;
+        return dst;
     }
 
     public static Matrix MatrixScale(float x, float y, float z){
-        return new Matrix(
-                x, 0.0f, 0.0f, 0.0f,
-                0.0f, y, 0.0f, 0.0f,
-                0.0f, 0.0f, z, 0.0f,
-                0.0f, 0.0f, 0.0f, 1.0f);
+        return MatrixScaleInto(new Matrix(), x, y, z);
+    }
+
+    // Get scaling matrix, result stored in dst
+    public static Matrix MatrixScaleInto(Matrix dst, float x, float y, float z){
+        dst.m0 = x; dst.m4 = 0.0f; dst.m8 = 0.0f; dst.m12 = 0.0f;
+        dst.m1 = 0.0f; dst.m5 = y; dst.m9 = 0.0f; dst.m13 = 0.0f;
+        dst.m2 = 0.0f; dst.m6 = 0.0f; dst.m10 = z; dst.m14 = 0.0f;
+        dst.m3 = 0.0f; dst.m7 = 0.0f; dst.m11 = 0.0f; dst.m15 = 1.0f;
+
+        return dst;
     }
 
     public static Matrix MatrixFrustum(double left, double right, double bottom, double top, double near, double far){
-        Matrix result = new Matrix();
+        return MatrixFrustumInto(new Matrix(), left, right, bottom, top, near, far);
+    }
 
+    // Get perspective projection matrix, result stored in dst
+    public static Matrix MatrixFrustumInto(Matrix dst, double left, double right, double bottom, double top, double near, double far){
         float rl = (float)(right - left);
         float tb = (float)(top - bottom);
         float fn = (float)(far - near);
 
-        result.m0 = ((float) near*2.0f)/rl;
-        result.m1 = 0.0f;
-        result.m2 = 0.0f;
-        result.m3 = 0.0f;
+        dst.m0 = ((float) near*2.0f)/rl;
+        dst.m1 = 0.0f;
+        dst.m2 = 0.0f;
+        dst.m3 = 0.0f;
 
-        result.m4 = 0.0f;
-        result.m5 = ((float) near*2.0f)/tb;
-        result.m6 = 0.0f;
-        result.m7 = 0.0f;
+        dst.m4 = 0.0f;
+        dst.m5 = ((float) near*2.0f)/tb;
+        dst.m6 = 0.0f;
+        dst.m7 = 0.0f;
 
-        result.m8 = ((float)right + (float)left)/rl;
-        result.m9 = ((float)top + (float)bottom)/tb;
-        result.m10 = -((float)far + (float)near)/fn;
-        result.m11 = -1.0f;
+        dst.m8 = ((float)right + (float)left)/rl;
+        dst.m9 = ((float)top + (float)bottom)/tb;
+        dst.m10 = -((float)far + (float)near)/fn;
+        dst.m11 = -1.0f;
 
-        result.m12 = 0.0f;
-        result.m13 = 0.0f;
-        result.m14 = -((float)far*(float)near*2.0f)/fn;
-        result.m15 = 0.0f;
+        dst.m12 = 0.0f;
+        dst.m13 = 0.0f;
+        dst.m14 = -((float)far*(float)near*2.0f)/fn;
+        dst.m15 = 0.0f;
 
-        return result;
+        return dst;
     }
 
     // Get perspective projection matrix
     // NOTE: Fovy angle must be provided in radian
     public static Matrix MatrixPerspective(double fovy, double aspect, double near, double far){
-        Matrix result = new Matrix();
+        return MatrixPerspectiveInto(new Matrix(), fovy, aspect, near, far);
+    }
 
+    // Get perspective projection matrix, result stored in dst
+    // NOTE: Fovy angle must be provided in radian
+    public static Matrix MatrixPerspectiveInto(Matrix dst, double fovy, double aspect, double near, double far){
         double top = near*Math.tan(fovy*0.5);
-        double bottom = -top;
         double right = top*aspect;
-        double left = -right;
 
-        // MatrixFrustum(-right, right, -top, top, near, far);
-        float rl = (float)(right - left);
-        float tb = (float)(top - bottom);
-        float fn = (float)(far - near);
-
-        result.m0 = ((float)near*2.0f)/rl;
-        result.m5 = ((float)near*2.0f)/tb;
-        result.m8 = ((float)right + (float)left)/rl;
-        result.m9 = ((float)top + (float)bottom)/tb;
-        result.m10 = -((float)far + (float)near)/fn;
-        result.m11 = -1.0f;
-        result.m14 = -((float)far*(float)near*2.0f)/fn;
-
-        return result;
+        return MatrixFrustumInto(dst, -right, right, -top, top, near, far);
     }
 
     public static Matrix MatrixOrtho(double left, double right, double bottom, double top, double near, double far){
-        Matrix result = new Matrix();
+        return MatrixOrthoInto(new Matrix(), left, right, bottom, top, near, far);
+    }
 
+    // Get orthographic projection matrix, result stored in dst
+    public static Matrix MatrixOrthoInto(Matrix dst, double left, double right, double bottom, double top, double near, double far){
         float rl = (float)(right - left);
         float tb = (float)(top - bottom);
         float fn = (float)(far - near);
 
-        result.m0 = 2.0f/rl;
-        result.m1 = 0.0f;
-        result.m2 = 0.0f;
-        result.m3 = 0.0f;
-        result.m4 = 0.0f;
-        result.m5 = 2.0f/tb;
-        result.m6 = 0.0f;
-        result.m7 = 0.0f;
-        result.m8 = 0.0f;
-        result.m9 = 0.0f;
-        result.m10 = -2.0f/fn;
-        result.m11 = 0.0f;
-        result.m12 = -((float)left + (float)right)/rl;
-        result.m13 = -((float)top + (float)bottom)/tb;
-        result.m14 = -((float)far + (float)near)/fn;
-        result.m15 = 1.0f;
-
-        return result;
+        dst.m0 = 2.0f/rl;
+        dst.m1 = 0.0f;
+        dst.m2 = 0.0f;
+        dst.m3 = 0.0f;
+        dst.m4 = 0.0f;
+        dst.m5 = 2.0f/tb;
+        dst.m6 = 0.0f;
+        dst.m7 = 0.0f;
+        dst.m8 = 0.0f;
+        dst.m9 = 0.0f;
+        dst.m10 = -2.0f/fn;
+        dst.m11 = 0.0f;
+        dst.m12 = -((float)left + (float)right)/rl;
+        dst.m13 = -((float)top + (float)bottom)/tb;
+        dst.m14 = -((float)far + (float)near)/fn;
+        dst.m15 = 1.0f;
+
+        return dst;
     }
 
     public static Matrix MatrixLookAt(Vector3 eye, Vector3 target, Vector3 up){
-        Matrix result = new Matrix();
+        return MatrixLookAtInto(new Matrix(), eye, target, up);
+    }
 
+    // Get camera look-at matrix (view matrix), result stored in dst
+    public static Matrix MatrixLookAtInto(Matrix dst, Vector3 eye, Vector3 target, Vector3 up){
         float length = 0.0f;
         float ilength = 0.0f;
 
         // Vector3Subtract(eye, target)
-        Vector3 vz = new Vector3(eye.x - target.x, eye.y - target.y, eye.z - target.z);
+        float vzx = eye.x - target.x, vzy = eye.y - target.y, vzz = eye.z - target.z;
 
         // Vector3Normalize(vz)
-        Vector3 v = vz;
-        length = (float) Math.sqrt(v.x*v.x + v.y*v.y + v.z*v.z);
+        length = (float) Math.sqrt(vzx*vzx + vzy*vzy + vzz*vzz);
         if (length == 0.0f) length = 1.0f;
         ilength = 1.0f/length;
-        vz.x *= ilength;
-        vz.y *= ilength;
-        vz.z *= ilength;
+        vzx *= ilength;
+        vzy *= ilength;
+        vzz *= ilength;
 
         // Vector3CrossProduct(up, vz)
-        Vector3 vx = new Vector3(up.y*vz.z - up.z*vz.y, up.z*vz.x - up.x*vz.z, up.x*vz.y - up.y*vz.x);
+        float vxx = up.y*vzz - up.z*vzy, vxy = up.z*vzx - up.x*vzz, vxz = up.x*vzy - up.y*vzx;
 
         // Vector3Normalize(x)
-        v = vx;
-        length = (float) Math.sqrt(v.x*v.x + v.y*v.y + v.z*v.z);
+        length = (float) Math.sqrt(vxx*vxx + vxy*vxy + vxz*vxz);
         if (length == 0.0f) length = 1.0f;
         ilength = 1.0f/length;
-        vx.x *= ilength;
-        vx.y *= ilength;
-        vx.z *= ilength;
+        vxx *= ilength;
+        vxy *= ilength;
+        vxz *= ilength;
 
         // Vector3CrossProduct(vz, vx)
-        Vector3 vy = new Vector3(vz.y*vx.z - vz.z*vx.y, vz.z*vx.x - vz.x*vx.z, vz.x*vx.y - vz.y*vx.x);
-
-        result.m0 = vx.x;
-        result.m1 = vy.x;
-        result.m2 = vz.x;
-        result.m3 = 0.0f;
-        result.m4 = vx.y;
-        result.m5 = vy.y;
-        result.m6 = vz.y;
-        result.m7 = 0.0f;
-        result.m8 = vx.z;
-        result.m9 = vy.z;
-        result.m10 = vz.z;
-        result.m11 = 0.0f;
-        result.m12 = -(vx.x*eye.x + vx.y*eye.y + vx.z*eye.z);   // Vector3DotProduct(vx, eye)
-        result.m13 = -(vy.x*eye.x + vy.y*eye.y + vy.z*eye.z);   // Vector3DotProduct(vy, eye)
-        result.m14 = -(vz.x*eye.x + vz.y*eye.y + vz.z*eye.z);   // Vector3DotProduct(vz, eye)
-        result.m15 = 1.0f;
-
-        return result;
+        float vyx = vzy*vxz - vzz*vxy, vyy = vzz*vxx - vzx*vxz, vyz = vzx*vxy - vzy*vxx;
+
+        dst.m0 = vxx;
+        dst.m1 = vyx;
+        dst.m2 = vzx;
+        dst.m3 = 0.0f;
+        dst.m4 = vxy;
+        dst.m5 = vyy;
+        dst.m6 = vzy;
+        dst.m7 = 0.0f;
+        dst.m8 = vxz;
+        dst.m9 = vyz;
+        dst.m10 = vzz;
+        dst.m11 = 0.0f;
+        dst.m12 = -(vxx*eye.x + vxy*eye.y + vxz*eye.z);   // Vector3DotProduct(vx, eye)
+        dst.m13 = -(vyx*eye.x + vyy*eye.y + vyz*eye.z);   // Vector3DotProduct(vy, eye)
+        dst.m14 = -(vzx*eye.x + vzy*eye.y + vzz*eye.z);   // Vector3DotProduct(vz, eye)
+        dst.m15 = 1.0f;
+
+        return dst;
     }
 
     public static float[] MatrixToFloat(Matrix mat){
-        return MatrixToFloatV(mat).v;
+        return MatrixToFloatInto(new float[16], mat);
+    }
+
+    // Get float array of matrix data, result stored in dst (16 floats)
+    public static float[] MatrixToFloatInto(float[] dst, Matrix mat){
+        dst[0] = mat.m0;
+        dst[1] = mat.m1;
+        dst[2] = mat.m2;
+        dst[3] = mat.m3;
+        dst[4] = mat.m4;
+        dst[5] = mat.m5;
+        dst[6] = mat.m6;
+        dst[7] = mat.m7;
+        dst[8] = mat.m8;
+        dst[9] = mat.m9;
+        dst[10] = mat.m10;
+        dst[11] = mat.m11;
+        dst[12] = mat.m12;
+        dst[13] = mat.m13;
+        dst[14] = mat.m14;
+        dst[15] = mat.m15;
+
+        return dst;
     }
 
     public static Float16 MatrixToFloatV(Matrix mat){
@@ -1278,33 +1678,73 @@ public class Raymath{
      */
 
     public static Quaternion QuaternionAdd(Quaternion q1, Quaternion q2){
-        Quaternion result = new Quaternion(q1.x + q2.x, q1.y + q2.y, q1.z + q2.z, q1.w + q2.w);
+        return QuaternionAddTo(new Quaternion(), q1, q2);
+    }
 
-        return result;
+    // Add two quaternions, result stored in dst
+    public static Quaternion QuaternionAddTo(Quaternion dst, Quaternion q1, Quaternion q2){
+        dst.x = q1.x + q2.x;
+        dst.y = q1.y + q2.y;
+        dst.z = q1.z + q2.z;
+        dst.w = q1.w + q2.w;
+
+        return dst;
     }
 
     public static Quaternion QuaternionAddValue(Quaternion q, float add){
-        Quaternion result = new Quaternion(q.x + add, q.y + add, q.z + add, q.w + add);
+        return QuaternionAddValueTo(new Quaternion(), q, add);
+    }
 
-        return result;
+    // Add quaternion and float value, result stored in dst
+    public static Quaternion QuaternionAddValueTo(Quaternion dst, Quaternion q, float add){
+        dst.x = q.x + add;
+        dst.y = q.y + add;
+        dst.z = q.z + add;
+        dst.w = q.w + add;
+
+        return dst;
     }
 
     public static Quaternion QuaternionSubtract(Quaternion q1, Quaternion q2){
-        Quaternion result = new Quaternion(q1.x - q2.x, q1.y - q2.y, q1.z - q2.z, q1.w - q2.w);
+        return QuaternionSubtractTo(new Quaternion(), q1, q2);
+    }
 
-        return result;
+    // Subtract two quaternions, result stored in dst
+    public static Quaternion QuaternionSubtractTo(Quaternion dst, Quaternion q1, Quaternion q2){
+        dst.x = q1.x - q2.x;
+        dst.y = q1.y - q2.y;
+        dst.z = q1.z - q2.z;
+        dst.w = q1.w - q2.w;
+
+        return dst;
     }
 
     public static Quaternion QuaternionSubtractValue(Quaternion q, float sub){
-        Quaternion result = new Quaternion(q.x - sub, q.y - sub, q.z - sub, q.w - sub);
+        return QuaternionSubtractValueTo(new Quaternion(), q, sub);
+    }
 
-        return result;
+    // Subtract quaternion and float value, result stored in dst
+    public static Quaternion QuaternionSubtractValueTo(Quaternion dst, Quaternion q, float sub){
+        dst.x = q.x - sub;
+        dst.y = q.y - sub;
+        dst.z = q.z - sub;
+        dst.w = q.w - sub;
+
+        return dst;
     }
 
     public static Quaternion QuaternionIdentity(){
-        Quaternion result = new Quaternion(0.0f, 0.0f, 0.0f, 1.0f);
+        return QuaternionIdentityTo(new Quaternion());
+    }
 
-        return result;
+    // Get identity quaternion, result stored in dst
+    public static Quaternion QuaternionIdentityTo(Quaternion dst){
+        dst.x = 0.0f;
+        dst.y = 0.0f;
+        dst.z = 0.0f;
+        dst.w = 1.0f;
+
+        return dst;
     }
 
     public static float QuaternionLength(Quaternion q){
@@ -1314,142 +1754,190 @@ public class Raymath{
     }
 
     public static Quaternion QuaternionNormalize(Quaternion q){
-        Quaternion result = new Quaternion();
+        return QuaternionNormalizeTo(new Quaternion(), q);
+    }
 
-        float length, ilength;
-        length = QuaternionLength(q);
+    // Normalize provided quaternion, result stored in dst
+    public static Quaternion QuaternionNormalizeTo(Quaternion dst, Quaternion q){
+        float length = (float)Math.sqrt(q.x*q.x + q.y*q.y + q.z*q.z + q.w*q.w);
         if (length == 0.0f) length = 1.0f;
-        ilength = 1.0f/length;
+        float ilength = 1.0f/length;
 
-        result.x = q.x*ilength;
-        result.y = q.y*ilength;
-        result.z = q.z*ilength;
-        result.w = q.w*ilength;
+        dst.x = q.x*ilength;
+        dst.y = q.y*ilength;
+        dst.z = q.z*ilength;
+        dst.w = q.w*ilength;
 
-        return result;
+        return dst;
     }
 
     public static Quaternion QuaternionInvert(Quaternion q){
-        Quaternion result = q;
+        return QuaternionInvertTo(new Quaternion(), q);
+    }
 
+    // Invert provided quaternion, result stored in dst
+    public static Quaternion QuaternionInvertTo(Quaternion dst, Quaternion q){
         float lengthSq = q.x*q.x + q.y*q.y + q.z*q.z + q.w*q.w;
+        float x = q.x, y = q.y, z = q.z, w = q.w;
 
         if (lengthSq != 0.0f){
             float invLength = 1.0f/lengthSq;
 
-            result.x *= -invLength;
-            result.y *= -invLength;
-            result.z *= -invLength;
-            result.w *= invLength;
+            x *= -invLength;
+            y *= -invLength;
+            z *= -invLength;
+            w *= invLength;
         }
 
-        return result;
+        dst.x = x;
+        dst.y = y;
+        dst.z = z;
+        dst.w = w;
+
+        return dst;
     }
 
     public static Quaternion QuaternionMultiply(Quaternion q1, Quaternion q2){
-        Quaternion result = new Quaternion();
+        return QuaternionMultiplyTo(new Quaternion(), q1, q2);
+    }
 
+    // Calculate two quaternion multiplication, result stored in dst
+    public static Quaternion QuaternionMultiplyTo(Quaternion dst, Quaternion q1, Quaternion q2){
         float qax = q1.x, qay = q1.y, qaz = q1.z, qaw = q1.w;
         float qbx = q2.x, qby = q2.y, qbz = q2.z, qbw = q2.w;
 
-        result.x = qax*qbw + qaw*qbx + qay*qbz - qaz*qby;
-        result.y = qay*qbw + qaw*qby + qaz*qbx - qax*qbz;
-        result.z = qaz*qbw + qaw*qbz + qax*qby - qay*qbx;
-        result.w = qaw*qbw - qax*qbx - qay*qby - qaz*qbz;
+        dst.x = qax*qbw + qaw*qbx + qay*qbz - qaz*qby;
+        dst.y = qay*qbw + qaw*qby + qaz*qbx - qax*qbz;
+        dst.z = qaz*qbw + qaw*qbz + qax*qby - qay*qbx;
+        dst.w = qaw*qbw - qax*qbx - qay*qby - qaz*qbz;
 
-        return result;
+        return dst;
     }
 
     public static Quaternion QuaternionScale(Quaternion q, float mul){
-        Quaternion result = new Quaternion();
+        return QuaternionScaleTo(new Quaternion(), q, mul);
+    }
 
-        result.x = q.x*mul;
-        result.y = q.y*mul;
-        result.z = q.z*mul;
-        result.w = q.w*mul;
+    // Scale quaternion by float value, result stored in dst
+    public static Quaternion QuaternionScaleTo(Quaternion dst, Quaternion q, float mul){
+        dst.x = q.x*mul;
+        dst.y = q.y*mul;
+        dst.z = q.z*mul;
+        dst.w = q.w*mul;
 
-        return result;
+        return dst;
     }
 
     public static Quaternion QuaternionDivide(Quaternion q1, Quaternion q2){
-        return new Quaternion(q1.x / q2.x, q1.y / q2.y, q1.z / q2.z, q1.w / q2.w);
+        return QuaternionDivideTo(new Quaternion(), q1, q2);
+    }
+
+    // Divide two quaternions, result stored in dst
+    public static Quaternion QuaternionDivideTo(Quaternion dst, Quaternion q1, Quaternion q2){
+        dst.x = q1.x/q2.x;
+        dst.y = q1.y/q2.y;
+        dst.z = q1.z/q2.z;
+        dst.w = q1.w/q2.w;
+
+        return dst;
     }
 
     public static Quaternion QuaternionLerp(Quaternion q1, Quaternion q2, float amount){
-        Quaternion result = new Quaternion();
+        return QuaternionLerpTo(new Quaternion(), q1, q2, amount);
+    }
 
-        result.x = q1.x + amount*(q2.x - q1.x);
-        result.y = q1.y + amount*(q2.y - q1.y);
-        result.z = q1.z + amount*(q2.z - q1.z);
-        result.w = q1.w + amount*(q2.w - q1.w);
+    // Calculate linear interpolation between two quaternions, result stored in dst
+    public static Quaternion QuaternionLerpTo(Quaternion dst, Quaternion q1, Quaternion q2, float amount){
+        dst.x = q1.x + amount*(q2.x - q1.x);
+        dst.y = q1.y + amount*(q2.y - q1.y);
+        dst.z = q1.z + amount*(q2.z - q1.z);
+        dst.w = q1.w + amount*(q2.w - q1.w);
 
-        return result;
+        return dst;
     }
 
     public static Quaternion QuaternionNlerp(Quaternion q1, Quaternion q2, float amount){
-        Quaternion result = QuaternionLerp(q1, q2, amount);
-        result = QuaternionNormalize(result);
+        return QuaternionNlerpTo(new Quaternion(), q1, q2, amount);
+    }
 
-        return result;
+    // Calculate slerp-optimized interpolation between two quaternions, result stored in dst
+    public static Quaternion QuaternionNlerpTo(Quaternion dst, Quaternion q1, Quaternion q2, float amount){
+        QuaternionLerpTo(dst, q1, q2, amount);
+        QuaternionNormalizeTo(dst, dst);
+
+        return dst;
     }
 
     public static Quaternion QuaternionSlerp(Quaternion q1, Quaternion q2, float amount){
-        Quaternion result = new Quaternion();
+        return QuaternionSlerpTo(new Quaternion(), q1, q2, amount);
+    }
 
+    // Calculates spherical linear interpolation between two quaternions, result stored in dst
+    public static Quaternion QuaternionSlerpTo(Quaternion dst, Quaternion q1, Quaternion q2, float amount){
         float cosHalfTheta = q1.x * q2.x + q1.y * q2.y + q1.z * q2.z + q1.w * q2.w;
 
         if (Math.abs(cosHalfTheta) >= 1.0f){
-            result = q1;
+            dst.x = q1.x;
+            dst.y = q1.y;
+            dst.z = q1.z;
+            dst.w = q1.w;
         }
         else if (cosHalfTheta > 0.95f){
-            result = QuaternionNlerp(q1, q2, amount);
+            QuaternionNlerpTo(dst, q1, q2, amount);
         }
         else{
             float halfTheta = (float) Math.acos(cosHalfTheta);
             float sinHalfTheta = (float) Math.sqrt(1.0f - cosHalfTheta*cosHalfTheta);
+            float ratioA, ratioB;
 
             if (Math.abs(sinHalfTheta) < 0.001f){
-                result.x = (q1.x*0.5f + q2.x*0.5f);
-                result.y = (q1.y*0.5f + q2.y*0.5f);
-                result.z = (q1.z*0.5f + q2.z*0.5f);
-                result.w = (q1.w*0.5f + q2.w*0.5f);
+                ratioA = 0.5f;
+                ratioB = 0.5f;
             }
             else{
-                float ratioA = (float) (Math.sin((1 - amount)*halfTheta)/sinHalfTheta);
-                float ratioB = (float) (Math.sin(amount*halfTheta)/sinHalfTheta);
-
-                result.x = (q1.x*ratioA + q2.x*ratioB);
-                result.y = (q1.y*ratioA + q2.y*ratioB);
-                result.z = (q1.z*ratioA + q2.z*ratioB);
-                result.w = (q1.w*ratioA + q2.w*ratioB);
+                ratioA = (float) (Math.sin((1 - amount)*halfTheta)/sinHalfTheta);
+                ratioB = (float) (Math.sin(amount*halfTheta)/sinHalfTheta);
             }
+
+            float x = (q1.x*ratioA + q2.x*ratioB);
+            float y = (q1.y*ratioA + q2.y*ratioB);
+            float z = (q1.z*ratioA + q2.z*ratioB);
+            float w = (q1.w*ratioA + q2.w*ratioB);
+
+            dst.x = x;
+            dst.y = y;
+            dst.z = z;
+            dst.w = w;
         }
-        return result;
+        return dst;
     }
 
     public static Quaternion QuaternionFromVector3ToVector3(Vector3 from, Vector3 to){
-        Quaternion result = new Quaternion();
+        return QuaternionFromVector3ToVector3To(new Quaternion(), from, to);
+    }
 
-        float cos2Theta = Vector3DotProduct(from, to);
-        Vector3 cross = Vector3CrossProduct(from, to);
+    // Calculate quaternion based on the rotation from one vector to another, result stored in dst
+    public static Quaternion QuaternionFromVector3ToVector3To(Quaternion dst, Vector3 from, Vector3 to){
+        float cos2Theta = from.x*to.x + from.y*to.y + from.z*to.z;     // Vector3DotProduct(from, to)
 
-        result.x = cross.x;
-        result.y = cross.y;
-        result.z = cross.z;
-        result.w = 1.0f + cos2Theta;     // NOTE: Added QuaternioIdentity()
+        // Vector3CrossProduct(from, to)
+        dst.x = from.y*to.z - from.z*to.y;
+        dst.y = from.z*to.x - from.x*to.z;
+        dst.z = from.x*to.y - from.y*to.x;
+        dst.w = 1.0f + cos2Theta;     // NOTE: Added QuaternioIdentity()
 
         // Normalize to essentially nlerp the original and identity to 0.5
-        result = QuaternionNormalize(result);
-
         // Above lines are equivalent to:
         //Quaternion result = QuaternionNlerp(q, QuaternionIdentity(), 0.5f);
-
-        return result;
+        return QuaternionNormalizeTo(dst, dst);
     }
 
     public static Quaternion QuaternionFromMatrix(Matrix mat){
-        Quaternion result = new Quaternion();
+        return QuaternionFromMatrixTo(new Quaternion(), mat);
+    }
 
+    // Get a quaternion for a given rotation matrix, result stored in dst
+    public static Quaternion QuaternionFromMatrixTo(Quaternion dst, Matrix mat){
         float fourWSquaredMinus1 = mat.m0 + mat.m5 + mat.m10;
         float fourXSquaredMinus1 = mat.m0 - mat.m5 - mat.m10;
         float fourYSquaredMinus1 = mat.m5 - mat.m0 - mat.m10;
@@ -1478,37 +1966,42 @@ public class Raymath{
 
         switch (biggestIndex) {
             case 0:
-                result.w = biggestVal;
-                result.x = (mat.m6 - mat.m9) * mult;
-                result.y = (mat.m8 - mat.m2) * mult;
-                result.z = (mat.m1 - mat.m4) * mult;
+                dst.w = biggestVal;
+                dst.x = (mat.m6 - mat.m9) * mult;
+                dst.y = (mat.m8 - mat.m2) * mult;
+                dst.z = (mat.m1 - mat.m4) * mult;
                 break;
             case 1:
-                result.x = biggestVal;
-                result.w = (mat.m6 - mat.m9) * mult;
-                result.y = (mat.m1 + mat.m4) * mult;
-                result.z = (mat.m8 + mat.m2) * mult;
+                dst.x = biggestVal;
+                dst.w = (mat.m6 - mat.m9) * mult;
+                dst.y = (mat.m1 + mat.m4) * mult;
+                dst.z = (mat.m8 + mat.m2) * mult;
                 break;
             case 2:
-                result.y = biggestVal;
-                result.w = (mat.m8 - mat.m2) * mult;
-                result.x = (mat.m1 + mat.m4) * mult;
-                result.z = (mat.m6 + mat.m9) * mult;
+                dst.y = biggestVal;
+                dst.w = (mat.m8 - mat.m2) * mult;
+                dst.x = (mat.m1 + mat.m4) * mult;
+                dst.z = (mat.m6 + mat.m9) * mult;
                 break;
             case 3:
-                result.z = biggestVal;
-                result.w = (mat.m1 - mat.m4) * mult;
-                result.x = (mat.m8 + mat.m2) * mult;
-                result.y = (mat.m6 + mat.m9) * mult;
+                dst.z = biggestVal;
+                dst.w = (mat.m1 - mat.m4) * mult;
+                dst.x = (mat.m8 + mat.m2) * mult;
+                dst.y = (mat.m6 + mat.m9) * mult;
                 break;
         }
 
-        return result;
+        return dst;
     }
 
     // Get a matrix for a given quaternion
     public static Matrix QuaternionToMatrix(Quaternion q){
-        Matrix result = MatrixIdentity();
+        return QuaternionToMatrixInto(new Matrix(), q);
+    }
+
+    // Get a matrix for a given quaternion, result stored in dst
+    public static Matrix QuaternionToMatrixInto(Matrix dst, Quaternion q){
+        MatrixIdentityInto(dst);
 
         float a2 = q.x*q.x;
         float b2 = q.y*q.y;
@@ -1520,62 +2013,56 @@ public class Raymath{
         float bd = q.w*q.y;
         float cd = q.w*q.z;
 
-        result.m0 = 1 - 2*(b2 + c2);
-        result.m1 = 2*(ab + cd);
-        result.m2 = 2*(ac - bd);
+        dst.m0 = 1 - 2*(b2 + c2);
+        dst.m1 = 2*(ab + cd);
+        dst.m2 = 2*(ac - bd);
 
-        result.m4 = 2*(ab - cd);
-        result.m5 = 1 - 2*(a2 + c2);
-        result.m6 = 2*(bc + ad);
+        dst.m4 = 2*(ab - cd);
+        dst.m5 = 1 - 2*(a2 + c2);
+        dst.m6 = 2*(bc + ad);
 
-        result.m8 = 2*(ac + bd);
-        result.m9 = 2*(bc - ad);
-        result.m10 = 1 - 2*(a2 + b2);
+        dst.m8 = 2*(ac + bd);
+        dst.m9 = 2*(bc - ad);
+        dst.m10 = 1 - 2*(a2 + b2);
 
-        return result;
+        return dst;
     }
 
     // Get rotation quaternion for an angle and axis
     // NOTE: Angle must be provided in radians
     public static Quaternion QuaternionFromAxisAngle(Vector3 axis, float angle){
-        Quaternion result = new Quaternion(0.0f, 0.0f, 0.0f, 1.0f);
+        return QuaternionFromAxisAngleTo(new Quaternion(), axis, angle);
+    }
 
+    // Get rotation quaternion for an angle and axis, result stored in dst
+    // NOTE: Angle must be provided in radians, provided axis is not modified
+    public static Quaternion QuaternionFromAxisAngleTo(Quaternion dst, Vector3 axis, float angle){
         float axisLength = (float) Math.sqrt(axis.x*axis.x + axis.y*axis.y + axis.z*axis.z);
 
         if (axisLength != 0.0f)
         {
             angle *= 0.5f;
 
-            float length;
-            float ilength;
-
             // Vector3Normalize(axis)
-            length = (float) Math.sqrt(axis.x* axis.x + axis.y* axis.y + axis.z* axis.z);
-            if (length == 0.0f) length = 1.0f;
-            ilength = 1.0f/length;
-            axis.x *= ilength;
-            axis.y *= ilength;
-            axis.z *= ilength;
+            float ilength = 1.0f/axisLength;
+            float x = axis.x*ilength;
+            float y = axis.y*ilength;
+            float z = axis.z*ilength;
 
             float sinres = (float) Math.sin(angle);
             float cosres = (float) Math.cos(angle);
 
-            result.x = axis.x*sinres;
-            result.y = axis.y*sinres;
-            result.z = axis.z*sinres;
-            result.w = cosres;
+            dst.x = x*sinres;
+            dst.y = y*sinres;
+            dst.z = z*sinres;
+            dst.w = cosres;
 
             // QuaternionNormalize(q);
-            length = (float) Math.sqrt(result.x* result.x + result.y* result.y + result.z* result.z + result.w* result.w);
-            if (length == 0.0f) length = 1.0f;
-            ilength = 1.0f/length;
-            result.x = result.x*ilength;
-            result.y = result.y*ilength;
-            result.z = result.z*ilength;
-            result.w = result.w*ilength;
+            QuaternionNormalizeTo(dst, dst);
         }
+        else QuaternionIdentityTo(dst);
 
-        return result;
+        return dst;
     }
 
     // Returns the rotation angle and axis for a given quaternion
@@ -1603,8 +2090,11 @@ public class Raymath{
 
     // Returns he quaternion equivalent to Euler angles
     public static Quaternion QuaternionFromEuler(float roll, float pitch, float yaw){
-        Quaternion q = new Quaternion();
+        return QuaternionFromEulerTo(new Quaternion(), roll, pitch, yaw);
+    }
 
+    // Get the quaternion equivalent to Euler angles, result stored in dst
+    public static Quaternion QuaternionFromEulerTo(Quaternion dst, float roll, float pitch, float yaw){
         float x0 = (float) Math.cos(pitch*0.5f);
         float x1 = (float) Math.sin(pitch*0.5f);
         float y0 = (float) Math.cos(yaw*0.5f);
@@ -1612,45 +2102,53 @@ public class Raymath{
         float z0 = (float) Math.cos(roll*0.5f);
         float z1 = (float) Math.sin(roll*0.5f);
 
-        q.x = x1*y0*z0 - x0*y1*z1;
-        q.y = x0*y1*z0 + x1*y0*z1;
-        q.z = x0*y0*z1 - x1*y1*z0;
-        q.w = x0*y0*z0 + x1*y1*z1;
+        dst.x = x1*y0*z0 - x0*y1*z1;
+        dst.y = x0*y1*z0 + x1*y0*z1;
+        dst.z = x0*y0*z1 - x1*y1*z0;
+        dst.w = x0*y0*z0 + x1*y1*z1;
 
-        return q;
+        return dst;
     }
 
     public static Vector3 QuaternionToEuler(Quaternion q){
-        Vector3 result = new Vector3();
+        return QuaternionToEulerTo(new Vector3(), q);
+    }
 
+    // Get the Euler angles equivalent to quaternion (roll, pitch, yaw), result stored in dst
+    public static Vector3 QuaternionToEulerTo(Vector3 dst, Quaternion q){
         // roll (x-axis rotation)
         float x0 = 2.0f*(q.w*q.x + q.y*q.z);
         float x1 = 1.0f - 2.0f*(q.x*q.x + q.y*q.y);
-        result.x = (float) (Math.atan2(x0, x1)*RAD2DEG);
+        dst.x = (float) (Math.atan2(x0, x1)*RAD2DEG);
 
         // pitch (y-axis rotation)
         float y0 = 2.0f*(q.w*q.y - q.z*q.x);
         y0 = Math.min(y0, 1.0f);
         y0 = Math.max(y0, -1.0f);
-        result.y = (float) (Math.asin(y0)*RAD2DEG);
+        dst.y = (float) (Math.asin(y0)*RAD2DEG);
 
         // yaw (z-axis rotation)
         float z0 = 2.0f*(q.w*q.z + q.x*q.y);
         float z1 = 1.0f - 2.0f*(q.y*q.y + q.z*q.z);
-        result.z = (float) (Math.atan2(z0, z1)*RAD2DEG);
+        dst.z = (float) (Math.atan2(z0, z1)*RAD2DEG);
 
-        return result;
+        return dst;
     }
 
     public static Quaternion QuaternionTransform(Quaternion q, Matrix mat){
-        Quaternion result = new Quaternion();
+        return QuaternionTransformTo(new Quaternion(), q, mat);
+    }
 
-        result.x = mat.m0*q.x + mat.m4*q.y + mat.m8*q.z + mat.m12*q.w;
-        result.y = mat.m1*q.x + mat.m5*q.y + mat.m9*q.z + mat.m13*q.w;
-        result.z = mat.m2*q.x + mat.m6*q.y + mat.m10*q.z + mat.m14*q.w;
-        result.w = mat.m3*q.x + mat.m7*q.y + mat.m11*q.z + mat.m15*q.w;
+    // Transform a quaternion given a transformation matrix, result stored in dst
+    public static Quaternion QuaternionTransformTo(Quaternion dst, Quaternion q, Matrix mat){
+        float x = q.x, y = q.y, z = q.z, w = q.w;
 
-        return result;
+        dst.x = mat.m0*x + mat.m4*y + mat.m8*z + mat.m12*w;
+        dst.y = mat.m1*x + mat.m5*y + mat.m9*z + mat.m13*w;
+        dst.z = mat.m2*x + mat.m6*y + mat.m10*z + mat.m14*w;
+        dst.w = mat.m3*x + mat.m7*y + mat.m11*z + mat.m15*w;
+
+        return dst;
     }
 
     // Check whether two given quaternions are almost equal
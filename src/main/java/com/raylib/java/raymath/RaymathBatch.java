@@ -0,0 +1,114 @@
+package com.raylib.java.raymath;
+
+import static com.raylib.java.Config.SUPPORT_VECTOR_API;
+
+/**
+ * Batch math functions, operating on N elements stored as structure-of-arrays float[] (one array by component)
+ *
+ * CONVENTIONS:
+ *
+ *   - Functions store results in dst arrays, dst arrays can be the source arrays (in place)
+ *   - Functions process elements [0..count), arrays must contain at least count elements
+ *   - Matrices are stored as 16 consecutive floats (m0..m15, same layout than MatrixToFloat())
+ *   - Results match the equivalent Raymath function applied element by element
+ *   - SIMD kernels (jdk.incubator.vector) are used when they are built (gradle -PvectorApi), the module is
+ *     available at runtime and SUPPORT_VECTOR_API is enabled, scalar loops are used otherwise
+ */
+public class RaymathBatch{
+
+    private static final RaymathBatchKernels KERNELS = LoadKernels();     // SIMD kernels, null if not available
+
+    // Check if batch functions use SIMD kernels
+    public static boolean IsVectorized(){
+        return SUPPORT_VECTOR_API && (KERNELS != null);
+    }
+
+    // Load SIMD kernels, only built with -PvectorApi and loaded when jdk.incubator.vector module is available
+    private static RaymathBatchKernels LoadKernels(){
+        if (!ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) return null;
+
+        try{
+            return (RaymathBatchKernels) Class.forName("com.raylib.java.raymath.RaymathBatchVector").getDeclaredConstructor().newInstance();
+        }
+        catch (ReflectiveOperationException | LinkageError e){
+            return null;
+        }
+    }
+
+    // Transform N Vector2 by a given Matrix, equivalent to Vector2Transform()
+    public static void Vector2TransformBatch(float[] dstX, float[] dstY, float[] x, float[] y, int count, Matrix mat){
+        int i = IsVectorized()? KERNELS.Vector2Transform(dstX, dstY, x, y, count, mat) : 0;
+
+        for (; i < count; i++){
+            float vx = x[i], vy = y[i];
+
+            dstX[i] = mat.m0*vx + mat.m4*vy + mat.m12;
+            dstY[i] = mat.m1*vx + mat.m5*vy + mat.m13;
+        }
+    }
+
+    // Transform N Vector3 by a given Matrix, equivalent to Vector3Transform()
+    public static void Vector3TransformBatch(float[] dstX, float[] dstY, float[] dstZ, float[] x, float[] y, float[] z,
+                                             int count, Matrix mat){
+        int i = IsVectorized()? KERNELS.Vector3Transform(dstX, dstY, dstZ, x, y, z, count, mat) : 0;
+
+        for (; i < count; i++){
+            float vx = x[i], vy = y[i], vz = z[i];
+
+            dstX[i] = (mat.m0*vx) + (mat.m4*vy) + (mat.m8*vz) + mat.m12;
+            dstY[i] = (mat.m1*vx) + (mat.m5*vy) + (mat.m9*vz) + mat.m13;
+            dstZ[i] = (mat.m2*vx) + (mat.m6*vy) + (mat.m10*vz) + mat.m14;
+        }
+    }
+
+    // Normalize N Vector3, equivalent to Vector3Normalize()
+    public static void Vector3NormalizeBatch(float[] dstX, float[] dstY, float[] dstZ, float[] x, float[] y, float[] z,
+                                             int count){
+        int i = IsVectorized()? KERNELS.Vector3Normalize(dstX, dstY, dstZ, x, y, z, count) : 0;
+
+        for (; i < count; i++){
+            float vx = x[i], vy = y[i], vz = z[i];
+
+            float length = (float)Math.sqrt(vx*vx + vy*vy + vz*vz);
+            if (length == 0.0f) length = 1.0f;
+            float ilength = 1.0f/length;
+
+            dstX[i] = vx*ilength;
+            dstY[i] = vy*ilength;
+            dstZ[i] = vz*ilength;
+        }
+    }
+
+    // Calculate linear interpolation of N values, equivalent to Lerp()
+    public static void LerpBatch(float[] dst, float[] start, float[] end, float amount, int count){
+        int i = IsVectorized()? KERNELS.Lerp(dst, start, end, amount, count) : 0;
+
+        for (; i < count; i++){
+            dst[i] = start[i] + amount*(end[i] - start[i]);
+        }
+    }
+
+    // Multiply N pairs of matrices (left*right), equivalent to MatrixMultiply()
+    // NOTE: Matrix i is stored at [i*16..i*16 + 15]
+    public static void MatrixMultiplyBatch(float[] dst, float[] left, float[] right, int count){
+        int i = IsVectorized()? KERNELS.MatrixMultiply(dst, left, right, count) : 0;
+
+        for (; i < count; i++){
+            int o = i*16;
+
+            float r0 = right[o], r1 = right[o + 1], r2 = right[o + 2], r3 = right[o + 3];
+            float r4 = right[o + 4], r5 = right[o + 5], r6 = right[o + 6], r7 = right[o + 7];
+            float r8 = right[o + 8], r9 = right[o + 9], r10 = right[o + 10], r11 = right[o + 11];
+            float r12 = right[o + 12], r13 = right[o + 13], r14 = right[o + 14], r15 = right[o + 15];
+
+            for (int row = o; row < o + 16; row += 4){
+                float l0 = left[row], l1 = left[row + 1], l2 = left[row + 2], l3 = left[row + 3];
+
+                dst[row] = l0*r0 + l1*r4 + l2*r8 + l3*r12;
+                dst[row + 1] = l0*r1 + l1*r5 + l2*r9 + l3*r13;
+                dst[row + 2] = l0*r2 + l1*r6 + l2*r10 + l3*r14;
+                dst[row + 3] = l0*r3 + l1*r7 + l2*r11 + l3*r15;
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.raylib.java.raymath;
+
+// RaymathBatch SIMD kernels, implemented by RaymathBatchVector (opt-in vector source set, jdk.incubator.vector)
+// NOTE: Kernels process full vector lanes and return the number of elements processed
+interface RaymathBatchKernels{
+
+    int Vector2Transform(float[] dstX, float[] dstY, float[] x, float[] y, int count, Matrix mat);
+    int Vector3Transform(float[] dstX, float[] dstY, float[] dstZ, float[] x, float[] y, float[] z, int count, Matrix mat);
+    int Vector3Normalize(float[] dstX, float[] dstY, float[] dstZ, float[] x, float[] y, float[] z, int count);
+    int Lerp(float[] dst, float[] start, float[] end, float amount, int count);
+    int MatrixMultiply(float[] dst, float[] left, float[] right, int count);
+}
@@ -1,11 +1,20 @@
 package com.raylib.java.rlgl;
 
+import com.raylib.java.raymath.Matrix;
+import com.raylib.java.rlgl.data.State;
+
+import java.awt.image.DataBuffer;
+import java.nio.ByteBuffer;
+
 import static com.raylib.java.rlgl.RLGL.*;
 import static org.lwjgl.opengl.GL11.*;
 
-public class GL_11{
+public class GL_11 implements rlBackend{
+
+    private final float[] modelviewData = new float[16];   // Modelview matrix read back for deferred quads
+    private final Matrix modelview = new Matrix();
 
-    static void rlMatrixMode(int mode) {
+    public void rlMatrixMode(int mode) {
         switch (mode) {
             case RL_PROJECTION:
                 glMatrixMode(GL_PROJECTION);
@@ -21,7 +30,7 @@ public class GL_11{
         }
     }
 
-    static void rlBegin(int mode) {
+    public void rlBegin(int mode) {
         switch (mode) {
             case RL_LINES:
                 glBegin(GL_LINES);
@@ -36,49 +45,154 @@ public class GL_11{
                 break;
         }
     }
-    static void rlEnd() { glEnd(); }
-    static void rlVertex2i(int x, int y) { glVertex2i(x, y); }
-    static void rlVertex2f(float x, float y) { glVertex2f(x, y); }
-    static void rlVertex3f(float x, float y, float z) { glVertex3f(x, y, z); }
-    static void rlTexCoord2f(float x, float y) { glTexCoord2f(x, y); }
-    static void rlNormal3f(float x, float y, float z) { glNormal3f(x, y, z); }
-    static void rlColor4ub(int r, int g, int b, int a) { glColor4ub((byte)r, (byte)g, (byte)b, (byte)a); }
-    static void rlColor3f(float x, float y, float z) { glColor3f(x, y, z); }
-    static void rlColor4f(float x, float y, float z, float w) { glColor4f(x, y, z, w); }
-
-    static void rlFrustum(double left, double right, double bottom, double top, double znear, double zfar) {
+    public void rlEnd() { glEnd(); }
+    public void rlVertex2i(int x, int y) { glVertex2i(x, y); }
+    public void rlVertex2f(float x, float y) { glVertex2f(x, y); }
+    public void rlVertex3f(float x, float y, float z) { glVertex3f(x, y, z); }
+    public void rlTexCoord2f(float x, float y) { glTexCoord2f(x, y); }
+    public void rlNormal3f(float x, float y, float z) { glNormal3f(x, y, z); }
+    public void rlColor4ub(int r, int g, int b, int a) { glColor4ub((byte)r, (byte)g, (byte)b, (byte)a); }
+    public void rlColor3f(float x, float y, float z) { glColor3f(x, y, z); }
+    public void rlColor4f(float x, float y, float z, float w) { glColor4f(x, y, z, w); }
+
+    public void rlQuadBatch(int textureId, float[] quads, int offset, int[] colors, int colorOffset, int quadCount) {
+        rlDeferredBatch deferred = rlglData.getDeferredBatch();
+
+        if (deferred.active) {
+            // NOTE: Current modelview is applied on recording, matrix stack could change before submission
+            State state = rlglData.getState();
+            long key = rlDeferredBatch.rlDeferredKey(deferred.layer, 0, textureId,
+                    deferred.rlDeferredBlendIndex(state.currentBlendMode, 0, 0, 0));
+
+            glGetFloatv(GL_MODELVIEW_MATRIX, modelviewData);
+            modelview.m0 = modelviewData[0]; modelview.m1 = modelviewData[1]; modelview.m2 = modelviewData[2]; modelview.m3 = modelviewData[3];
+            modelview.m4 = modelviewData[4]; modelview.m5 = modelviewData[5]; modelview.m6 = modelviewData[6]; modelview.m7 = modelviewData[7];
+            modelview.m8 = modelviewData[8]; modelview.m9 = modelviewData[9]; modelview.m10 = modelviewData[10]; modelview.m11 = modelviewData[11];
+            modelview.m12 = modelviewData[12]; modelview.m13 = modelviewData[13]; modelview.m14 = modelviewData[14]; modelview.m15 = modelviewData[15];
+
+            deferred.rlDeferredRecordQuads(key, textureId, quads, offset, colors, colorOffset, quadCount, modelview, 0.0f);
+            return;
+        }
+
+        glEnable(GL_TEXTURE_2D);
+        glBindTexture(GL_TEXTURE_2D, textureId);
+        glBegin(GL_QUADS);
+        glNormal3f(0.0f, 0.0f, 1.0f);
+
+        for (int q = 0, base = offset; q < quadCount; q++) {
+            int color = colors[colorOffset + q];
+            glColor4ub((byte)(color >>> 24), (byte)(color >>> 16), (byte)(color >>> 8), (byte)color);
+
+            for (int v = 0; v < 4; v++, base += 4) {
+                glTexCoord2f(quads[base + 2], quads[base + 3]);
+                glVertex2f(quads[base], quads[base + 1]);
+            }
+        }
+
+        glEnd();
+        glDisable(GL_TEXTURE_2D);
+    }
+
+    // Draw deferred quads: positions already transformed (identity modelview), depth by vertex
+    public void rlQuadBatchDeferred(int textureId, float[] quads, int offset, float[] depths, int depthOffset,
+                                    int[] colors, int colorOffset, int quadCount) {
+        int matrixMode = glGetInteger(GL_MATRIX_MODE);
+        glMatrixMode(GL_MODELVIEW);
+        glPushMatrix();
+        glLoadIdentity();
+
+        glEnable(GL_TEXTURE_2D);
+        glBindTexture(GL_TEXTURE_2D, textureId);
+        glBegin(GL_QUADS);
+        glNormal3f(0.0f, 0.0f, 1.0f);
+
+        for (int q = 0, base = offset, d = depthOffset; q < quadCount; q++) {
+            int color = colors[colorOffset + q];
+            glColor4ub((byte)(color >>> 24), (byte)(color >>> 16), (byte)(color >>> 8), (byte)color);
+
+            for (int v = 0; v < 4; v++, base += 4, d++) {
+                glTexCoord2f(quads[base + 2], quads[base + 3]);
+                glVertex3f(quads[base], quads[base + 1], depths[d]);
+            }
+        }
+
+        glEnd();
+        glDisable(GL_TEXTURE_2D);
+
+        glPopMatrix();
+        glMatrixMode(matrixMode);
+    }
+
+    public void rlFrustum(double left, double right, double bottom, double top, double znear, double zfar) {
         glFrustum(left, right, bottom, top, znear, zfar);
     }
 
-    static void rlOrtho(double left, double right, double bottom, double top, double znear, double zfar) {
+    public void rlOrtho(double left, double right, double bottom, double top, double znear, double zfar) {
         glOrtho(left, right, bottom, top, znear, zfar);
     }
 
-    static void rlPushMatrix() {
+    public void rlPushMatrix() {
         glPushMatrix();
     }
 
-    static void rlPopMatrix() {
+    public void rlPopMatrix() {
         glPopMatrix();
     }
 
-    static void rlLoadIdentity() {
+    public void rlLoadIdentity() {
         glLoadIdentity();
     }
 
-    static void rlTranslatef(float x, float y, float z) {
+    public void rlTranslatef(float x, float y, float z) {
         glTranslatef(x, y, z);
     }
 
-    static void rlRotatef(float angle, float x, float y, float z) {
+    public void rlRotatef(float angle, float x, float y, float z) {
         glRotatef(angle, x, y, z);
     }
 
-    static void rlScalef(float x, float y, float z) {
+    public void rlScalef(float x, float y, float z) {
         glScalef(x, y, z);
     }
 
-    static void rlMultMatrixf(float[] matf) {
+    public void rlMultMatrixf(float[] matf) {
         glMultMatrixf(matf);
     }
+
+    // NOTE: No render batch on OpenGL 1.1, vertex data is provided in immediate mode
+    public void rlLoadBatchBuffers(rlRenderBatch batch) { }
+    public void rlUnloadBatchBuffers(rlRenderBatch batch) { }
+    public void rlDrawBatchBuffers(rlRenderBatch batch) { }
+
+    public int rlLoadTexture(DataBuffer data, int width, int height, int format, int mipmapCount) {
+        return rlLoadTextureGL(data, width, height, format, mipmapCount);
+    }
+
+    public int rlLoadTextureBuffer(ByteBuffer data, int width, int height, int format) {
+        return rlLoadTextureBufferGL(data, width, height, format);
+    }
+
+    public void rlUpdateTexture(int id, int offsetX, int offsetY, int width, int height, int format, byte[] data) {
+        rlUpdateTextureGL(id, offsetX, offsetY, width, height, format, data);
+    }
+
+    public void rlUnloadTexture(int id) {
+        glDeleteTextures(id);
+    }
+
+    public void rlBlendMode(int mode) {
+        // NOTE: Blending modes are only supported with render batch (OpenGL 3.3)
+    }
+
+    public void rlViewport(int x, int y, int width, int height) {
+        glViewport(x, y, width, height);
+    }
+
+    public void rlClearColor(float r, float g, float b, float a) {
+        glClearColor(r, g, b, a);
+    }
+
+    public void rlClearScreenBuffers() {
+        glClear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT);
+    }
 }
@@ -2,16 +2,108 @@ package com.raylib.java.rlgl;
 
 import com.raylib.java.raymath.Matrix;
 import com.raylib.java.raymath.Vector3;
+import com.raylib.java.rlgl.data.State;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL13;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL32;
+import org.lwjgl.system.MemoryUtil;
 
-import static com.raylib.java.Config.RL_DEFAULT_BATCH_DRAWCALLS;
+import java.awt.image.DataBuffer;
+import java.nio.ByteBuffer;
+
+import static com.raylib.java.Config.*;
 import static com.raylib.java.raymath.Raymath.*;
 import static com.raylib.java.rlgl.RLGL.*;
+import static com.raylib.java.rlgl.RLGL.rlShaderLocationIndex.*;
 import static com.raylib.java.utils.Tracelog.Tracelog;
-import static com.raylib.java.utils.Tracelog.TracelogType.LOG_ERROR;
+import static com.raylib.java.utils.Tracelog.TracelogType.*;
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL14.glBlendEquation;
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL20.*;
+import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL32.*;
+
+public class GL_33 implements rlBackend{
+
+    // Render batch buffer functions on OpenGL
+    static final rlBatchGL BATCH_GL = new rlBatchGL(){
+        @Override
+        public void glBindBuffer(int target, int buffer){
+            GL15.glBindBuffer(target, buffer);
+        }
+
+        @Override
+        public void glBufferData(int target, long size, int usage){
+            GL15.glBufferData(target, size, usage);
+        }
+
+        @Override
+        public void nglBufferSubData(int target, long offset, long size, long data){
+            GL15.nglBufferSubData(target, offset, size, data);
+        }
+
+        @Override
+        public long nglMapBufferRange(int target, long offset, long length, int access){
+            return GL30.nglMapBufferRange(target, offset, length, access);
+        }
+
+        @Override
+        public boolean glUnmapBuffer(int target){
+            return GL15.glUnmapBuffer(target);
+        }
+
+        @Override
+        public long glFenceSync(int condition, int flags){
+            return GL32.glFenceSync(condition, flags);
+        }
+
+        @Override
+        public int glClientWaitSync(long sync, int flags, long timeout){
+            return GL32.glClientWaitSync(sync, flags, timeout);
+        }
+
+        @Override
+        public void glDeleteSync(long sync){
+            GL32.glDeleteSync(sync);
+        }
+
+        @Override
+        public void glActiveTexture(int texture){
+            GL13.glActiveTexture(texture);
+        }
+
+        @Override
+        public void glBindTexture(int target, int texture){
+            GL11.glBindTexture(target, texture);
+        }
+
+        @Override
+        public void glDrawArrays(int mode, int first, int count){
+            GL11.glDrawArrays(mode, first, count);
+        }
+
+        @Override
+        public void glDrawElements(int mode, int count, int type, long indices){
+            GL11.glDrawElements(mode, count, type, indices);
+        }
+    };
+
+    private final float[] matrixScratch = new float[16];     // Generated matrix values (rlFrustum(), rlOrtho())
+    protected final rlBatchGL batchGL;                      // Render batch vertex data upload functions
+
+    public GL_33(){
+        this(BATCH_GL);
+    }
 
-public class GL_33{
+    // Backend using provided render batch upload functions (i.e. GL stand-in recording uploads)
+    public GL_33(rlBatchGL batchGL){
+        this.batchGL = batchGL;
+    }
 
-    static void rlBegin(int mode){
+    public void rlBegin(int mode){
         // Draw mode can be RL_LINES, RL_TRIANGLES and RL_QUADS
         // NOTE: In all three cases, vertex are accumulated over default internal vertex buffer
         if (rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1].mode != mode) {
@@ -43,12 +135,12 @@ public class GL_33{
 
             rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1].mode = mode;
             rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1].vertexCount = 0;
-            rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1].textureId = rlglData.getState().defaultTextureId;
+            rlSetDrawTexture(rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1], rlglData.getState().defaultTextureId);
         }
     }
 
     // Finish vertex providing
-    static void rlEnd(){
+    public void rlEnd(){
         // NOTE: Depth increment is dependant on rlOrtho(): z-near and z-far values,
         // as well as depth buffer bit-depth (16bit or 24bit or 32bit)
         // Correct increment formula would be: depthInc = (zfar - znear)/pow(2, bits)
@@ -68,242 +160,886 @@ public class GL_33{
     }
 
     // Choose the current matrix to be transformed
-    static void rlMatrixMode(int mode){
+    public void rlMatrixMode(int mode){
+        // NOTE: State switches current matrix to RL_PROJECTION or RL_MODELVIEW internal matrix
         rlglData.getState().setCurrentMatrixMode(mode);
-
-        if (mode == RL_PROJECTION){
-            rlglData.getState().setCurrentMatrix(rlglData.getState().getProjection());
-        }
-        else if (mode == RL_MODELVIEW){
-            rlglData.getState().setCurrentMatrix(rlglData.getState().getModelview());
-        }
         //else if (mode == RL_TEXTURE) // Not supported
     }
 
     // Push the current matrix into RLGL.getRlgl().getState().stack
-    static void rlPushMatrix(){
-        if (rlglData.getState().getStackCounter() >= MAX_MATRIX_STACK_SIZE){
+    // NOTE: Matrix values are copied into preallocated stack, no allocation
+    public void rlPushMatrix(){
+        State state = rlglData.getState();
+
+        if (state.stackCounter >= MAX_MATRIX_STACK_SIZE){
             Tracelog(LOG_ERROR, "RLGL: Matrix stack overflow (MAX_MATRIX_STACK_SIZE)");
         }
 
-        if (rlglData.getState().getCurrentMatrixMode() == RL_MODELVIEW){
-            rlglData.getState().setTransformRequired(true);
-            rlglData.getState().setCurrentMatrixMode(RLJ_TRANSFORM);
-            rlglData.getState().setCurrentMatrix(rlglData.getState().getTransform());
+        if (state.currentMatrixMode == RL_MODELVIEW){
+            state.transformRequired = true;
+            state.setCurrentMatrixMode(RLJ_TRANSFORM);
         }
 
-        rlglData.getState().getStack()[rlglData.getState().getStackCounter()] =
-                rlglData.getState().getCurrentMatrix();
-        rlglData.getState().setStackCounter(rlglData.getState().getStackCounter() + 1);
+        Matrix mat = state.currentMatrix;
+        float[] stack = state.stack;
+        int i = state.stackCounter*16;
+
+        stack[i] = mat.m0;      stack[i + 1] = mat.m1;      stack[i + 2] = mat.m2;      stack[i + 3] = mat.m3;
+        stack[i + 4] = mat.m4;  stack[i + 5] = mat.m5;      stack[i + 6] = mat.m6;      stack[i + 7] = mat.m7;
+        stack[i + 8] = mat.m8;  stack[i + 9] = mat.m9;      stack[i + 10] = mat.m10;    stack[i + 11] = mat.m11;
+        stack[i + 12] = mat.m12; stack[i + 13] = mat.m13;   stack[i + 14] = mat.m14;    stack[i + 15] = mat.m15;
+
+        state.stackCounter++;
     }
 
     // Pop lattest inserted matrix from RLGL.getRlgl().getState().stack
-    static void rlPopMatrix(){
-        if (rlglData.getState().getStackCounter() > 0){
-            Matrix mat = rlglData.getState().getStack()[rlglData.getState().getStackCounter() - 1];
-            rlglData.getState().setCurrentMatrix(mat);
-            rlglData.getState().setStackCounter(rlglData.getState().getStackCounter() - 1);
+    public void rlPopMatrix(){
+        State state = rlglData.getState();
+
+        if (state.stackCounter > 0){
+            state.stackCounter--;
+
+            Matrix mat = state.currentMatrix;
+            float[] stack = state.stack;
+            int i = state.stackCounter*16;
+
+            mat.m0 = stack[i];      mat.m1 = stack[i + 1];      mat.m2 = stack[i + 2];      mat.m3 = stack[i + 3];
+            mat.m4 = stack[i + 4];  mat.m5 = stack[i + 5];      mat.m6 = stack[i + 6];      mat.m7 = stack[i + 7];
+            mat.m8 = stack[i + 8];  mat.m9 = stack[i + 9];      mat.m10 = stack[i + 10];    mat.m11 = stack[i + 11];
+            mat.m12 = stack[i + 12]; mat.m13 = stack[i + 13];   mat.m14 = stack[i + 14];    mat.m15 = stack[i + 15];
         }
 
-        if ((rlglData.getState().getStackCounter() == 0) && (rlglData.getState().getCurrentMatrixMode() == RL_MODELVIEW)){
-            rlglData.getState().setCurrentMatrix(rlglData.getState().getModelview());
-            rlglData.getState().setTransformRequired(false);
+        if ((state.stackCounter == 0) && (state.currentMatrixMode == RL_MODELVIEW)){
+            state.setCurrentMatrixMode(RL_MODELVIEW);
+            state.transformRequired = false;
         }
     }
 
     // Reset current matrix to identity matrix
-    static void rlLoadIdentity(){
-        rlglData.getState().setCurrentMatrix(MatrixIdentity());
+    public void rlLoadIdentity(){
+        Matrix mat = rlglData.getState().currentMatrix;
+
+        mat.m0 = 1.0f; mat.m4 = 0.0f; mat.m8 = 0.0f; mat.m12 = 0.0f;
+        mat.m1 = 0.0f; mat.m5 = 1.0f; mat.m9 = 0.0f; mat.m13 = 0.0f;
+        mat.m2 = 0.0f; mat.m6 = 0.0f; mat.m10 = 1.0f; mat.m14 = 0.0f;
+        mat.m3 = 0.0f; mat.m7 = 0.0f; mat.m11 = 0.0f; mat.m15 = 1.0f;
     }
 
     // Multiply the current matrix by a translation matrix
-    static void rlTranslatef(float x, float y, float z){
-        Matrix matTranslation = new Matrix(
-                1.0f, 0.0f, 0.0f, x,
-                0.0f, 1.0f, 0.0f, y,
-                0.0f, 0.0f, 1.0f, z,
-                0.0f, 0.0f, 0.0f, 1.0f
-        );
+    // NOTE: Current matrix is updated in place, equivalent to MatrixMultiply(MatrixTranslate(x, y, z), current)
+    public void rlTranslatef(float x, float y, float z){
+        Matrix mat = rlglData.getState().currentMatrix;
 
-        // NOTE: We transpose matrix with multiplication order
-        rlglData.getState().setCurrentMatrix(MatrixMultiply(matTranslation,
-                rlglData.getState().getCurrentMatrix()));
+        mat.m12 += x*mat.m0 + y*mat.m4 + z*mat.m8;
+        mat.m13 += x*mat.m1 + y*mat.m5 + z*mat.m9;
+        mat.m14 += x*mat.m2 + y*mat.m6 + z*mat.m10;
+        mat.m15 += x*mat.m3 + y*mat.m7 + z*mat.m11;
     }
 
     // Multiply the current matrix by a rotation matrix
-    static void rlRotatef(float angle, float x, float y, float z){
-        Vector3 axis = new Vector3(x, y, z);
-        Matrix matRotation = MatrixRotate(Vector3Normalize(axis), angle * DEG2RAD);
+    // NOTE: Current matrix is updated in place, equivalent to MatrixMultiply(MatrixRotate(axis, angle), current)
+    public void rlRotatef(float angle, float x, float y, float z){
+        float lengthSquared = x*x + y*y + z*z;
+
+        if ((lengthSquared != 1.0f) && (lengthSquared != 0.0f)){
+            float ilength = (float)(1.0f/Math.sqrt(lengthSquared));
+            x *= ilength;
+            y *= ilength;
+            z *= ilength;
+        }
+
+        float sinres = (float)Math.sin(angle*DEG2RAD);
+        float cosres = (float)Math.cos(angle*DEG2RAD);
+        float t = 1.0f - cosres;
+
+        // Rotation matrix rows (same values as MatrixRotate())
+        float r0 = x*x*t + cosres, r1 = y*x*t + z*sinres, r2 = z*x*t - y*sinres;
+        float r4 = x*y*t - z*sinres, r5 = y*y*t + cosres, r6 = z*y*t + x*sinres;
+        float r8 = x*z*t + y*sinres, r9 = y*z*t - x*sinres, r10 = z*z*t + cosres;
 
-        // NOTE: We transpose matrix with multiplication order
-        rlglData.getState().setCurrentMatrix(MatrixMultiply(matRotation,
-                rlglData.getState().getCurrentMatrix()));
+        Matrix mat = rlglData.getState().currentMatrix;
+        float a, b, c;
+
+        a = mat.m0; b = mat.m4; c = mat.m8;
+        mat.m0 = r0*a + r1*b + r2*c; mat.m4 = r4*a + r5*b + r6*c; mat.m8 = r8*a + r9*b + r10*c;
+        a = mat.m1; b = mat.m5; c = mat.m9;
+        mat.m1 = r0*a + r1*b + r2*c; mat.m5 = r4*a + r5*b + r6*c; mat.m9 = r8*a + r9*b + r10*c;
+        a = mat.m2; b = mat.m6; c = mat.m10;
+        mat.m2 = r0*a + r1*b + r2*c; mat.m6 = r4*a + r5*b + r6*c; mat.m10 = r8*a + r9*b + r10*c;
+        a = mat.m3; b = mat.m7; c = mat.m11;
+        mat.m3 = r0*a + r1*b + r2*c; mat.m7 = r4*a + r5*b + r6*c; mat.m11 = r8*a + r9*b + r10*c;
     }
 
     // Multiply the current matrix by a scaling matrix
-    static void rlScalef(float x, float y, float z){
-        Matrix matScale = new Matrix(
-                x, 0.0f, 0.0f, 0.0f,
-                0.0f, y, 0.0f, 0.0f,
-                0.0f, 0.0f, z, 0.0f,
-                0.0f, 0.0f, 0.0f, 1.0f
-        );
+    // NOTE: Current matrix is updated in place, equivalent to MatrixMultiply(MatrixScale(x, y, z), current)
+    public void rlScalef(float x, float y, float z){
+        Matrix mat = rlglData.getState().currentMatrix;
 
-        // NOTE: We transpose matrix with multiplication order
-        rlglData.getState().setCurrentMatrix(MatrixMultiply(matScale, rlglData.getState().getCurrentMatrix()));
+        mat.m0 *= x; mat.m1 *= x; mat.m2 *= x; mat.m3 *= x;
+        mat.m4 *= y; mat.m5 *= y; mat.m6 *= y; mat.m7 *= y;
+        mat.m8 *= z; mat.m9 *= z; mat.m10 *= z; mat.m11 *= z;
     }
 
     // Multiply the current matrix by another matrix
-    static void rlMultMatrixf(float[] matf){
-        // Matrix creation from array
-        Matrix mat = new Matrix(matf);
-
-        rlglData.getState().setCurrentMatrix(MatrixMultiply(rlglData.getState().getCurrentMatrix(),
-                mat));
+    public void rlMultMatrixf(float[] matf){
+        rlMultiplyCurrentMatrix(matf);
     }
 
     // Multiply the current matrix by a perspective matrix generated by parameters
-    static void rlFrustum(double left, double right, double bottom, double top, double znear, double zfar){
-        Matrix matFrustum = new Matrix();
+    public void rlFrustum(double left, double right, double bottom, double top, double znear, double zfar){
+        float[] matFrustum = matrixScratch;
 
         float rl = (float)(right - left);
         float tb = (float)(top - bottom);
         float fn = (float)(zfar - znear);
 
-        matFrustum.m0 = ((float) znear*2.0f)/rl;
-        matFrustum.m1 = 0.0f;
-        matFrustum.m2 = 0.0f;
-        matFrustum.m3 = 0.0f;
+        matFrustum[0] = ((float) znear*2.0f)/rl;
+        matFrustum[1] = 0.0f;
+        matFrustum[2] = 0.0f;
+        matFrustum[3] = 0.0f;
 
-        matFrustum.m4 = 0.0f;
-        matFrustum.m5 = ((float) znear*2.0f)/tb;
-        matFrustum.m6 = 0.0f;
-        matFrustum.m7 = 0.0f;
+        matFrustum[4] = 0.0f;
+        matFrustum[5] = ((float) znear*2.0f)/tb;
+        matFrustum[6] = 0.0f;
+        matFrustum[7] = 0.0f;
 
-        matFrustum.m8 = ((float)right + (float)left)/rl;
-        matFrustum.m9 = ((float)top + (float)bottom)/tb;
-        matFrustum.m10 = -((float)zfar + (float)znear)/fn;
-        matFrustum.m11 = -1.0f;
+        matFrustum[8] = ((float)right + (float)left)/rl;
+        matFrustum[9] = ((float)top + (float)bottom)/tb;
+        matFrustum[10] = -((float)zfar + (float)znear)/fn;
+        matFrustum[11] = -1.0f;
 
-        matFrustum.m12 = 0.0f;
-        matFrustum.m13 = 0.0f;
-        matFrustum.m14 = -((float)zfar*(float)znear*2.0f)/fn;
-        matFrustum.m15 = 0.0f;
+        matFrustum[12] = 0.0f;
+        matFrustum[13] = 0.0f;
+        matFrustum[14] = -((float)zfar*(float)znear*2.0f)/fn;
+        matFrustum[15] = 0.0f;
 
-        rlglData.getState().setCurrentMatrix(MatrixMultiply(rlglData.getState().getCurrentMatrix(), matFrustum));
+        rlMultiplyCurrentMatrix(matFrustum);
     }
 
     // Multiply the current matrix by an orthographic matrix generated by parameters
-    static void rlOrtho(double left, double right, double bottom, double top, double znear, double zfar){
+    public void rlOrtho(double left, double right, double bottom, double top, double znear, double zfar){
         // NOTE: If left-right and top-bottom values are equal it could create a division by zero, response to it is platform/compiler dependant
-        Matrix matOrtho = new Matrix();
+        float[] matOrtho = matrixScratch;
 
         float rl = (float)(right - left);
         float tb = (float)(top - bottom);
         float fn = (float)(zfar - znear);
 
-        matOrtho.m0 = 2.0f/rl;
-        matOrtho.m1 = 0.0f;
-        matOrtho.m2 = 0.0f;
-        matOrtho.m3 = 0.0f;
-        matOrtho.m4 = 0.0f;
-        matOrtho.m5 = 2.0f/tb;
-        matOrtho.m6 = 0.0f;
-        matOrtho.m7 = 0.0f;
-        matOrtho.m8 = 0.0f;
-        matOrtho.m9 = 0.0f;
-        matOrtho.m10 = -2.0f/fn;
-        matOrtho.m11 = 0.0f;
-        matOrtho.m12 = -((float)left + (float)right)/rl;
-        matOrtho.m13 = -((float)top + (float)bottom)/tb;
-        matOrtho.m14 = -((float)zfar + (float)znear)/fn;
-        matOrtho.m15 = 1.0f;
-
-        rlglData.getState().setCurrentMatrix(MatrixMultiply(rlglData.getState().getCurrentMatrix(), matOrtho));
-    }
-
-    public static void rlVertex3f(float x, float y, float z){
+        matOrtho[0] = 2.0f/rl;
+        matOrtho[1] = 0.0f;
+        matOrtho[2] = 0.0f;
+        matOrtho[3] = 0.0f;
+        matOrtho[4] = 0.0f;
+        matOrtho[5] = 2.0f/tb;
+        matOrtho[6] = 0.0f;
+        matOrtho[7] = 0.0f;
+        matOrtho[8] = 0.0f;
+        matOrtho[9] = 0.0f;
+        matOrtho[10] = -2.0f/fn;
+        matOrtho[11] = 0.0f;
+        matOrtho[12] = -((float)left + (float)right)/rl;
+        matOrtho[13] = -((float)top + (float)bottom)/tb;
+        matOrtho[14] = -((float)zfar + (float)znear)/fn;
+        matOrtho[15] = 1.0f;
+
+        rlMultiplyCurrentMatrix(matOrtho);
+    }
+
+    // Multiply the current matrix by a matrix provided as array (m0..m15), in place
+    // NOTE: Equivalent to MatrixMultiply(current, mat)
+    private static void rlMultiplyCurrentMatrix(float[] f){
+        Matrix mat = rlglData.getState().currentMatrix;
+        float a, b, c, d;
+
+        a = mat.m0; b = mat.m1; c = mat.m2; d = mat.m3;
+        mat.m0 = a*f[0] + b*f[4] + c*f[8] + d*f[12];
+        mat.m1 = a*f[1] + b*f[5] + c*f[9] + d*f[13];
+        mat.m2 = a*f[2] + b*f[6] + c*f[10] + d*f[14];
+        mat.m3 = a*f[3] + b*f[7] + c*f[11] + d*f[15];
+
+        a = mat.m4; b = mat.m5; c = mat.m6; d = mat.m7;
+        mat.m4 = a*f[0] + b*f[4] + c*f[8] + d*f[12];
+        mat.m5 = a*f[1] + b*f[5] + c*f[9] + d*f[13];
+        mat.m6 = a*f[2] + b*f[6] + c*f[10] + d*f[14];
+        mat.m7 = a*f[3] + b*f[7] + c*f[11] + d*f[15];
+
+        a = mat.m8; b = mat.m9; c = mat.m10; d = mat.m11;
+        mat.m8 = a*f[0] + b*f[4] + c*f[8] + d*f[12];
+        mat.m9 = a*f[1] + b*f[5] + c*f[9] + d*f[13];
+        mat.m10 = a*f[2] + b*f[6] + c*f[10] + d*f[14];
+        mat.m11 = a*f[3] + b*f[7] + c*f[11] + d*f[15];
+
+        a = mat.m12; b = mat.m13; c = mat.m14; d = mat.m15;
+        mat.m12 = a*f[0] + b*f[4] + c*f[8] + d*f[12];
+        mat.m13 = a*f[1] + b*f[5] + c*f[9] + d*f[13];
+        mat.m14 = a*f[2] + b*f[6] + c*f[10] + d*f[14];
+        mat.m15 = a*f[3] + b*f[7] + c*f[11] + d*f[15];
+    }
+
+    public void rlVertex3f(float x, float y, float z){
+        State state = rlglData.getState();
+        rlRenderBatch batch = rlglData.getCurrentBatch();
+        rlVertexBuffer vertexBuffer = batch.rlVertexBuffer[batch.currentBuffer];
+
         float tx = x;
         float ty = y;
         float tz = z;
 
         // Transform provided vector if required
-        if (rlglData.getState().transformRequired) {
-            tx = rlglData.getState().transform.m0*x + rlglData.getState().transform.m4*y + rlglData.getState().transform.m8*z + rlglData.getState().transform.m12;
-            ty = rlglData.getState().transform.m1*x + rlglData.getState().transform.m5*y + rlglData.getState().transform.m9*z + rlglData.getState().transform.m13;
-            tz = rlglData.getState().transform.m2*x + rlglData.getState().transform.m6*y + rlglData.getState().transform.m10*z + rlglData.getState().transform.m14;
+        if (state.transformRequired) {
+            Matrix transform = state.transform;
+            tx = transform.m0*x + transform.m4*y + transform.m8*z + transform.m12;
+            ty = transform.m1*x + transform.m5*y + transform.m9*z + transform.m13;
+            tz = transform.m2*x + transform.m6*y + transform.m10*z + transform.m14;
         }
 
         // Verify that current vertex buffer elements limit has not been reached
-        if (rlglData.getState().vertexCounter < (rlglData.getCurrentBatch().rlVertexBuffer[rlglData.getCurrentBatch().currentBuffer].elementCount*4)) {
+        if (state.vertexCounter < (vertexBuffer.elementCount*4)) {
+            rlPutVertex(vertexBuffer, state.vertexCounter, tx, ty, tz, state.texcoordx, state.texcoordy,
+                        state.colorr, state.colorg, state.colorb, state.colora, state.textureSlot);
+
+            state.vertexCounter++;
+
+            batch.draws[batch.drawCounter - 1].vertexCount++;
+        }
+        else{
+            Tracelog(LOG_ERROR, "RLGL: Batch elements overflow");
+        }
+    }
+
+    // Write one vertex (position, texcoord, color, texture slot) into the vertex buffer at the provided vertex index
+    // NOTE: Limits are not checked here, callers must verify vertex buffer capacity first
+    static void rlPutVertex(rlVertexBuffer vertexBuffer, int index, float x, float y, float z, float u, float v,
+                            byte r, byte g, byte b, byte a, int slot){
+        if (vertexBuffer.interleaved != null) {
+            // Add vertex, texcoord and color at the vertex cursor
+            // TODO: Add current normal, by default rlVertexBuffer type does not store normals
+            ByteBuffer data = vertexBuffer.interleaved;
+            int cursor = index*RL_BATCH_VERTEX_SIZE;
+
+            data.putFloat(cursor, x);
+            data.putFloat(cursor + 4, y);
+            data.putFloat(cursor + 8, z);
+            data.putFloat(cursor + 12, u);
+            data.putFloat(cursor + 16, v);
+            data.put(cursor + 20, r);
+            data.put(cursor + 21, g);
+            data.put(cursor + 22, b);
+            data.put(cursor + 23, a);
+        }
+        else {
             // Add vertices
-            rlglData.getCurrentBatch().rlVertexBuffer[rlglData.getCurrentBatch().currentBuffer].vertices[3*rlglData.getState().vertexCounter] = tx;
-            rlglData.getCurrentBatch().rlVertexBuffer[rlglData.getCurrentBatch().currentBuffer].vertices[3*rlglData.getState().vertexCounter + 1] = ty;
-            rlglData.getCurrentBatch().rlVertexBuffer[rlglData.getCurrentBatch().currentBuffer].vertices[3*rlglData.getState().vertexCounter + 2] = tz;
+            vertexBuffer.vertices.put(3*index, x);
+            vertexBuffer.vertices.put(3*index + 1, y);
+            vertexBuffer.vertices.put(3*index + 2, z);
 
             // Add current texcoord
-            rlglData.getCurrentBatch().rlVertexBuffer[rlglData.getCurrentBatch().currentBuffer].texcoords[2*rlglData.getState().vertexCounter] = rlglData.getState().texcoordx;
-            rlglData.getCurrentBatch().rlVertexBuffer[rlglData.getCurrentBatch().currentBuffer].texcoords[2*rlglData.getState().vertexCounter + 1] = rlglData.getState().texcoordy;
+            vertexBuffer.texcoords.put(2*index, u);
+            vertexBuffer.texcoords.put(2*index + 1, v);
 
             // TODO: Add current normal
             // By default rlVertexBuffer type does not store normals
 
             // Add current color
-            rlglData.getCurrentBatch().rlVertexBuffer[rlglData.getCurrentBatch().currentBuffer].colors[4*rlglData.getState().vertexCounter] = rlglData.getState().colorr;
-            rlglData.getCurrentBatch().rlVertexBuffer[rlglData.getCurrentBatch().currentBuffer].colors[4*rlglData.getState().vertexCounter + 1] = rlglData.getState().colorg;
-            rlglData.getCurrentBatch().rlVertexBuffer[rlglData.getCurrentBatch().currentBuffer].colors[4*rlglData.getState().vertexCounter + 2] = rlglData.getState().colorb;
-            rlglData.getCurrentBatch().rlVertexBuffer[rlglData.getCurrentBatch().currentBuffer].colors[4*rlglData.getState().vertexCounter + 3] = rlglData.getState().colora;
+            vertexBuffer.colors.put(4*index, r);
+            vertexBuffer.colors.put(4*index + 1, g);
+            vertexBuffer.colors.put(4*index + 2, b);
+            vertexBuffer.colors.put(4*index + 3, a);
+        }
+
+        // Add current texture slot (multi-texture batch)
+        if (vertexBuffer.texslots != null) {
+            vertexBuffer.texslots.put(index, (byte)slot);
+        }
+    }
 
-            rlglData.getState().vertexCounter++;
+    // Draw multiple textured quads, copied straight into the current batch (or recorded if deferred mode)
+    public void rlQuadBatch(int textureId, float[] quads, int offset, int[] colors, int colorOffset, int quadCount){
+        rlDeferredBatch deferred = rlglData.getDeferredBatch();
 
-            rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1].vertexCount++;
+        if (deferred.active){
+            State state = rlglData.getState();
+            rlRenderBatch batch = rlglData.getCurrentBatch();
+            long key = rlDeferredBatch.rlDeferredKey(deferred.layer,
+                    deferred.rlDeferredShaderIndex(state.currentShaderId, state.currentShaderLocs), textureId,
+                    deferred.rlDeferredBlendIndex(state.currentBlendMode, state.glBlendSrcFactor, state.glBlendDstFactor, state.glBlendEquation));
+
+            deferred.rlDeferredRecordQuads(key, textureId, quads, offset, colors, colorOffset, quadCount,
+                    state.transformRequired ? state.transform : null, batch.currentDepth);
+
+            batch.currentDepth += (1.0f/20000.0f);      // Same as rlEnd(), next draws are on top of recorded quads
         }
         else{
-            Tracelog(LOG_ERROR, "RLGL: Batch elements overflow");
+            rlSubmitQuads(textureId, quads, offset, null, 0, colors, colorOffset, quadCount, rlglData.getState().transformRequired);
         }
     }
 
+    // Draw deferred quads: positions already transformed, depth by vertex
+    public void rlQuadBatchDeferred(int textureId, float[] quads, int offset, float[] depths, int depthOffset,
+                                    int[] colors, int colorOffset, int quadCount){
+        rlSubmitQuads(textureId, quads, offset, depths, depthOffset, colors, colorOffset, quadCount, false);
+    }
+
+    // Copy multiple textured quads straight into the current batch
+    // NOTE: Batch limit and texture change are checked once per call (once per batch chunk if it does not fit),
+    // depths provides z by vertex (deferred quads), current batch depth is used if null
+    static void rlSubmitQuads(int textureId, float[] quads, int offset, float[] depths, int depthOffset,
+                              int[] colors, int colorOffset, int quadCount, boolean transformRequired){
+        RLGL.rlSetTexture(textureId);
+        RLGL.rlBegin(RL_QUADS);
+
+        int quadsDone = 0;
+
+        while (quadsDone < quadCount) {
+            State state = rlglData.getState();
+            rlRenderBatch batch = rlglData.getCurrentBatch();
+            rlVertexBuffer vertexBuffer = batch.rlVertexBuffer[batch.currentBuffer];
+
+            // NOTE: Keep one vertex free at the end of the buffer, same as rlCheckRenderBatchLimit()
+            int quadsFree = (vertexBuffer.elementCount*4 - state.vertexCounter - 1)/4;
+
+            if (quadsFree <= 0) {
+                rlCheckRenderBatchLimit(4);    // Batch full, draw it and keep current mode and texture
+                continue;
+            }
+
+            int quadsToWrite = Math.min(quadsFree, quadCount - quadsDone);
+            int vertexCounter = state.vertexCounter;
+            int slot = state.textureSlot;
+            float depth = batch.currentDepth;
+            Matrix transform = state.transform;
+
+            for (int q = 0; q < quadsToWrite; q++) {
+                int color = colors[colorOffset + quadsDone + q];
+                byte r = (byte)(color >>> 24);
+                byte g = (byte)(color >>> 16);
+                byte b = (byte)(color >>> 8);
+                byte a = (byte)color;
+
+                int base = offset + (quadsDone + q)*16;
+                int d = depthOffset + (quadsDone + q)*4;
+
+                for (int v = 0; v < 4; v++, base += 4, d++) {
+                    float x = quads[base];
+                    float y = quads[base + 1];
+                    float tx = x;
+                    float ty = y;
+                    float tz = (depths != null)? depths[d] : depth;
+
+                    // Transform provided vector if required
+                    if (transformRequired) {
+                        tx = transform.m0*x + transform.m4*y + transform.m8*depth + transform.m12;
+                        ty = transform.m1*x + transform.m5*y + transform.m9*depth + transform.m13;
+                        tz = transform.m2*x + transform.m6*y + transform.m10*depth + transform.m14;
+                    }
+
+                    rlPutVertex(vertexBuffer, vertexCounter++, tx, ty, tz, quads[base + 2], quads[base + 3], r, g, b, a, slot);
+                }
+            }
+
+            state.vertexCounter = vertexCounter;
+            batch.draws[batch.drawCounter - 1].vertexCount += quadsToWrite*4;
+            quadsDone += quadsToWrite;
+        }
+
+        RLGL.rlEnd();
+        RLGL.rlSetTexture(0);
+    }
+
     // Define one vertex (position)
-    static void rlVertex2f(float x, float y){
+    public void rlVertex2f(float x, float y){
         rlVertex3f(x, y, rlglData.getCurrentBatch().currentDepth);
     }
 
     // Define one vertex (position)
-    static void rlVertex2i(int x, int y){
+    public void rlVertex2i(int x, int y){
         rlVertex3f((float) x, (float) y, rlglData.getCurrentBatch().currentDepth);
     }
 
     // Define one vertex (texture coordinate)
     // NOTE: Texture coordinates are limited to QUADS only
-    static void rlTexCoord2f(float x, float y){
+    public void rlTexCoord2f(float x, float y){
         rlglData.getState().texcoordx = x;
         rlglData.getState().texcoordy = y;
     }
 
     // Define one vertex (normal)
     // NOTE: Normals limited to TRIANGLES only?
-    static void rlNormal3f(float x, float y, float z){
+    public void rlNormal3f(float x, float y, float z){
         rlglData.getState().normalx = x;
         rlglData.getState().normaly = y;
         rlglData.getState().normalz = z;
     }
 
     // Define one vertex (color)
-    static void rlColor4ub(byte x, byte y, byte z, byte w){
-        rlglData.getState().colorr = x;
-        rlglData.getState().colorg = y;
-        rlglData.getState().colorb = z;
-        rlglData.getState().colora = w;
+    public void rlColor4ub(int x, int y, int z, int w){
+        rlglData.getState().colorr = (byte)x;
+        rlglData.getState().colorg = (byte)y;
+        rlglData.getState().colorb = (byte)z;
+        rlglData.getState().colora = (byte)w;
     }
 
     // Define one vertex (color)
-    static void rlColor4f(float r, float g, float b, float a){
+    public void rlColor4f(float r, float g, float b, float a){
         rlColor4ub((byte)(r * 255),  (byte)(g * 255),  (byte)(b * 255),  (byte)(a * 255));
     }
 
     // Define one vertex (color)
-    public static void rlColor3f(float x, float y, float z){
+    public void rlColor3f(float x, float y, float z){
         rlColor4ub((byte)(x * 255), (byte)(y * 255), (byte)(z * 255), (byte)255);
     }
 
-}
\ No newline at end of file
+
+    // Convert image data to OpenGL texture (returns OpenGL valid Id)
+    public int rlLoadTexture(DataBuffer data, int width, int height, int format, int mipmapCount){
+        return rlLoadTextureGL(data, width, height, format, mipmapCount);
+    }
+
+    // Load texture from native buffer data
+    public int rlLoadTextureBuffer(ByteBuffer data, int width, int height, int format){
+        return rlLoadTextureBufferGL(data, width, height, format);
+    }
+
+    // Update texture with new data on GPU
+    public void rlUpdateTexture(int id, int offsetX, int offsetY, int width, int height, int format, byte[] data){
+        rlUpdateTextureGL(id, offsetX, offsetY, width, height, format, data);
+    }
+
+    // Unload texture from GPU memory
+    public void rlUnloadTexture(int id){
+        glDeleteTextures(id);
+    }
+
+    // Set blending mode GL factors and equation
+    public void rlBlendMode(int mode){
+        switch (mode){
+            case rlBlendMode.RL_BLEND_ALPHA:
+                glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
+                glBlendEquation(GL_FUNC_ADD);
+                break;
+            case rlBlendMode.RL_BLEND_ADDITIVE:
+                glBlendFunc(GL_SRC_ALPHA, GL_ONE);
+                glBlendEquation(GL_FUNC_ADD);
+                break;
+            case rlBlendMode.RL_BLEND_MULTIPLIED:
+                glBlendFunc(GL_DST_COLOR, GL_ONE_MINUS_SRC_ALPHA);
+                glBlendEquation(GL_FUNC_ADD);
+                break;
+            case rlBlendMode.RL_BLEND_ADD_COLORS:
+                glBlendFunc(GL_ONE, GL_ONE);
+                glBlendEquation(GL_FUNC_ADD);
+                break;
+            case rlBlendMode.RL_BLEND_SUBTRACT_COLORS:
+                glBlendFunc(GL_ONE, GL_ONE);
+                glBlendEquation(GL_FUNC_SUBTRACT);
+                break;
+            case rlBlendMode.RL_BLEND_ALPHA_PREMULTIPLY:
+                glBlendFunc(GL_ONE, GL_ONE_MINUS_SRC_ALPHA);
+                glBlendEquation(GL_FUNC_ADD);
+                break;
+            case rlBlendMode.RL_BLEND_CUSTOM:
+                // NOTE: Using GL blend src/dst factors and GL equation configured with rlSetBlendFactors()
+                glBlendFunc(rlglData.getState().glBlendSrcFactor, rlglData.getState().glBlendDstFactor);
+                glBlendEquation(rlglData.getState().glBlendEquation);
+                break;
+            default:
+                break;
+        }
+    }
+
+    // Set the viewport area
+    public void rlViewport(int x, int y, int width, int height){
+        glViewport(x, y, width, height);
+    }
+
+    // Clear color buffer with color
+    public void rlClearColor(float r, float g, float b, float a){
+        glClearColor(r, g, b, a);
+    }
+
+    // Clear used screen buffers (color and depth)
+    public void rlClearScreenBuffers(){
+        glClear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT);     // Clear used buffers: Color and Depth (Depth is used for 3D)
+        //glClear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT | GL_STENCIL_BUFFER_BIT);     // Stencil buffer not used...
+    }
+
+    // Load render batch vertex buffers: VAOs, VBOs and indices buffer
+    public void rlLoadBatchBuffers(rlRenderBatch batch){
+        for(int i = 0; i < batch.rlVertexBuffer.length; i++){
+            if(rlglData.getExtSupported().isVao()){
+                // Initialize Quads VAO
+                batch.rlVertexBuffer[i].setVaoId(glGenVertexArrays());
+                glBindVertexArray(batch.rlVertexBuffer[i].getVaoId());
+            }
+
+            // Quads - Vertex buffers binding and attributes enable
+            if(batch.rlVertexBuffer[i].interleaved != null){
+                // Interleaved vertex buffer: position, texcoord and color (shader-location = 0, 1, 3)
+                batch.rlVertexBuffer[i].vboId[0] = glGenBuffers();
+                glBindBuffer(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].vboId[0]);
+                glBufferData(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].interleaved, GL_DYNAMIC_DRAW);
+            }
+            else{
+                // Vertex position buffer (shader-location = 0)
+                batch.rlVertexBuffer[i].vboId[0] = glGenBuffers();
+                glBindBuffer(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].vboId[0]);
+                glBufferData(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].vertices, GL_DYNAMIC_DRAW);
+
+                // Vertex texcoord buffer (shader-location = 1)
+                batch.rlVertexBuffer[i].vboId[1] = glGenBuffers();
+                glBindBuffer(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].vboId[1]);
+                glBufferData(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].texcoords, GL_DYNAMIC_DRAW);
+
+                // Vertex color buffer (shader-location = 3)
+                batch.rlVertexBuffer[i].vboId[2] = glGenBuffers();
+                glBindBuffer(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].vboId[2]);
+                glBufferData(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].colors, GL_DYNAMIC_DRAW);
+            }
+            if(batch.multiTexture){
+                // Vertex texture slot buffer (shader-location = 6)
+                batch.rlVertexBuffer[i].vboId[4] = glGenBuffers();
+                glBindBuffer(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].vboId[4]);
+                glBufferData(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].texslots, GL_DYNAMIC_DRAW);
+            }
+            rlEnableBatchVertexAttributes(batch.rlVertexBuffer[i]);
+
+            // Fill index buffer
+            batch.rlVertexBuffer[i].vboId[3] = glGenBuffers();
+            glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, batch.rlVertexBuffer[i].vboId[3]);
+            if(GRAPHICS_API_OPENGL_33){
+                glBufferData(GL_ELEMENT_ARRAY_BUFFER, batch.rlVertexBuffer[i].getIndices_GL11(), GL_STATIC_DRAW);
+            }
+            else if(GRAPHICS_API_OPENGL_ES2){
+                glBufferData(GL_ELEMENT_ARRAY_BUFFER, batch.rlVertexBuffer[i].getIndices_ES20(), GL_STATIC_DRAW);
+            }
+        }
+
+        Tracelog(LOG_INFO, "RLGL: Render batch vertex buffers loaded successfully in VRAM (GPU)");
+
+        // Unbind the current VAO
+        if(rlglData.getExtSupported().isVao()){
+            glBindVertexArray(0);
+        }
+    }
+
+    // Unload render batch vertex buffers from GPU (VRAM)
+    public void rlUnloadBatchBuffers(rlRenderBatch batch){
+        // Unbind everything
+        if (rlglData.getExtSupported().isVao()){
+            glBindVertexArray(0);
+        }
+        glDisableVertexAttribArray(0);
+        glDisableVertexAttribArray(1);
+        glDisableVertexAttribArray(2);
+        glDisableVertexAttribArray(3);
+        glBindBuffer(GL_ARRAY_BUFFER, 0);
+        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
+
+        // Unload all vertex buffers data
+        for (int i = 0; i < batch.bufferCount; i++){
+            // Delete pending buffer fences
+            if (batch.fences[i] != 0){
+                batchGL.glDeleteSync(batch.fences[i]);
+                batch.fences[i] = 0;
+            }
+
+            // Delete VBOs from GPU (VRAM)
+            glDeleteBuffers(batch.rlVertexBuffer[i].vboId[0]);
+            glDeleteBuffers(batch.rlVertexBuffer[i].vboId[1]);
+            glDeleteBuffers(batch.rlVertexBuffer[i].vboId[2]);
+            glDeleteBuffers(batch.rlVertexBuffer[i].vboId[3]);
+            if (batch.rlVertexBuffer[i].texslots != null){
+                glDeleteBuffers(batch.rlVertexBuffer[i].vboId[4]);
+            }
+
+            // Delete VAOs from GPU (VRAM)
+            if (rlglData.getExtSupported().isVao()){
+                glDeleteVertexArrays(batch.rlVertexBuffer[i].vaoId);
+            }
+        }
+    }
+
+    // Update and draw render batch current vertex buffer
+    public void rlDrawBatchBuffers(rlRenderBatch batch){
+        // Update batch vertex buffers
+        //------------------------------------------------------------------------------------------------------------
+        // NOTE: If there is not vertex data, buffers doesn't need to be updated (vertexCount > 0)
+        int vertexCount = rlglData.getState().vertexCounter;
+
+        if (vertexCount > 0){
+            // NOTE: Multi-buffering uploads with unsynchronized buffer mapping (no implicit driver sync),
+            // so the buffer is only written once GPU finished reading its previous content (fence)
+            if (batch.bufferCount > 1){
+                rlWaitBatchBuffer(batch, batch.currentBuffer);
+            }
+
+            rlUpdateBatchBuffers(batch, vertexCount);
+        }
+
+        //------------------------------------------------------------------------------------------------------------
+        // Draw batch vertex buffers (considering VR stereo if required)
+        //------------------------------------------------------------------------------------------------------------
+        rlDrawBatchCalls(batch);
+
+        // NOTE: Drawn buffer is guarded by a fence, it is written again after bufferCount draws,
+        // that way CPU uploads one buffer while GPU reads the previous ones
+        if ((batch.bufferCount > 1) && (vertexCount > 0)){
+            rlFenceBatchBuffer(batch, batch.currentBuffer);
+        }
+    }
+
+    // Upload render batch current vertex buffer written range (vertexCount vertex) to GPU
+    // NOTE: Only the range written since last draw (vertexCounter) is uploaded, not the full elementCount*4 buffer
+    void rlUpdateBatchBuffers(rlRenderBatch batch, int vertexCount){
+        rlVertexBuffer vertexBuffer = batch.rlVertexBuffer[batch.currentBuffer];
+
+        // NOTE: Orphaning only required with a single buffer, multi-buffering maps buffers unsynchronized (synced by fences)
+        boolean orphan = SUPPORT_BATCH_BUFFER_ORPHANING && (batch.bufferCount == 1);
+        boolean unsynchronized = GRAPHICS_API_OPENGL_33 && (batch.bufferCount > 1);
+
+        if (vertexBuffer.interleaved != null){
+            // Interleaved vertex buffer, a single upload for all the attributes
+            batch.uploadedBytes += rlUploadVertexBufferRange(vertexBuffer.vboId[0], MemoryUtil.memAddress(vertexBuffer.interleaved),
+                    vertexBuffer.interleaved.capacity(), (long)vertexCount*RL_BATCH_VERTEX_SIZE, orphan, unsynchronized);
+        }
+        else{
+            // Vertex positions buffer
+            batch.uploadedBytes += rlUploadVertexBufferRange(vertexBuffer.vboId[0], MemoryUtil.memAddress(vertexBuffer.vertices),
+                    (long)vertexBuffer.vertices.capacity()*Float.BYTES, (long)vertexCount*3*Float.BYTES, orphan, unsynchronized);
+
+            // Texture coordinates buffer
+            batch.uploadedBytes += rlUploadVertexBufferRange(vertexBuffer.vboId[1], MemoryUtil.memAddress(vertexBuffer.texcoords),
+                    (long)vertexBuffer.texcoords.capacity()*Float.BYTES, (long)vertexCount*2*Float.BYTES, orphan, unsynchronized);
+
+            // Colors buffer
+            batch.uploadedBytes += rlUploadVertexBufferRange(vertexBuffer.vboId[2], MemoryUtil.memAddress(vertexBuffer.colors),
+                    vertexBuffer.colors.capacity(), (long)vertexCount*4, orphan, unsynchronized);
+        }
+
+        if (vertexBuffer.texslots != null){
+            // Texture slots buffer
+            batch.uploadedBytes += rlUploadVertexBufferRange(vertexBuffer.vboId[4], MemoryUtil.memAddress(vertexBuffer.texslots),
+                    vertexBuffer.texslots.capacity(), vertexCount, orphan, unsynchronized);
+        }
+    }
+
+    // Draw render batch current vertex buffer draw calls (considering VR stereo if required)
+    protected void rlDrawBatchCalls(rlRenderBatch batch){
+        // NOTE: Modelview matrix is updated in place by eye, original values are kept for stereo render
+        int eyesCount = rlglData.getState().isStereoRender() ? 2 : 1;
+        Matrix matModelView = (eyesCount == 2)? new Matrix(rlglData.getState().getModelview()) : null;
+
+        for (int eye = 0; eye < eyesCount; eye++){
+            if (eyesCount == 2){
+                // Setup current eye viewport (half screen width)
+                rlViewport(eye * rlglData.getState().getFramebufferWidth() / 2, 0, rlglData.getState().getFramebufferWidth() / 2, rlglData.getState().getFramebufferHeight());
+
+                // Set current eye view offset to modelview matrix
+                rlSetMatrixModelview(MatrixMultiply(matModelView, rlglData.getState().getViewOffsetStereo()[eye]));
+                // Set current eye projection matrix
+                rlSetMatrixProjection(rlglData.getState().getProjectionStereo()[eye]);
+            }
+            // Draw buffers
+            if (rlglData.getState().vertexCounter > 0){
+                // Set current shader and upload current MVP matrix
+                glUseProgram(rlglData.getState().currentShaderId);
+
+                // Create modelview-projection matrix and upload to shader
+                Matrix matMVP = MatrixMultiply(rlglData.getState().getModelview(), rlglData.getState().getProjection());
+                glUniformMatrix4fv(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_MATRIX_MVP],false, MatrixToFloat(matMVP));
+
+                if (rlglData.getExtSupported().isVao()){
+                    glBindVertexArray(batch.rlVertexBuffer[batch.currentBuffer].vaoId);
+                }
+                else{
+                    // Bind vertex attribs: position, texcoord and color (shader-location = 0, 1, 3)
+                    rlEnableBatchVertexAttributes(batch.rlVertexBuffer[batch.currentBuffer]);
+
+                    glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, batch.rlVertexBuffer[batch.currentBuffer].vboId[3]);
+                }
+
+                // Setup some default shader values
+                glUniform4f(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_COLOR_DIFFUSE], 1.0f, 1.0f, 1.0f, 1.0f);
+                glUniform1i(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_MAP_DIFFUSE], 0); // Active default sampler2D: texture0
+
+                rlDrawBatchDraws(batch);
+
+                if (!rlglData.getExtSupported().isVao()){
+                    glBindBuffer(GL_ARRAY_BUFFER, 0);
+                    glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
+                }
+            }
+
+            if (rlglData.getExtSupported().isVao()){
+                glBindVertexArray(0); // Unbind VAO
+            }
+
+            glUseProgram(0);    // Unbind shader program
+        }
+
+        // Restore viewport to default measures
+        if (eyesCount == 2) {
+            rlViewport(0, 0, rlglData.getState().framebufferWidth, rlglData.getState().framebufferHeight);
+        }
+    }
+
+    // Bind render batch textures and issue its draw calls, vertex buffers and shader must be already set
+    // NOTE: Draw calls and texture binds are counted on batch (rlGetRenderBatchDrawCalls(), rlGetRenderBatchTextureBinds())
+    void rlDrawBatchDraws(rlRenderBatch batch){
+        // Activate additional sampler textures
+        // Those additional textures will be common for all draw calls of the batch
+        for (int i = 0; i < RL_DEFAULT_BATCH_MAX_TEXTURE_UNITS; i++){
+            if (rlglData.getState().getActiveTextureId()[i] > 0){
+                batchGL.glActiveTexture(GL_TEXTURE0 + 1 + i);
+                batchGL.glBindTexture(GL_TEXTURE_2D, rlglData.getState().getActiveTextureId()[i]);
+            }
+        }
+
+        // Activate default sampler2D texture0 (one texture is always active for default batch shader)
+        // NOTE: Batch system accumulates calls by texture0 changes, additional textures are enabled for all the draw calls
+        batchGL.glActiveTexture(GL_TEXTURE0);
+
+        // NOTE: Multi-texture batch with default shader binds every draw textures table, sampler2D textures[i]
+        // is binded to texture unit rlGetTextureSlotUnit(i) and each vertex selects its texture slot
+        boolean drawTextures = batch.multiTexture && (rlglData.getState().currentShaderId == rlglData.getState().defaultShaderId);
+        int texturesBound = 1;
+
+        for (int i = 0, vertexOffset = 0; i < batch.drawCounter; i++){
+            if (drawTextures){
+                for (int t = batch.draws[i].textureCount - 1; t >= 0; t--){
+                    batchGL.glActiveTexture(GL_TEXTURE0 + rlGetTextureSlotUnit(t));
+                    batchGL.glBindTexture(GL_TEXTURE_2D, batch.draws[i].textures[t]);
+                }
+                batch.textureBinds += batch.draws[i].textureCount;
+                texturesBound = Math.max(texturesBound, batch.draws[i].textureCount);
+            }
+            else{
+                // Bind current draw call texture, activated as GL_TEXTURE0 and binded to sampler2D texture0 by default
+                batchGL.glBindTexture(GL_TEXTURE_2D, batch.draws[i].textureId);
+                batch.textureBinds++;
+            }
+
+            if ((batch.draws[i].mode == RL_LINES) || (batch.draws[i].mode == RL_TRIANGLES)){
+                batchGL.glDrawArrays(batch.draws[i].mode, vertexOffset, batch.draws[i].vertexCount);
+            }
+            else{
+                if (GRAPHICS_API_OPENGL_33){
+                    // We need to define the number of indices to be processed: elementCount*6
+                    // NOTE: The final parameter tells the GPU the offset in bytes from the
+                    // start of the index buffer to the location of the first index to process
+                    batchGL.glDrawElements(GL_TRIANGLES, batch.draws[i].vertexCount / 4 * 6, GL_UNSIGNED_INT,
+                            (vertexOffset/4* 6L *Integer.BYTES));
+                }
+                else if (GRAPHICS_API_OPENGL_ES2){
+                    batchGL.glDrawElements(GL_TRIANGLES, batch.draws[i].vertexCount / 4 * 6, GL_UNSIGNED_SHORT,
+                            (vertexOffset/4*6L*Short.BYTES));
+                }
+            }
+
+            if (batch.draws[i].vertexCount > 0){
+                batch.drawCalls++;
+            }
+
+            vertexOffset += (batch.draws[i].vertexCount + batch.draws[i].vertexAlignment);
+        }
+
+        for (int t = texturesBound - 1; t >= 0; t--){
+            batchGL.glActiveTexture(GL_TEXTURE0 + (drawTextures? rlGetTextureSlotUnit(t) : t));
+            batchGL.glBindTexture(GL_TEXTURE_2D, 0);    // Unbind textures
+        }
+    }
+
+    // Insert a fence after the commands reading the batch vertex buffer
+    void rlFenceBatchBuffer(rlRenderBatch batch, int buffer){
+        if (GRAPHICS_API_OPENGL_33){
+            if (batch.fences[buffer] != 0){
+                batchGL.glDeleteSync(batch.fences[buffer]);
+            }
+            batch.fences[buffer] = batchGL.glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        }
+    }
+
+    // Wait until GPU has finished reading the batch vertex buffer, required before writing to it again
+    // NOTE: With enough buffers in the ring the fence is already signaled and no wait happens
+    void rlWaitBatchBuffer(rlRenderBatch batch, int buffer){
+        if (GRAPHICS_API_OPENGL_33 && (batch.fences[buffer] != 0)){
+            int result = batchGL.glClientWaitSync(batch.fences[buffer], 0, 0);
+
+            if ((result == GL_TIMEOUT_EXPIRED) || (result == GL_WAIT_FAILED)){
+                batch.fenceWaits++;
+
+                // Flush pending commands on first wait, avoids waiting on a fence never submitted to the GPU
+                int flags = GL_SYNC_FLUSH_COMMANDS_BIT;
+                do{
+                    result = batchGL.glClientWaitSync(batch.fences[buffer], flags, RL_BATCH_FENCE_TIMEOUT);
+                    flags = 0;
+                } while (result == GL_TIMEOUT_EXPIRED);
+
+                if (result == GL_WAIT_FAILED){
+                    Tracelog(LOG_WARNING, "RLGL: Failed to wait for render batch buffer [" + buffer + "] fence");
+                }
+            }
+
+            batchGL.glDeleteSync(batch.fences[buffer]);
+            batch.fences[buffer] = 0;
+        }
+    }
+
+    // Bind render batch vertex buffers and set current shader attributes layout
+    // NOTE: Interleaved layout uses a single VBO with strided attributes, otherwise one VBO per attribute
+    static void rlEnableBatchVertexAttributes(rlVertexBuffer vertexBuffer){
+        int[] locs = rlglData.getState().currentShaderLocs;
+
+        if (vertexBuffer.interleaved != null){
+            glBindBuffer(GL_ARRAY_BUFFER, vertexBuffer.vboId[0]);
+            glVertexAttribPointer(locs[RL_SHADER_LOC_VERTEX_POSITION], 3, GL_FLOAT, false, RL_BATCH_VERTEX_SIZE, 0);
+            glVertexAttribPointer(locs[RL_SHADER_LOC_VERTEX_TEXCOORD01], 2, GL_FLOAT, false, RL_BATCH_VERTEX_SIZE, 3*Float.BYTES);
+            glVertexAttribPointer(locs[RL_SHADER_LOC_VERTEX_COLOR], 4, GL_UNSIGNED_BYTE, true, RL_BATCH_VERTEX_SIZE, 5*Float.BYTES);
+        }
+        else{
+            glBindBuffer(GL_ARRAY_BUFFER, vertexBuffer.vboId[0]);
+            glVertexAttribPointer(locs[RL_SHADER_LOC_VERTEX_POSITION], 3, GL_FLOAT, false, 0, 0);
+            glBindBuffer(GL_ARRAY_BUFFER, vertexBuffer.vboId[1]);
+            glVertexAttribPointer(locs[RL_SHADER_LOC_VERTEX_TEXCOORD01], 2, GL_FLOAT, false, 0, 0);
+            glBindBuffer(GL_ARRAY_BUFFER, vertexBuffer.vboId[2]);
+            glVertexAttribPointer(locs[RL_SHADER_LOC_VERTEX_COLOR], 4, GL_UNSIGNED_BYTE, true, 0, 0);
+        }
+
+        glEnableVertexAttribArray(locs[RL_SHADER_LOC_VERTEX_POSITION]);
+        glEnableVertexAttribArray(locs[RL_SHADER_LOC_VERTEX_TEXCOORD01]);
+        glEnableVertexAttribArray(locs[RL_SHADER_LOC_VERTEX_COLOR]);
+
+        if (vertexBuffer.texslots != null){
+            // NOTE: Texture slot location is fixed, binded on shader program linkage
+            glBindBuffer(GL_ARRAY_BUFFER, vertexBuffer.vboId[4]);
+            glVertexAttribPointer(RL_BATCH_TEXSLOT_LOCATION, 1, GL_UNSIGNED_BYTE, false, 0, 0);
+            glEnableVertexAttribArray(RL_BATCH_TEXSLOT_LOCATION);
+        }
+    }
+
+    // Upload the written range of a render batch vertex buffer (sizes in bytes)
+    // NOTE: If orphan requested, previous storage is orphaned first so the driver
+    // does not need to wait for the GPU to finish reading the last batch before overwriting it
+    // NOTE: If unsynchronized requested, buffer is mapped with no driver sync, caller must make sure
+    // GPU is not reading the buffer anymore (fences), glBufferSubData() is used if mapping fails
+    long rlUploadVertexBufferRange(int vboId, long address, long capacity, long size, boolean orphan, boolean unsynchronized){
+        batchGL.glBindBuffer(GL_ARRAY_BUFFER, vboId);
+        if (unsynchronized){
+            long mapped = batchGL.nglMapBufferRange(GL_ARRAY_BUFFER, 0, size,
+                    GL_MAP_WRITE_BIT | GL_MAP_INVALIDATE_RANGE_BIT | GL_MAP_UNSYNCHRONIZED_BIT);
+
+            if (mapped != 0){
+                MemoryUtil.memCopy(address, mapped, size);
+
+                // NOTE: Buffer content is undefined if unmapping fails (i.e. display mode change), upload it again
+                if (batchGL.glUnmapBuffer(GL_ARRAY_BUFFER)) return size;
+            }
+        }
+        if (orphan){
+            batchGL.glBufferData(GL_ARRAY_BUFFER, capacity, GL_DYNAMIC_DRAW);
+        }
+        batchGL.nglBufferSubData(GL_ARRAY_BUFFER, 0, size, address);
+
+        return size;
+    }
+}
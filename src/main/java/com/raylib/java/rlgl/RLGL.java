@@ -1,7 +1,9 @@
 package com.raylib.java.rlgl;
 
 import com.raylib.java.raymath.Matrix;
+import com.raylib.java.rlgl.data.State;
 import com.raylib.java.rlgl.data.rlglData;
+import com.raylib.java.textures.DataBufferNative;
 import com.raylib.java.textures.Texture2D;
 import com.raylib.java.utils.Tracelog;
 import org.lwjgl.opengl.GL11;
@@ -28,7 +30,7 @@ import static org.lwjgl.opengl.GL15.*;
 import static org.lwjgl.opengl.GL20.*;
 import static org.lwjgl.opengl.GL30.*;
 import static org.lwjgl.opengl.GL31.*;
-import static org.lwjgl.opengl.GL32.GL_TEXTURE_CUBE_MAP_SEAMLESS;
+import static org.lwjgl.opengl.GL32.*;
 import static org.lwjgl.opengl.GL33.GL_TEXTURE_SWIZZLE_RGBA;
 import static org.lwjgl.opengl.GL33.glVertexAttribDivisor;
 import static org.lwjgl.opengl.GL41.GL_RGB565;
@@ -49,8 +51,11 @@ public class RLGL{
     public static boolean GRAPHICS_API_OPENGL_ES2 = false;
     private static final boolean RLGL_RENDER_TEXTURES_HINT = true;
 
-    public static final int DEFAULT_BATCH_BUFFERS = 1;
-    // Default number of batch buffers (multi-buffering)
+    public static final int RL_BATCH_VERTEX_SIZE = 3*Float.BYTES + 2*Float.BYTES + 4;
+    // Interleaved batch vertex size in bytes: position (XYZ), texcoord (UV), color (RGBA)
+
+    public static final int RL_BATCH_TEXSLOT_LOCATION = 6;
+    // Batch vertex texture slot shader location (multi-texture batch), binded to vertexTexSlot
 
     public static final int DEFAULT_BATCH_DRAWCALLS = 256;
     // Default number of batch draw calls (by state changes: mode, texture)
@@ -154,6 +159,13 @@ public class RLGL{
     static int glInternalFormat = 0, glFormat = 0, glType = 0;
 
     static rlglData rlglData;
+    static rlBackend backend = new GL_33();     // Current rendering backend, set on rlglInit()
+
+    // Backend and graphics API flags replaced by rlglInitBackend(), restored on rlglClose()
+    private static boolean customBackendInit;
+    private static rlBackend savedBackend;
+    private static final boolean[] savedGraphicsApi = new boolean[5];  // 11, 21, 33, 43, ES2
+    private static final float[] quadBatchScratch = new float[16*256];
 
     /**
      * Version of OpenGL being used by Raylib-J
@@ -313,201 +325,131 @@ public class RLGL{
     }
 
     public static void rlMatrixMode(int mode){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlMatrixMode(mode);
-        }
-        else if (GRAPHICS_API_OPENGL_11){
-            GL_11.rlMatrixMode(mode);
-        }
+        backend.rlMatrixMode(mode);
     }
 
     public static void rlFrustum(double left, double right, double bottom, double top, double znear, double zfar){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlFrustum(left, right, bottom, top, znear, zfar);
-        }
-        else if (GRAPHICS_API_OPENGL_11){
-            GL_11.rlFrustum(left, right, bottom, top, znear, zfar);
-        }
+        backend.rlFrustum(left, right, bottom, top, znear, zfar);
     }
 
     public static void rlOrtho(double left, double right, double bottom, double top, double znear, double zfar){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlOrtho(left, right, bottom, top, znear, zfar);
-        }
-        else if (GRAPHICS_API_OPENGL_11){
-            GL_11.rlOrtho(left, right, bottom, top, znear, zfar);
-        }
+        backend.rlOrtho(left, right, bottom, top, znear, zfar);
     }
 
     public static void rlPushMatrix(){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlPushMatrix();
-        }
-        else if (GRAPHICS_API_OPENGL_11){
-            GL_11.rlPushMatrix();
-        }
+        backend.rlPushMatrix();
     }
 
     public static void rlPopMatrix(){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlPopMatrix();
-        }
-        else if (GRAPHICS_API_OPENGL_11){
-            GL_11.rlPopMatrix();
-        }
+        backend.rlPopMatrix();
     }
 
     public static void rlLoadIdentity(){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlLoadIdentity();
-        }
-        else if (GRAPHICS_API_OPENGL_11){
-            GL_11.rlLoadIdentity();
-        }
+        backend.rlLoadIdentity();
     }
 
     public static void rlTranslatef(float x, float y, float z){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlTranslatef(x, y, z);
-        }
-        else if (GRAPHICS_API_OPENGL_11){
-            GL_11.rlTranslatef(x, y, z);
-        }
+        backend.rlTranslatef(x, y, z);
     }
 
     public static void rlRotatef(float angle, float x, float y, float z){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlRotatef(angle, x, y, z);
-        }
-        else if (GRAPHICS_API_OPENGL_11){
-            GL_11.rlRotatef(angle, x, y, z);
-        }
+        backend.rlRotatef(angle, x, y, z);
     }
 
     public static void rlScalef(float x, float y, float z){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlScalef(x, y, z);
-
-        }
-        else if (GRAPHICS_API_OPENGL_11){
-            GL_11.rlScalef(x, y, z);
-        }
+        backend.rlScalef(x, y, z);
     }
 
     public static void rlMultMatrixf(float[] matf){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlMultMatrixf(matf);
-        }
-        else if (GRAPHICS_API_OPENGL_11){
-            GL_11.rlMultMatrixf(matf);
-        }
-
+        backend.rlMultMatrixf(matf);
     }
 
     // Set the viewport area (transformation from normalized device coordinates to window coordinates)
     // NOTE: We store current viewport dimensions
     public static void rlViewport(int x, int y, int width, int height){
-        glViewport(x, y, width, height);
+        backend.rlViewport(x, y, width, height);
     }
 
     public static void rlBegin(int mode){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlBegin(mode);
-        }
-        else{
-            GL_11.rlBegin(mode);
-        }
+        backend.rlBegin(mode);
     }
 
     public static void rlEnd(){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlEnd();
-        }
-        else{
-            GL_11.rlEnd();
-        }
+        backend.rlEnd();
     }
 
     // Define one vertex (position)
     // NOTE: Vertex position data is the basic information required for drawing
     public static void rlVertex3f(float x, float y, float z){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlVertex3f(x, y, z);
-        }
-        else{
-            GL_11.rlVertex3f(x, y, z);
-        }
+        backend.rlVertex3f(x, y, z);
     }
 
     // Define one vertex (position)
     public static void rlVertex2f(float x, float y){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlVertex2f(x, y);
-        }
-        else{
-            GL_11.rlVertex2f(x, y);
-        }
+        backend.rlVertex2f(x, y);
     }
 
     // Define one vertex (position)
     public static void rlVertex2i(int x, int y){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlVertex2i(x, y);
-        }
-        else{
-            GL_11.rlVertex2i(x, y);
-        }
+        backend.rlVertex2i(x, y);
     }
 
     // Define one vertex (texture coordinate)
     // NOTE: Texture coordinates are limited to QUADS only
     public static void rlTexCoord2f(float x, float y){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlTexCoord2f(x, y);
-        }
-        else{
-            GL_11.rlTexCoord2f(x, y);
-        }
+        backend.rlTexCoord2f(x, y);
     }
 
     // Define one vertex (normal)
     // NOTE: Normals limited to TRIANGLES only?
     public static void rlNormal3f(float x, float y, float z){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlNormal3f(x, y, z);
-        }
-        else{
-            GL_11.rlNormal3f(x, y, z);
-        }
+        backend.rlNormal3f(x, y, z);
     }
 
     // Define one vertex (color)
     public static void rlColor4ub(int x, int y, int z, int w){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlColor4ub((byte)x, (byte)y, (byte)z, (byte)w);
-        }
-        else{
-            GL_11.rlColor4ub(x, y, z, w);
-        }
+        backend.rlColor4ub(x, y, z, w);
     }
 
     // Define one vertex (color)
     void rlColor4f(float r, float g, float b, float a){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlColor4f(r, g, b, a);
-        }
-        else{
-            GL_11.rlColor4f(r, g, b, a);
-        }
+        backend.rlColor4f(r, g, b, a);
     }
 
     // Define one vertex (color)
     public static void rlColor3f(float x, float y, float z){
-        if (GRAPHICS_API_OPENGL_33){
-            GL_33.rlColor3f(x, y, z);
+        backend.rlColor3f(x, y, z);
+    }
+
+    // Draw multiple textured quads with a single call
+    // NOTE: Every quad is provided as 4 vertex (x, y, u, v), 16 floats per quad, in RL_QUADS order:
+    // top-left, bottom-left, bottom-right, top-right. One color per quad, packed as RGBA (ColorToInt())
+    public static void rlQuadBatch(int textureId, float[] quads, int[] colors, int quadCount){
+        rlQuadBatch(textureId, quads, 0, colors, 0, quadCount);
+    }
+
+    // Draw multiple textured quads with a single call, reading from provided array offsets
+    public static void rlQuadBatch(int textureId, float[] quads, int offset, int[] colors, int colorOffset, int quadCount){
+        if (quadCount <= 0) return;
+
+        backend.rlQuadBatch(textureId, quads, offset, colors, colorOffset, quadCount);
+    }
+
+    // Draw multiple textured quads with a single call, quads read from buffer position
+    public static void rlQuadBatch(int textureId, FloatBuffer quads, int[] colors, int quadCount){
+        if (quads.hasArray()){
+            rlQuadBatch(textureId, quads.array(), quads.arrayOffset() + quads.position(), colors, 0, quadCount);
         }
         else{
-            GL_11.rlColor3f(x, y, z);
+            // Direct buffers are copied in chunks into a reusable scratch array
+            for (int quadsDone = 0; quadsDone < quadCount; ){
+                int chunk = Math.min(quadBatchScratch.length/16, quadCount - quadsDone);
+
+                quads.get(quads.position() + quadsDone*16, quadBatchScratch, 0, chunk*16);
+                rlQuadBatch(textureId, quadBatchScratch, 0, colors, quadsDone, chunk);
+
+                quadsDone += chunk;
+            }
         }
     }
 
@@ -528,7 +470,8 @@ public class RLGL{
                 rlSetTexture(id);
             }
             else{
-                if (rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1].textureId != id){
+                if (rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1].textureId != id &&
+                    !rlSetDrawTextureSlot(rlglData.getCurrentBatch(), id)){
                     if (rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1].vertexCount > 0){
                         // Make sure current rlglData.getCurrentBatch().draws[i].vertexCount is aligned a multiple of 4,
                         // that way, following QUADS drawing will keep aligned with index processing
@@ -555,13 +498,62 @@ public class RLGL{
                         rlDrawRenderBatch(rlglData.getCurrentBatch());
                     }
 
-                    rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1].textureId = id;
+                    rlSetDrawTexture(rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1], id);
                     rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1].vertexCount = 0;
                 }
             }
         }
     }
 
+    // Set draw call texture, resetting its textures table (multi-texture batch)
+    static void rlSetDrawTexture(rlDrawCall draw, int id){
+        draw.textureId = id;
+        draw.textures[0] = id;
+        draw.textureCount = 1;
+        rlglData.getState().textureSlot = 0;
+    }
+
+    // Set texture as a slot of the current draw call textures table, no new draw call required
+    // NOTE: Only available with default shader, returns false if batch is not multi-texture or table is full
+    static boolean rlSetDrawTextureSlot(rlRenderBatch batch, int id){
+        if (!batch.multiTexture || (rlglData.getState().currentShaderId != rlglData.getState().defaultShaderId)){
+            return false;
+        }
+
+        rlDrawCall draw = batch.draws[batch.drawCounter - 1];
+        int slot = 0;
+
+        // NOTE: Draw with no vertex yet, its textures table is not sampled, it is reset to the new texture
+        if (draw.vertexCount == 0){
+            rlSetDrawTexture(draw, id);
+            return true;
+        }
+
+        while ((slot < draw.textureCount) && (draw.textures[slot] != id)){
+            slot++;
+        }
+
+        if (slot == RL_BATCH_TEXTURE_SLOTS){
+            return false;
+        }
+
+        if (slot == draw.textureCount){
+            draw.textures[draw.textureCount++] = id;
+        }
+
+        draw.textureId = id;
+        rlglData.getState().textureSlot = slot;
+
+        return true;
+    }
+
+    // Get texture unit sampled by a draw call textures table slot (multi-texture batch)
+    // NOTE: Units 1..RL_DEFAULT_BATCH_MAX_TEXTURE_UNITS are reserved for active textures (rlSetUniformSampler()),
+    // slot 0 keeps texture unit 0 (texture0) and next slots start after the reserved units
+    static int rlGetTextureSlotUnit(int slot){
+        return (slot == 0)? 0 : slot + RL_DEFAULT_BATCH_MAX_TEXTURE_UNITS;
+    }
+
     // Select and active a texture slot
     public static void rlActiveTextureSlot(int slot) {
         if(GRAPHICS_API_OPENGL_33 || GRAPHICS_API_OPENGL_ES2)
@@ -833,12 +825,11 @@ public class RLGL{
         float cb = (float) b / 255;
         float ca = (float) a / 255;
 
-        glClearColor(cr, cg, cb, ca);
+        backend.rlClearColor(cr, cg, cb, ca);
     }
 
     public static void rlClearScreenBuffers(){
-        glClear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT);     // Clear used buffers: Color and Depth (Depth is used for 3D)
-        //glClear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT | GL_STENCIL_BUFFER_BIT);     // Stencil buffer not used...
+        backend.rlClearScreenBuffers();     // Clear used buffers: Color and Depth (Depth is used for 3D)
     }
 
     // Check and log OpenGL error codes
@@ -881,50 +872,40 @@ public class RLGL{
     }
 
     // Set blend mode
-    public void rlSetBlendMode(int mode){
+    public static void rlSetBlendMode(int mode){
         if(GRAPHICS_API_OPENGL_33 || GRAPHICS_API_OPENGL_ES2){
             if (rlglData.getState().getCurrentBlendMode() != mode){
                 rlDrawRenderBatch(rlglData.getCurrentBatch());
 
-                switch (mode){
-                    case rlBlendMode.RL_BLEND_ALPHA:
-                        glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
-                        glBlendEquation(GL_FUNC_ADD);
-                        break;
-                    case rlBlendMode.RL_BLEND_ADDITIVE:
-                        glBlendFunc(GL_SRC_ALPHA, GL_ONE);
-                        glBlendEquation(GL_FUNC_ADD);
-                        break;
-                    case rlBlendMode.RL_BLEND_MULTIPLIED:
-                        glBlendFunc(GL_DST_COLOR, GL_ONE_MINUS_SRC_ALPHA);
-                        glBlendEquation(GL_FUNC_ADD);
-                        break;
-                    case rlBlendMode.RL_BLEND_ADD_COLORS:
-                        glBlendFunc(GL_ONE, GL_ONE);
-                        glBlendEquation(GL_FUNC_ADD);
-                        break;
-                    case rlBlendMode.RL_BLEND_SUBTRACT_COLORS:
-                        glBlendFunc(GL_ONE, GL_ONE);
-                        glBlendEquation(GL_FUNC_SUBTRACT);
-                        break;
-                    case rlBlendMode.RL_BLEND_ALPHA_PREMULTIPLY:
-                        glBlendFunc(GL_ONE, GL_ONE_MINUS_SRC_ALPHA);
-                        glBlendEquation(GL_FUNC_ADD);
-                        break;
-                    case rlBlendMode.RL_BLEND_CUSTOM:
-                        // NOTE: Using GL blend src/dst factors and GL equation configured with rlSetBlendFactors()
-                        glBlendFunc(rlglData.getState().glBlendSrcFactor, rlglData.getState().glBlendDstFactor);
-                        glBlendEquation(rlglData.getState().glBlendEquation);
-                        break;
-                    default:
-                        break;
-                }
+                backend.rlBlendMode(mode);
 
                 rlglData.getState().setCurrentBlendMode(mode);
             }
         }
     }
 
+    // Set blend mode with custom factors and equation, re-applied if factors changed (RL_BLEND_CUSTOM only)
+    private static void rlSetBlendState(int mode, int srcFactor, int dstFactor, int equation){
+        if (mode != rlBlendMode.RL_BLEND_CUSTOM){
+            rlSetBlendMode(mode);
+        }
+        else if (GRAPHICS_API_OPENGL_33 || GRAPHICS_API_OPENGL_ES2){
+            State state = rlglData.getState();
+
+            if ((state.currentBlendMode != mode) || (state.glBlendSrcFactor != srcFactor) ||
+                (state.glBlendDstFactor != dstFactor) || (state.glBlendEquation != equation)){
+                rlDrawRenderBatch(rlglData.getCurrentBatch());
+
+                state.glBlendSrcFactor = srcFactor;
+                state.glBlendDstFactor = dstFactor;
+                state.glBlendEquation = equation;
+                backend.rlBlendMode(mode);
+
+                state.currentBlendMode = mode;
+            }
+        }
+    }
+
     // Set blending mode factor and equation
     public void rlSetBlendFactors(int glSrcFactor, int glDstFactor, int glEquation){
         if(GRAPHICS_API_OPENGL_33 || GRAPHICS_API_OPENGL_ES2){
@@ -967,6 +948,9 @@ public class RLGL{
 
         //TODO: OPENGL_DEBUG_CONTEXT
 
+        // Select OpenGL backend: render batch (GL 3.3) or immediate mode (GL 1.1)
+        backend = GRAPHICS_API_OPENGL_33 ? new GL_33() : new GL_11();
+
         if (GRAPHICS_API_OPENGL_33 || GRAPHICS_API_OPENGL_ES2){
             // Init default white texture
             DataBuffer pixels = new DataBufferByte(new byte[]{(byte) 255, (byte) 255, (byte) 255, (byte) 255}, 4);
@@ -986,12 +970,12 @@ public class RLGL{
             rlglData.getState().currentShaderLocs = rlglData.getState().defaultShaderLocs;
 
             // Init default vertex arrays buffers
-            rlglData.setDefaultBatch(rlLoadRenderBatch(DEFAULT_BATCH_BUFFERS, RL_DEFAULT_BATCH_BUFFER_ELEMENTS));
+            rlglData.setDefaultBatch(rlLoadRenderBatch(Math.max(RL_DEFAULT_BATCH_BUFFERS, 1), RL_DEFAULT_BATCH_BUFFER_ELEMENTS));
             rlglData.setCurrentBatch(rlglData.getDefaultBatch());
 
             // Init stack matrices (emulating OpenGL 1.1)
-            for(int i = 0; i < MAX_MATRIX_STACK_SIZE; i++){
-                rlglData.getState().getStack()[i] = MatrixIdentity();
+            for (int i = 0; i < MAX_MATRIX_STACK_SIZE*16; i++){
+                rlglData.getState().getStack()[i] = ((i%16)%5 == 0)? 1.0f : 0.0f;     // Identity: m0, m5, m10, m15
             }
 
             // Init internal matrices
@@ -1044,16 +1028,95 @@ public class RLGL{
 
     }
 
+    // Initialize rlgl with a custom backend, no OpenGL context required (i.e. rlSoftwareBackend)
+    // NOTE: Render batch, textures, blending and matrices are supported, shaders and framebuffers require OpenGL
+    // WARNING: Graphics API flags (OpenGL 3.3 paths) and backend are replaced until rlglClose() restores them
+    public static void rlglInitBackend(rlBackend customBackend, int width, int height){
+        if (!customBackendInit){
+            savedBackend = backend;
+            savedGraphicsApi[0] = GRAPHICS_API_OPENGL_11;
+            savedGraphicsApi[1] = GRAPHICS_API_OPENGL_21;
+            savedGraphicsApi[2] = GRAPHICS_API_OPENGL_33;
+            savedGraphicsApi[3] = GRAPHICS_API_OPENGL_43;
+            savedGraphicsApi[4] = GRAPHICS_API_OPENGL_ES2;
+            customBackendInit = true;
+        }
+
+        backend = customBackend;
+
+        // Render batch code paths are shared with OpenGL 3.3
+        GRAPHICS_API_OPENGL_43 = false;
+        GRAPHICS_API_OPENGL_33 = true;
+        GRAPHICS_API_OPENGL_21 = false;
+        GRAPHICS_API_OPENGL_11 = false;
+
+        // Init default white texture
+        DataBuffer pixels = new DataBufferByte(new byte[]{(byte) 255, (byte) 255, (byte) 255, (byte) 255}, 4);
+        rlglData.getState().setDefaultTextureId(rlLoadTexture(pixels, 1, 1, RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8, 1));
+
+        // Init default shader ids, no shader program is loaded, backend draws with default shader behaviour
+        // NOTE: All locations must be reseted to -1 (no location)
+        rlglData.getState().setDefaultShaderLocs(new int[RL_MAX_SHADER_LOCATIONS]);
+        for (int i = 0; i < RL_MAX_SHADER_LOCATIONS; i++){
+            rlglData.getState().defaultShaderLocs[i] = -1;
+        }
+        rlglData.getState().defaultShaderId = 1;
+        rlglData.getState().currentShaderId = rlglData.getState().defaultShaderId;
+        rlglData.getState().currentShaderLocs = rlglData.getState().defaultShaderLocs;
+
+        // Init default vertex arrays buffers
+        rlglData.setDefaultBatch(rlLoadRenderBatch(Math.max(RL_DEFAULT_BATCH_BUFFERS, 1), RL_DEFAULT_BATCH_BUFFER_ELEMENTS));
+        rlglData.setCurrentBatch(rlglData.getDefaultBatch());
+
+        // Init stack matrices (emulating OpenGL 1.1)
+        for (int i = 0; i < MAX_MATRIX_STACK_SIZE*16; i++){
+            rlglData.getState().getStack()[i] = ((i%16)%5 == 0)? 1.0f : 0.0f;     // Identity: m0, m5, m10, m15
+        }
+
+        // Init internal matrices
+        rlglData.getState().setTransform(MatrixIdentity());
+        rlglData.getState().setProjection(MatrixIdentity());
+        rlglData.getState().setModelview(MatrixIdentity());
+        rlglData.getState().setCurrentMatrix(rlglData.getState().getModelview());
+
+        // Store screen size into global variables
+        rlglData.getState().setFramebufferWidth(width);
+        rlglData.getState().setFramebufferHeight(height);
+
+        backend.rlViewport(0, 0, width, height);
+        backend.rlClearColor(0.0f, 0.0f, 0.0f, 1.0f);
+        backend.rlClearScreenBuffers();
+
+        Tracelog(LOG_INFO, "RLGL: Custom backend state initialized successfully");
+    }
+
     // Vertex Buffer Object deinitialization (memory free)
     public static void rlglClose(){
         if (GRAPHICS_API_OPENGL_33 || GRAPHICS_API_OPENGL_ES2){
             UnloadRenderBatch(rlglData.getDefaultBatch());
 
-            rlUnloadShaderDefault();          // Unload default shader
-            glDeleteTextures(rlglData.getState().getDefaultTextureId()); // Unload default texture
+            // NOTE: Default shader is only compiled by OpenGL backends
+            if (rlglData.getState().getDefaultVShaderId() != 0){
+                rlUnloadShaderDefault();          // Unload default shader
+            }
+            rlUnloadTexture(rlglData.getState().getDefaultTextureId()); // Unload default texture
 
             Tracelog(LOG_INFO, "TEXTURE: [ID " + rlglData.getState().getDefaultTextureId() + "] Default texture unloaded successfully");
         }
+
+        if (customBackendInit){
+            // Restore state replaced by rlglInitBackend(), default shader ids were not loaded by OpenGL
+            rlglData.getState().defaultShaderId = 0;
+            rlglData.getState().currentShaderId = 0;
+
+            backend = savedBackend;
+            GRAPHICS_API_OPENGL_11 = savedGraphicsApi[0];
+            GRAPHICS_API_OPENGL_21 = savedGraphicsApi[1];
+            GRAPHICS_API_OPENGL_33 = savedGraphicsApi[2];
+            GRAPHICS_API_OPENGL_43 = savedGraphicsApi[3];
+            GRAPHICS_API_OPENGL_ES2 = savedGraphicsApi[4];
+            customBackendInit = false;
+        }
     }
 
     // Load OpenGL extensions
@@ -1401,6 +1464,9 @@ public class RLGL{
         //--------------------------------------------------------------------------------------------
         batch.rlVertexBuffer = new rlVertexBuffer[numBuffers];
 
+        // NOTE: Multi-texture batch requires indexing a sampler2D table, only supported by default shader on OpenGL 3.3
+        batch.multiTexture = SUPPORT_BATCH_MULTI_TEXTURE && GRAPHICS_API_OPENGL_33;
+
         if (GRAPHICS_API_OPENGL_33 || GRAPHICS_API_OPENGL_ES2){
             for(int i = 0; i < batch.rlVertexBuffer.length; i++){
                 batch.rlVertexBuffer[i] = new rlVertexBuffer();
@@ -1409,12 +1475,24 @@ public class RLGL{
             for(int i = 0; i < numBuffers; i++){
                 batch.rlVertexBuffer[i].elementCount = bufferElements;
 
-                batch.rlVertexBuffer[i].setVertices(new float[bufferElements * 3 * 4 * Float.BYTES]);
-                // 3 float by vertex, 4 vertex by quad
-                batch.rlVertexBuffer[i].setTexcoords(new float[bufferElements * 4 * 2 * Float.BYTES]);
-                // 2 float by texcoord, 4 texcoord by quad
-                batch.rlVertexBuffer[i].setColors(new byte[bufferElements * 4 * 4 * Byte.BYTES]);
-                // 4 float by color, 4 colors by quad
+                // NOTE: Vertex data is kept off-heap for the whole batch life, rlVertex3f() writes straight into it
+                // and rlDrawRenderBatch() uploads only the written range, no per-flush copies required
+                if(SUPPORT_BATCH_INTERLEAVED_VERTICES){
+                    batch.rlVertexBuffer[i].setInterleaved(MemoryUtil.memCalloc(bufferElements * 4 * RL_BATCH_VERTEX_SIZE));
+                    // XYZ-UV-RGBA by vertex, 4 vertex by quad
+                }
+                else{
+                    batch.rlVertexBuffer[i].setVertices(MemoryUtil.memCallocFloat(bufferElements * 3 * 4));
+                    // 3 float by vertex, 4 vertex by quad
+                    batch.rlVertexBuffer[i].setTexcoords(MemoryUtil.memCallocFloat(bufferElements * 4 * 2));
+                    // 2 float by texcoord, 4 texcoord by quad
+                    batch.rlVertexBuffer[i].setColors(MemoryUtil.memCalloc(bufferElements * 4 * 4));
+                    // 4 unsigned char by color, 4 colors by quad
+                }
+                if(batch.multiTexture){
+                    batch.rlVertexBuffer[i].setTexslots(MemoryUtil.memCalloc(bufferElements * 4));
+                    // 1 unsigned char by texture slot, 4 texture slots by quad
+                }
                 if(GRAPHICS_API_OPENGL_33){
                     batch.getVertexBuffer()[i].setIndices_GL11(new int[bufferElements * 6 * Integer.BYTES]);
                 }// 6 int by quad (indices)
@@ -1423,16 +1501,6 @@ public class RLGL{
                     // 6 int by quad (indices)
                 }
 
-                for(int j = 0; j < (3 * 4 * bufferElements); j++){
-                    batch.rlVertexBuffer[i].vertices[j] = 0.0f;
-                }
-                for(int j = 0; j < (2 * 4 * bufferElements); j++){
-                    batch.rlVertexBuffer[i].texcoords[j] = 0.0f;
-                }
-                for(int j = 0; j < (4 * 4 * bufferElements); j++){
-                    batch.rlVertexBuffer[i].colors[j] = 0;
-                }
-
                 int k = 0;
 
                 if(GRAPHICS_API_OPENGL_33){
@@ -1468,60 +1536,9 @@ public class RLGL{
 
             Tracelog(LOG_INFO, "RLGL: Internal vertex buffers initialized successfully in RAM (CPU)");
             //--------------------------------------------------------------------------------------------
-            // Upload to GPU (VRAM) vertex data and initialize VAOs/VBOs
+            // Upload to GPU (VRAM) vertex data, backend dependant (VAOs/VBOs on OpenGL)
             //--------------------------------------------------------------------------------------------
-
-            for(int i = 0; i < numBuffers; i++){
-                if(rlglData.getExtSupported().isVao()){
-                    // Initialize Quads VAO
-                    batch.rlVertexBuffer[i].setVaoId(glGenVertexArrays());
-                    glBindVertexArray(batch.rlVertexBuffer[i].getVaoId());
-                }
-
-                // Quads - Vertex buffers binding and attributes enable
-                // Vertex position buffer (shader-location = 0)
-                batch.rlVertexBuffer[i].vboId[0] = glGenBuffers();
-                glBindBuffer(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].vboId[0]);
-                glBufferData(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].vertices, GL_DYNAMIC_DRAW);
-                glEnableVertexAttribArray(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_VERTEX_POSITION]);
-                glVertexAttribPointer(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_VERTEX_POSITION],
-                        3, GL_FLOAT, false, 0, 0);
-
-                // Vertex texcoord buffer (shader-location = 1)
-                batch.rlVertexBuffer[i].vboId[1] = glGenBuffers();
-                glBindBuffer(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].vboId[1]);
-                glBufferData(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].texcoords, GL_DYNAMIC_DRAW);
-                glEnableVertexAttribArray(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_VERTEX_TEXCOORD01]);
-                glVertexAttribPointer(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_VERTEX_TEXCOORD01],
-                        2, GL_FLOAT, false, 0, 0);
-
-                // Vertex color buffer (shader-location = 3)
-                ByteBuffer colours = ByteBuffer.allocateDirect(batch.rlVertexBuffer[i].colors.length);
-                colours.put(batch.rlVertexBuffer[i].colors).flip();
-                batch.rlVertexBuffer[i].vboId[2] = glGenBuffers();
-                glBindBuffer(GL_ARRAY_BUFFER, batch.rlVertexBuffer[i].vboId[2]);
-                glBufferData(GL_ARRAY_BUFFER, colours, GL_DYNAMIC_DRAW);
-                glEnableVertexAttribArray(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_VERTEX_COLOR]);
-                glVertexAttribPointer(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_VERTEX_COLOR],
-                        4, GL_UNSIGNED_BYTE, true, 0, 0);
-
-                // Fill index buffer
-                batch.rlVertexBuffer[i].vboId[3] = glGenBuffers();
-                glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, batch.rlVertexBuffer[i].vboId[3]);
-                if(GRAPHICS_API_OPENGL_33){
-                    glBufferData(GL_ELEMENT_ARRAY_BUFFER, batch.rlVertexBuffer[i].getIndices_GL11(), GL_STATIC_DRAW);
-                }
-                else if(GRAPHICS_API_OPENGL_ES2){
-                    glBufferData(GL_ELEMENT_ARRAY_BUFFER, batch.rlVertexBuffer[i].getIndices_ES20(), GL_STATIC_DRAW);
-                }
-            }
-
-            Tracelog(LOG_INFO, "RLGL: Render batch vertex buffers loaded successfully in VRAM (GPU)");
-
-            // Unbind the current VAO
-            if(rlglData.getExtSupported().isVao()){
-                glBindVertexArray(0);
-            }
+            backend.rlLoadBatchBuffers(batch);
 
             //--------------------------------------------------------------------------------------------
             // Init draw calls tracking system
@@ -1534,9 +1551,10 @@ public class RLGL{
                 batch.draws[i].mode = RL_QUADS;
                 batch.draws[i].vertexCount = 0;
                 batch.draws[i].vertexAlignment = 0;
-                batch.draws[i].textureId = rlglData.getState().getDefaultTextureId();
+                rlSetDrawTexture(batch.draws[i], rlglData.getState().getDefaultTextureId());
             }
 
+            batch.fences = new long[numBuffers];   // No buffer in use by GPU yet
             batch.bufferCount = numBuffers;    // Record buffer count
             batch.drawCounter = 1;             // Reset draws counter
             batch.currentDepth = -1.0f;         // Reset depth value
@@ -1548,29 +1566,17 @@ public class RLGL{
 
     // Unload default internal buffers vertex data from CPU and GPU
     static void UnloadRenderBatch(rlRenderBatch batch){
-        // Unbind everything
-        if (rlglData.getExtSupported().isVao()){
-            glBindVertexArray(0);
-        }
-        glDisableVertexAttribArray(0);
-        glDisableVertexAttribArray(1);
-        glDisableVertexAttribArray(2);
-        glDisableVertexAttribArray(3);
-        glBindBuffer(GL_ARRAY_BUFFER, 0);
-        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
+        // Unload vertex buffers from GPU (VRAM), backend dependant
+        backend.rlUnloadBatchBuffers(batch);
 
         // Unload all vertex buffers data
         for (int i = 0; i < batch.bufferCount; i++){
-            // Delete VBOs from GPU (VRAM)
-            glDeleteBuffers(batch.rlVertexBuffer[i].vboId[0]);
-            glDeleteBuffers(batch.rlVertexBuffer[i].vboId[1]);
-            glDeleteBuffers(batch.rlVertexBuffer[i].vboId[2]);
-            glDeleteBuffers(batch.rlVertexBuffer[i].vboId[3]);
-
-            // Delete VAOs from GPU (VRAM)
-            if (rlglData.getExtSupported().isVao()){
-                glDeleteVertexArrays(batch.rlVertexBuffer[i].vaoId);
-            }
+            // Free vertex arrays from RAM (off-heap)
+            MemoryUtil.memFree(batch.rlVertexBuffer[i].interleaved);
+            MemoryUtil.memFree(batch.rlVertexBuffer[i].vertices);
+            MemoryUtil.memFree(batch.rlVertexBuffer[i].texcoords);
+            MemoryUtil.memFree(batch.rlVertexBuffer[i].colors);
+            MemoryUtil.memFree(batch.rlVertexBuffer[i].texslots);
         }
 
         // Unload arrays
@@ -1581,173 +1587,20 @@ public class RLGL{
     //Draw render batch
     // NOTE: We require a pointer to reset batch and increase current buffer (multi-buffer)
     static void rlDrawRenderBatch(rlRenderBatch batch){
-        // Update batch vertex buffers
-        //------------------------------------------------------------------------------------------------------------
-        // NOTE: If there is not vertex data, buffers doesn't need to be updated (vertexCount > 0)
-        // TODO: If no data changed on the CPU arrays --> No need to re-update GPU arrays (change flag required)
-        if (rlglData.getState().vertexCounter > 0){
-            // Activate elements VAO
-            if (rlglData.getExtSupported().isVao()){
-                glBindVertexArray(batch.rlVertexBuffer[batch.currentBuffer].vaoId);
-            }
+        // NOTE: Stereo render replaces projection/modelview matrices values by eye ones, a copy is required to restore them
+        boolean stereoRender = rlglData.getState().isStereoRender();
+        Matrix matProjection = stereoRender? new Matrix(rlglData.getState().getProjection()) : null;
+        Matrix matModelView = stereoRender? new Matrix(rlglData.getState().getModelview()) : null;
 
-            // Vertex positions buffer
-            glBindBuffer(GL_ARRAY_BUFFER, batch.rlVertexBuffer[batch.getCurrentBuffer()].vboId[0]);
-            glBufferSubData(GL_ARRAY_BUFFER, 0, batch.rlVertexBuffer[batch.getCurrentBuffer()].vertices);
-            //glBufferData(GL_ARRAY_BUFFER, sizeof(float)*3*4*batch->rlVertexBuffer[batch->currentBuffer].elementsCount,
-            // batch->rlVertexBuffer[batch->currentBuffer].vertices, GL_DYNAMIC_DRAW);
-            // Update all buffer
-
-            // Texture coordinates buffer
-            glBindBuffer(GL_ARRAY_BUFFER, batch.rlVertexBuffer[batch.getCurrentBuffer()].vboId[1]);
-            glBufferSubData(GL_ARRAY_BUFFER, 0, batch.rlVertexBuffer[batch.getCurrentBuffer()].texcoords);
-            //glBufferData(GL_ARRAY_BUFFER, sizeof(float)*2*4*batch->rlVertexBuffer[batch->currentBuffer].elementsCount,
-            // batch->rlVertexBuffer[batch->currentBuffer].texcoords, GL_DYNAMIC_DRAW);
-            // Update all buffer
-
-            ByteBuffer colours = ByteBuffer.allocateDirect(batch.rlVertexBuffer[batch.getCurrentBuffer()].colors.length);
-            colours.put(batch.rlVertexBuffer[batch.getCurrentBuffer()].colors).flip();
-
-            // Colors buffer
-            glBindBuffer(GL_ARRAY_BUFFER, batch.rlVertexBuffer[batch.getCurrentBuffer()].vboId[2]);
-            glBufferSubData(GL_ARRAY_BUFFER, 0, colours);
-            //glBufferData(GL_ARRAY_BUFFER, sizeof(float)*4*4*batch->rlVertexBuffer[batch->currentBuffer].elementsCount,
-            // batch->rlVertexBuffer[batch->currentBuffer].colors, GL_DYNAMIC_DRAW);
-            // Update all buffer
-
-            // NOTE: glMapBuffer() causes sync issue.
-            // If GPU is working with this buffer, glMapBuffer() will wait(stall) until GPU to finish its job.
-            // To avoid waiting (idle), you can call first glBufferData() with null pointer before glMapBuffer().
-            // If you do that, the previous data in PBO will be discarded and glMapBuffer() returns a new
-            // allocated pointer immediately even if GPU is still working with the previous data.
-
-            // Another option: map the buffer object into client's memory
-            // Probably this code could be moved somewhere else...
-            // batch.rlVertexBuffer[batch.currentBuffer].vertices = (float *)glMapBuffer(GL_ARRAY_BUFFER, GL_READ_WRITE);
-            // if (batch.rlVertexBuffer[batch.currentBuffer].vertices)
-            // {
-            // Update vertex data
-            // }
-            // glUnmapBuffer(GL_ARRAY_BUFFER);
-
-            // Unbind the current VAO
-            if (rlglData.getExtSupported().isVao()){
-                glBindVertexArray(0);
-            }
-        }
-
-        //------------------------------------------------------------------------------------------------------------
-        // Draw batch vertex buffers (considering VR stereo if required)
-        //------------------------------------------------------------------------------------------------------------
-        Matrix matProjection = rlglData.getState().getProjection();
-        Matrix matModelView = rlglData.getState().getModelview();
+        // Update and draw batch vertex buffers (considering VR stereo if required), backend dependant
+        batch.uploadedBytes = 0;
+        batch.drawCalls = 0;
+        batch.textureBinds = 0;
 
-        int eyesCount = rlglData.getState().isStereoRender() ? 2 : 1;
+        backend.rlDrawBatchBuffers(batch);
 
-        for (int eye = 0; eye < eyesCount; eye++){
-            if (eyesCount == 2){
-                // Setup current eye viewport (half screen width)
-                rlViewport(eye * rlglData.getState().getFramebufferWidth() / 2, 0, rlglData.getState().getFramebufferWidth() / 2, rlglData.getState().getFramebufferHeight());
+        batch.drawCallsTotal += batch.drawCalls;
 
-                // Set current eye view offset to modelview matrix
-                rlSetMatrixModelview(MatrixMultiply(matModelView, rlglData.getState().getViewOffsetStereo()[eye]));
-                // Set current eye projection matrix
-                rlSetMatrixProjection(rlglData.getState().getProjectionStereo()[eye]);
-            }
-            // Draw buffers
-            if (rlglData.getState().vertexCounter > 0){
-                // Set current shader and upload current MVP matrix
-                glUseProgram(rlglData.getState().currentShaderId);
-
-                // Create modelview-projection matrix and upload to shader
-                Matrix matMVP = MatrixMultiply(rlglData.getState().getModelview(), rlglData.getState().getProjection());
-                glUniformMatrix4fv(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_MATRIX_MVP],false, MatrixToFloat(matMVP));
-
-                if (rlglData.getExtSupported().isVao()){
-                    glBindVertexArray(batch.rlVertexBuffer[batch.currentBuffer].vaoId);
-                }
-                else{
-                    // Bind vertex attrib: position (shader-location = 0)
-                    glBindBuffer(GL_ARRAY_BUFFER, batch.rlVertexBuffer[batch.currentBuffer].vboId[0]);
-                    glVertexAttribPointer(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_VERTEX_POSITION],
-                            3, GL_FLOAT, false, 0, 0);
-                    glEnableVertexAttribArray(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_VERTEX_POSITION]);
-
-                    // Bind vertex attrib: texcoord (shader-location = 1)
-                    glBindBuffer(GL_ARRAY_BUFFER, batch.rlVertexBuffer[batch.currentBuffer].vboId[1]);
-                    glVertexAttribPointer(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_VERTEX_TEXCOORD01],
-                            2, GL_FLOAT, false, 0, 0);
-                    glEnableVertexAttribArray(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_VERTEX_TEXCOORD01]);
-
-                    // Bind vertex attrib: color (shader-location = 3)
-                    glBindBuffer(GL_ARRAY_BUFFER, batch.rlVertexBuffer[batch.currentBuffer].vboId[2]);
-                    glVertexAttribPointer(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_VERTEX_COLOR],
-                            4, GL_UNSIGNED_BYTE, true, 0, 0);
-                    glEnableVertexAttribArray(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_VERTEX_COLOR]);
-
-                    glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, batch.rlVertexBuffer[batch.currentBuffer].vboId[3]);
-                }
-
-                // Setup some default shader values
-                glUniform4f(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_COLOR_DIFFUSE], 1.0f, 1.0f, 1.0f, 1.0f);
-                glUniform1i(rlglData.getState().currentShaderLocs[RL_SHADER_LOC_MAP_DIFFUSE], 0); // Active default sampler2D: texture0
-
-                // Activate additional sampler textures
-                // Those additional textures will be common for all draw calls of the batch
-                for (int i = 0; i < RL_DEFAULT_BATCH_MAX_TEXTURE_UNITS; i++){
-                    if (rlglData.getState().getActiveTextureId()[i] > 0){
-                        glActiveTexture(GL_TEXTURE0 + 1 + i);
-                        glBindTexture(GL_TEXTURE_2D, rlglData.getState().getActiveTextureId()[i]);
-                    }
-                }
-
-                // Activate default sampler2D texture0 (one texture is always active for default batch shader)
-                // NOTE: Batch system accumulates calls by texture0 changes, additional textures are enabled for all the draw calls
-                glActiveTexture(GL_TEXTURE0);
-
-                for (int i = 0, vertexOffset = 0; i < batch.drawCounter; i++){
-                    // Bind current draw call texture, activated as GL_TEXTURE0 and binded to sampler2D texture0 by default
-                    glBindTexture(GL_TEXTURE_2D, batch.draws[i].textureId);
-
-                    if ((batch.draws[i].mode == RL_LINES) || (batch.draws[i].mode == RL_TRIANGLES)){
-                        glDrawArrays(batch.draws[i].mode, vertexOffset, batch.draws[i].vertexCount);
-                    }
-                    else{
-                        if (GRAPHICS_API_OPENGL_33){
-                            // We need to define the number of indices to be processed: elementCount*6
-                            // NOTE: The final parameter tells the GPU the offset in bytes from the
-                            // start of the index buffer to the location of the first index to process
-                            glDrawElements(GL_TRIANGLES, batch.draws[i].vertexCount / 4 * 6, GL_UNSIGNED_INT,
-                                    (vertexOffset/4* 6L *Integer.BYTES));
-                        }
-                        else if (GRAPHICS_API_OPENGL_ES2){
-                            glDrawElements(GL_TRIANGLES, batch.draws[i].vertexCount / 4 * 6, GL_UNSIGNED_SHORT,
-                                    (vertexOffset/4*6L*Short.BYTES));
-                        }
-                    }
-
-                    vertexOffset += (batch.draws[i].vertexCount + batch.draws[i].vertexAlignment);
-                }
-
-                if (!rlglData.getExtSupported().isVao()){
-                    glBindBuffer(GL_ARRAY_BUFFER, 0);
-                    glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
-                }
-
-                glBindTexture(GL_TEXTURE_2D, 0);    // Unbind textures
-            }
-
-            if (rlglData.getExtSupported().isVao()){
-                glBindVertexArray(0); // Unbind VAO
-            }
-
-            glUseProgram(0);    // Unbind shader program
-        }
-
-        // Restore viewport to default measures
-        if (eyesCount == 2) {
-            rlViewport(0, 0, rlglData.getState().framebufferWidth, rlglData.getState().framebufferHeight);
-        }
         //------------------------------------------------------------------------------------------------------------
         // Reset batch buffers
         //------------------------------------------------------------------------------------------------------------
@@ -1758,14 +1611,16 @@ public class RLGL{
         batch.currentDepth = -1.0f;
 
         // Restore projection/modelview matrices
-        rlglData.getState().setProjection(matProjection);
-        rlglData.getState().setModelview(matModelView);
+        if (stereoRender){
+            rlglData.getState().setProjection(matProjection);
+            rlglData.getState().setModelview(matModelView);
+        }
 
         // Reset rlglData.getCurrentBatch().draws array
         for (int i = 0; i < RL_DEFAULT_BATCH_DRAWCALLS; i++){
             batch.draws[i].mode = RL_QUADS;
             batch.draws[i].vertexCount = 0;
-            batch.draws[i].textureId = rlglData.getState().defaultTextureId;
+            rlSetDrawTexture(batch.draws[i], rlglData.getState().defaultTextureId);
         }
 
         // Reset active texture units for next batch
@@ -1778,6 +1633,7 @@ public class RLGL{
         //------------------------------------------------------------------------------------------------------------
 
         // Change to next buffer in the list (in case of multi-buffering)
+        // NOTE: Backend makes sure a buffer is not in use by GPU anymore before uploading to it again (OpenGL: fences)
         batch.currentBuffer++;
         if (batch.currentBuffer >= batch.bufferCount){
             batch.currentBuffer = 0;
@@ -1785,8 +1641,9 @@ public class RLGL{
     }
 
     // Set the active render batch for rlgl
-    void rlSetRenderBatchActive(rlRenderBatch batch){
+    static void rlSetRenderBatchActive(rlRenderBatch batch){
         if (GRAPHICS_API_OPENGL_33 || GRAPHICS_API_OPENGL_ES2){
+            rlSubmitDeferredBatch();
             rlDrawRenderBatch(rlglData.getCurrentBatch());
 
             if (batch != null){
@@ -1799,11 +1656,105 @@ public class RLGL{
     }
 
     // Update and draw internal render batch
-    public void rlDrawRenderBatchActive(){
+    public static void rlDrawRenderBatchActive(){
         if (GRAPHICS_API_OPENGL_33 || GRAPHICS_API_OPENGL_ES2){
+            rlSubmitDeferredBatch();                          // Sort, merge and add deferred quads (if any)
             rlDrawRenderBatch(rlglData.getCurrentBatch());    // NOTE: Stereo rendering is checked inside
         }
+        else if (GRAPHICS_API_OPENGL_11){
+            rlSubmitDeferredBatch();                          // Sort and draw deferred quads (if any)
+        }
+
+    }
+
+    // Enable deferred 2D mode: quads drawn with rlQuadBatch() (textures, text) are recorded
+    // and sorted by (layer, shader, texture, blend state) when the active batch is drawn (EndDrawing(), BeginMode2D()...)
+    // NOTE: Immediate mode geometry (rlBegin()/rlEnd(), shapes) is drawn before deferred quads of the same batch
+    public static void rlEnableDeferredMode(){
+        if (GRAPHICS_API_OPENGL_33 || GRAPHICS_API_OPENGL_11){
+            rlglData.getDeferredBatch().active = true;
+        }
+    }
+
+    // Disable deferred 2D mode, pending quads are added to current batch
+    public static void rlDisableDeferredMode(){
+        rlSubmitDeferredBatch();
+        rlglData.getDeferredBatch().active = false;
+    }
+
+    // Set draw layer for deferred 2D mode, lower layers are drawn first
+    public static void rlSetDrawLayer(int layer){
+        rlglData.getDeferredBatch().layer = layer;
+    }
+
+    // Get number of draws (state changes) recorded on last deferred submission, before sorting
+    public static int rlGetDeferredDrawsRecorded(){
+        return rlglData.getDeferredBatch().drawsRecorded;
+    }
+
+    // Get number of draws (state changes) on last deferred submission, after sorting and merging
+    public static int rlGetDeferredDrawsMerged(){
+        return rlglData.getDeferredBatch().drawsMerged;
+    }
+
+    // Get number of GPU draw calls issued on last current batch draw
+    public static int rlGetRenderBatchDrawCalls(){
+        return rlglData.getCurrentBatch().drawCalls;
+    }
+
+    // Get number of texture binds issued on last current batch draw
+    public static int rlGetRenderBatchTextureBinds(){
+        return rlglData.getCurrentBatch().textureBinds;
+    }
+
+    // Sort deferred quads and draw them through the backend, merging records sharing the same state
+    static void rlSubmitDeferredBatch(){
+        rlDeferredBatch deferred = rlglData.getDeferredBatch();
+
+        if (deferred.recordCounter == 0) return;
+
+        State state = rlglData.getState();
+        int[] order = deferred.rlDeferredSort();
+        int savedShaderId = state.currentShaderId;
+        int[] savedShaderLocs = state.currentShaderLocs;
+        int savedBlendMode = state.currentBlendMode;
+        int savedSrcFactor = state.glBlendSrcFactor;
+        int savedDstFactor = state.glBlendDstFactor;
+        int savedEquation = state.glBlendEquation;
+        int merged = 0;
+        long currentKey = -1;
+
+        deferred.active = false;    // Submitted quads must go to the batch, not back to the queue
+
+        for (int i = 0; i < deferred.recordCounter; i++){
+            int record = order[i];
+            long key = deferred.keys[record];
+
+            if (key != currentKey){
+                int shader = (int)(key >>> 36) & 0xfff;
+                int blend = (int)key & 0xff;
+
+                rlSetShader(deferred.shaderIds[shader], deferred.shaderLocs[shader]);
+                rlSetBlendState(deferred.blendModes[blend], deferred.blendSrcFactors[blend],
+                        deferred.blendDstFactors[blend], deferred.blendEquations[blend]);
+
+                currentKey = key;
+                merged++;
+            }
+
+            // NOTE: Same key records share texture, consecutive submissions are merged in the same draw call
+            backend.rlQuadBatchDeferred(deferred.textureId[record], deferred.quads, deferred.quadStart[record]*16,
+                    deferred.depths, deferred.quadStart[record]*4, deferred.colors, deferred.quadStart[record], deferred.quadCount[record]);
+        }
+
+        rlSetShader(savedShaderId, savedShaderLocs);
+        rlSetBlendState(savedBlendMode, savedSrcFactor, savedDstFactor, savedEquation);
+        state.glBlendSrcFactor = savedSrcFactor;        // Custom factors are kept even if blend mode is not custom
+        state.glBlendDstFactor = savedDstFactor;
+        state.glBlendEquation = savedEquation;
 
+        deferred.rlDeferredReset(merged);
+        deferred.active = true;
     }
 
     // Check internal buffer overflow for a given number of vertex
@@ -1821,7 +1772,7 @@ public class RLGL{
                  rlDrawRenderBatch(rlglData.getCurrentBatch());
 
                  rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1].mode = currentMode;
-                 rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1].textureId = currentTexture;
+                 rlSetDrawTexture(rlglData.getCurrentBatch().draws[rlglData.getCurrentBatch().drawCounter - 1], currentTexture);
             }
         }
 
@@ -1831,6 +1782,11 @@ public class RLGL{
 
     // Convert image data to OpenGL texture (returns OpenGL valid Id)
     public static int rlLoadTexture(DataBuffer data, int width, int height, int format, int mipmapCount){
+        return backend.rlLoadTexture(data, width, height, format, mipmapCount);
+    }
+
+    // Convert image data to OpenGL texture, used by OpenGL backends
+    static int rlLoadTextureGL(DataBuffer data, int width, int height, int format, int mipmapCount){
         glBindTexture(GL_TEXTURE_2D, 0);    // Free any old binding
 
         int id = 0;
@@ -1893,6 +1849,24 @@ public class RLGL{
         for (int i = 0; i < mipmapCount; i++){
             int mipSize = rlGetPixelDataSize(mipWidth, mipHeight, format);
 
+            // Security check for native data smaller than mipmap levels size, remaining levels are not loaded
+            if ((data instanceof DataBufferNative) && ((long) mipOffset + mipSize > ((DataBufferNative) data).getBuffer().limit())){
+                Tracelog(LOG_WARNING, "TEXTURE: [ID " + id + "] Mipmap level " + i + " data not available (offset: " + mipOffset +
+                        ", size: " + mipSize + ", data size: " + ((DataBufferNative) data).getBuffer().limit() + ")");
+
+                if (i == 0){
+                    glBindTexture(GL_TEXTURE_2D, 0);
+                    glDeleteTextures(id);
+                    Tracelog(LOG_WARNING, "TEXTURE: Failed to load texture");
+                    return 0;
+                }
+
+                // NOTE: Texture is kept complete with loaded mipmap levels
+                if (GRAPHICS_API_OPENGL_33) glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAX_LEVEL, i - 1);
+                mipmapCount = i;
+                break;
+            }
+
             //using globals here to get around pointers
             rlGetGlTextureFormats(format);
 
@@ -1916,13 +1890,24 @@ public class RLGL{
                          5 = double
                          */
                             case 0:{
-                                ByteBuffer buffer = ByteBuffer.allocateDirect(data.getSize());
-                                for (int s = 0; s < data.getSize(); s++){
-                                    buffer.put((byte) data.getElem(s));
+                                // NOTE: Native image data is uploaded directly, no copy required
+                                if (data instanceof DataBufferNative){
+                                    ByteBuffer buffer = ((DataBufferNative) data).getBuffer();
+                                    glTexImage2D(GL_TEXTURE_2D, i, glInternalFormat, mipWidth, mipHeight, 0, glFormat,
+                                            glType, buffer.slice(mipOffset, mipSize));
+                                }
+                                else{
+                                    ByteBuffer buffer = ByteBuffer.allocateDirect(data.getSize());
+                                    if (data instanceof DataBufferByte) buffer.put(((DataBufferByte) data).getData());
+                                    else{
+                                        for (int s = 0; s < data.getSize(); s++){
+                                            buffer.put((byte) data.getElem(s));
+                                        }
+                                    }
+                                    buffer.flip();
+                                    glTexImage2D(GL_TEXTURE_2D, i, glInternalFormat, mipWidth, mipHeight, 0, glFormat,
+                                            glType, buffer);
                                 }
-                                buffer.flip();
-                                glTexImage2D(GL_TEXTURE_2D, i, glInternalFormat, mipWidth, mipHeight, 0, glFormat,
-                                        glType, buffer);
                                 break;
                             }
                             case 1:
@@ -1954,8 +1939,15 @@ public class RLGL{
                 }
                 else{
                     if (!GRAPHICS_API_OPENGL_11){
-                        glCompressedTexImage2D(GL_TEXTURE_2D, i, glInternalFormat, mipWidth, mipHeight, 0, mipSize,
-                                data.getSize() + mipOffset);
+                        if (data instanceof DataBufferNative){
+                            ByteBuffer buffer = ((DataBufferNative) data).getBuffer();
+                            glCompressedTexImage2D(GL_TEXTURE_2D, i, glInternalFormat, mipWidth, mipHeight, 0,
+                                    buffer.slice(mipOffset, mipSize));
+                        }
+                        else{
+                            glCompressedTexImage2D(GL_TEXTURE_2D, i, glInternalFormat, mipWidth, mipHeight, 0, mipSize,
+                                    data.getSize() + mipOffset);
+                        }
                     }
                 }
 
@@ -2192,14 +2184,66 @@ public class RLGL{
     }
 
     public static void rlUpdateTexture(int id, int offsetX, int offsetY, int width, int height, int format, byte[] data){
+        backend.rlUpdateTexture(id, offsetX, offsetY, width, height, format, data);
+    }
+
+    // Load texture from native buffer data (single mipmap, uncompressed formats)
+    // NOTE: Direct buffers (i.e. memory mapped files) are uploaded without any intermediate copy,
+    // buffer remaining data must be at least texture pixel data size
+    public static int rlLoadTextureBuffer(ByteBuffer data, int width, int height, int format){
+        int dataSize = ((width > 0) && (height > 0) && ((long) width*height <= Integer.MAX_VALUE/16))? rlGetPixelDataSize(width, height, format) : 0;
+
+        if ((data == null) || (dataSize == 0) || (data.remaining() < dataSize)){
+            Tracelog(LOG_WARNING, "TEXTURE: Failed to load texture from buffer, data size not valid (" + width + "x" + height + ", format " + format + ")");
+            return 0;
+        }
+
+        return backend.rlLoadTextureBuffer(data, width, height, format);
+    }
+
+    // Load texture from native buffer data, used by OpenGL backends
+    static int rlLoadTextureBufferGL(ByteBuffer data, int width, int height, int format){
+        if (format >= RL_PIXELFORMAT_COMPRESSED_DXT1_RGB){
+            Tracelog(LOG_WARNING, "TEXTURE: Failed to load texture from buffer, compressed formats not supported");
+            return 0;
+        }
+
+        // NOTE: Texture storage is allocated with no data and filled from buffer
+        int id = rlLoadTextureGL(null, width, height, format, 1);
+
+        if (id > 0){
+            rlUpdateTextureGL(id, 0, 0, width, height, format, data);
+            glBindTexture(GL_TEXTURE_2D, 0);
+        }
+
+        return id;
+    }
+
+    // Update texture with new data on GPU, used by OpenGL backends
+    // NOTE: data can be bigger than updated rectangle (reused buffers), only rectangle data is copied to native memory
+    static void rlUpdateTextureGL(int id, int offsetX, int offsetY, int width, int height, int format, byte[] data){
+        int size = rlGetPixelDataSize(width, height, format);
+
+        if (data.length < size){
+            Tracelog(LOG_WARNING, "TEXTURE: [ID " + id + "] Failed to update, data size (" + data.length +
+                    ") smaller than update rectangle (" + width + "x" + height + ", " + size + " bytes)");
+            return;
+        }
+
+        ByteBuffer bb = MemoryUtil.memAlloc(size);
+        bb.put(data, 0, size).flip();
+        rlUpdateTextureGL(id, offsetX, offsetY, width, height, format, bb);
+        MemoryUtil.memFree(bb);
+    }
+
+    // Update texture with new data on GPU from native buffer, used by OpenGL backends
+    static void rlUpdateTextureGL(int id, int offsetX, int offsetY, int width, int height, int format, ByteBuffer data){
         glBindTexture(GL_TEXTURE_2D, id);
 
         rlGetGlTextureFormats(format);
 
         if ((glInternalFormat != -1) && (format < RL_PIXELFORMAT_COMPRESSED_DXT1_RGB)){
-            ByteBuffer bb = ByteBuffer.allocateDirect(data.length);
-            bb.put(data).flip();
-            glTexSubImage2D(GL_TEXTURE_2D, 0, offsetX, offsetY, width, height, glFormat, glType, bb);
+            glTexSubImage2D(GL_TEXTURE_2D, 0, offsetX, offsetY, width, height, glFormat, glType, data);
         }
         else{
             Tracelog(LOG_WARNING, "TEXTURE: [ID " + id + "] Failed to update for current texture format (" + format + ")");
@@ -2434,7 +2478,7 @@ public class RLGL{
     }
 
     public static void rlUnloadTexture(int id){
-        glDeleteTextures(id);
+        backend.rlUnloadTexture(id);
     }
 
     // Generate mipmap data for selected texture
@@ -2527,11 +2571,8 @@ public class RLGL{
             if ((glInternalFormat != -1) && (format < RL_PIXELFORMAT_COMPRESSED_DXT1_RGB)){
                 pixels = new byte[size];
                 ByteBuffer bb = ByteBuffer.allocateDirect(pixels.length);
-                bb.put(pixels).flip();
                 glGetTexImage(GL_TEXTURE_2D, 0, glFormat, glType, bb);
-                for (int i = 0; i < pixels.length; i++){
-                    pixels[i] = bb.get(i);
-                }
+                bb.get(0, pixels);
             }
             else{
                 Tracelog(LOG_WARNING, "TEXTURE: [ID " + id + "] Data retrieval not suported for " +
@@ -3184,6 +3225,7 @@ public class RLGL{
             glBindAttribLocation(program, 3, RL_DEFAULT_SHADER_ATTRIB_NAME_COLOR);
             glBindAttribLocation(program, 4, RL_DEFAULT_SHADER_ATTRIB_NAME_TANGENT);
             glBindAttribLocation(program, 5, RL_DEFAULT_SHADER_ATTRIB_NAME_TEXCOORD2);
+            glBindAttribLocation(program, RL_BATCH_TEXSLOT_LOCATION, RL_DEFAULT_SHADER_ATTRIB_NAME_TEXSLOT);
 
             // NOTE: If some attrib name is not found on the shader, it locations becomes -1
 
@@ -3353,7 +3395,7 @@ public class RLGL{
     }
 
     // Set shader currently active (id and locations)
-    public void rlSetShader(int id, int[] locs) {
+    public static void rlSetShader(int id, int[] locs) {
         if (GRAPHICS_API_OPENGL_33 || GRAPHICS_API_OPENGL_ES2){
             if (rlglData.getState().currentShaderId != id){
                 rlDrawRenderBatch(rlglData.getCurrentBatch());
@@ -3522,7 +3564,8 @@ public class RLGL{
             matrix.m15 = mat.get(15);
         }
         else{
-            matrix = rlglData.getState().modelview;
+            // NOTE: Internal matrix is updated in place, a copy is returned
+            matrix = new Matrix(rlglData.getState().modelview);
         }
         return matrix;
     }
@@ -3552,7 +3595,7 @@ public class RLGL{
             return m;
         }
         else{
-            return rlglData.getState().projection;
+            return new Matrix(rlglData.getState().projection);
         }
     }
     // Get internal accumulated transform matrix
@@ -3563,7 +3606,7 @@ public class RLGL{
             // Is this the right order? or should we start with the first stored matrix instead of the last one?
             //Matrix matStackTransform = MatrixIdentity();
             //for (int i = RLGL.State.stackCounter; i > 0; i--) matStackTransform = MatrixMultiply(RLGL.State.stack[i], matStackTransform);
-            mat = rlglData.getState().getTransform();
+            mat = new Matrix(rlglData.getState().getTransform());
         }
         return mat;
     }
@@ -3781,6 +3824,9 @@ public class RLGL{
             rlglData.getState().defaultShaderLocs[i] = -1;
         }
 
+        // NOTE: Multi-texture batch default shader samples from a sampler2D table indexed by vertex texture slot
+        boolean multiTexture = SUPPORT_BATCH_MULTI_TEXTURE && GRAPHICS_API_OPENGL_33;
+
         // Vertex shader directly defined, no external file required
         StringBuilder defaultVShaderCode = new StringBuilder();
         if (GRAPHICS_API_OPENGL_21){
@@ -3798,6 +3844,10 @@ public class RLGL{
             defaultVShaderCode.append("in vec4 vertexColor;               \n");
             defaultVShaderCode.append("out vec2 fragTexCoord;             \n");
             defaultVShaderCode.append("out vec4 fragColor;                \n");
+            if (multiTexture){
+                defaultVShaderCode.append("in float vertexTexSlot;            \n");
+                defaultVShaderCode.append("flat out int fragTexSlot;          \n");
+            }
         }
         if (GRAPHICS_API_OPENGL_ES2){
             defaultVShaderCode.append("#version 100                       \n");
@@ -3812,6 +3862,9 @@ public class RLGL{
         defaultVShaderCode.append("{                                  \n");
         defaultVShaderCode.append("    fragTexCoord = vertexTexCoord; \n");
         defaultVShaderCode.append("    fragColor = vertexColor;       \n");
+        if (multiTexture){
+            defaultVShaderCode.append("    fragTexSlot = int(vertexTexSlot); \n");
+        }
         defaultVShaderCode.append("    gl_Position = mvp*vec4(vertexPosition, 1.0); \n");
         defaultVShaderCode.append("}                                  \n");
 
@@ -3829,6 +3882,29 @@ public class RLGL{
             defaultFShaderCode.append("    gl_FragColor = texelColor*colDiffuse*fragColor;      \n");
             defaultFShaderCode.append("}                                  \n");
         }
+        else if (multiTexture){
+            // NOTE: GLSL 330 only allows indexing sampler arrays with constant expressions, texture slot is selected
+            // with a switch, only the fragments of a quad (same slot) take the same branch
+            defaultFShaderCode.append("#version 330       \n");
+            defaultFShaderCode.append("in vec2 fragTexCoord;              \n");
+            defaultFShaderCode.append("in vec4 fragColor;                 \n");
+            defaultFShaderCode.append("flat in int fragTexSlot;           \n");
+            defaultFShaderCode.append("out vec4 finalColor;               \n");
+            defaultFShaderCode.append("uniform sampler2D textures[" + RL_BATCH_TEXTURE_SLOTS + "]; \n");
+            defaultFShaderCode.append("uniform vec4 colDiffuse;           \n");
+            defaultFShaderCode.append("void main()                        \n");
+            defaultFShaderCode.append("{                                  \n");
+            defaultFShaderCode.append("    vec4 texelColor;               \n");
+            defaultFShaderCode.append("    switch (fragTexSlot)           \n");
+            defaultFShaderCode.append("    {                              \n");
+            for (int i = 0; i < RL_BATCH_TEXTURE_SLOTS; i++){
+                defaultFShaderCode.append("        case " + i + ": texelColor = texture(textures[" + i + "], fragTexCoord); break; \n");
+            }
+            defaultFShaderCode.append("        default: texelColor = vec4(1.0); break; \n");
+            defaultFShaderCode.append("    }                              \n");
+            defaultFShaderCode.append("    finalColor = texelColor*colDiffuse*fragColor;        \n");
+            defaultFShaderCode.append("}                                  \n");
+        }
         else if (GRAPHICS_API_OPENGL_33){
             defaultFShaderCode.append("#version 330       \n");
             defaultFShaderCode.append("in vec2 fragTexCoord;              \n");
@@ -3875,6 +3951,15 @@ public class RLGL{
             rlglData.getState().defaultShaderLocs[RL_SHADER_LOC_MATRIX_MVP]  = glGetUniformLocation(rlglData.getState().defaultShaderId, "mvp");
             rlglData.getState().defaultShaderLocs[RL_SHADER_LOC_COLOR_DIFFUSE] = glGetUniformLocation(rlglData.getState().defaultShaderId, "colDiffuse");
             rlglData.getState().defaultShaderLocs[RL_SHADER_LOC_MAP_DIFFUSE] = glGetUniformLocation(rlglData.getState().defaultShaderId, "texture0");
+
+            if (multiTexture){
+                // Bind textures table samplers to texture units, textures[i] samples texture unit rlGetTextureSlotUnit(i)
+                glUseProgram(rlglData.getState().defaultShaderId);
+                for (int i = 0; i < RL_BATCH_TEXTURE_SLOTS; i++){
+                    glUniform1i(glGetUniformLocation(rlglData.getState().defaultShaderId, RL_DEFAULT_SHADER_SAMPLER2D_NAME_TEXTURES + "[" + i + "]"), rlGetTextureSlotUnit(i));
+                }
+                glUseProgram(0);
+            }
         }
         else{
             Tracelog(LOG_WARNING, "SHADER: [ID " + rlglData.getState().getDefaultShaderId() + "] Failed to load default shader");
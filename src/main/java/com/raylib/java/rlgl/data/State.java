@@ -10,15 +10,16 @@ public  class State{                    // Renderer state
     public float texcoordx, texcoordy;         // Current active texture coordinate (added on glVertex*())
     public float normalx, normaly, normalz;    // Current active normal (added on glVertex*())
     public byte colorr, colorg, colorb, colora; // Current active color (added on glVertex*())
+    public int textureSlot;                    // Current active texture slot in draw textures table (added on glVertex*())
 
     public int currentMatrixMode;              // Current matrix mode
 
-    public Matrix currentMatrix;
+    public Matrix currentMatrix;               // Current matrix, points to modelview, projection or transform (matrix mode)
     public Matrix modelview;                   // Default modelview matrix
     public Matrix projection;                  // Default projection matrix
     public Matrix transform;                   // Transform matrix to be used with rlTranslate, rlRotate, rlScale
     public boolean transformRequired;          // Require transform matrix application to current draw-call vertex (if required)
-    public Matrix[] stack;                     // Matrix stack for push/pop
+    public float[] stack;                      // Matrix stack for push/pop, 16 floats by matrix (m0..m15)
     public int stackCounter;                   // Matrix stack counter
 
     public int defaultTextureId;      // Default texture used on shapes/poly drawing (required by shader)
@@ -43,31 +44,23 @@ public  class State{                    // Renderer state
     public int framebufferHeight;              // Current framebuffer height
 
     public State(){
-        stack = new Matrix[MAX_MATRIX_STACK_SIZE];
+        stack = new float[MAX_MATRIX_STACK_SIZE*16];
         activeTextureId = new int[MAX_BATCH_ACTIVE_TEXTURES];
         projectionStereo = new Matrix[2];
         viewOffsetStereo = new Matrix[2];
-        currentMatrix = new Matrix();
         modelview = new Matrix();
         projection = new Matrix();
+        transform = new Matrix();
+        currentMatrix = modelview;
     }
 
     public Matrix getCurrentMatrix(){
         return currentMatrix;
     }
 
+    // NOTE: Internal matrices are updated in place, provided matrix values are copied
     public void setCurrentMatrix(Matrix currentMatrix){
-        this.currentMatrix = currentMatrix;
-
-        if (currentMatrixMode == RL_MODELVIEW) {
-            modelview = this.currentMatrix;
-        }
-        else if (currentMatrixMode == RL_PROJECTION) {
-            projection = this.currentMatrix;
-        }
-        else if (currentMatrixMode == RLJ_TRANSFORM) {
-            transform = this.currentMatrix;
-        }
+        copyMatrix(currentMatrix, this.currentMatrix);
     }
 
     public int getVertexCounter(){
@@ -155,16 +148,6 @@ public  class State{                    // Renderer state
     }
 
     public void setCurrentMatrixMode(int currentMatrixMode){
-        if (this.currentMatrixMode == RL_MODELVIEW) {
-            modelview = currentMatrix;
-        }
-        else if (this.currentMatrixMode == RL_PROJECTION) {
-            projection = currentMatrix;
-        }
-        else if (this.currentMatrixMode == RLJ_TRANSFORM) {
-            transform = currentMatrix;
-        }
-
         this.currentMatrixMode = currentMatrixMode;
 
         if (currentMatrixMode == RL_MODELVIEW) {
@@ -183,7 +166,7 @@ public  class State{                    // Renderer state
     }
 
     public void setModelview(Matrix modelview){
-        this.modelview = modelview;
+        copyMatrix(modelview, this.modelview);
     }
 
     public Matrix getProjection(){
@@ -191,7 +174,7 @@ public  class State{                    // Renderer state
     }
 
     public void setProjection(Matrix projection){
-        this.projection = projection;
+        copyMatrix(projection, this.projection);
     }
 
     public Matrix getTransform(){
@@ -199,7 +182,7 @@ public  class State{                    // Renderer state
     }
 
     public void setTransform(Matrix transform){
-        this.transform = transform;
+        copyMatrix(transform, this.transform);
     }
 
     public boolean isTransformRequired(){
@@ -210,11 +193,11 @@ public  class State{                    // Renderer state
         this.transformRequired = transformRequired;
     }
 
-    public Matrix[] getStack(){
+    public float[] getStack(){
         return stack;
     }
 
-    public void setStack(Matrix[] stack){
+    public void setStack(float[] stack){
         this.stack = stack;
     }
 
@@ -361,4 +344,14 @@ public  class State{                    // Renderer state
     public void setFramebufferHeight(int framebufferHeight){
         this.framebufferHeight = framebufferHeight;
     }
+
+    // Copy matrix values, no allocation
+    private static void copyMatrix(Matrix src, Matrix dst){
+        if (src == dst) return;
+
+        dst.m0 = src.m0; dst.m4 = src.m4; dst.m8 = src.m8; dst.m12 = src.m12;
+        dst.m1 = src.m1; dst.m5 = src.m5; dst.m9 = src.m9; dst.m13 = src.m13;
+        dst.m2 = src.m2; dst.m6 = src.m6; dst.m10 = src.m10; dst.m14 = src.m14;
+        dst.m3 = src.m3; dst.m7 = src.m7; dst.m11 = src.m11; dst.m15 = src.m15;
+    }
 }
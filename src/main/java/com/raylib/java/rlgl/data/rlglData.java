@@ -1,5 +1,6 @@
 package com.raylib.java.rlgl.data;
 
+import com.raylib.java.rlgl.rlDeferredBatch;
 import com.raylib.java.rlgl.rlRenderBatch;
 import com.raylib.java.rlgl.vr.VR;
 
@@ -7,6 +8,7 @@ public class rlglData {
 
     rlRenderBatch currentBatch;              // Current render batch
     rlRenderBatch defaultBatch;               // Default internal render batch
+    rlDeferredBatch deferredBatch;            // Deferred 2D quads (sorted and merged on batch draw)
     ExtSupported extSupported;
     State state;
     VR vr;
@@ -14,6 +16,7 @@ public class rlglData {
     public rlglData() {
         currentBatch = new rlRenderBatch();
         defaultBatch = new rlRenderBatch();
+        deferredBatch = new rlDeferredBatch();
         extSupported = new ExtSupported();
         state = new State();
         vr = new VR();
@@ -35,6 +38,10 @@ public class rlglData {
         return defaultBatch;
     }
 
+    public rlDeferredBatch getDeferredBatch() {
+        return deferredBatch;
+    }
+
     public ExtSupported getExtSupported() {
         return extSupported;
     }
@@ -0,0 +1,51 @@
+package com.raylib.java.rlgl;
+
+import java.awt.image.DataBuffer;
+import java.nio.ByteBuffer;
+
+// Rendering backend used by rlgl, selected on rlglInit() (GL_33 or GL_11) or provided with rlglInitBackend()
+// NOTE: Vertex data is provided with the immediate mode style functions, batching and drawing is backend dependant
+public interface rlBackend{
+
+    // Matrix operations
+    void rlMatrixMode(int mode);
+    void rlFrustum(double left, double right, double bottom, double top, double znear, double zfar);
+    void rlOrtho(double left, double right, double bottom, double top, double znear, double zfar);
+    void rlPushMatrix();
+    void rlPopMatrix();
+    void rlLoadIdentity();
+    void rlTranslatef(float x, float y, float z);
+    void rlRotatef(float angle, float x, float y, float z);
+    void rlScalef(float x, float y, float z);
+    void rlMultMatrixf(float[] matf);
+
+    // Vertex level operations
+    void rlBegin(int mode);
+    void rlEnd();
+    void rlVertex2i(int x, int y);
+    void rlVertex2f(float x, float y);
+    void rlVertex3f(float x, float y, float z);
+    void rlTexCoord2f(float x, float y);
+    void rlNormal3f(float x, float y, float z);
+    void rlColor4ub(int r, int g, int b, int a);
+    void rlColor3f(float x, float y, float z);
+    void rlColor4f(float x, float y, float z, float w);
+    void rlQuadBatch(int textureId, float[] quads, int offset, int[] colors, int colorOffset, int quadCount);
+    void rlQuadBatchDeferred(int textureId, float[] quads, int offset, float[] depths, int depthOffset,
+                             int[] colors, int colorOffset, int quadCount);     // Deferred quads: transformed, z by vertex
+
+    // Render batch vertex buffers, batch CPU data is managed by rlgl
+    void rlLoadBatchBuffers(rlRenderBatch batch);       // Load batch vertex buffers on backend (i.e. VAOs/VBOs)
+    void rlUnloadBatchBuffers(rlRenderBatch batch);     // Unload batch vertex buffers from backend
+    void rlDrawBatchBuffers(rlRenderBatch batch);       // Update and draw batch current vertex buffer draw calls
+
+    // Textures and framebuffer state
+    int rlLoadTexture(DataBuffer data, int width, int height, int format, int mipmapCount);
+    int rlLoadTextureBuffer(ByteBuffer data, int width, int height, int format);
+    void rlUpdateTexture(int id, int offsetX, int offsetY, int width, int height, int format, byte[] data);
+    void rlUnloadTexture(int id);
+    void rlBlendMode(int mode);
+    void rlViewport(int x, int y, int width, int height);
+    void rlClearColor(float r, float g, float b, float a);
+    void rlClearScreenBuffers();
+}
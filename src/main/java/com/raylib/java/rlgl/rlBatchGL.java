@@ -0,0 +1,24 @@
+package com.raylib.java.rlgl;
+
+// OpenGL buffer, sync and draw functions used by GL_33 to upload and draw render batch vertex data
+// NOTE: GL_33 uses OpenGL (LWJGL) by default, a GL stand-in can be provided to GL_33(rlBatchGL) to record or
+// check render batch uploads and draws with no OpenGL context (i.e. headless tests)
+public interface rlBatchGL{
+
+    void glBindBuffer(int target, int buffer);
+    void glBufferData(int target, long size, int usage);                    // Allocate (or orphan) buffer storage, no data
+    void nglBufferSubData(int target, long offset, long size, long data);   // Update buffer storage from native memory address
+    long nglMapBufferRange(int target, long offset, long length, int access); // Map buffer range, returns address (0 on failure)
+    boolean glUnmapBuffer(int target);                                      // Unmap buffer, false if content was lost
+
+    // Sync objects (multi-buffering)
+    long glFenceSync(int condition, int flags);
+    int glClientWaitSync(long sync, int flags, long timeout);
+    void glDeleteSync(long sync);
+
+    // Render batch draws (textures binding and draw calls)
+    void glActiveTexture(int texture);
+    void glBindTexture(int target, int texture);
+    void glDrawArrays(int mode, int first, int count);
+    void glDrawElements(int mode, int count, int type, long indices);      // Indices offset in bytes in bound index buffer
+}
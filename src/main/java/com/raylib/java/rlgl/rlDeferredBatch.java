@@ -0,0 +1,238 @@
+package com.raylib.java.rlgl;
+
+import com.raylib.java.raymath.Matrix;
+
+import java.util.Arrays;
+
+import static com.raylib.java.rlgl.RLGL.rlBlendMode.RL_BLEND_CUSTOM;
+
+// Deferred 2D quads queue: quads are recorded with a sort key (layer, shader, texture, blend state),
+// sorted when the batch is drawn and adjacent records sharing the same state are merged
+public class rlDeferredBatch{
+
+    boolean active;             // Deferred mode enabled, rlQuadBatch() records instead of drawing
+    int layer;                  // Current draw layer, lower layers are drawn first
+
+    float[] quads;              // Recorded quads (x, y, u, v by vertex, 16 floats per quad)
+    float[] depths;             // Recorded quads depth (z by vertex, 4 floats per quad)
+    int[] colors;               // Recorded quads colors (packed RGBA)
+    int quadCounter;            // Recorded quads counter
+
+    long[] keys;                // Records sort key
+    int[] quadStart;            // Records first quad
+    int[] quadCount;            // Records quads count
+    int[] textureId;            // Records texture id
+    int recordCounter;          // Records counter
+
+    int[] shaderIds;            // Shaders used by records, indexed by key shader field
+    int[][] shaderLocs;         // Shaders locations used by records
+    int shaderCounter;          // Shaders counter
+
+    int[] blendModes;           // Blend states used by records, indexed by key blend field
+    int[] blendSrcFactors;      // Blend states source factor (RL_BLEND_CUSTOM only)
+    int[] blendDstFactors;      // Blend states destination factor (RL_BLEND_CUSTOM only)
+    int[] blendEquations;       // Blend states equation (RL_BLEND_CUSTOM only)
+    int blendCounter;           // Blend states counter
+
+    int drawsRecorded;          // Draws (state runs) in recording order, last submission
+    int drawsMerged;            // Draws (state runs) after sorting and merging, last submission
+
+    private int[] order;        // Records order, sorted
+    private int[] orderTemp;    // Radix sort scratch
+    private final int[] histogram = new int[256];   // Radix sort digit counters
+    private long lastKey;       // Last recorded key, used to count draws in recording order
+    private int drawsPending;   // Draws (state runs) in recording order, current records
+
+    public rlDeferredBatch(){
+        quads = new float[16*256];
+        depths = new float[4*256];
+        colors = new int[256];
+        keys = new long[64];
+        quadStart = new int[64];
+        quadCount = new int[64];
+        textureId = new int[64];
+        order = new int[64];
+        orderTemp = new int[64];
+        shaderIds = new int[8];
+        shaderLocs = new int[8][];
+        blendModes = new int[8];
+        blendSrcFactors = new int[8];
+        blendDstFactors = new int[8];
+        blendEquations = new int[8];
+        lastKey = -1;
+    }
+
+    // Sort key: layer (16 bit, biased) | shader index (12 bit) | texture id (28 bit) | blend state index (8 bit)
+    static long rlDeferredKey(int layer, int shader, int texture, int blend){
+        return ((long)((layer + 0x8000) & 0xffff) << 48) | ((long)(shader & 0xfff) << 36) |
+               ((long)(texture & 0xfffffff) << 8) | (blend & 0xff);
+    }
+
+    // Get shader index for key, registering shader if required
+    int rlDeferredShaderIndex(int id, int[] locs){
+        for (int i = 0; i < shaderCounter; i++){
+            if (shaderIds[i] == id) return i;
+        }
+
+        if (shaderCounter == shaderIds.length){
+            shaderIds = Arrays.copyOf(shaderIds, shaderCounter*2);
+            shaderLocs = Arrays.copyOf(shaderLocs, shaderCounter*2);
+        }
+
+        shaderIds[shaderCounter] = id;
+        shaderLocs[shaderCounter] = locs;
+
+        return shaderCounter++;
+    }
+
+    // Get blend state index for key, registering blend state if required
+    // NOTE: Custom factors and equation are part of the state only for RL_BLEND_CUSTOM
+    int rlDeferredBlendIndex(int mode, int srcFactor, int dstFactor, int equation){
+        if (mode != RL_BLEND_CUSTOM){
+            srcFactor = 0;
+            dstFactor = 0;
+            equation = 0;
+        }
+
+        for (int i = 0; i < blendCounter; i++){
+            if ((blendModes[i] == mode) && (blendSrcFactors[i] == srcFactor) &&
+                (blendDstFactors[i] == dstFactor) && (blendEquations[i] == equation)) return i;
+        }
+
+        if (blendCounter == blendModes.length){
+            blendModes = Arrays.copyOf(blendModes, blendCounter*2);
+            blendSrcFactors = Arrays.copyOf(blendSrcFactors, blendCounter*2);
+            blendDstFactors = Arrays.copyOf(blendDstFactors, blendCounter*2);
+            blendEquations = Arrays.copyOf(blendEquations, blendCounter*2);
+        }
+
+        blendModes[blendCounter] = mode;
+        blendSrcFactors[blendCounter] = srcFactor;
+        blendDstFactors[blendCounter] = dstFactor;
+        blendEquations[blendCounter] = equation;
+
+        return blendCounter++;
+    }
+
+    // Record quads, positions must be already transformed
+    // NOTE: Returns first quad float offset where quad data must be written
+    int rlDeferredRecord(long key, int texture, int count){
+        if (recordCounter == keys.length){
+            int size = recordCounter*2;
+            keys = Arrays.copyOf(keys, size);
+            quadStart = Arrays.copyOf(quadStart, size);
+            quadCount = Arrays.copyOf(quadCount, size);
+            textureId = Arrays.copyOf(textureId, size);
+            order = new int[size];
+            orderTemp = new int[size];
+        }
+
+        if (quadCounter + count > colors.length){
+            int size = Math.max(colors.length*2, quadCounter + count);
+            quads = Arrays.copyOf(quads, size*16);
+            depths = Arrays.copyOf(depths, size*4);
+            colors = Arrays.copyOf(colors, size);
+        }
+
+        keys[recordCounter] = key;
+        quadStart[recordCounter] = quadCounter;
+        quadCount[recordCounter] = count;
+        textureId[recordCounter] = texture;
+        recordCounter++;
+
+        if (key != lastKey){
+            drawsPending++;
+            lastKey = key;
+        }
+
+        int offset = quadCounter*16;
+        quadCounter += count;
+
+        return offset;
+    }
+
+    // Record quads with current state, transforming positions if required
+    // NOTE: Transform is applied on recording (matrix stack could change before submission), depth is kept by vertex
+    void rlDeferredRecordQuads(long key, int texture, float[] src, int offset, int[] srcColors, int colorOffset, int count,
+                               Matrix transform, float depth){
+        int dst = rlDeferredRecord(key, texture, count);
+
+        System.arraycopy(src, offset, quads, dst, count*16);
+        System.arraycopy(srcColors, colorOffset, colors, dst/16, count);
+
+        for (int i = dst, d = dst/4; i < dst + count*16; i += 4, d++){
+            if (transform != null){
+                float x = quads[i];
+                float y = quads[i + 1];
+                quads[i] = transform.m0*x + transform.m4*y + transform.m8*depth + transform.m12;
+                quads[i + 1] = transform.m1*x + transform.m5*y + transform.m9*depth + transform.m13;
+                depths[d] = transform.m2*x + transform.m6*y + transform.m10*depth + transform.m14;
+            }
+            else depths[d] = depth;
+        }
+    }
+
+    // Sort records by key, stable LSD radix sort (8 bit digits)
+    // NOTE: Digits with the same value for all records are skipped (usually shader and blend)
+    int[] rlDeferredSort(){
+        int n = recordCounter;
+        int[] src = order;
+        int[] dst = orderTemp;
+
+        for (int i = 0; i < n; i++) src[i] = i;
+
+        for (int shift = 0; shift < 64; shift += 8){
+            Arrays.fill(histogram, 0);
+            for (int i = 0; i < n; i++){
+                histogram[(int)(keys[i] >>> shift) & 0xff]++;
+            }
+
+            if (histogram[(int)(keys[0] >>> shift) & 0xff] == n) continue;     // All records share digit
+
+            for (int i = 0, sum = 0; i < 256; i++){
+                int count = histogram[i];
+                histogram[i] = sum;
+                sum += count;
+            }
+
+            for (int i = 0; i < n; i++){
+                int record = src[i];
+                dst[histogram[(int)(keys[record] >>> shift) & 0xff]++] = record;
+            }
+
+            int[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+
+        return src;
+    }
+
+    // Reset recorded data for next submission, keeping submission metrics
+    void rlDeferredReset(int merged){
+        drawsRecorded = drawsPending;
+        drawsMerged = merged;
+        drawsPending = 0;
+        quadCounter = 0;
+        recordCounter = 0;
+        shaderCounter = 0;
+        blendCounter = 0;
+        lastKey = -1;
+    }
+
+    public boolean isActive(){
+        return active;
+    }
+
+    public int getLayer(){
+        return layer;
+    }
+
+    public int getDrawsRecorded(){
+        return drawsRecorded;
+    }
+
+    public int getDrawsMerged(){
+        return drawsMerged;
+    }
+}
@@ -2,6 +2,8 @@ package com.raylib.java.rlgl;
 
 import com.raylib.java.raymath.Matrix;
 
+import static com.raylib.java.Config.RL_BATCH_TEXTURE_SLOTS;
+
 public class rlDrawCall{
 
     int mode;                   // Drawing mode: LINES, TRIANGLES, QUADS
@@ -10,12 +12,14 @@ public class rlDrawCall{
     int vaoId;                  // Vertex array id to be used on the draw . Using RLGL.currentBatch.rlVertexBuffer.vaoId
     int shaderId;               // Shader id to be used on the draw . Using RLGL.currentShaderId
     int textureId;              // Texture id to be used on the draw . Use to create new draw call if changes
+    int[] textures;             // Textures table sampled by the draw, indexed by vertex texture slot (multi-texture batch)
+    int textureCount;           // Textures table counter
 
     Matrix projection;        // Projection matrix for this draw . Using RLGL.projection
     Matrix modelview;         // Modelview matrix for this draw . Using RLGL.modelview
 
     public rlDrawCall(){
-
+        textures = new int[RL_BATCH_TEXTURE_SLOTS];
     }
 
     public int getMode(){
@@ -66,6 +70,14 @@ public class rlDrawCall{
         this.textureId = textureId;
     }
 
+    public int[] getTextures(){
+        return textures;
+    }
+
+    public int getTextureCount(){
+        return textureCount;
+    }
+
     public Matrix getProjection(){
         return projection;
     }
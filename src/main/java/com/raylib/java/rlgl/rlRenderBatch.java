@@ -5,10 +5,18 @@ public class rlRenderBatch{
     int bufferCount;           // Number of vertex buffers (multi-buffering support)
     int currentBuffer;          // Current buffer tracking in case of multi-buffering
     rlVertexBuffer[] rlVertexBuffer; // Dynamic buffer(s) for vertex data
+    long[] fences;              // Sync fences guarding vertex buffers in use by GPU (multi-buffering support)
+    int fenceWaits;             // Number of times CPU had to wait for a vertex buffer to be released by GPU
 
     rlDrawCall[] draws;            // Draw calls array, depends on textureId
     int drawCounter;           // Draw calls counter
     float currentDepth;         // Current depth value for next draw
+    boolean multiTexture;       // Draws sample from a textures table with default shader (SUPPORT_BATCH_MULTI_TEXTURE)
+
+    long uploadedBytes;         // Vertex data bytes uploaded to GPU on last batch draw
+    int drawCalls;              // GPU draw calls (glDrawArrays()/glDrawElements()) with vertex data issued on last batch draw
+    int textureBinds;           // Texture binds issued on last batch draw
+    long drawCallsTotal;        // GPU draw calls issued since batch was loaded
 
     public rlRenderBatch() {
     }
@@ -60,4 +68,28 @@ public class rlRenderBatch{
     public void setCurrentDepth(float currentDepth) {
         this.currentDepth = currentDepth;
     }
+
+    public int getFenceWaits() {
+        return fenceWaits;
+    }
+
+    public long getUploadedBytes() {
+        return uploadedBytes;
+    }
+
+    public boolean isMultiTexture() {
+        return multiTexture;
+    }
+
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    public int getTextureBinds() {
+        return textureBinds;
+    }
+
+    public long getDrawCallsTotal() {
+        return drawCallsTotal;
+    }
 }
@@ -0,0 +1,545 @@
+package com.raylib.java.rlgl;
+
+import com.raylib.java.raymath.Matrix;
+import com.raylib.java.rlgl.data.State;
+import com.raylib.java.textures.Image;
+
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static com.raylib.java.raymath.Raymath.MatrixMultiply;
+import static com.raylib.java.rlgl.RLGL.*;
+import static com.raylib.java.rlgl.RLGL.rlPixelFormat.*;
+import static com.raylib.java.utils.Tracelog.Tracelog;
+import static com.raylib.java.utils.Tracelog.TracelogType.LOG_INFO;
+import static com.raylib.java.utils.Tracelog.TracelogType.LOG_WARNING;
+
+// Software rendering backend, render batch is rasterized into a RGBA pixels buffer, no GPU required
+// NOTE: Render batch CPU paths are shared with GL_33, only batch drawing, textures and framebuffer state are replaced
+// Supported: lines, triangles and quads, vertex colors, point sampled textures (repeat wrap), blending modes
+// Not supported: shaders (default shader behaviour is always used), depth test, clipping, stereo rendering, framebuffers
+public class rlSoftwareBackend extends GL_33{
+
+    private final int width;                    // Framebuffer width
+    private final int height;                   // Framebuffer height
+    private final int[] pixels;                 // Framebuffer color data, packed RGBA (ColorToInt() layout), top-left origin
+
+    private int clearColor;                     // Clear color, packed RGBA
+    private int viewportX, viewportY;           // Viewport position, bottom-left origin (OpenGL convention)
+    private int viewportWidth, viewportHeight;  // Viewport size
+
+    private int[][] textures;                   // Textures data, packed RGBA, indexed by texture id
+    private int[] textureWidth;                 // Textures width, indexed by texture id
+    private int[] textureHeight;                // Textures height, indexed by texture id
+    private int textureCounter;                 // Last texture id provided
+
+    // Current primitive vertex data, window coordinates (top-left origin) and attributes
+    private final float[] vertexX = new float[3];
+    private final float[] vertexY = new float[3];
+    private final float[] vertexW = new float[3];       // 1/w, perspective correction
+    private final float[] vertexU = new float[3];
+    private final float[] vertexV = new float[3];
+    private final float[] vertexColor = new float[12];  // RGBA by vertex, 0..255
+    private int vertexSlot;                             // Texture slot of primitive first vertex
+    private final int[] vertexIndex = new int[3];       // Batch vertex index of primitive vertices
+
+    public rlSoftwareBackend(int width, int height){
+        this.width = width;
+        this.height = height;
+        pixels = new int[width*height];
+        clearColor = 0x000000ff;
+        viewportWidth = width;
+        viewportHeight = height;
+
+        textures = new int[16][];
+        textureWidth = new int[16];
+        textureHeight = new int[16];
+    }
+
+    public int getWidth(){
+        return width;
+    }
+
+    public int getHeight(){
+        return height;
+    }
+
+    // Get framebuffer color data, packed RGBA, top-left origin
+    // NOTE: Returned array is the framebuffer itself, it changes on next batch draw
+    public int[] getPixels(){
+        return pixels;
+    }
+
+    // Get framebuffer color data as an UNCOMPRESSED_R8G8B8A8 image
+    public Image getImage(){
+        byte[] data = new byte[width*height*4];
+
+        for (int i = 0, k = 0; i < pixels.length; i++, k += 4){
+            int color = pixels[i];
+            data[k] = (byte)(color >>> 24);
+            data[k + 1] = (byte)(color >>> 16);
+            data[k + 2] = (byte)(color >>> 8);
+            data[k + 3] = (byte)color;
+        }
+
+        return new Image(data, width, height, RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8, 1);
+    }
+
+    // No vertex buffers on backend side, batch vertex data is read directly from RAM
+    @Override
+    public void rlLoadBatchBuffers(rlRenderBatch batch){
+        Tracelog(LOG_INFO, "RLGL: Render batch vertex buffers kept in RAM (software backend)");
+    }
+
+    @Override
+    public void rlUnloadBatchBuffers(rlRenderBatch batch){
+    }
+
+    // Rasterize render batch current vertex buffer draw calls
+    @Override
+    public void rlDrawBatchBuffers(rlRenderBatch batch){
+        State state = rlglData.getState();
+
+        if (state.vertexCounter == 0){
+            return;
+        }
+
+        rlVertexBuffer vertexBuffer = batch.rlVertexBuffer[batch.currentBuffer];
+        Matrix matMVP = MatrixMultiply(state.modelview, state.projection);
+        boolean drawTextures = (vertexBuffer.texslots != null) && (state.currentShaderId == state.defaultShaderId);
+        int blendMode = state.currentBlendMode;
+
+        for (int i = 0, vertexOffset = 0; i < batch.drawCounter; i++){
+            rlDrawCall draw = batch.draws[i];
+            int vertexCount = draw.vertexCount;
+
+            batch.textureBinds += drawTextures ? draw.textureCount : 1;
+
+            if (vertexCount > 0){
+                batch.drawCalls++;
+
+                if (draw.mode == RL_LINES){
+                    for (int v = vertexOffset; v + 1 < vertexOffset + vertexCount; v += 2){
+                        if (rlLoadPrimitive(vertexBuffer, matMVP, v, v + 1, v + 1)){
+                            int id = drawTextures ? draw.textures[vertexSlot] : draw.textureId;
+                            rlRasterLine(id, blendMode);
+                        }
+                    }
+                }
+                else if (draw.mode == RL_TRIANGLES){
+                    for (int v = vertexOffset; v + 2 < vertexOffset + vertexCount; v += 3){
+                        if (rlLoadPrimitive(vertexBuffer, matMVP, v, v + 1, v + 2)){
+                            int id = drawTextures ? draw.textures[vertexSlot] : draw.textureId;
+                            rlRasterTriangle(id, blendMode);
+                        }
+                    }
+                }
+                else{
+                    // Quads are drawn as two triangles, same as batch indices: (0, 1, 2) and (0, 2, 3)
+                    for (int v = vertexOffset; v + 3 < vertexOffset + vertexCount; v += 4){
+                        if (rlLoadPrimitive(vertexBuffer, matMVP, v, v + 1, v + 2)){
+                            int id = drawTextures ? draw.textures[vertexSlot] : draw.textureId;
+                            rlRasterTriangle(id, blendMode);
+                        }
+                        if (rlLoadPrimitive(vertexBuffer, matMVP, v, v + 2, v + 3)){
+                            int id = drawTextures ? draw.textures[vertexSlot] : draw.textureId;
+                            rlRasterTriangle(id, blendMode);
+                        }
+                    }
+                }
+            }
+
+            vertexOffset += (vertexCount + draw.vertexAlignment);
+        }
+    }
+
+    // Load texture data into RAM, converted to packed RGBA
+    @Override
+    public int rlLoadTexture(DataBuffer data, int width, int height, int format, int mipmapCount){
+        int count = width*height;
+        int[] texels = new int[count];
+
+        int bytesPerPixel = rlGetTexelSize(format);
+        if (bytesPerPixel == 0){
+            Tracelog(LOG_WARNING, "TEXTURE: Software backend does not support pixel format: " + format);
+            return 0;
+        }
+
+        if ((data == null) || (data.getSize() < count*bytesPerPixel)){
+            Tracelog(LOG_WARNING, "TEXTURE: Failed to load texture, not enough pixel data");
+            return 0;
+        }
+
+        for (int i = 0, k = 0; i < count; i++, k += bytesPerPixel){
+            texels[i] = rlGetTexel(data, k, format);
+        }
+
+        int id = ++textureCounter;
+        if (id == textures.length){
+            textures = Arrays.copyOf(textures, id*2);
+            textureWidth = Arrays.copyOf(textureWidth, id*2);
+            textureHeight = Arrays.copyOf(textureHeight, id*2);
+        }
+
+        textures[id] = texels;
+        textureWidth[id] = width;
+        textureHeight[id] = height;
+
+        Tracelog(LOG_INFO, "TEXTURE: [ID " + id + "] Texture loaded successfully (" + width + "x" + height + ", software)");
+
+        return id;
+    }
+
+    // Load texture data from native buffer into RAM
+    @Override
+    public int rlLoadTextureBuffer(ByteBuffer data, int width, int height, int format){
+        byte[] bytes = new byte[data.remaining()];
+        data.get(data.position(), bytes);
+
+        return rlLoadTexture(new DataBufferByte(bytes, bytes.length), width, height, format, 1);
+    }
+
+    // Update texture rectangle data in RAM
+    // NOTE: data format must match texture loading format
+    @Override
+    public void rlUpdateTexture(int id, int offsetX, int offsetY, int width, int height, int format, byte[] data){
+        int bytesPerPixel = rlGetTexelSize(format);
+
+        if ((id <= 0) || (id >= textures.length) || (textures[id] == null) || (bytesPerPixel == 0) ||
+            (offsetX < 0) || (offsetY < 0) || (offsetX + width > textureWidth[id]) || (offsetY + height > textureHeight[id]) ||
+            (data.length < width*height*bytesPerPixel)){
+            Tracelog(LOG_WARNING, "TEXTURE: [ID " + id + "] Failed to update texture data (software)");
+            return;
+        }
+
+        DataBuffer buffer = new DataBufferByte(data, data.length);
+        int[] texels = textures[id];
+        int texWidth = textureWidth[id];
+
+        for (int y = 0, k = 0; y < height; y++){
+            int row = (offsetY + y)*texWidth + offsetX;
+
+            for (int x = 0; x < width; x++, k += bytesPerPixel){
+                texels[row + x] = rlGetTexel(buffer, k, format);
+            }
+        }
+    }
+
+    // Get pixel size in data elements for supported formats, 0 if format not supported
+    private static int rlGetTexelSize(int format){
+        switch (format){
+            case RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE:
+            case RL_PIXELFORMAT_UNCOMPRESSED_R5G6B5:
+            case RL_PIXELFORMAT_UNCOMPRESSED_R5G5B5A1:
+            case RL_PIXELFORMAT_UNCOMPRESSED_R4G4B4A4: return 1;    // One data element by pixel
+            case RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA: return 2;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8: return 3;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8: return 4;
+            default: return 0;
+        }
+    }
+
+    // Get pixel at data element k converted to packed RGBA
+    private static int rlGetTexel(DataBuffer data, int k, int format){
+        int r, g, b, a;
+
+        switch (format){
+            case RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE:{
+                r = g = b = data.getElem(k) & 0xff;
+                a = 255;
+            } break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA:{
+                r = g = b = data.getElem(k) & 0xff;
+                a = data.getElem(k + 1) & 0xff;
+            } break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R5G6B5:{
+                int pixel = data.getElem(k) & 0xffff;
+                r = ((pixel >> 11) & 0x1f)*255/31;
+                g = ((pixel >> 5) & 0x3f)*255/63;
+                b = (pixel & 0x1f)*255/31;
+                a = 255;
+            } break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R5G5B5A1:{
+                int pixel = data.getElem(k) & 0xffff;
+                r = ((pixel >> 11) & 0x1f)*255/31;
+                g = ((pixel >> 6) & 0x1f)*255/31;
+                b = ((pixel >> 1) & 0x1f)*255/31;
+                a = (pixel & 0x1)*255;
+            } break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R4G4B4A4:{
+                int pixel = data.getElem(k) & 0xffff;
+                r = ((pixel >> 12) & 0xf)*17;
+                g = ((pixel >> 8) & 0xf)*17;
+                b = ((pixel >> 4) & 0xf)*17;
+                a = (pixel & 0xf)*17;
+            } break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8:{
+                r = data.getElem(k) & 0xff;
+                g = data.getElem(k + 1) & 0xff;
+                b = data.getElem(k + 2) & 0xff;
+                a = 255;
+            } break;
+            default:{
+                r = data.getElem(k) & 0xff;
+                g = data.getElem(k + 1) & 0xff;
+                b = data.getElem(k + 2) & 0xff;
+                a = data.getElem(k + 3) & 0xff;
+            } break;
+        }
+
+        return (r << 24) | (g << 16) | (b << 8) | a;
+    }
+
+    @Override
+    public void rlUnloadTexture(int id){
+        if ((id > 0) && (id < textures.length)){
+            textures[id] = null;
+        }
+    }
+
+    // NOTE: Blending mode is read from rlgl state on batch draw
+    @Override
+    public void rlBlendMode(int mode){
+    }
+
+    @Override
+    public void rlViewport(int x, int y, int width, int height){
+        viewportX = x;
+        viewportY = y;
+        viewportWidth = width;
+        viewportHeight = height;
+    }
+
+    @Override
+    public void rlClearColor(float r, float g, float b, float a){
+        clearColor = ((int)(r*255.0f + 0.5f) << 24) | ((int)(g*255.0f + 0.5f) << 16) |
+                     ((int)(b*255.0f + 0.5f) << 8) | (int)(a*255.0f + 0.5f);
+    }
+
+    @Override
+    public void rlClearScreenBuffers(){
+        Arrays.fill(pixels, clearColor);
+    }
+
+    // Transform primitive vertices to window coordinates and load their attributes
+    // NOTE: Primitives with vertex behind the eye (w <= 0) are discarded, no clipping is done
+    private boolean rlLoadPrimitive(rlVertexBuffer vertexBuffer, Matrix mvp, int v0, int v1, int v2){
+        vertexIndex[0] = v0;
+        vertexIndex[1] = v1;
+        vertexIndex[2] = v2;
+
+        for (int k = 0; k < 3; k++){
+            int i = vertexIndex[k];
+            float x, y, z;
+
+            if (vertexBuffer.interleaved != null){
+                int cursor = i*RL_BATCH_VERTEX_SIZE;
+                x = vertexBuffer.interleaved.getFloat(cursor);
+                y = vertexBuffer.interleaved.getFloat(cursor + 4);
+                z = vertexBuffer.interleaved.getFloat(cursor + 8);
+                vertexU[k] = vertexBuffer.interleaved.getFloat(cursor + 12);
+                vertexV[k] = vertexBuffer.interleaved.getFloat(cursor + 16);
+                for (int c = 0; c < 4; c++){
+                    vertexColor[k*4 + c] = vertexBuffer.interleaved.get(cursor + 20 + c) & 0xff;
+                }
+            }
+            else{
+                x = vertexBuffer.vertices.get(3*i);
+                y = vertexBuffer.vertices.get(3*i + 1);
+                z = vertexBuffer.vertices.get(3*i + 2);
+                vertexU[k] = vertexBuffer.texcoords.get(2*i);
+                vertexV[k] = vertexBuffer.texcoords.get(2*i + 1);
+                for (int c = 0; c < 4; c++){
+                    vertexColor[k*4 + c] = vertexBuffer.colors.get(4*i + c) & 0xff;
+                }
+            }
+
+            float clipX = mvp.m0*x + mvp.m4*y + mvp.m8*z + mvp.m12;
+            float clipY = mvp.m1*x + mvp.m5*y + mvp.m9*z + mvp.m13;
+            float clipW = mvp.m3*x + mvp.m7*y + mvp.m11*z + mvp.m15;
+
+            if (clipW <= 0.0f){
+                return false;
+            }
+
+            // Normalized device coordinates to window coordinates, flipped to top-left origin
+            float invW = 1.0f/clipW;
+            vertexX[k] = viewportX + (clipX*invW + 1.0f)*0.5f*viewportWidth;
+            vertexY[k] = height - (viewportY + (clipY*invW + 1.0f)*0.5f*viewportHeight);
+            vertexW[k] = invW;
+        }
+
+        vertexSlot = (vertexBuffer.texslots != null) ? (vertexBuffer.texslots.get(v0) & 0xff) : 0;
+
+        return true;
+    }
+
+    // Rasterize loaded triangle, pixel centers sampling and top-left fill rule (shared edges drawn once)
+    private void rlRasterTriangle(int textureId, int blendMode){
+        int a = 0, b = 1, c = 2;
+        float area = (vertexX[b] - vertexX[a])*(vertexY[c] - vertexY[a]) - (vertexY[b] - vertexY[a])*(vertexX[c] - vertexX[a]);
+
+        if (area == 0.0f){
+            return;
+        }
+
+        if (area < 0.0f){
+            b = 2;
+            c = 1;
+            area = -area;
+        }
+
+        int minX = Math.max(0, (int)Math.floor(Math.min(vertexX[a], Math.min(vertexX[b], vertexX[c]))));
+        int maxX = Math.min(width - 1, (int)Math.ceil(Math.max(vertexX[a], Math.max(vertexX[b], vertexX[c]))));
+        int minY = Math.max(0, (int)Math.floor(Math.min(vertexY[a], Math.min(vertexY[b], vertexY[c]))));
+        int maxY = Math.min(height - 1, (int)Math.ceil(Math.max(vertexY[a], Math.max(vertexY[b], vertexY[c]))));
+
+        if ((minX > maxX) || (minY > maxY)){
+            return;
+        }
+
+        int[] texels = rlGetTexture(textureId);
+        int texWidth = (texels != null) ? textureWidth[textureId] : 1;
+        int texHeight = (texels != null) ? textureHeight[textureId] : 1;
+
+        // Edge functions: edge0 (b -> c) weights a, edge1 (c -> a) weights b, edge2 (a -> b) weights c
+        float dx0 = vertexX[c] - vertexX[b], dy0 = vertexY[c] - vertexY[b];
+        float dx1 = vertexX[a] - vertexX[c], dy1 = vertexY[a] - vertexY[c];
+        float dx2 = vertexX[b] - vertexX[a], dy2 = vertexY[b] - vertexY[a];
+        boolean topLeft0 = (dy0 < 0.0f) || ((dy0 == 0.0f) && (dx0 > 0.0f));
+        boolean topLeft1 = (dy1 < 0.0f) || ((dy1 == 0.0f) && (dx1 > 0.0f));
+        boolean topLeft2 = (dy2 < 0.0f) || ((dy2 == 0.0f) && (dx2 > 0.0f));
+
+        float wa = vertexW[a], wb = vertexW[b], wc = vertexW[c];
+
+        for (int py = minY; py <= maxY; py++){
+            float sy = py + 0.5f;
+            float sx = minX + 0.5f;
+            float e0 = dx0*(sy - vertexY[b]) - dy0*(sx - vertexX[b]);
+            float e1 = dx1*(sy - vertexY[c]) - dy1*(sx - vertexX[c]);
+            float e2 = dx2*(sy - vertexY[a]) - dy2*(sx - vertexX[a]);
+
+            for (int px = minX; px <= maxX; px++, e0 -= dy0, e1 -= dy1, e2 -= dy2){
+                if (((e0 > 0.0f) || ((e0 == 0.0f) && topLeft0)) &&
+                    ((e1 > 0.0f) || ((e1 == 0.0f) && topLeft1)) &&
+                    ((e2 > 0.0f) || ((e2 == 0.0f) && topLeft2))){
+                    // Perspective correct barycentric weights
+                    float la = e0/area*wa;
+                    float lb = e1/area*wb;
+                    float lc = e2/area*wc;
+                    float invSum = 1.0f/(la + lb + lc);
+                    la *= invSum;
+                    lb *= invSum;
+                    lc *= invSum;
+
+                    int texel = 0xffffffff;
+                    if (texels != null){
+                        float u = la*vertexU[a] + lb*vertexU[b] + lc*vertexU[c];
+                        float v = la*vertexV[a] + lb*vertexV[b] + lc*vertexV[c];
+                        texel = rlSampleTexture(texels, texWidth, texHeight, u, v);
+                    }
+
+                    int color = rlModulate(texel,
+                            la*vertexColor[a*4] + lb*vertexColor[b*4] + lc*vertexColor[c*4],
+                            la*vertexColor[a*4 + 1] + lb*vertexColor[b*4 + 1] + lc*vertexColor[c*4 + 1],
+                            la*vertexColor[a*4 + 2] + lb*vertexColor[b*4 + 2] + lc*vertexColor[c*4 + 2],
+                            la*vertexColor[a*4 + 3] + lb*vertexColor[b*4 + 3] + lc*vertexColor[c*4 + 3]);
+
+                    int offset = py*width + px;
+                    pixels[offset] = rlBlendPixel(color, pixels[offset], blendMode);
+                }
+            }
+        }
+    }
+
+    // Rasterize loaded line (first two vertex), one pixel width
+    private void rlRasterLine(int textureId, int blendMode){
+        float dx = vertexX[1] - vertexX[0];
+        float dy = vertexY[1] - vertexY[0];
+        int steps = (int)Math.ceil(Math.max(Math.abs(dx), Math.abs(dy)));
+
+        int[] texels = rlGetTexture(textureId);
+        int texWidth = (texels != null) ? textureWidth[textureId] : 1;
+        int texHeight = (texels != null) ? textureHeight[textureId] : 1;
+
+        // NOTE: Last pixel is not drawn, same as OpenGL diamond-exit rule for connected lines
+        for (int s = 0; s < Math.max(steps, 1); s++){
+            float t = (steps > 0) ? (float)s/steps : 0.0f;
+            int px = (int)Math.floor(vertexX[0] + dx*t);
+            int py = (int)Math.floor(vertexY[0] + dy*t);
+
+            if ((px < 0) || (px >= width) || (py < 0) || (py >= height)){
+                continue;
+            }
+
+            int texel = 0xffffffff;
+            if (texels != null){
+                texel = rlSampleTexture(texels, texWidth, texHeight,
+                        vertexU[0] + (vertexU[1] - vertexU[0])*t, vertexV[0] + (vertexV[1] - vertexV[0])*t);
+            }
+
+            int color = rlModulate(texel,
+                    vertexColor[0] + (vertexColor[4] - vertexColor[0])*t,
+                    vertexColor[1] + (vertexColor[5] - vertexColor[1])*t,
+                    vertexColor[2] + (vertexColor[6] - vertexColor[2])*t,
+                    vertexColor[3] + (vertexColor[7] - vertexColor[3])*t);
+
+            int offset = py*width + px;
+            pixels[offset] = rlBlendPixel(color, pixels[offset], blendMode);
+        }
+    }
+
+    // Get texture data by id, null if not available (sampled as white)
+    private int[] rlGetTexture(int id){
+        return ((id > 0) && (id < textures.length)) ? textures[id] : null;
+    }
+
+    // Sample texture, point filter and repeat wrap (rlgl default texture parameters)
+    private static int rlSampleTexture(int[] texels, int texWidth, int texHeight, float u, float v){
+        int x = (int)Math.floor(u*texWidth)%texWidth;
+        int y = (int)Math.floor(v*texHeight)%texHeight;
+
+        if (x < 0) x += texWidth;
+        if (y < 0) y += texHeight;
+
+        return texels[y*texWidth + x];
+    }
+
+    // Multiply texel by vertex color (components in 0..255 range)
+    private static int rlModulate(int texel, float r, float g, float b, float a){
+        int cr = (int)(((texel >>> 24) & 0xff)*r/255.0f + 0.5f);
+        int cg = (int)(((texel >>> 16) & 0xff)*g/255.0f + 0.5f);
+        int cb = (int)(((texel >>> 8) & 0xff)*b/255.0f + 0.5f);
+        int ca = (int)((texel & 0xff)*a/255.0f + 0.5f);
+
+        return (Math.min(cr, 255) << 24) | (Math.min(cg, 255) << 16) | (Math.min(cb, 255) << 8) | Math.min(ca, 255);
+    }
+
+    // Blend source color over destination, same factors and equations used by rlSetBlendMode()
+    // NOTE: RL_BLEND_CUSTOM is not supported, blended as RL_BLEND_ALPHA
+    private static int rlBlendPixel(int src, int dst, int mode){
+        int result = 0;
+        int sa = src & 0xff;
+
+        for (int shift = 24; shift >= 0; shift -= 8){
+            int s = (src >>> shift) & 0xff;
+            int d = (dst >>> shift) & 0xff;
+            int value;
+
+            switch (mode){
+                case rlBlendMode.RL_BLEND_ADDITIVE: value = (s*sa + 127)/255 + d; break;
+                case rlBlendMode.RL_BLEND_MULTIPLIED: value = (s*d + d*(255 - sa) + 127)/255; break;
+                case rlBlendMode.RL_BLEND_ADD_COLORS: value = s + d; break;
+                case rlBlendMode.RL_BLEND_SUBTRACT_COLORS: value = s - d; break;
+                case rlBlendMode.RL_BLEND_ALPHA_PREMULTIPLY: value = s + (d*(255 - sa) + 127)/255; break;
+                default: value = (s*sa + d*(255 - sa) + 127)/255; break;
+            }
+
+            result |= Math.max(0, Math.min(value, 255)) << shift;
+        }
+
+        return result;
+    }
+}
@@ -1,23 +1,27 @@
 package com.raylib.java.rlgl;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 public class rlVertexBuffer{
 
     int elementCount;          // Number of elements in the buffer (QUADS)
-    float[] vertices;            // Vertex position (XYZ - 3 components per vertex) (shader-location = 0)
-    float[] texcoords;           // Vertex texture coordinates (UV - 2 components per vertex) (shader-location = 1)
-    byte[] colors;              // Vertex colors (RGBA - 4 components per vertex) (shader-location = 3)
+    FloatBuffer vertices;      // Vertex position (XYZ - 3 components per vertex) (shader-location = 0)
+    FloatBuffer texcoords;     // Vertex texture coordinates (UV - 2 components per vertex) (shader-location = 1)
+    ByteBuffer colors;         // Vertex colors (RGBA - 4 components per vertex) (shader-location = 3)
+    ByteBuffer interleaved;    // Interleaved vertex data (XYZ-UV-RGBA, RL_BATCH_VERTEX_SIZE bytes per vertex), replaces the above
+    ByteBuffer texslots;       // Vertex texture slots (1 unsigned char per vertex) (shader-location = 6), multi-texture batch only
     int[] indices_GL11;      // Vertex indices (in case vertex data comes indexed) (6 indices per quad)
     short[] indices_ES20;    // Vertex indices (in case vertex data comes indexed) (6 indices per quad)
     int vaoId;         // OpenGL Vertex Array Object id
-    int[] vboId;      // OpenGL Vertex Buffer Objects id (4 types of vertex data)
+    int[] vboId;      // OpenGL Vertex Buffer Objects id (5 types of vertex data)
 
+    // NOTE: vertices, texcoords, colors (or interleaved) live off-heap for the whole life of the batch,
+    // they are allocated by rlLoadRenderBatch() and released by UnloadRenderBatch()
     public rlVertexBuffer() {
-        vertices = new float[3];
-        texcoords = new float[2];
-        colors = new byte[64];
         indices_GL11 = new int[6];
         indices_ES20 = new short[6];
-        vboId = new int[4];
+        vboId = new int[5];
     }
 
     public int getElementCount() {
@@ -28,30 +32,46 @@ public class rlVertexBuffer{
         this.elementCount = elementCount;
     }
 
-    public float[] getVertices(){
+    public FloatBuffer getVertices(){
         return vertices;
     }
 
-    public void setVertices(float[] vertices){
+    public void setVertices(FloatBuffer vertices){
         this.vertices = vertices;
     }
 
-    public float[] getTexcoords(){
+    public FloatBuffer getTexcoords(){
         return texcoords;
     }
 
-    public void setTexcoords(float[] texcoords){
+    public void setTexcoords(FloatBuffer texcoords){
         this.texcoords = texcoords;
     }
 
-    public byte[] getColors(){
+    public ByteBuffer getColors(){
         return colors;
     }
 
-    public void setColors(byte[] colors){
+    public void setColors(ByteBuffer colors){
         this.colors = colors;
     }
 
+    public ByteBuffer getInterleaved(){
+        return interleaved;
+    }
+
+    public void setInterleaved(ByteBuffer interleaved){
+        this.interleaved = interleaved;
+    }
+
+    public ByteBuffer getTexslots(){
+        return texslots;
+    }
+
+    public void setTexslots(ByteBuffer texslots){
+        this.texslots = texslots;
+    }
+
     public int[] getIndices_GL11(){
         return indices_GL11;
     }
@@ -11,6 +11,9 @@ public class Font{
     public Texture2D texture;      // Characters texture atlas
     public Rectangle[] recs;        // Characters rectangles in texture
     public GlyphInfo[] glyphs;        // Characters info data
+    public GlyphIndex glyphIndex;     // Codepoint to glyph index table (built on font loading), set to null if glyphs are changed in place
+    public KerningTable kerning;      // Glyphs pairs kerning (TTF/OTF fonts), null if not available
+    public FontAtlas atlas;           // Dynamic font glyphs atlas (LoadFontDynamic()), null for static fonts
 
     public Font(){
         baseSize = 0;
@@ -68,4 +71,24 @@ public class Font{
     public void setGlyphs(GlyphInfo[] glyphs){
         this.glyphs = glyphs;
     }
+
+    public GlyphIndex getGlyphIndex(){
+        return glyphIndex;
+    }
+
+    public void setGlyphIndex(GlyphIndex glyphIndex){
+        this.glyphIndex = glyphIndex;
+    }
+
+    public KerningTable getKerning(){
+        return kerning;
+    }
+
+    public void setKerning(KerningTable kerning){
+        this.kerning = kerning;
+    }
+
+    public FontAtlas getAtlas(){
+        return atlas;
+    }
 }
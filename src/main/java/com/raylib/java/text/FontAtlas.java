@@ -0,0 +1,344 @@
+package com.raylib.java.text;
+
+import com.raylib.java.shapes.Rectangle;
+import com.raylib.java.textures.Image;
+import com.raylib.java.textures.RectPacker;
+import com.raylib.java.textures.Texture2D;
+import org.lwjgl.stb.STBTTFontinfo;
+import org.lwjgl.stb.STBTruetype;
+import org.lwjgl.system.MemoryUtil;
+
+import java.awt.image.DataBufferByte;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static com.raylib.java.rlgl.RLGL.*;
+import static com.raylib.java.rlgl.RLGL.rlPixelFormat.RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA;
+import static com.raylib.java.utils.Tracelog.Tracelog;
+import static com.raylib.java.utils.Tracelog.TracelogType.LOG_INFO;
+import static com.raylib.java.utils.Tracelog.TracelogType.LOG_WARNING;
+
+// Dynamic font glyphs atlas, glyphs are rasterized (stb_truetype) the first time they are required
+// NOTE: Glyphs are packed into atlas pages (GRAY_ALPHA textures) using skyline packing (RectPacker), pages are added
+// up to maxPages, then least recently used page is cleared and its glyphs are rasterized again on demand.
+// Pages pixel data is kept in RAM, only modified rectangles are uploaded to GPU on Update()
+// NOTE: Glyphs images (font.glyphs[i].image) are not kept, glyph pixels are only stored in atlas pages,
+// LoadGlyphImage() can be used to get a glyph image (i.e. ImageTextEx())
+public class FontAtlas{
+
+    private static final int GLYPH_NOTFOUND_CHAR_FALLBACK = 63;     // Character used if codepoint is not in font: '?'
+
+    // Atlas page
+    private static class Page{
+        Texture2D texture;          // Page texture (GPU)
+        byte[] pixels;              // Page pixel data (RAM), GRAY_ALPHA
+        RectPacker packer;          // Glyphs rectangles packer
+        long lastUsed;              // Last glyph use tick, used to select page to evict
+        int dirtyX0, dirtyY0, dirtyX1, dirtyY1;     // Rectangle modified since last update (empty if x0 >= x1)
+    }
+
+    private final GlyphRasterizer rasterizer;   // Glyphs rasterizer (stb_truetype)
+    private final ByteBuffer fontBuffer;    // Font file data (native memory), required by rasterizer font info
+    private final int padding;              // Padding around glyphs in atlas pages
+
+    private final int pageWidth;            // Atlas pages width
+    private final int pageHeight;           // Atlas pages height
+    private final int maxPages;             // Maximum number of atlas pages
+    private Page[] pages;                   // Atlas pages
+    private int pageCount;                  // Atlas pages counter
+
+    private GlyphIndex index;               // Codepoint to glyph index table, rasterized glyphs only
+    private int[] glyphPages;               // Glyph page index, -1 for free glyph slots
+    private int[] freeSlots;                // Free glyph slots (evicted glyphs)
+    private int freeCount;                  // Free glyph slots counter
+    private long useTick;                   // Glyphs use counter
+    private int generation;                 // Evictions counter, glyphs rectangles are not valid after an eviction
+    private ByteBuffer bitmap;              // Glyph bitmap rasterization buffer (native memory)
+    private byte[] upload = new byte[0];    // Pages modified rectangles upload buffer, grown as required
+
+    Runnable evictCallback;                 // Called before a page is evicted, pending draws should be submitted
+
+    FontAtlas(STBTTFontinfo fontInfo, ByteBuffer fontBuffer, int fontSize, int type, int padding,
+              int pageWidth, int pageHeight, int maxPages){
+        this.rasterizer = new GlyphRasterizer(fontInfo, fontSize, type);
+        this.fontBuffer = fontBuffer;
+        this.padding = padding;
+        this.pageWidth = pageWidth;
+        this.pageHeight = pageHeight;
+        this.maxPages = Math.max(1, maxPages);
+
+        pages = new Page[this.maxPages];
+        index = new GlyphIndex();
+        glyphPages = new int[256];
+        freeSlots = new int[16];
+        bitmap = MemoryUtil.memAlloc(fontSize*fontSize);
+
+        LoadPage();
+    }
+
+    // Load font atlas from TTF/OTF font file data, returns null if font data is not valid
+    static FontAtlas LoadFontAtlas(byte[] fileData, int fontSize, int type, int padding, int pageWidth, int pageHeight,
+                                   int maxPages){
+        // NOTE: Atlas pages are GRAY_ALPHA, multi-channel glyphs are not supported
+        if (type == rText.FontType.FONT_MSDF){
+            Tracelog(LOG_WARNING, "FONT: MSDF not supported by dynamic font atlas, using SDF");
+            type = rText.FontType.FONT_SDF;
+        }
+
+        ByteBuffer fontBuffer = MemoryUtil.memAlloc(fileData.length);
+        fontBuffer.put(fileData).flip();
+
+        STBTTFontinfo fontInfo = STBTTFontinfo.create();
+
+        if (!STBTruetype.stbtt_InitFont(fontInfo, fontBuffer)){
+            Tracelog(LOG_WARNING, "FONT: Failed to process TTF font data");
+            MemoryUtil.memFree(fontBuffer);
+            return null;
+        }
+
+        return new FontAtlas(fontInfo, fontBuffer, fontSize, type, padding, pageWidth, pageHeight, maxPages);
+    }
+
+    // Get glyph index for a codepoint, glyph is rasterized and packed if not available
+    // NOTE: If codepoint is not in the font, '?' glyph index is returned
+    int GetGlyph(Font font, int codepoint){
+        int i = index.getIndex(codepoint);
+
+        if (i < 0){
+            if ((codepoint != GLYPH_NOTFOUND_CHAR_FALLBACK) && (STBTruetype.stbtt_FindGlyphIndex(rasterizer.fontInfo, codepoint) == 0)){
+                i = GetGlyph(font, GLYPH_NOTFOUND_CHAR_FALLBACK);
+                index.put(codepoint, i);
+                return i;
+            }
+
+            i = LoadGlyph(font, codepoint);
+        }
+
+        pages[glyphPages[i]].lastUsed = ++useTick;
+
+        return i;
+    }
+
+    // Get texture of atlas page containing a glyph
+    Texture2D GetGlyphTexture(int glyph){
+        return pages[glyphPages[glyph]].texture;
+    }
+
+    // Upload atlas pages modified rectangles to GPU
+    public void Update(){
+        for (int p = 0; p < pageCount; p++){
+            Page page = pages[p];
+
+            if (page.dirtyX0 < page.dirtyX1){
+                int width = page.dirtyX1 - page.dirtyX0;
+                int height = page.dirtyY1 - page.dirtyY0;
+
+                if (upload.length < width*height*2) upload = new byte[width*height*2];
+
+                for (int y = 0; y < height; y++){
+                    System.arraycopy(page.pixels, ((page.dirtyY0 + y)*pageWidth + page.dirtyX0)*2, upload, y*width*2, width*2);
+                }
+
+                rlUpdateTexture(page.texture.id, page.dirtyX0, page.dirtyY0, width, height, RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA, upload);
+
+                page.dirtyX0 = page.dirtyY0 = page.dirtyX1 = page.dirtyY1 = 0;
+            }
+        }
+    }
+
+    // Unload atlas pages textures and font data
+    public void Unload(){
+        for (int p = 0; p < pageCount; p++){
+            rlUnloadTexture(pages[p].texture.id);
+            pages[p] = null;
+        }
+
+        pageCount = 0;
+        MemoryUtil.memFree(bitmap);
+        MemoryUtil.memFree(fontBuffer);
+    }
+
+    public int getPageCount(){
+        return pageCount;
+    }
+
+    public Texture2D getPageTexture(int page){
+        return pages[page].texture;
+    }
+
+    public int getGeneration(){
+        return generation;
+    }
+
+    public int getMaxPages(){
+        return maxPages;
+    }
+
+    // Load glyph image (GRAY_ALPHA) from its atlas page pixels, image must be unloaded by caller
+    public Image LoadGlyphImage(Font font, int glyph){
+        Rectangle rec = font.recs[glyph];
+        int width = (int) rec.width;
+        int height = (int) rec.height;
+        byte[] data = new byte[width*height*2];
+
+        if (glyphPages[glyph] >= 0){
+            byte[] pixels = pages[glyphPages[glyph]].pixels;
+
+            for (int y = 0; y < height; y++){
+                System.arraycopy(pixels, (((int) rec.y + y)*pageWidth + (int) rec.x)*2, data, y*width*2, width*2);
+            }
+        }
+
+        return new Image(data, width, height, RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA, 1);
+    }
+
+    // Rasterize glyph and pack it into an atlas page, returns glyph index
+    private int LoadGlyph(Font font, int codepoint){
+        GlyphInfo loaded = new GlyphInfo();
+        bitmap = rasterizer.LoadGlyph(codepoint, loaded, bitmap);
+
+        int width = loaded.image.width;
+        int height = loaded.image.height;
+        byte[] coverage = loaded.image.getData();
+
+        // Allocate glyph rectangle (including padding) in a page
+        int p = -1;
+        int[] position = new int[2];
+
+        if ((width + 2*padding > pageWidth) || (height + 2*padding > pageHeight)){
+            Tracelog(LOG_WARNING, "FONT: Glyph (" + codepoint + ") is bigger than font atlas page, not packed");
+            width = height = 0;
+            coverage = new byte[0];
+        }
+
+        // NOTE: Empty glyphs (i.e. space) are not packed, they are assigned to last page
+        if (width*height == 0){
+            width = height = 0;
+            p = pageCount - 1;
+        }
+
+        for (int i = pageCount - 1; (i >= 0) && (p < 0); i--){
+            if (pages[i].packer.PackRec(width + 2*padding, height + 2*padding, position)) p = i;
+        }
+
+        if (p < 0){
+            p = (pageCount < maxPages)? LoadPage() : EvictPage(font);
+            pages[p].packer.PackRec(width + 2*padding, height + 2*padding, position);
+        }
+
+        // Copy glyph pixels into page
+        Page page = pages[p];
+        int recX = position[0] + padding;
+        int recY = position[1] + padding;
+
+        for (int y = 0; y < height; y++){
+            for (int x = 0, k = ((recY + y)*pageWidth + recX)*2; x < width; x++, k += 2){
+                page.pixels[k + 1] = coverage[y*width + x];
+            }
+        }
+
+        if (width*height > 0) MarkDirty(page, recX, recY, width, height);
+
+        // Fill glyph info in a free font glyph slot
+        int slot = (freeCount > 0)? freeSlots[--freeCount] : AddSlot(font);
+
+        if (slot >= glyphPages.length) glyphPages = Arrays.copyOf(glyphPages, glyphPages.length*2);
+        glyphPages[slot] = p;
+
+        // NOTE: Glyph image is not kept, pixels are only stored in atlas page (see LoadGlyphImage())
+        GlyphInfo glyph = font.glyphs[slot];
+        glyph.value = codepoint;
+        glyph.offsetX = loaded.offsetX;
+        glyph.offsetY = loaded.offsetY;
+        glyph.advanceX = loaded.advanceX;
+
+        font.recs[slot] = new Rectangle((float) recX, (float) recY, (float) width, (float) height);
+
+        index.put(codepoint, slot);
+
+        return slot;
+    }
+
+    // Add a glyph slot at font glyphs end, font arrays grow as required
+    private int AddSlot(Font font){
+        if (font.glyphCount == font.glyphs.length){
+            int capacity = Math.max(16, font.glyphs.length*2);
+            font.glyphs = Arrays.copyOf(font.glyphs, capacity);
+            font.recs = Arrays.copyOf(font.recs, capacity);
+        }
+
+        font.glyphs[font.glyphCount] = new GlyphInfo();
+        font.recs[font.glyphCount] = new Rectangle();
+
+        return font.glyphCount++;
+    }
+
+    // Load a new empty atlas page, returns page index
+    private int LoadPage(){
+        Page page = new Page();
+
+        page.pixels = new byte[pageWidth*pageHeight*2];
+        for (int i = 0; i < page.pixels.length; i += 2) page.pixels[i] = (byte) 255;
+
+        page.packer = new RectPacker(pageWidth, pageHeight, RectPacker.PackMethod.PACK_SKYLINE);
+
+        int id = rlLoadTexture(new DataBufferByte(page.pixels, page.pixels.length), pageWidth, pageHeight,
+                               RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA, 1);
+        page.texture = new Texture2D(id, pageWidth, pageHeight, 1, RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA);
+
+        pages[pageCount] = page;
+
+        Tracelog(LOG_INFO, "FONT: Font atlas page " + pageCount + " loaded (" + pageWidth + "x" + pageHeight + ")");
+
+        return pageCount++;
+    }
+
+    // Clear least recently used page, its glyphs are removed from atlas, returns page index
+    private int EvictPage(Font font){
+        int p = 0;
+        for (int i = 1; i < pageCount; i++){
+            if (pages[i].lastUsed < pages[p].lastUsed) p = i;
+        }
+
+        if (evictCallback != null) evictCallback.run();
+
+        Page page = pages[p];
+        for (int i = 0; i < page.pixels.length; i += 2) page.pixels[i + 1] = 0;
+        page.packer.Reset();
+        MarkDirty(page, 0, 0, pageWidth, pageHeight);
+
+        // Free page glyph slots and rebuild codepoints table with remaining glyphs
+        index = new GlyphIndex();
+
+        for (int slot = 0; slot < font.glyphCount; slot++){
+            if (glyphPages[slot] == p){
+                glyphPages[slot] = -1;
+                font.glyphs[slot].value = -1;
+
+                if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeCount*2);
+                freeSlots[freeCount++] = slot;
+            }
+            else if (glyphPages[slot] >= 0) index.put(font.glyphs[slot].value, slot);
+        }
+
+        generation++;
+
+        return p;
+    }
+
+    // Add rectangle to page modified rectangle
+    private void MarkDirty(Page page, int x, int y, int width, int height){
+        if (page.dirtyX0 >= page.dirtyX1){
+            page.dirtyX0 = x;
+            page.dirtyY0 = y;
+            page.dirtyX1 = x + width;
+            page.dirtyY1 = y + height;
+        }
+        else{
+            page.dirtyX0 = Math.min(page.dirtyX0, x);
+            page.dirtyY0 = Math.min(page.dirtyY0, y);
+            page.dirtyX1 = Math.max(page.dirtyX1, x + width);
+            page.dirtyY1 = Math.max(page.dirtyY1, y + height);
+        }
+    }
+}
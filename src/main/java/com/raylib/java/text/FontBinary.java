@@ -0,0 +1,156 @@
+package com.raylib.java.text;
+
+import com.raylib.java.shapes.Rectangle;
+import com.raylib.java.textures.Image;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static com.raylib.java.rlgl.RLGL.rlGetPixelDataSize;
+
+// Font binary data (pre-baked font), used by ExportFontBinary()/LoadFontBinary() and font cache files
+// NOTE: Data is read directly from a memory mapped buffer, glyphs metrics are read in place and atlas
+// pixels are returned as a buffer slice, ready to be uploaded to GPU with no copies.
+// Data format (little endian):
+//   Header:  magic "RFNB", version, baseSize, glyphCount, glyphPadding, type, atlas width, height, format,
+//            atlas data size, codepoint index count, kerning pairs count
+//   Glyphs:  value, offsetX, offsetY, advanceX (int), rec x, y, width, height (float), by glyph
+//   Index:   codepoint, glyph index (int), sorted by codepoint, first glyph by codepoint
+//   Kerning: left glyph index, right glyph index (int), kerning (float), by kerning pair
+//   Atlas:   atlas pixel data
+final class FontBinary{
+
+    private static final int BINARY_MAGIC = 0x424e4652;     // "RFNB"
+    private static final int BINARY_VERSION = 2;            // NOTE: Increase when format changes
+    private static final int HEADER_SIZE = 4*12;
+    private static final int GLYPH_SIZE = 4*8;
+    private static final int INDEX_SIZE = 4*2;
+    private static final int KERNING_SIZE = 4*3;
+
+    // Get font binary data size in bytes
+    // NOTE: Atlas data size is atlas pixel data size (width, height, format), atlas data is not read
+    static int GetFontBinarySize(Font font, Image atlas){
+        int kerningCount = (font.kerning != null)? font.kerning.getCount() : 0;
+
+        return HEADER_SIZE + font.glyphCount*(GLYPH_SIZE + INDEX_SIZE) + kerningCount*KERNING_SIZE +
+                rlGetPixelDataSize(atlas.width, atlas.height, atlas.format);
+    }
+
+    // Write font binary data (glyphs metrics, codepoint index, kerning pairs and atlas image) to buffer
+    // NOTE: Atlas pixel data is written directly from atlas image native buffer (no copy)
+    static void WriteFontBinary(ByteBuffer buffer, Font font, Image atlas, int type){
+        int dataSize = rlGetPixelDataSize(atlas.width, atlas.height, atlas.format);
+        long[] index = LoadCodepointIndex(font);
+        int kerningCount = (font.kerning != null)? font.kerning.getCount() : 0;
+
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(BINARY_MAGIC).putInt(BINARY_VERSION);
+        buffer.putInt(font.baseSize).putInt(font.glyphCount).putInt(font.glyphPadding).putInt(type);
+        buffer.putInt(atlas.width).putInt(atlas.height).putInt(atlas.format).putInt(dataSize).putInt(index.length);
+        buffer.putInt(kerningCount);
+
+        for (int i = 0; i < font.glyphCount; i++){
+            GlyphInfo glyph = font.glyphs[i];
+            buffer.putInt(glyph.value).putInt(glyph.offsetX).putInt(glyph.offsetY).putInt(glyph.advanceX);
+            buffer.putFloat(font.recs[i].x).putFloat(font.recs[i].y).putFloat(font.recs[i].width).putFloat(font.recs[i].height);
+        }
+
+        for (long entry : index) buffer.putInt((int) (entry >> 32)).putInt((int) entry);
+
+        // NOTE: Index is padded to glyphs count, so data size only depends on glyphs count
+        for (int i = index.length; i < font.glyphCount; i++) buffer.putInt(0).putInt(-1);
+
+        if (kerningCount > 0){
+            KerningTable kerning = font.kerning;
+
+            for (int slot = 0; slot < kerning.keys.length; slot++){
+                if (kerning.isUsed(slot)){
+                    buffer.putInt((int) (kerning.keys[slot] >> 32)).putInt((int) kerning.keys[slot]).putFloat(kerning.values[slot]);
+                }
+            }
+        }
+
+        buffer.put(atlas.getBuffer().slice(0, dataSize));
+    }
+
+    // Read font binary data from buffer, returns null if data is not valid
+    // NOTE: Atlas size must be valid and atlas data size must be at least atlas pixel data size (width, height, format)
+    // Font texture is not loaded, texture size and format are set and buffer is left limited to atlas pixel data.
+    // Glyphs images are not loaded (empty images), font is meant to be drawn from texture
+    static Font ReadFontBinary(ByteBuffer buffer){
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if ((buffer.remaining() < HEADER_SIZE) || (buffer.getInt() != BINARY_MAGIC) || (buffer.getInt() != BINARY_VERSION)) return null;
+
+        Font font = new Font();
+        font.baseSize = buffer.getInt();
+        font.glyphCount = buffer.getInt();
+        font.glyphPadding = buffer.getInt();
+        buffer.getInt();    // Font type, only informative
+
+        int width = buffer.getInt(), height = buffer.getInt(), format = buffer.getInt(), dataSize = buffer.getInt();
+        int indexCount = buffer.getInt(), kerningCount = buffer.getInt();
+
+        if ((font.glyphCount < 0) || (indexCount < 0) || (indexCount > font.glyphCount) || (kerningCount < 0) || (dataSize < 0) ||
+            (buffer.remaining() != (long) font.glyphCount*(GLYPH_SIZE + INDEX_SIZE) + (long) kerningCount*KERNING_SIZE + dataSize)) return null;
+
+        // NOTE: Size checked before computing pixel data size (no int overflow), unknown formats data size is 0
+        if ((width <= 0) || (height <= 0) || ((long) width*height > Integer.MAX_VALUE/16) ||
+            (rlGetPixelDataSize(width, height, format) == 0) || (dataSize < rlGetPixelDataSize(width, height, format))) return null;
+
+        font.glyphs = new GlyphInfo[font.glyphCount];
+        font.recs = new Rectangle[font.glyphCount];
+
+        for (int i = 0; i < font.glyphCount; i++){
+            GlyphInfo glyph = new GlyphInfo();
+            glyph.value = buffer.getInt();
+            glyph.offsetX = buffer.getInt();
+            glyph.offsetY = buffer.getInt();
+            glyph.advanceX = buffer.getInt();
+            glyph.image = new Image();
+            font.glyphs[i] = glyph;
+            font.recs[i] = new Rectangle(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+        }
+
+        ByteBuffer index = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        index.limit(indexCount*INDEX_SIZE);
+        font.glyphIndex = new GlyphIndex(font.glyphs, font.glyphCount, index.asIntBuffer());
+
+        buffer.position(buffer.position() + font.glyphCount*INDEX_SIZE);
+
+        if (kerningCount > 0){
+            font.kerning = new KerningTable();
+
+            for (int i = 0; i < kerningCount; i++){
+                int left = buffer.getInt(), right = buffer.getInt();
+                float kerning = buffer.getFloat();
+
+                if ((left >= 0) && (left < font.glyphCount) && (right >= 0) && (right < font.glyphCount)) font.kerning.put(left, right, kerning);
+            }
+        }
+
+        font.texture.width = width;
+        font.texture.height = height;
+        font.texture.format = format;
+
+        return font;
+    }
+
+    // Load sorted codepoint index: codepoint (high bits), glyph index (low bits)
+    private static long[] LoadCodepointIndex(Font font){
+        long[] index = new long[font.glyphCount];
+
+        for (int i = 0; i < font.glyphCount; i++) index[i] = ((long) font.glyphs[i].value << 32) | i;
+
+        // NOTE: Sorted by codepoint and then glyph index, only first glyph by codepoint is kept (same as GetGlyphIndex())
+        Arrays.sort(index);
+
+        int count = 0;
+        for (int i = 0; i < index.length; i++){
+            if ((count == 0) || ((index[count - 1] >> 32) != (index[i] >> 32))) index[count++] = index[i];
+        }
+
+        return Arrays.copyOf(index, count);
+    }
+}
@@ -0,0 +1,188 @@
+package com.raylib.java.text;
+
+import com.raylib.java.textures.Image;
+
+import com.raylib.java.shapes.Rectangle;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import static com.raylib.java.Config.FONT_CACHE_DIRECTORY;
+import static com.raylib.java.utils.Tracelog.Tracelog;
+import static com.raylib.java.utils.Tracelog.TracelogType.LOG_INFO;
+import static com.raylib.java.utils.Tracelog.TracelogType.LOG_WARNING;
+
+// Generated fonts binary cache (atlas image and glyphs metrics), used by LoadFontFromMemoryEx()
+// NOTE: Cache files are named by a hash (SHA-256) of font file data and generation parameters, so a font is only
+// generated (rasterized, SDF/MSDF computed, packed) the first time, next loads just map the cache file.
+// Cache files are written to FONT_CACHE_DIRECTORY or, if not set, to the user cache directory (owner access only)
+// File format (little endian):
+//   Header: magic "RFNC", version, key (SHA-256, 32 bytes)
+//   Font:   font binary data (FontBinary)
+final class FontCache{
+
+    private static final int CACHE_MAGIC = 0x434e4652;      // "RFNC"
+    private static final int CACHE_VERSION = 4;             // NOTE: Increase when format or generation changes
+    private static final int KEY_SIZE = 32;
+    private static final int HEADER_SIZE = 4*2 + KEY_SIZE;
+
+    // Get cache key (SHA-256) for font data and generation parameters
+    static byte[] GetCacheKey(byte[] fileData, int fontSize, int[] fontChars, int charsCount, int type, int padding){
+        MessageDigest digest;
+
+        try{
+            digest = MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException exception){
+            throw new IllegalStateException("SHA-256 not available", exception);
+        }
+
+        ByteBuffer params = ByteBuffer.allocate(4*(7 + ((fontChars != null)? charsCount : 0)));
+        params.putInt(CACHE_VERSION).putInt(fileData.length).putInt(fontSize).putInt(charsCount).putInt(type).putInt(padding);
+        params.putInt((fontChars != null)? 1 : 0);
+        if (fontChars != null) for (int i = 0; i < charsCount; i++) params.putInt(fontChars[i]);
+
+        digest.update(params.array(), 0, params.position());
+        digest.update(fileData);
+
+        return digest.digest();
+    }
+
+    // Get cache files directory: FONT_CACHE_DIRECTORY or user cache directory
+    // NOTE: User cache directory: %LOCALAPPDATA% (Windows), ~/Library/Caches (macOS), $XDG_CACHE_HOME or ~/.cache
+    static File GetCacheDirectory(){
+        if (FONT_CACHE_DIRECTORY != null) return new File(FONT_CACHE_DIRECTORY);
+
+        String os = System.getProperty("os.name", "").toLowerCase();
+        String home = System.getProperty("user.home");
+        String base;
+
+        if (os.startsWith("windows") && (System.getenv("LOCALAPPDATA") != null)) base = System.getenv("LOCALAPPDATA");
+        else if (os.startsWith("mac")) base = home + File.separator + "Library" + File.separator + "Caches";
+        else if (System.getenv("XDG_CACHE_HOME") != null) base = System.getenv("XDG_CACHE_HOME");
+        else base = home + File.separator + ".cache";
+
+        return new File(base, "raylib-java" + File.separator + "fonts");
+    }
+
+    static File GetCacheFile(byte[] key){
+        StringBuilder name = new StringBuilder(2*KEY_SIZE + 4);
+        for (byte b : key) name.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+
+        return new File(GetCacheDirectory(), name.append(".rfc").toString());
+    }
+
+    // Load font from cache file (memory mapped), returns null if not cached or not valid
+    // NOTE: Font texture is not loaded, atlas image is returned by parameter, atlas image data is the mapped file
+    // data (not copied, not owned). Font glyphs count must be charsCount and glyphs rectangles inside atlas
+    static Font LoadFontCache(byte[] key, int charsCount, Image[] atlas){
+        File file = GetCacheFile(key);
+        if (!file.isFile()) return null;
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+            if ((channel.size() < HEADER_SIZE) || (channel.size() > Integer.MAX_VALUE)){
+                Tracelog(LOG_WARNING, "FONT: [" + file.getName() + "] Font cache file size not valid, font generated again");
+                return null;
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            byte[] fileKey = new byte[KEY_SIZE];
+            int magic = buffer.getInt(), version = buffer.getInt();
+            buffer.get(fileKey);
+
+            if ((magic != CACHE_MAGIC) || (version != CACHE_VERSION) || !Arrays.equals(fileKey, key)){
+                Tracelog(LOG_WARNING, "FONT: [" + file.getName() + "] Font cache file not valid, font generated again");
+                return null;
+            }
+
+            Font font = FontBinary.ReadFontBinary(buffer);
+
+            if ((font == null) || (font.glyphCount != charsCount) || !IsFontAtlasValid(font)){
+                Tracelog(LOG_WARNING, "FONT: [" + file.getName() + "] Font cache file data not valid, font generated again");
+                return null;
+            }
+
+            atlas[0] = new Image(buffer, font.texture.width, font.texture.height, font.texture.format, 1);
+
+            Tracelog(LOG_INFO, "FONT: [" + file.getName() + "] Font loaded from cache");
+
+            return font;
+        }
+        catch (IOException exception){
+            Tracelog(LOG_WARNING, "FONT: [" + file.getName() + "] Failed to read font cache file");
+            return null;
+        }
+    }
+
+    // Check font atlas size and glyphs rectangles (inside atlas)
+    private static boolean IsFontAtlasValid(Font font){
+        int width = font.texture.width, height = font.texture.height;
+
+        if ((width <= 0) || (height <= 0)) return false;
+
+        for (int i = 0; i < font.glyphCount; i++){
+            Rectangle rec = font.recs[i];
+
+            if (!((rec.x >= 0) && (rec.y >= 0) && (rec.width >= 0) && (rec.height >= 0) &&
+                  (rec.x + rec.width <= width) && (rec.y + rec.height <= height))) return false;
+        }
+
+        return true;
+    }
+
+    // Save font (glyphs metrics and atlas image) to cache file
+    // NOTE: File is written to a temporary file and then moved, a partially written cache file is never read
+    static void SaveFontCache(byte[] key, Font font, Image atlas, int type){
+        File file = GetCacheFile(key);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + FontBinary.GetFontBinarySize(font, atlas)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(CACHE_MAGIC).putInt(CACHE_VERSION).put(key);
+        FontBinary.WriteFontBinary(buffer, font, atlas, type);
+        buffer.flip();
+
+        Path temp = null;
+
+        try{
+            Path directory = file.getAbsoluteFile().getParentFile().toPath();
+
+            // NOTE: Cache directory is only accessible by its owner (POSIX file systems)
+            if (!Files.isDirectory(directory) && FileSystems.getDefault().supportedFileAttributeViews().contains("posix")){
+                Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            }
+            else Files.createDirectories(directory);
+
+            temp = Files.createTempFile(directory, file.getName(), ".tmp");
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)){
+                while (buffer.hasRemaining()) channel.write(buffer);
+            }
+
+            Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            Tracelog(LOG_INFO, "FONT: [" + file.getName() + "] Font cache file saved");
+        }
+        catch (IOException exception){
+            Tracelog(LOG_WARNING, "FONT: [" + file.getName() + "] Failed to save font cache file");
+
+            try{
+                if (temp != null) Files.deleteIfExists(temp);
+            }
+            catch (IOException ignored){
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.raylib.java.text;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+// Font codepoint to glyph index table, O(1) lookup
+// NOTE: Codepoints in ASCII/Latin-1 range (0..255) use a direct array, other codepoints use an open
+// addressing hash map (linear probing) stored in primitive int arrays, no boxing.
+// Table can also be filled incrementally with put() (dynamic fonts), hash map grows as required
+// WARNING: Table is a snapshot of glyphs codepoints when built, isValid() only detects a different glyphs array
+// or glyphs count. If glyphs are changed in place (glyphs[i] replaced or glyphs[i].value changed), table must be
+// rebuilt (font.glyphIndex = null), GetGlyphIndex() also rebuilds it when a found glyph codepoint does not match
+public class GlyphIndex{
+
+    private static final int DIRECT_SIZE = 256;     // Codepoints indexed directly
+    private static final int EMPTY = -1;            // Empty hash slot / glyph not found
+
+    final GlyphInfo[] glyphs;       // Indexed glyphs array, used to check if table is outdated
+    final int glyphCount;           // Indexed glyphs count, used to check if table is outdated
+
+    private final int[] direct;     // Glyph index by codepoint, direct range
+    private int[] keys;             // Hash slots codepoints
+    private int[] values;           // Hash slots glyph index
+    private int shift;              // Hash shift (32 - log2(slots))
+    private int hashCount;          // Hash slots used
+
+    public GlyphIndex(GlyphInfo[] glyphs, int glyphCount){
+        this(glyphs, glyphCount, glyphCount);
+
+        for (int i = 0; i < glyphCount; i++){
+            if (glyphs[i] != null) put(glyphs[i].value, i);
+        }
+    }
+
+    // Table filled from codepoint/glyph index pairs (font binary files codepoint index)
+    GlyphIndex(GlyphInfo[] glyphs, int glyphCount, IntBuffer index){
+        this(glyphs, glyphCount, index.remaining()/2);
+
+        while (index.remaining() >= 2) put(index.get(), index.get());
+    }
+
+    // Empty table with hash slots for expected codepoints count
+    private GlyphIndex(GlyphInfo[] glyphs, int glyphCount, int capacity){
+        this.glyphs = glyphs;
+        this.glyphCount = glyphCount;
+
+        direct = new int[DIRECT_SIZE];
+        Arrays.fill(direct, EMPTY);
+
+        // Hash slots: power of two, load factor <= 0.5
+        int bits = 4;
+        while ((1 << bits) < capacity*2) bits++;
+        allocate(bits);
+    }
+
+    // Empty table, to be filled with put()
+    GlyphIndex(){
+        this(null, 0);
+    }
+
+    // Add codepoint glyph index to table
+    // NOTE: Same as a linear search, first glyph added for a codepoint is kept
+    void put(int codepoint, int index){
+        if ((codepoint >= 0) && (codepoint < DIRECT_SIZE)){
+            if (direct[codepoint] == EMPTY) direct[codepoint] = index;
+            return;
+        }
+
+        if ((hashCount + 1)*2 > keys.length) grow();
+
+        int mask = keys.length - 1;
+        int slot = hash(codepoint);
+
+        while ((keys[slot] != EMPTY) && (keys[slot] != codepoint)) slot = (slot + 1) & mask;
+
+        if (keys[slot] == EMPTY){
+            keys[slot] = codepoint;
+            values[slot] = index;
+            hashCount++;
+        }
+    }
+
+    // Get glyph index for a codepoint, -1 if not found
+    public int getIndex(int codepoint){
+        if ((codepoint >= 0) && (codepoint < DIRECT_SIZE)) return direct[codepoint];
+
+        int mask = keys.length - 1;
+        int slot = hash(codepoint);
+
+        while (keys[slot] != EMPTY){
+            if (keys[slot] == codepoint) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+
+        return EMPTY;
+    }
+
+    // Check if table was built for provided glyphs array and count
+    // NOTE: Glyphs changed in place are not detected, see class notes
+    public boolean isValid(GlyphInfo[] glyphs, int glyphCount){
+        return (this.glyphs == glyphs) && (this.glyphCount == glyphCount);
+    }
+
+    // Allocate empty hash slots (2^bits)
+    private void allocate(int bits){
+        shift = 32 - bits;
+        keys = new int[1 << bits];
+        values = new int[1 << bits];
+        hashCount = 0;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    // Double hash slots, used slots are inserted again
+    private void grow(){
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+
+        allocate(32 - shift + 1);
+
+        for (int i = 0; i < oldKeys.length; i++){
+            if (oldKeys[i] != EMPTY) put(oldKeys[i], oldValues[i]);
+        }
+    }
+
+    // Fibonacci hashing, top bits of codepoint*golden ratio
+    private int hash(int codepoint){
+        return (codepoint*0x9E3779B9) >>> shift;
+    }
+}
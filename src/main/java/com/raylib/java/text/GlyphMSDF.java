@@ -0,0 +1,624 @@
+package com.raylib.java.text;
+
+import org.lwjgl.stb.STBTTFontinfo;
+import org.lwjgl.stb.STBTTVertex;
+import org.lwjgl.stb.STBTruetype;
+
+import java.util.ArrayList;
+
+// Multi-channel signed distance field (MSDF) glyph generator
+// NOTE: Based on Viktor Chlumsky msdfgen "simple" method: glyph contour edges are colored (corners switch
+// color), every channel stores the pseudo-distance to the nearest edge of that channel, so median(r, g, b)
+// keeps sharp corners when texture is magnified. Legacy error correction is applied to clashing texels.
+// Shape coordinates are font units (y up), distances are stored as (distance/pixelRange + 0.5)*255, inside positive
+final class GlyphMSDF{
+
+    private static final int RED = 1, GREEN = 2, BLUE = 4;
+    private static final int YELLOW = RED | GREEN, MAGENTA = RED | BLUE, CYAN = GREEN | BLUE, WHITE = 7;
+
+    private static final double CORNER_ANGLE_THRESHOLD = 3.0;   // Edges direction change (radians) considered a corner
+    private static final double ERROR_CORRECTION_THRESHOLD = 1.001;     // Texels clash threshold (by pixel range)
+    private static final int CUBIC_SEARCH_STARTS = 4;           // Cubic curves nearest point search starts
+    private static final int CUBIC_SEARCH_STEPS = 4;            // Cubic curves nearest point search Newton steps
+
+    // Contour edge: line (1), quadratic (2) or cubic (3) bezier curve
+    private static class Edge{
+        int degree;             // Edge degree, control points: degree + 1
+        double[] p;             // Control points: x0, y0, x1, y1...
+        int color;              // Edge color (channels)
+        double minX, minY, maxX, maxY;     // Control points bounds, edge is inside
+
+        Edge(int degree, double... p){
+            this.degree = degree;
+            this.p = p;
+            this.color = WHITE;
+
+            minX = maxX = p[0];
+            minY = maxY = p[1];
+            for (int i = 2; i < p.length; i += 2){
+                minX = Math.min(minX, p[i]);
+                maxX = Math.max(maxX, p[i]);
+                minY = Math.min(minY, p[i + 1]);
+                maxY = Math.max(maxY, p[i + 1]);
+            }
+        }
+    }
+
+    private final ArrayList<ArrayList<Edge>> contours = new ArrayList<>();
+    private double startX, startY;     // Current contour start point
+    private double lastX, lastY;       // Current contour last point
+
+    // Distance query results: signed distance, orthogonality and nearest point parameter
+    private double distance, dot, param;
+    private final double[] roots = new double[3];
+
+    //----------------------------------------------------------------------------------
+    // Shape definition
+    //----------------------------------------------------------------------------------
+    void MoveTo(double x, double y){
+        ClosePath();
+        contours.add(new ArrayList<>());
+        startX = lastX = x;
+        startY = lastY = y;
+    }
+
+    // Close current contour with a line to its start point, if required
+    void ClosePath(){
+        if (!contours.isEmpty()) LineTo(startX, startY);
+    }
+
+    void LineTo(double x, double y){
+        if ((x != lastX) || (y != lastY)) contours.get(contours.size() - 1).add(new Edge(1, lastX, lastY, x, y));
+        lastX = x;
+        lastY = y;
+    }
+
+    void QuadTo(double cx, double cy, double x, double y){
+        if (((cx == lastX) && (cy == lastY)) || ((cx == x) && (cy == y))) LineTo(x, y);
+        else{
+            contours.get(contours.size() - 1).add(new Edge(2, lastX, lastY, cx, cy, x, y));
+            lastX = x;
+            lastY = y;
+        }
+    }
+
+    void CubicTo(double cx0, double cy0, double cx1, double cy1, double x, double y){
+        contours.get(contours.size() - 1).add(new Edge(3, lastX, lastY, cx0, cy0, cx1, cy1, x, y));
+        lastX = x;
+        lastY = y;
+    }
+
+    // Load codepoint shape from font (stb_truetype), returns null if glyph has no contours
+    static GlyphMSDF LoadCodepointShape(STBTTFontinfo fontInfo, int codepoint){
+        STBTTVertex.Buffer vertices = STBTruetype.stbtt_GetCodepointShape(fontInfo, codepoint);
+        if (vertices == null) return null;
+
+        GlyphMSDF shape = new GlyphMSDF();
+
+        for (int i = 0; i < vertices.remaining(); i++){
+            STBTTVertex v = vertices.get(i);
+
+            switch (v.type()){
+                case STBTruetype.STBTT_vmove: shape.MoveTo(v.x(), v.y()); break;
+                case STBTruetype.STBTT_vline: shape.LineTo(v.x(), v.y()); break;
+                case STBTruetype.STBTT_vcurve: shape.QuadTo(v.cx(), v.cy(), v.x(), v.y()); break;
+                case STBTruetype.STBTT_vcubic: shape.CubicTo(v.cx(), v.cy(), v.cx1(), v.cy1(), v.x(), v.y()); break;
+                default: break;
+            }
+        }
+
+        STBTruetype.stbtt_FreeShape(fontInfo, vertices);
+        shape.ClosePath();
+
+        return shape.contours.isEmpty()? null : shape;
+    }
+
+    //----------------------------------------------------------------------------------
+    // MSDF generation
+    //----------------------------------------------------------------------------------
+    // Generate MSDF bitmap (R8G8B8), texel (x, y) center is shape point ((offsetX + x + 0.5)/scale, -(offsetY + y + 0.5)/scale)
+    byte[] Generate(int width, int height, int offsetX, int offsetY, double scale, double pixelRange){
+        ColorEdges();
+
+        // NOTE: Contours orientation is not the same for all fonts (TrueType outer contours are clockwise),
+        // shape area sign defines distance sign so inside is always positive
+        double orientation = (GetShapeArea() <= 0)? 1.0 : -1.0;
+        float[] field = new float[width*height*3];
+
+        Edge[] edges = contours.stream().flatMap(ArrayList::stream).toArray(Edge[]::new);
+        Edge[] nearest = new Edge[3];
+        double[] nearestDistance = new double[3], nearestDot = new double[3], nearestParam = new double[3];
+
+        for (int y = 0; y < height; y++){
+            double py = -(offsetY + y + 0.5)/scale;
+
+            for (int x = 0; x < width; x++){
+                double px = (offsetX + x + 0.5)/scale;
+
+                for (int c = 0; c < 3; c++){
+                    nearest[c] = null;
+                    nearestDistance[c] = Double.MAX_VALUE;
+                }
+
+                // Nearest edge by channel, on same distance, edge more orthogonal to distance direction
+                // NOTE: Edges farther (bounds) than current nearest edges of all their channels are skipped
+                for (Edge edge : edges){
+                    double bound = Math.hypot(Math.max(0, Math.max(edge.minX - px, px - edge.maxX)),
+                                              Math.max(0, Math.max(edge.minY - py, py - edge.maxY)));
+                    boolean skip = true;
+
+                    for (int c = 0; c < 3; c++){
+                        if (((edge.color & (1 << c)) != 0) && (bound <= Math.abs(nearestDistance[c]))) skip = false;
+                    }
+
+                    if (skip) continue;
+
+                    SignedDistance(edge, px, py);
+
+                    for (int c = 0; c < 3; c++){
+                        if (((edge.color & (1 << c)) != 0) && IsCloser(distance, dot, nearestDistance[c], nearestDot[c])){
+                            nearest[c] = edge;
+                            nearestDistance[c] = distance;
+                            nearestDot[c] = dot;
+                            nearestParam[c] = param;
+                        }
+                    }
+                }
+
+                for (int c = 0; c < 3; c++){
+                    if (nearest[c] == null) field[(y*width + x)*3 + c] = 0.0f;
+                    else{
+                        double d = PseudoDistance(nearest[c], px, py, nearestDistance[c], nearestParam[c]);
+                        field[(y*width + x)*3 + c] = (float) (orientation*d*scale/pixelRange + 0.5);
+                    }
+                }
+            }
+        }
+
+        CorrectErrors(field, width, height, ERROR_CORRECTION_THRESHOLD/pixelRange);
+
+        byte[] data = new byte[width*height*3];
+        for (int i = 0; i < data.length; i++){
+            data[i] = (byte) Math.round(Math.max(0.0f, Math.min(1.0f, field[i]))*255.0f);
+        }
+
+        return data;
+    }
+
+    private static boolean IsCloser(double distance, double dot, double bestDistance, double bestDot){
+        double a = Math.abs(distance), b = Math.abs(bestDistance);
+        return (a < b) || ((a == b) && (dot < bestDot));
+    }
+
+    // Assign edges colors, corners switch color so every corner is defined by two channels
+    // NOTE: Same as msdfgen edgeColoringSimple() (seed 0), contours with a single corner and less than 3 edges
+    // are not split, their edges get different colors
+    private void ColorEdges(){
+        double crossThreshold = Math.sin(CORNER_ANGLE_THRESHOLD);
+        int[] seed = { 0 };
+
+        for (ArrayList<Edge> contour : contours){
+            int m = contour.size();
+            if (m == 0) continue;
+
+            ArrayList<Integer> corners = new ArrayList<>();
+            double[] prev = Direction(contour.get(m - 1), 1.0);
+
+            for (int i = 0; i < m; i++){
+                double[] next = Direction(contour.get(i), 0.0);
+                if (IsCorner(prev, next, crossThreshold)) corners.add(i);
+                prev = Direction(contour.get(i), 1.0);
+            }
+
+            if (corners.isEmpty()){
+                for (Edge edge : contour) edge.color = WHITE;
+            }
+            else if (corners.size() == 1){
+                // Teardrop: edges colored by thirds
+                int[] colors = new int[3];
+                colors[0] = SwitchColor(WHITE, seed, 0);
+                colors[1] = WHITE;
+                colors[2] = SwitchColor(colors[0], seed, 0);
+
+                int corner = corners.get(0);
+
+                if (m >= 3){
+                    for (int i = 0; i < m; i++){
+                        int third = (int) (3 + 2.875*i/(m - 1) - 1.4375 + 0.5) - 3;
+                        contour.get((corner + i)%m).color = colors[1 + third];
+                    }
+                }
+                else{
+                    for (int i = 0; i < m; i++) contour.get((corner + i)%m).color = colors[2*i];
+                }
+            }
+            else{
+                int cornerCount = corners.size();
+                int spline = 0;
+                int start = corners.get(0);
+                int color = SwitchColor(WHITE, seed, 0);
+                int initialColor = color;
+
+                for (int i = 0; i < m; i++){
+                    int index = (start + i)%m;
+
+                    if ((spline + 1 < cornerCount) && (corners.get(spline + 1) == index)){
+                        spline++;
+                        color = SwitchColor(color, seed, (spline == cornerCount - 1)? initialColor : 0);
+                    }
+
+                    contour.get(index).color = color;
+                }
+            }
+        }
+    }
+
+    private static boolean IsCorner(double[] a, double[] b, double crossThreshold){
+        double la = Math.hypot(a[0], a[1]), lb = Math.hypot(b[0], b[1]);
+        if ((la == 0) || (lb == 0)) return false;
+
+        double dot = (a[0]*b[0] + a[1]*b[1])/(la*lb);
+        double cross = (a[0]*b[1] - a[1]*b[0])/(la*lb);
+
+        return (dot <= 0) || (Math.abs(cross) > crossThreshold);
+    }
+
+    // Switch edge color, banned color is avoided (last contour spline must differ from first one)
+    private static int SwitchColor(int color, int[] seed, int banned){
+        int combined = color & banned;
+
+        if ((combined == RED) || (combined == GREEN) || (combined == BLUE)) return combined ^ WHITE;
+
+        if ((color == 0) || (color == WHITE)){
+            int[] start = { CYAN, MAGENTA, YELLOW };
+            int result = start[seed[0]%3];
+            seed[0] /= 3;
+            return result;
+        }
+
+        int shifted = color << (1 + (seed[0] & 1));
+        seed[0] >>= 1;
+
+        return (shifted | (shifted >> 3)) & WHITE;
+    }
+
+    // Get shape signed area (control polygons), used to detect contours orientation
+    private double GetShapeArea(){
+        double area = 0;
+
+        for (ArrayList<Edge> contour : contours){
+            for (Edge edge : contour){
+                double[] p = edge.p;
+                for (int i = 0; i < edge.degree; i++){
+                    area += p[2*i]*p[2*i + 3] - p[2*i + 2]*p[2*i + 1];
+                }
+            }
+        }
+
+        return area*0.5;
+    }
+
+    //----------------------------------------------------------------------------------
+    // Edges geometry
+    //----------------------------------------------------------------------------------
+    private static double[] Point(Edge edge, double t){
+        double[] p = edge.p;
+
+        switch (edge.degree){
+            case 1: return new double[]{ p[0] + (p[2] - p[0])*t, p[1] + (p[3] - p[1])*t };
+            case 2:{
+                double u = 1 - t;
+                return new double[]{ u*u*p[0] + 2*u*t*p[2] + t*t*p[4], u*u*p[1] + 2*u*t*p[3] + t*t*p[5] };
+            }
+            default:{
+                double u = 1 - t;
+                return new double[]{ u*u*u*p[0] + 3*u*u*t*p[2] + 3*u*t*t*p[4] + t*t*t*p[6],
+                                     u*u*u*p[1] + 3*u*u*t*p[3] + 3*u*t*t*p[5] + t*t*t*p[7] };
+            }
+        }
+    }
+
+    // Edge direction (not normalized) at parameter t
+    private static double[] Direction(Edge edge, double t){
+        double[] p = edge.p;
+
+        switch (edge.degree){
+            case 1: return new double[]{ p[2] - p[0], p[3] - p[1] };
+            case 2:{
+                double dx = (p[2] - p[0])*(1 - t) + (p[4] - p[2])*t;
+                double dy = (p[3] - p[1])*(1 - t) + (p[5] - p[3])*t;
+                if ((dx == 0) && (dy == 0)) return new double[]{ p[4] - p[0], p[5] - p[1] };
+                return new double[]{ dx, dy };
+            }
+            default:{
+                double u = 1 - t;
+                double dx = u*u*(p[2] - p[0]) + 2*u*t*(p[4] - p[2]) + t*t*(p[6] - p[4]);
+                double dy = u*u*(p[3] - p[1]) + 2*u*t*(p[5] - p[3]) + t*t*(p[7] - p[5]);
+                if ((dx == 0) && (dy == 0)){
+                    if (t == 0) return new double[]{ p[4] - p[0], p[5] - p[1] };
+                    if (t == 1) return new double[]{ p[6] - p[2], p[7] - p[3] };
+                }
+                return new double[]{ dx, dy };
+            }
+        }
+    }
+
+    // Signed distance from point to edge, results: distance, dot (orthogonality, lower is better), param
+    private void SignedDistance(Edge edge, double x, double y){
+        double[] p = edge.p;
+
+        if (edge.degree == 1){
+            double aqx = x - p[0], aqy = y - p[1];
+            double abx = p[2] - p[0], aby = p[3] - p[1];
+            double ab2 = abx*abx + aby*aby;
+
+            param = (aqx*abx + aqy*aby)/ab2;
+
+            double eqx = ((param > 0.5)? p[2] : p[0]) - x;
+            double eqy = ((param > 0.5)? p[3] : p[1]) - y;
+            double endpointDistance = Math.hypot(eqx, eqy);
+
+            if ((param > 0) && (param < 1)){
+                double orthoDistance = (aqx*aby - aqy*abx)/Math.sqrt(ab2);
+
+                if (Math.abs(orthoDistance) < endpointDistance){
+                    distance = orthoDistance;
+                    dot = 0;
+                    return;
+                }
+            }
+
+            distance = NonZeroSign(aqx*aby - aqy*abx)*endpointDistance;
+            dot = Math.abs(NormalizedDot(abx, aby, eqx, eqy));
+        }
+        else if (edge.degree == 2) QuadraticDistance(p, x, y);
+        else CubicDistance(edge, x, y);
+    }
+
+    private void QuadraticDistance(double[] p, double x, double y){
+        double qax = p[0] - x, qay = p[1] - y;
+        double abx = p[2] - p[0], aby = p[3] - p[1];
+        double brx = p[4] - p[2] - abx, bry = p[5] - p[3] - aby;
+
+        double a = brx*brx + bry*bry;
+        double b = 3*(abx*brx + aby*bry);
+        double c = 2*(abx*abx + aby*aby) + (qax*brx + qay*bry);
+        double d = qax*abx + qay*aby;
+        double[] t = roots;
+        int solutions = SolveCubic(t, a, b, c, d);
+
+        // Start and end points
+        double minDistance = NonZeroSign(abx*qay - aby*qax)*Math.hypot(qax, qay);
+        param = -(qax*abx + qay*aby)/(abx*abx + aby*aby);
+
+        double ecx = p[4] - p[2], ecy = p[5] - p[3];
+        double eqx = p[4] - x, eqy = p[5] - y;
+        double endDistance = Math.hypot(eqx, eqy);
+
+        if (endDistance < Math.abs(minDistance)){
+            minDistance = NonZeroSign(ecx*eqy - ecy*eqx)*endDistance;
+            param = ((x - p[2])*ecx + (y - p[3])*ecy)/(ecx*ecx + ecy*ecy);
+        }
+
+        for (int i = 0; i < solutions; i++){
+            if ((t[i] > 0) && (t[i] < 1)){
+                double qex = qax + 2*t[i]*abx + t[i]*t[i]*brx;
+                double qey = qay + 2*t[i]*aby + t[i]*t[i]*bry;
+                double dist = Math.hypot(qex, qey);
+
+                if (dist <= Math.abs(minDistance)){
+                    double dx = abx + t[i]*brx, dy = aby + t[i]*bry;
+                    minDistance = NonZeroSign(dx*qey - dy*qex)*dist;
+                    param = t[i];
+                }
+            }
+        }
+
+        distance = minDistance;
+
+        if ((param >= 0) && (param <= 1)) dot = 0;
+        else if (param < 0.5) dot = Math.abs(NormalizedDot(abx, aby, qax, qay));
+        else dot = Math.abs(NormalizedDot(ecx, ecy, eqx, eqy));
+    }
+
+    private void CubicDistance(Edge edge, double x, double y){
+        double[] p = edge.p;
+        double qax = p[0] - x, qay = p[1] - y;
+        double abx = p[2] - p[0], aby = p[3] - p[1];
+        double brx = p[4] - p[2] - abx, bry = p[5] - p[3] - aby;
+        double asx = (p[6] - p[4]) - (p[4] - p[2]) - brx, asy = (p[7] - p[5]) - (p[5] - p[3]) - bry;
+
+        // Start and end points
+        double[] dir = Direction(edge, 0);
+        double minDistance = NonZeroSign(dir[0]*qay - dir[1]*qax)*Math.hypot(qax, qay);
+        param = -(qax*dir[0] + qay*dir[1])/(dir[0]*dir[0] + dir[1]*dir[1]);
+
+        double[] endDir = Direction(edge, 1);
+        double eqx = p[6] - x, eqy = p[7] - y;
+        double endDistance = Math.hypot(eqx, eqy);
+
+        if (endDistance < Math.abs(minDistance)){
+            minDistance = NonZeroSign(endDir[0]*eqy - endDir[1]*eqx)*endDistance;
+            param = ((endDir[0] - eqx)*endDir[0] + (endDir[1] - eqy)*endDir[1])/(endDir[0]*endDir[0] + endDir[1]*endDir[1]);
+        }
+
+        // Iterative nearest point search (Newton)
+        for (int i = 0; i <= CUBIC_SEARCH_STARTS; i++){
+            double t = (double) i/CUBIC_SEARCH_STARTS;
+            double qex = qax + 3*t*abx + 3*t*t*brx + t*t*t*asx;
+            double qey = qay + 3*t*aby + 3*t*t*bry + t*t*t*asy;
+
+            for (int step = 0; ; step++){
+                double d1x = 3*asx*t*t + 6*brx*t + 3*abx, d1y = 3*asy*t*t + 6*bry*t + 3*aby;
+                double dist = Math.hypot(qex, qey);
+
+                if (dist < Math.abs(minDistance)){
+                    minDistance = NonZeroSign(d1x*qey - d1y*qex)*dist;
+                    param = t;
+                }
+
+                if (step == CUBIC_SEARCH_STEPS) break;
+
+                double d2x = 6*asx*t + 6*brx, d2y = 6*asy*t + 6*bry;
+                t -= (qex*d1x + qey*d1y)/(d1x*d1x + d1y*d1y + qex*d2x + qey*d2y);
+
+                if ((t <= 0) || (t >= 1)) break;
+
+                qex = qax + 3*t*abx + 3*t*t*brx + t*t*t*asx;
+                qey = qay + 3*t*aby + 3*t*t*bry + t*t*t*asy;
+            }
+        }
+
+        distance = minDistance;
+
+        if ((param >= 0) && (param <= 1)) dot = 0;
+        else if (param < 0.5) dot = Math.abs(NormalizedDot(dir[0], dir[1], qax, qay));
+        else dot = Math.abs(NormalizedDot(endDir[0], endDir[1], eqx, eqy));
+    }
+
+    // Convert distance to pseudo-distance: beyond edge ends, distance to edge extension line
+    private static double PseudoDistance(Edge edge, double x, double y, double distance, double param){
+        if ((param < 0) || (param > 1)){
+            double t = (param < 0)? 0 : 1;
+            double[] dir = Direction(edge, t);
+            double[] point = Point(edge, t);
+            double length = Math.hypot(dir[0], dir[1]);
+
+            if (length > 0){
+                double dx = dir[0]/length, dy = dir[1]/length;
+                double qx = x - point[0], qy = y - point[1];
+                double ts = qx*dx + qy*dy;
+
+                if ((param < 0)? (ts < 0) : (ts > 0)){
+                    double pseudoDistance = qx*dy - qy*dx;
+                    if (Math.abs(pseudoDistance) <= Math.abs(distance)) return pseudoDistance;
+                }
+            }
+        }
+
+        return distance;
+    }
+
+    // Legacy msdfgen error correction: texels whose channels clash with a neighbour are set to channels median
+    private static void CorrectErrors(float[] field, int width, int height, double threshold){
+        boolean[] clash = new boolean[width*height];
+
+        for (int y = 0; y < height; y++){
+            for (int x = 0; x < width; x++){
+                int i = y*width + x;
+
+                clash[i] = ((x > 0) && DetectClash(field, i, i - 1, threshold)) ||
+                           ((x < width - 1) && DetectClash(field, i, i + 1, threshold)) ||
+                           ((y > 0) && DetectClash(field, i, i - width, threshold)) ||
+                           ((y < height - 1) && DetectClash(field, i, i + width, threshold));
+            }
+        }
+
+        for (int i = 0; i < width*height; i++){
+            if (clash[i]){
+                float r = field[3*i], g = field[3*i + 1], b = field[3*i + 2];
+                float median = Math.max(Math.min(r, g), Math.min(Math.max(r, g), b));
+                field[3*i] = field[3*i + 1] = field[3*i + 2] = median;
+            }
+        }
+    }
+
+    private static boolean DetectClash(float[] field, int ia, int ib, double threshold){
+        // Sort channels so pairs (a0, b0), (a1, b1), (a2, b2) go from biggest to smallest absolute difference
+        float a0 = field[3*ia], a1 = field[3*ia + 1], a2 = field[3*ia + 2];
+        float b0 = field[3*ib], b1 = field[3*ib + 1], b2 = field[3*ib + 2];
+        float tmp;
+
+        if (Math.abs(b0 - a0) < Math.abs(b1 - a1)){
+            tmp = a0; a0 = a1; a1 = tmp;
+            tmp = b0; b0 = b1; b1 = tmp;
+        }
+        if (Math.abs(b1 - a1) < Math.abs(b2 - a2)){
+            tmp = a1; a1 = a2; a2 = tmp;
+            tmp = b1; b1 = b2; b2 = tmp;
+
+            if (Math.abs(b0 - a0) < Math.abs(b1 - a1)){
+                tmp = a0; a0 = a1; a1 = tmp;
+                tmp = b0; b0 = b1; b1 = tmp;
+            }
+        }
+
+        // NOTE: Other texel already equalized is ignored, only texel farther from edge is flagged
+        return (Math.abs(b1 - a1) >= threshold) && !((b0 == b1) && (b0 == b2)) && (Math.abs(a2 - 0.5f) >= Math.abs(b2 - 0.5f));
+    }
+
+    private static double NonZeroSign(double value){
+        return (value > 0)? 1.0 : -1.0;
+    }
+
+    private static double NormalizedDot(double ax, double ay, double bx, double by){
+        double la = Math.hypot(ax, ay), lb = Math.hypot(bx, by);
+        return ((la == 0) || (lb == 0))? 0 : (ax*bx + ay*by)/(la*lb);
+    }
+
+    // Solve a*x^3 + b*x^2 + c*x + d = 0, returns number of real solutions
+    private static int SolveCubic(double[] x, double a, double b, double c, double d){
+        if (a != 0){
+            double bn = b/a;
+            if (Math.abs(bn) < 1e6) return SolveCubicNormed(x, bn, c/a, d/a);
+        }
+
+        return SolveQuadratic(x, b, c, d);
+    }
+
+    private static int SolveQuadratic(double[] x, double a, double b, double c){
+        if ((a == 0) || (Math.abs(b) > 1e12*Math.abs(a))){
+            if (b == 0) return 0;
+            x[0] = -c/b;
+            return 1;
+        }
+
+        double dscr = b*b - 4*a*c;
+
+        if (dscr > 0){
+            dscr = Math.sqrt(dscr);
+            x[0] = (-b + dscr)/(2*a);
+            x[1] = (-b - dscr)/(2*a);
+            return 2;
+        }
+        else if (dscr == 0){
+            x[0] = -b/(2*a);
+            return 1;
+        }
+
+        return 0;
+    }
+
+    private static int SolveCubicNormed(double[] x, double a, double b, double c){
+        double a2 = a*a;
+        double q = (a2 - 3*b)/9;
+        double r = (a*(2*a2 - 9*b) + 27*c)/54;
+        double r2 = r*r;
+        double q3 = q*q*q;
+
+        a /= 3;
+
+        if (r2 < q3){
+            double t = r/Math.sqrt(q3);
+            t = Math.max(-1, Math.min(1, t));
+            t = Math.acos(t);
+            q = -2*Math.sqrt(q);
+            x[0] = q*Math.cos(t/3) - a;
+            x[1] = q*Math.cos((t + 2*Math.PI)/3) - a;
+            x[2] = q*Math.cos((t - 2*Math.PI)/3) - a;
+            return 3;
+        }
+
+        double u = ((r < 0)? 1 : -1)*Math.pow(Math.abs(r) + Math.sqrt(r2 - q3), 1/3.0);
+        double v = (u == 0)? 0 : q/u;
+
+        x[0] = (u + v) - a;
+
+        if ((u == v) || (Math.abs(u - v) < 1e-12*Math.abs(u + v))){
+            x[1] = -0.5*(u + v) - a;
+            return 2;
+        }
+
+        return 1;
+    }
+}
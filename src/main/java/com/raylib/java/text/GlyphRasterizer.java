@@ -0,0 +1,242 @@
+package com.raylib.java.text;
+
+import com.raylib.java.textures.Image;
+import org.lwjgl.stb.STBTTFontinfo;
+import org.lwjgl.stb.STBTTKerningentry;
+import org.lwjgl.stb.STBTruetype;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static com.raylib.java.Config.FONT_KERNING_MAX_PAIR_GLYPHS;
+import static com.raylib.java.rlgl.RLGL.rlPixelFormat.RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE;
+import static com.raylib.java.rlgl.RLGL.rlPixelFormat.RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8;
+import static com.raylib.java.text.rText.FontType.FONT_BITMAP;
+import static com.raylib.java.text.rText.FontType.FONT_MSDF;
+import static com.raylib.java.text.rText.FontType.FONT_SDF;
+
+// Font glyphs rasterizer (stb_truetype), used by LoadFontData() and dynamic font atlas
+// NOTE: Font info is only read by stb_truetype rasterization functions, so glyphs can be rasterized from
+// several threads at once, every thread using its own bitmap buffer
+final class GlyphRasterizer{
+
+    // NOTE: Using some SDF generation default values,
+    // trades off precision with ability to handle *smaller* sizes
+    static final int FONT_SDF_CHAR_PADDING = 4;             // SDF font generation char padding
+    static final byte FONT_SDF_ON_EDGE_VALUE = (byte) 128;  // SDF font generation on edge value
+    static final float FONT_SDF_PIXEL_DIST_SCALE = 64.0f;   // SDF font generation pixel distance scale
+    static final int FONT_BITMAP_ALPHA_THRESHOLD = 80;      // Bitmap (B&W) font generation alpha threshold
+    static final int FONT_MSDF_CHAR_PADDING = 4;            // MSDF font generation char padding
+    static final float FONT_MSDF_PIXEL_RANGE = 4.0f;        // MSDF font generation distance range (pixels)
+
+    private static final int GLYPHS_BATCH_SIZE = 32;        // Glyphs rasterized by a parallel task
+
+    final STBTTFontinfo fontInfo;   // Font info (stb_truetype)
+    final int fontSize;             // Font size used for rasterization
+    final int type;                 // Font type (FontType), defines generation method
+    final float scaleFactor;        // Font scale factor for fontSize
+    final int ascent;               // Font ascent (scaled), glyphs baseline
+
+    GlyphRasterizer(STBTTFontinfo fontInfo, int fontSize, int type){
+        this.fontInfo = fontInfo;
+        this.fontSize = fontSize;
+        this.type = type;
+
+        int[] asc = new int[1], desc = new int[1], lineGap = new int[1];
+
+        // NOTE: ascent is equivalent to font baseline
+        scaleFactor = STBTruetype.stbtt_ScaleForPixelHeight(fontInfo, (float) fontSize);
+        STBTruetype.stbtt_GetFontVMetrics(fontInfo, asc, desc, lineGap);
+        ascent = (int) ((float) asc[0]*scaleFactor);
+    }
+
+    // Rasterize a glyph into glyph info, image format is GRAYSCALE (R8G8B8 for FONT_MSDF)
+    // NOTE: Bitmap buffer is reallocated if too small, buffer to use for next glyphs is returned
+    ByteBuffer LoadGlyph(int codepoint, GlyphInfo glyph, ByteBuffer bitmap){
+        int[] x0 = new int[1], y0 = new int[1], x1 = new int[1], y1 = new int[1];
+        int width = 0, height = 0;
+        byte[] data = new byte[0];
+
+        glyph.value = codepoint;
+        glyph.offsetX = 0;
+        glyph.offsetY = 0;
+
+        if (type == FONT_MSDF){
+            GlyphMSDF shape = (codepoint != 32)? GlyphMSDF.LoadCodepointShape(fontInfo, codepoint) : null;
+
+            if (shape != null){
+                STBTruetype.stbtt_GetCodepointBitmapBox(fontInfo, codepoint, scaleFactor, scaleFactor, x0, y0, x1, y1);
+                glyph.offsetX = x0[0] - FONT_MSDF_CHAR_PADDING;
+                glyph.offsetY = y0[0] - FONT_MSDF_CHAR_PADDING;
+                width = x1[0] - x0[0] + 2*FONT_MSDF_CHAR_PADDING;
+                height = y1[0] - y0[0] + 2*FONT_MSDF_CHAR_PADDING;
+                data = shape.Generate(width, height, glyph.offsetX, glyph.offsetY, scaleFactor, FONT_MSDF_PIXEL_RANGE);
+            }
+        }
+        else if (type != FONT_SDF){
+            STBTruetype.stbtt_GetCodepointBitmapBox(fontInfo, codepoint, scaleFactor, scaleFactor, x0, y0, x1, y1);
+            width = x1[0] - x0[0];
+            height = y1[0] - y0[0];
+
+            if (width*height > 0){
+                if ((bitmap == null) || (bitmap.capacity() < width*height)){
+                    if (bitmap != null) MemoryUtil.memFree(bitmap);
+                    bitmap = MemoryUtil.memAlloc(Math.max(width*height, fontSize*fontSize));
+                }
+
+                data = new byte[width*height];
+                STBTruetype.stbtt_MakeCodepointBitmap(fontInfo, bitmap, width, height, width, scaleFactor, scaleFactor, codepoint);
+                bitmap.get(0, data);
+
+                if (type == FONT_BITMAP){
+                    // Aliased bitmap (black & white) font generation, avoiding anti-aliasing
+                    // NOTE: For optimum results, bitmap font should be generated at base pixel size
+                    for (int p = 0; p < data.length; p++){
+                        data[p] = ((data[p] & 0xff) < FONT_BITMAP_ALPHA_THRESHOLD)? 0 : (byte) 255;
+                    }
+                }
+            }
+            else width = height = 0;
+
+            glyph.offsetX = x0[0];
+            glyph.offsetY = y0[0];
+        }
+        else if (codepoint != 32){
+            // NOTE: Bitmap size and offsets are returned in x0, y0 (width, height) and x1, y1 (offsetX, offsetY)
+            ByteBuffer sdf = STBTruetype.stbtt_GetCodepointSDF(fontInfo, scaleFactor, codepoint, FONT_SDF_CHAR_PADDING,
+                    FONT_SDF_ON_EDGE_VALUE, FONT_SDF_PIXEL_DIST_SCALE, x0, y0, x1, y1);
+
+            if (sdf != null){
+                width = x0[0];
+                height = y0[0];
+                data = new byte[width*height];
+                sdf.get(0, data);
+                STBTruetype.stbtt_FreeSDF(sdf);
+            }
+
+            glyph.offsetX = x1[0];
+            glyph.offsetY = y1[0];
+        }
+
+        int[] advanceX = new int[1];
+        STBTruetype.stbtt_GetCodepointHMetrics(fontInfo, codepoint, advanceX, null);
+
+        glyph.advanceX = (int) ((float) advanceX[0]*scaleFactor);
+        glyph.offsetY += ascent;
+        glyph.image = new Image(data, width, height, GetGlyphFormat(type), 1);
+
+        return bitmap;
+    }
+
+    // Load kerning pairs for loaded glyphs, kerning is scaled to font size
+    // NOTE: Pairs are read from font kern table, fonts with no kern table (GPOS kerning only) are queried by
+    // glyphs pairs, only for up to FONT_KERNING_MAX_PAIR_GLYPHS glyphs
+    KerningTable LoadKerning(int[] codepoints, int count){
+        KerningTable kerning = new KerningTable();
+
+        // Font glyph ids to loaded glyphs index, first glyph by codepoint (same as GetGlyphIndex())
+        int[] glyphIds = new int[count];
+        int maxGlyphId = 0;
+
+        for (int i = 0; i < count; i++){
+            glyphIds[i] = STBTruetype.stbtt_FindGlyphIndex(fontInfo, codepoints[i]);
+            maxGlyphId = Math.max(maxGlyphId, glyphIds[i]);
+        }
+
+        int[] indices = new int[maxGlyphId + 1];
+        Arrays.fill(indices, -1);
+
+        for (int i = count - 1; i >= 0; i--){
+            if (glyphIds[i] != 0) indices[glyphIds[i]] = i;
+        }
+
+        int tableLength = STBTruetype.stbtt_GetKerningTableLength(fontInfo);
+
+        if (tableLength > 0){
+            STBTTKerningentry.Buffer table = STBTTKerningentry.malloc(tableLength);
+            tableLength = STBTruetype.stbtt_GetKerningTable(fontInfo, table);
+
+            for (int i = 0; i < tableLength; i++){
+                STBTTKerningentry entry = table.get(i);
+                int left = entry.glyph1(), right = entry.glyph2();
+
+                if ((entry.advance() != 0) && (left <= maxGlyphId) && (right <= maxGlyphId) &&
+                    (indices[left] != -1) && (indices[right] != -1)){
+                    kerning.put(indices[left], indices[right], (float) entry.advance()*scaleFactor);
+                }
+            }
+
+            table.free();
+        }
+        else if (count <= FONT_KERNING_MAX_PAIR_GLYPHS){
+            for (int left = 0; left < count; left++){
+                if ((glyphIds[left] == 0) || (indices[glyphIds[left]] != left)) continue;
+
+                for (int right = 0; right < count; right++){
+                    if ((glyphIds[right] == 0) || (indices[glyphIds[right]] != right)) continue;
+
+                    int advance = STBTruetype.stbtt_GetGlyphKernAdvance(fontInfo, glyphIds[left], glyphIds[right]);
+                    if (advance != 0) kerning.put(left, right, (float) advance*scaleFactor);
+                }
+            }
+        }
+
+        return kerning;
+    }
+
+    // Get glyphs image format for font type
+    static int GetGlyphFormat(int type){
+        return (type == FONT_MSDF)? RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8 : RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE;
+    }
+
+    // Rasterize glyphs [start, end), one bitmap buffer is used for all glyphs
+    // NOTE: Bitmap buffer is freed even if rasterization fails (i.e. task exception on parallel loading)
+    void LoadGlyphs(int[] codepoints, GlyphInfo[] glyphs, int start, int end){
+        ByteBuffer bitmap = null;
+
+        try{
+            for (int i = start; i < end; i++) bitmap = LoadGlyph(codepoints[i], glyphs[i], bitmap);
+        }
+        finally{
+            if (bitmap != null) MemoryUtil.memFree(bitmap);
+        }
+    }
+
+    // Rasterize glyphs using ForkJoin common pool
+    // NOTE: Every glyph is written to its own index, result is the same than LoadGlyphs() whatever tasks order
+    void LoadGlyphsParallel(int[] codepoints, GlyphInfo[] glyphs, int count){
+        ForkJoinPool.commonPool().invoke(new LoadGlyphsTask(this, codepoints, glyphs, 0, count));
+    }
+
+    // Glyphs rasterization task, glyphs range is split until GLYPHS_BATCH_SIZE
+    private static class LoadGlyphsTask extends RecursiveAction{
+
+        private static final long serialVersionUID = 1L;
+
+        private final GlyphRasterizer rasterizer;
+        private final int[] codepoints;
+        private final GlyphInfo[] glyphs;
+        private final int start, end;
+
+        LoadGlyphsTask(GlyphRasterizer rasterizer, int[] codepoints, GlyphInfo[] glyphs, int start, int end){
+            this.rasterizer = rasterizer;
+            this.codepoints = codepoints;
+            this.glyphs = glyphs;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute(){
+            if (end - start <= GLYPHS_BATCH_SIZE) rasterizer.LoadGlyphs(codepoints, glyphs, start, end);
+            else{
+                int middle = (start + end) >>> 1;
+                invokeAll(new LoadGlyphsTask(rasterizer, codepoints, glyphs, start, middle),
+                          new LoadGlyphsTask(rasterizer, codepoints, glyphs, middle, end));
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.raylib.java.text;
+
+import java.util.Arrays;
+
+// Font kerning pairs table, glyphs pair (font glyph indices) to kerning advance, O(1) lookup
+// NOTE: Pairs are extracted from font data on font loading (stb_truetype kern/GPOS tables), drawing text only
+// requires a lookup in an open addressing hash map (linear probing) stored in primitive arrays, no native calls
+public class KerningTable{
+
+    private static final long EMPTY = -1L;      // Empty hash slot, glyph indices are never negative
+
+    long[] keys;                // Hash slots glyphs pair: left glyph index (high bits), right glyph index (low bits)
+    float[] values;             // Hash slots kerning advance (pixels, font base size)
+    private int shift;          // Hash shift (64 - log2(slots))
+    private int count;          // Hash slots used
+
+    public KerningTable(){
+        allocate(4);
+    }
+
+    // Add glyphs pair kerning to table, previous kerning for pair is replaced
+    void put(int left, int right, float kerning){
+        if ((count + 1)*2 > keys.length) grow();
+
+        long key = ((long) left << 32) | (right & 0xffffffffL);
+        int mask = keys.length - 1;
+        int slot = hash(key);
+
+        while ((keys[slot] != EMPTY) && (keys[slot] != key)) slot = (slot + 1) & mask;
+
+        if (keys[slot] == EMPTY){
+            keys[slot] = key;
+            count++;
+        }
+
+        values[slot] = kerning;
+    }
+
+    // Get kerning advance for glyphs pair (font glyph indices), 0.0f if pair is not kerned
+    public float getKerning(int left, int right){
+        long key = ((long) left << 32) | (right & 0xffffffffL);
+        int mask = keys.length - 1;
+        int slot = hash(key);
+
+        while (keys[slot] != EMPTY){
+            if (keys[slot] == key) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+
+        return 0.0f;
+    }
+
+    // Get number of kerning pairs
+    public int getCount(){
+        return count;
+    }
+
+    // Check if hash slot is used, used to iterate table pairs
+    boolean isUsed(int slot){
+        return keys[slot] != EMPTY;
+    }
+
+    // Allocate empty hash slots (2^bits)
+    private void allocate(int bits){
+        shift = 64 - bits;
+        keys = new long[1 << bits];
+        values = new float[1 << bits];
+        count = 0;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    // Double hash slots, used slots are inserted again
+    private void grow(){
+        long[] oldKeys = keys;
+        float[] oldValues = values;
+
+        allocate(64 - shift + 1);
+
+        for (int i = 0; i < oldKeys.length; i++){
+            if (oldKeys[i] != EMPTY) put((int) (oldKeys[i] >> 32), (int) oldKeys[i], oldValues[i]);
+        }
+    }
+
+    // Fibonacci hashing, top bits of pair*golden ratio
+    private int hash(long key){
+        return (int) ((key*0x9E3779B97F4A7C15L) >>> shift);
+    }
+}
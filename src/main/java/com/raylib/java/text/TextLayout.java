@@ -0,0 +1,109 @@
+package com.raylib.java.text;
+
+import com.raylib.java.raymath.Vector2;
+import com.raylib.java.shapes.Rectangle;
+
+// Text layout, glyph quads and measures computed once for (font, text, fontSize, spacing)
+// NOTE: Quads are stored relative to text position (0, 0) as x, y, u, v by vertex (16 floats by quad),
+// same format rlQuadBatch() expects, DrawTextLayout() submits them with a translation
+public class TextLayout{
+
+    Font font;                  // Font used for layout
+    GlyphInfo[] glyphs;         // Font glyphs used for layout, used to check if layout is outdated
+    int textureId;              // Font texture used for layout, used to check if layout is outdated
+    String text;                // Text laid out
+    float fontSize;             // Font size used for layout
+    float spacing;              // Chars spacing used for layout
+
+    float[] quads;              // Glyph quads (x, y, u, v by vertex)
+    int[] colors;               // Glyph quads colors, filled with last tint used
+    int[] textures;             // Glyph quads texture id (dynamic fonts use several atlas pages)
+    int color;                  // Last tint used (ColorToInt() value)
+    int quadCount;              // Number of glyph quads
+
+    int lineCount;              // Number of text lines
+    int[] lineStarts;           // Lines first char offset in text
+    int[] lineEnds;             // Lines end char offset in text (exclusive, trailing spaces trimmed)
+    float[] lineWidths;         // Lines width (including ellipsis)
+    boolean truncated;          // Text does not fit in layout max height, some lines are not laid out
+
+    Vector2 size;               // Text size, LoadTextLayout(): same value MeasureTextEx() returns
+    Rectangle bounds;           // Glyph quads bounding rectangle
+
+    boolean bounded;            // Layout computed with LoadTextLayoutEx() parameters
+    float lineSpacing;          // Line spacing used for layout
+    float maxWidth;             // Max width used for layout
+    float maxHeight;            // Max height used for layout
+    int alignment;              // Lines alignment used for layout
+    boolean ellipsis;           // Ellipsis truncation used for layout
+    int generation;             // Dynamic font atlas generation used for layout, used to check if layout is outdated
+
+    TextLayout(){
+        quads = new float[0];
+        colors = new int[0];
+        textures = new int[0];
+        lineStarts = new int[0];
+        lineEnds = new int[0];
+        lineWidths = new float[0];
+        size = new Vector2();
+        bounds = new Rectangle();
+    }
+
+    // Check if layout was computed for current font data
+    boolean isValid(Font font){
+        return (this.font == font) && (glyphs == font.glyphs) && (textureId == font.texture.id) &&
+                ((font.atlas == null) || (generation == font.atlas.getGeneration()));
+    }
+
+    public Font getFont(){
+        return font;
+    }
+
+    public String getText(){
+        return text;
+    }
+
+    public float getFontSize(){
+        return fontSize;
+    }
+
+    public float getSpacing(){
+        return spacing;
+    }
+
+    public float[] getQuads(){
+        return quads;
+    }
+
+    public int getQuadCount(){
+        return quadCount;
+    }
+
+    public int getLineCount(){
+        return lineCount;
+    }
+
+    public int[] getLineStarts(){
+        return lineStarts;
+    }
+
+    public int[] getLineEnds(){
+        return lineEnds;
+    }
+
+    public float[] getLineWidths(){
+        return lineWidths;
+    }
+
+    public boolean isTruncated(){
+        return truncated;
+    }
+
+    public Vector2 getSize(){
+        return size;
+    }
+
+    public Rectangle getBounds(){
+        return bounds;
+    }
+}
@@ -6,25 +6,32 @@ import com.raylib.java.core.rCore;
 import com.raylib.java.raymath.Vector2;
 import com.raylib.java.shapes.Rectangle;
 import com.raylib.java.textures.Image;
+import com.raylib.java.textures.RectPacker;
+import com.raylib.java.textures.Texture2D;
 import com.raylib.java.textures.rTextures;
 import com.raylib.java.utils.FileIO;
 import com.raylib.java.utils.Tracelog;
 import org.lwjgl.stb.*;
-import org.lwjgl.system.MemoryStack;
 import org.lwjgl.system.MemoryUtil;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.IntBuffer;
-import java.nio.charset.StandardCharsets;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static com.raylib.java.Config.*;
 import static com.raylib.java.rlgl.RLGL.rlPixelFormat.*;
 import static com.raylib.java.rlgl.RLGL.*;
 import static com.raylib.java.rlgl.RLGL.rlTextureFilterMode.RL_TEXTURE_FILTER_POINT;
 import static com.raylib.java.text.rText.FontType.*;
+import static com.raylib.java.text.rText.TextAlignment.*;
 import static com.raylib.java.utils.Tracelog.Tracelog;
+import static com.raylib.java.utils.Tracelog.TracelogType.LOG_DEBUG;
 import static com.raylib.java.utils.Tracelog.TracelogType.LOG_INFO;
 import static com.raylib.java.utils.Tracelog.TracelogType.LOG_WARNING;
 
@@ -86,12 +93,41 @@ public class rText{
         public final static int
                 FONT_DEFAULT = 0,       // Default font generation, anti-aliased
                 FONT_BITMAP = 1,                 // Bitmap font generation, no anti-aliasing
-                FONT_SDF = 2;                    // SDF font generation, requires external shader
+                FONT_SDF = 2,                    // SDF font generation, requires external shader
+                FONT_MSDF = 3;                   // MSDF (multi-channel SDF) font generation, requires external shader
+    }
+
+    // MSDF font fragment shader (GLSL 330), use with default vertex shader: LoadShaderFromMemory(null, FONT_MSDF_SHADER_FS)
+    // NOTE: Glyphs edge is median(r, g, b) = 0.5, pxRange must be the same than MSDF generation range (4 pixels)
+    public static final String FONT_MSDF_SHADER_FS =
+            "#version 330\n" +
+            "in vec2 fragTexCoord;\n" +
+            "in vec4 fragColor;\n" +
+            "uniform sampler2D texture0;\n" +
+            "uniform vec4 colDiffuse;\n" +
+            "out vec4 finalColor;\n" +
+            "const float pxRange = 4.0;\n" +
+            "float median(float r, float g, float b) { return max(min(r, g), min(max(r, g), b)); }\n" +
+            "void main()\n" +
+            "{\n" +
+            "    vec3 msd = texture(texture0, fragTexCoord).rgb;\n" +
+            "    vec2 unitRange = vec2(pxRange)/vec2(textureSize(texture0, 0));\n" +
+            "    vec2 screenTexSize = vec2(1.0)/fwidth(fragTexCoord);\n" +
+            "    float screenPxRange = max(0.5*dot(unitRange, screenTexSize), 1.0);\n" +
+            "    float opacity = clamp(screenPxRange*(median(msd.r, msd.g, msd.b) - 0.5) + 0.5, 0.0, 1.0);\n" +
+            "    finalColor = vec4(fragColor.rgb, fragColor.a*opacity)*colDiffuse;\n" +
+            "}\n";
+
+    public static class TextAlignment{ // Text lines alignment, LoadTextLayoutEx()
+
+        public final static int
+                TEXT_ALIGN_LEFT = 0,             // Lines aligned to the left
+                TEXT_ALIGN_CENTER = 1,           // Lines centered
+                TEXT_ALIGN_RIGHT = 2;            // Lines aligned to the right
     }
 
     final int MAX_TEXTFORMAT_BUFFERS = 4;             // Maximum number of static buffers for text formatting
     final int GLYPH_NOTFOUND_CHAR_FALLBACK = 63;      // Character used if requested codepoint is not found: '?'
-    private int next;
 
     // Default values for ttf font generation
     final int FONT_TTF_DEFAULT_SIZE = 32;          // TTF font generation default char size (char-height)
@@ -103,7 +139,35 @@ public class rText{
     final int MAX_TEXT_UNICODE_CHARS = 512;        // Maximum number of unicode codepoints: GetCodepoints()
     final int MAX_TEXTSPLIT_COUNT = 128;           // Maximum number of substrings to split: TextSplit()
 
-    int codepointByteCount;
+    int codepointByteCount;                        // Chars processed by last GetCodepointNext() call (1 or 2)
+
+    private float[] glyphQuads = new float[16*64];  // Pending glyph quads for rlQuadBatch() (x, y, u, v by vertex)
+    private int[] glyphColors = new int[64];        // Pending glyph quads colors
+    private int[] glyphTextures = new int[64];      // Pending glyph quads texture id (dynamic fonts use several pages)
+    private int glyphQuadCount;                     // Pending glyph quads counter
+    private boolean glyphQuadsLayout;               // Pending glyph quads are being generated for a text layout
+
+    // Text layouts cache, least recently used layout is evicted when full (SUPPORT_TEXT_LAYOUT_CACHE)
+    private final LinkedHashMap<TextLayoutKey, TextLayout> layoutCache =
+            new LinkedHashMap<TextLayoutKey, TextLayout>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<TextLayoutKey, TextLayout> eldest) {
+                    return size() > MAX_TEXT_LAYOUT_CACHE;
+                }
+            };
+    private final TextLayoutKey layoutKey = new TextLayoutKey();    // Lookup key, reused to avoid allocations
+    // Text layouts cache admission: hashes of texts drawn once (not cached yet), by hash slot
+    // NOTE: A layout is only cached when text is drawn a second time, texts changing every frame never enter the cache
+    private final int[] layoutCandidates = new int[2*MAX_TEXT_LAYOUT_CACHE];
+
+    // Text layout engine data by codepoint (LoadTextLayoutEx()), grown as required
+    private int[] layoutCodepoints = new int[256];          // Text codepoints
+    private int[] layoutGlyphs = new int[256];              // Codepoints glyph index in font
+    private int[] layoutOffsets = new int[257];             // Codepoints chars offset in text
+    private float[] layoutAdvances = new float[256];        // Codepoints advance (scaled, spacing included)
+    private float[] layoutPositions = new float[257];       // Codepoints position X in text (advances prefix sum)
+    private float[] layoutKernings = new float[256];        // Codepoints kerning with next codepoint (scaled, included in advance)
+    private int[] layoutLines = new int[2*16];              // Lines codepoints range [start, end)
 
     Font defaultFont;
     private final Raylib context;
@@ -210,19 +274,14 @@ public class rText{
         imFont.setFormat(RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA);
         imFont.setMipmaps(1);
 
-        short[] fontdata = new short[128 * 128 * 2];  // 2 bytes per pixel (gray + alpha)
+        byte[] fontdata = new byte[128 * 128 * 2];  // 2 bytes per pixel (gray + alpha)
 
         //Fill image.data with defaultFontData (convert from bit to pixel!)
         for (int i = 0, counter = 0; i < imFont.getWidth() * imFont.getHeight(); i += 32) {
             for (int j = 31; j >= 0; j--) {
-                if (BitCheck(defaultFontData[counter], j)){
-                    // NOTE: We are unreferencing data as short, so,
-                    // we must consider data as little-endian order (alpha + gray)
-                    fontdata[i + j] = (short) 0xffff;
-                }
-                else{
-                    fontdata[i + j] = (short) 0x00ff;
-                }
+                // NOTE: Gray is always white, bit defines alpha
+                fontdata[2 * (i + j)] = (byte) 0xff;
+                fontdata[2 * (i + j) + 1] = BitCheck(defaultFontData[counter], j) ? (byte) 0xff : (byte) 0x00;
             }
             counter++;
         }
@@ -284,6 +343,7 @@ public class rText{
         context.textures.UnloadImage(imFont);
 
         defaultFont.baseSize = (int)defaultFont.recs[0].height;
+        defaultFont.glyphIndex = new GlyphIndex(defaultFont.glyphs, defaultFont.glyphCount);
 
         Tracelog(LOG_INFO, "FONT: Default font loaded successfully (" + defaultFont.glyphCount + " glyphs)");
     }
@@ -322,6 +382,9 @@ public class rText{
                 font = LoadBMFont(fileName);
             }
         }
+        if (rCore.IsFileExtension(fileName, ".rfb")) {
+            font = LoadFontBinary(fileName);
+        }
         if (font == null) {
             Image image = context.textures.LoadImage(fileName);
             if (image.getData() != null) {
@@ -493,6 +556,7 @@ public class rText{
         context.textures.UnloadImage(fontClear);     // Unload processed image once converted to texture
 
         font.baseSize = (int) font.recs[0].height;
+        font.glyphIndex = new GlyphIndex(font.glyphs, font.glyphCount);
 
         return font;
     }
@@ -508,12 +572,14 @@ public class rText{
                 font.baseSize = fontSize;
                 font.glyphCount = (charsCount > 0) ? charsCount : 95;
                 font.glyphPadding = 0;
-                font.glyphs = LoadFontData(fileData, dataSize, font.baseSize, fontChars, font.glyphCount, FONT_DEFAULT);
+                KerningTable[] kerning = new KerningTable[1];
+                font.glyphs = LoadFontData(fileData, font.baseSize, fontChars, font.glyphCount, FONT_DEFAULT, kerning);
+                font.kerning = kerning[0];
 
                 if (font.glyphs != null) {
                     font.glyphPadding = FONT_TTF_DEFAULT_CHARS_PADDING;
 
-                    Image atlas = GenImageFontAtlas(font, 0);
+                    Image atlas = GenImageFontAtlas(font, RectPacker.PackMethod.PACK_SKYLINE);
                     font.texture = context.textures.LoadTextureFromImage(atlas);
 
                     // Update chars[i].image to use alpha, required to be used on ImageDrawText()
@@ -523,6 +589,7 @@ public class rText{
                     }
 
                     context.textures.UnloadImage(atlas);
+                    font.glyphIndex = new GlyphIndex(font.glyphs, font.glyphCount);
                     Tracelog(LOG_INFO, "FONT: Data loaded successfully (" + font.baseSize + " pixel size | " + font.glyphCount + " glyphs)");
                 }
                 else {
@@ -537,177 +604,225 @@ public class rText{
         return font;
     }
 
-    // Load font data for further use
-    // NOTE: Requires TTF font memory data and can generate SDF data
-    public GlyphInfo[] LoadFontData(byte[] fileData, int dataSize, int fontSize, int[] fontChars, int charsCount, int type) {
-        // NOTE: Using some SDF generation default values,
-        // trades off precision with ability to handle *smaller* sizes
-        GlyphInfo[] chars = null;
+    // Load font from TTF/OTF font file with generation parameters and font type (FontType)
+    // NOTE: Generated font is cached (SUPPORT_FONT_CACHE), next loads of same font and parameters read cache file
+    public Font LoadFontCached(String fileName, int fontSize, int[] fontChars, int charsCount, int type) {
+        Font font;
+        byte[] fileData = null;
+
+        try{
+            fileData = FileIO.LoadFileData(fileName);
+        } catch (IOException exception) {
+            exception.printStackTrace();
+        }
+
+        if (fileData != null) font = LoadFontFromMemoryEx(rCore.GetFileExtension(fileName), fileData, fontSize, fontChars, charsCount, type);
+        else font = GetFontDefault();
+
+        return font;
+    }
+
+    // Load font from TTF/OTF memory data with generation parameters and font type (FontType)
+    // NOTE: If SUPPORT_FONT_CACHE is enabled, generated font atlas and glyphs metrics are saved to a cache file
+    // (FONT_CACHE_DIRECTORY or user cache directory) named by font data and parameters hash (SHA-256),
+    // cache file is memory mapped on next loads instead of generating font again
+    public Font LoadFontFromMemoryEx(String fileType, byte[] fileData, int fontSize, int[] fontChars, int charsCount, int type) {
+        Font font = null;
+        Image[] atlas = new Image[1];
+        String fileExtLower = fileType.toLowerCase();
+
+        if (SUPPORT_FILEFORMAT_TTF && (fileExtLower.equals(".ttf") || fileExtLower.equals(".otf"))) {
+            charsCount = (charsCount > 0) ? charsCount : 95;
+            byte[] key = null;
+
+            if (SUPPORT_FONT_CACHE) {
+                key = FontCache.GetCacheKey(fileData, fontSize, fontChars, charsCount, type, FONT_TTF_DEFAULT_CHARS_PADDING);
+                font = FontCache.LoadFontCache(key, charsCount, atlas);
+            }
+
+            if (font == null) {
+                font = new Font();
+                font.baseSize = fontSize;
+                font.glyphCount = charsCount;
+                KerningTable[] kerning = new KerningTable[1];
+                font.glyphs = LoadFontData(fileData, fontSize, fontChars, charsCount, type, kerning);
+                font.kerning = kerning[0];
+
+                if (font.glyphs == null) return GetFontDefault();
+
+                font.glyphPadding = FONT_TTF_DEFAULT_CHARS_PADDING;
+                atlas[0] = GenImageFontAtlas(font, RectPacker.PackMethod.PACK_SKYLINE);
+
+                if (SUPPORT_FONT_CACHE) FontCache.SaveFontCache(key, font, atlas[0], type);
+            }
+
+            font.texture = context.textures.LoadTextureFromImage(atlas[0]);
+
+            // Update chars[i].image to use atlas format, required to be used on ImageDrawText()
+            for (int i = 0; i < font.glyphCount; i++) {
+                context.textures.UnloadImage(font.glyphs[i].image);
+                font.glyphs[i].image = context.textures.ImageFromImage(atlas[0], font.recs[i]);
+            }
+
+            context.textures.UnloadImage(atlas[0]);
+            font.glyphIndex = new GlyphIndex(font.glyphs, font.glyphCount);
+            Tracelog(LOG_INFO, "FONT: Data loaded successfully (" + font.baseSize + " pixel size | " + font.glyphCount + " glyphs)");
+        }
+        else {
+            font = GetFontDefault();
+        }
+
+        return font;
+    }
+
+    // Load font from binary file (ExportFontBinary()), file is memory mapped
+    // NOTE: Glyphs metrics are read in place and atlas texture is uploaded directly from mapped file data,
+    // no rasterization or image decoding required. Glyphs images are not loaded, so font can not be used on ImageText()
+    public Font LoadFontBinary(String fileName) {
+        Font font = null;
+
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            // NOTE: Atlas data smaller than atlas pixel data size is rejected by ReadFontBinary() and rlLoadTextureBuffer()
+            font = FontBinary.ReadFontBinary(buffer);
+
+            if (font != null) {
+                font.texture.id = rlLoadTextureBuffer(buffer.slice(), font.texture.width, font.texture.height, font.texture.format);
+            }
+        }
+        catch (IOException exception) {
+            Tracelog(LOG_WARNING, "FILEIO: [" + fileName + "] Failed to open font binary file");
+        }
+
+        if ((font == null) || (font.texture.id == 0)) {
+            Tracelog(LOG_WARNING, "FONT: [" + fileName + "] Failed to load font binary data -> Using default font");
+            font = GetFontDefault();
+        }
+        else {
+            Tracelog(LOG_INFO, "FONT: [" + fileName + "] Font binary loaded successfully (" + font.baseSize + " pixel size | " + font.glyphCount + " glyphs)");
+        }
+
+        return font;
+    }
+
+    // Load dynamic font from TTF/OTF font file, glyphs are rasterized and packed on first use
+    public Font LoadFontDynamic(String fileName, int fontSize) {
+        Font font;
+        byte[] fileData = null;
+
+        try{
+            fileData = FileIO.LoadFileData(fileName);
+        } catch (IOException exception) {
+            exception.printStackTrace();
+        }
+
+        if (fileData != null) font = LoadFontDynamicFromMemory(fileData, fontSize, FONT_DEFAULT);
+        else font = GetFontDefault();
+
+        return font;
+    }
 
-        final int FONT_SDF_CHAR_PADDING = 4;      // SDF font generation char padding
-        final byte FONT_SDF_ON_EDGE_VALUE = (byte) 128;      // SDF font generation on edge value
-        final float FONT_SDF_PIXEL_DIST_SCALE = 64.0f;     // SDF font generation pixel distance scale
-        final int FONT_BITMAP_ALPHA_THRESHOLD = 80;      // Bitmap (B&W) font generation alpha threshold
+    // Load dynamic font from TTF/OTF font memory data, glyphs are rasterized and packed on first use
+    // NOTE: Glyphs are packed into FONT_ATLAS_PAGE_SIZE atlas pages (up to FONT_ATLAS_MAX_PAGES), least recently
+    // used page is cleared when all pages are full. font.texture is first atlas page.
+    public Font LoadFontDynamicFromMemory(byte[] fileData, int fontSize, int type) {
+        Font font = new Font();
 
         if (SUPPORT_FILEFORMAT_TTF) {
-            // Load font data (including pixel data) from TTF memory file
-            // NOTE: Loaded information should be enough to generate font image atlas, using any packaging method
-            if (fileData != null) {
-                boolean genFontChars = false;
-                ByteBuffer fontBuffer;
-                IntBuffer ascent, descent, lineGap;
-                STBTTFontinfo fontInfo = STBTTFontinfo.create();
+            FontAtlas atlas = FontAtlas.LoadFontAtlas(fileData, fontSize, type, FONT_TTF_DEFAULT_CHARS_PADDING,
+                                                      FONT_ATLAS_PAGE_SIZE, FONT_ATLAS_PAGE_SIZE, FONT_ATLAS_MAX_PAGES);
 
-                try (MemoryStack stack = MemoryStack.stackPush()){
-                    ascent = stack.mallocInt(1);
-                    descent = stack.mallocInt(1);
-                    lineGap = stack.mallocInt(1);
+            if (atlas != null) {
+                font.baseSize = fontSize;
+                font.glyphCount = 0;
+                font.glyphPadding = FONT_TTF_DEFAULT_CHARS_PADDING;
+                font.texture = atlas.getPageTexture(0);
+                font.atlas = atlas;
 
-                    fontBuffer = MemoryUtil.memAlloc(fileData.length);
-                    fontBuffer.put(fileData).flip();
+                final Font dynamicFont = font;
+                atlas.evictCallback = () -> FlushGlyphAtlas(dynamicFont);
 
+                Tracelog(LOG_INFO, "FONT: Dynamic font loaded successfully (" + fontSize + " pixel size)");
+            }
+            else {
+                font = GetFontDefault();
+            }
+        }
+        else {
+            font = GetFontDefault();
+        }
 
-                    if (STBTruetype.stbtt_InitFont(fontInfo, fontBuffer)){    // Init font for data reading
+        return font;
+    }
 
-                        // Calculate font scale factor
-                        float scaleFactor = STBTruetype.stbtt_ScaleForPixelHeight(fontInfo, (float) fontSize);
+    // Load font data for further use
+    // NOTE: Requires TTF font memory data and can generate SDF data
+    public GlyphInfo[] LoadFontData(byte[] fileData, int dataSize, int fontSize, int[] fontChars, int charsCount, int type) {
+        return LoadFontData(fileData, fontSize, fontChars, charsCount, type, null);
+    }
 
-                        // Calculate font basic metrics
-                        // NOTE: ascent is equivalent to font baseline
-                        STBTruetype.stbtt_GetFontVMetrics(fontInfo, ascent, descent, lineGap);
+    // Load font data and glyphs kerning pairs (SUPPORT_FONT_KERNING), kerning table is returned by parameter
+    private GlyphInfo[] LoadFontData(byte[] fileData, int fontSize, int[] fontChars, int charsCount, int type, KerningTable[] kerning) {
+        GlyphInfo[] chars = null;
 
-                        // In case no chars count provided, default to 95
-                        charsCount = (charsCount > 0) ? charsCount : 95;
+        if (SUPPORT_FILEFORMAT_TTF) {
+            // Load font data (including pixel data) from TTF memory file
+            // NOTE: Loaded information should be enough to generate font image atlas, using any packaging method
+            if (fileData != null) {
+                STBTTFontinfo fontInfo = STBTTFontinfo.create();
+                ByteBuffer fontBuffer = MemoryUtil.memAlloc(fileData.length);
+                fontBuffer.put(fileData).flip();
 
-                        // Fill fontChars in case not provided externally
-                        // NOTE: By default we fill charsCount consecutively, starting at 32 (Space)
+                if (STBTruetype.stbtt_InitFont(fontInfo, fontBuffer)){    // Init font for data reading
+                    // Calculate font scale factor and basic metrics
+                    GlyphRasterizer rasterizer = new GlyphRasterizer(fontInfo, fontSize, type);
 
-                        if (fontChars == null) {
-                            fontChars = new int[charsCount];
-                            for (int i = 0; i < charsCount; i++) {
-                                fontChars[i] = i + 32;
-                            }
-                            genFontChars = true;
-                        }
+                    // In case no chars count provided, default to 95
+                    charsCount = (charsCount > 0) ? charsCount : 95;
 
-                        chars = new GlyphInfo[charsCount];
+                    // Fill fontChars in case not provided externally
+                    // NOTE: By default we fill charsCount consecutively, starting at 32 (Space)
+                    if (fontChars == null) {
+                        fontChars = new int[charsCount];
                         for (int i = 0; i < charsCount; i++) {
-                            chars[i] = new GlyphInfo();
+                            fontChars[i] = i + 32;
                         }
+                    }
 
-                        // NOTE: Using simple packaging, one char after another
-                        for (int i = 0; i < charsCount; i++) {
-                            IntBuffer chw, chh; // Character width and height (on generation)
-                            chw = stack.mallocInt(1);
-                            chh = stack.mallocInt(1);
-
-                            int ch = fontChars[i];  // Character value to get info for
-                            chars[i].value = ch;
-
-                            //  Render a unicode codepoint to a bitmap
-                            //      stbtt_GetCodepointBitmap()           -- allocates and returns a bitmap
-                            //      stbtt_GetCodepointBitmapBox()        -- how big the bitmap must be
-                            //      stbtt_MakeCodepointBitmap()          -- renders into bitmap you provide
-
-                            if (type != FONT_SDF) {
-                                IntBuffer xoff, yoff;
-                                xoff = stack.mallocInt(1);
-                                yoff = stack.mallocInt(1);
-
-                                ByteBuffer codepointBitmap = STBTruetype.stbtt_GetCodepointBitmap(
-                                        fontInfo, scaleFactor, scaleFactor, ch, chw, chh, xoff, yoff);
-                                byte[] codepointarray = new byte[(chw.get(0) * chh.get(0))];
-                                for (int j = 0; j < codepointarray.length; j++) {
-                                    codepointarray[j] = codepointBitmap.get(j);
-                                }
-
-                                chars[i].image.setData(codepointarray);
-                                chars[i].offsetX = xoff.get(0);
-                                chars[i].offsetY = yoff.get(0);
-                            }
-                            else if (ch != 32) {
-                                IntBuffer xoff, yoff;
-                                xoff = stack.mallocInt(1);
-                                yoff = stack.mallocInt(1);
-
-                                ByteBuffer codepointBitmap = STBTruetype.stbtt_GetCodepointSDF(
-                                        fontInfo, scaleFactor, ch, FONT_SDF_CHAR_PADDING, FONT_SDF_ON_EDGE_VALUE,
-                                        FONT_SDF_PIXEL_DIST_SCALE, chw, chh, xoff, yoff);
-
-                                byte[] codepointarray = new byte[(chw.get(0) * chh.get(0))];
-                                for (int j = 0; j < codepointarray.length; j++) {
-                                    codepointarray[j] = codepointBitmap.get(j);
-                                }
-                                chars[i].image.setData(codepointarray);
-                                chars[i].offsetX = xoff.get(0);
-                                chars[i].offsetY = yoff.get(0);
-                            }
-
-                            IntBuffer adX = stack.mallocInt(1);
-
-                            STBTruetype.stbtt_GetCodepointHMetrics(fontInfo, ch, adX, null);
-                            chars[i].advanceX = (int) ((float) adX.get(0) * scaleFactor);
-
-                            int asc = ascent.get(0);
-                            int chwidth = chw.get(0);
-                            int chheight = chh.get(0);
-
-                            // Load characters images
-                            chars[i].image.width = chwidth;
-                            chars[i].image.height = chheight;
-                            chars[i].image.mipmaps = 1;
-                            chars[i].image.format = RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE;
-
-                            chars[i].offsetY += (int) ((float) asc * scaleFactor);
-
-                            // NOTE: We create an empty image for space character, it could be further required for atlas packing
-                            if (ch == 32) {
-                                Color[] c = new Color[chars[i].advanceX * fontSize];
-                                for (int j = 0; j < c.length; j++) {
-                                    c[j] = new Color(0, 0, 0, (byte) 255);
-                                }
-
-                                chars[i].image = new Image(c, chars[i].advanceX, fontSize, RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE, 1);
-                            }
-
-                            if (type == FONT_BITMAP) {
-                                // Aliased bitmap (black & white) font generation, avoiding anti-aliasing
-                                // NOTE: For optimum results, bitmap font should be generated at base pixel size
-                                for (int p = 0; p < chwidth * chheight; p++) {
-                                    if (chars[i].image.getData()[p] < FONT_BITMAP_ALPHA_THRESHOLD) {
-                                        chars[i].image.getData()[p] = 0;
-                                    }
-                                    else{
-                                        chars[i].image.getData()[p] = (byte) 255;
-                                    }
-                                }
-                            }
-
-                            /* Get bounding box for character (may be offset to account for chars that dip above or below the
-                             line)
-
-                            int chX1i, chX2i, chY1i, chY2i;
-                            IntBuffer chX1, chY1, chX2, chY2;
-                            chX1 = stack.mallocInt(1);
-                            chX2 = stack.mallocInt(1);
-                            chY1 = stack.mallocInt(1);
-                            chY2 = stack.mallocInt(1);
-
-                            STBTruetype.stbtt_GetCodepointBitmapBox(fontInfo, ch, scaleFactor, scaleFactor, chX1, chY1, chX2, chY2);
-                            chX1i = chX1.get(0);
-                            chX2i = chX2.get(0);
-                            chY1i = chY1.get(0);
-                            chY2i = chY2.get(0);
-                            TracelogS("FONT: Character box measures: " + chX1i + ", " + chY1i + ", " + (chX2i - chX1i) +
-                                              ", " + (chY2i - chY1i));
-                            TracelogS("FONT: Character offsetY: " + ((int) ((float) asc * scaleFactor) + chY1i));
-                            */
-                        }
+                    chars = new GlyphInfo[charsCount];
+                    for (int i = 0; i < charsCount; i++) {
+                        chars[i] = new GlyphInfo();
                     }
-                    else{
-                        Tracelog(LOG_WARNING, "FONT: Failed to process TTF font data");
+
+                    //  Render unicode codepoints to bitmaps
+                    //      stbtt_GetCodepointBitmapBox()        -- how big the bitmap must be
+                    //      stbtt_MakeCodepointBitmap()          -- renders into bitmap you provide
+                    // NOTE: Big fonts are rasterized in parallel (ForkJoin common pool), every glyph is written
+                    // to its own index, so glyphs data is the same than sequential rasterization
+                    if (SUPPORT_FONT_PARALLEL_LOADING && (charsCount >= FONT_PARALLEL_LOADING_MIN_GLYPHS)) {
+                        rasterizer.LoadGlyphsParallel(fontChars, chars, charsCount);
                     }
+                    else {
+                        rasterizer.LoadGlyphs(fontChars, chars, 0, charsCount);
+                    }
+
+                    // NOTE: We create an empty image for space character, it could be further required for atlas packing
+                    for (int i = 0; i < charsCount; i++) {
+                        if (chars[i].value == 32) {
+                            int bytesPerPixel = (type == FONT_MSDF) ? 3 : 1;
+                            chars[i].image = new Image(new byte[chars[i].advanceX * fontSize * bytesPerPixel], chars[i].advanceX,
+                                                       fontSize, GlyphRasterizer.GetGlyphFormat(type), 1);
+                        }
+                    }
+
+                    if (SUPPORT_FONT_KERNING && (kerning != null)) kerning[0] = rasterizer.LoadKerning(fontChars, charsCount);
                 }
+                else{
+                    Tracelog(LOG_WARNING, "FONT: Failed to process TTF font data");
+                }
+
+                MemoryUtil.memFree(fontBuffer);
             }
         }
 
@@ -715,7 +830,7 @@ public class rText{
     }
 
     // Generate image font atlas using chars info
-    // NOTE: Packing method: 0-Default, 1-Skyline
+    // NOTE: Packing method (RectPacker.PackMethod): 0-Basic (rows), 1-Skyline, 2-MaxRects
     public Image GenImageFontAtlas(Font font, int packMethod) {
         Image atlas = new Image();
         if (SUPPORT_FILEFORMAT_TTF) {
@@ -732,140 +847,61 @@ public class rText{
             // NOTE: Rectangles memory is loaded here!
             Rectangle[] recs = new Rectangle[font.glyphCount];
             for (int i = 0; i < recs.length; i++) {
-                recs[i] = new Rectangle();
-            }
-
-            // Calculate image size based on required pixel area
-            // NOTE 1: Image is forced to be squared and POT... very conservative!
-            // NOTE 2: SDF font characters already contain an internal padding,
-            // so image size would result bigger than default font type
-            float requiredArea = 0;
-            for (int i = 0; i < font.glyphCount; i++) {
-                requiredArea += ((font.glyphs[i].image.width + 2*font.glyphPadding)*(font.baseSize + 2*font.glyphPadding));
+                recs[i] = new Rectangle(0, 0, font.glyphs[i].image.width + 2*font.glyphPadding,
+                                        font.glyphs[i].image.height + 2*font.glyphPadding);
             }
-            float guessSize = (float) (Math.sqrt(requiredArea) * 1.4f);
-            int imageSize = (int) Math.pow(2, Math.ceil(Math.log(guessSize) / Math.log(2)));  // Calculate next POT
-
-            atlas.setWidth(imageSize);  // Atlas bitmap width
-            atlas.setHeight(imageSize);  // Atlas bitmap height
-            byte[] atlasData = new byte[atlas.width * atlas.height];
-            // Create a bitmap to store characters (8 bpp)
-            atlas.setFormat(RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE);
-            atlas.setMipmaps(1);
-
-            // DEBUG: We can see padding in the generated image setting a gray background...
-            //byte[] greyBG = new byte[atlas.width*atlas.height];
-            //for (int i = 0; i < atlas.width*atlas.height; i++) greyBG[i] = 100;
-            //atlas.setData(greyBG);
 
-            if (packMethod == 0) {  // Use basic packing algorythm
+            // Pack glyphs rectangles (including padding), atlas size is computed by packer
+            // NOTE: Atlas is not forced to be squared and POT, unless required by OpenGL 1.1
+            RectPacker packer = RectPacker.PackRecsAuto(recs, font.glyphCount, packMethod, GRAPHICS_API_OPENGL_11);
 
-                int offsetX = font.glyphPadding;
-                int offsetY = font.glyphPadding;
+            // NOTE: MSDF fonts glyphs are R8G8B8, atlas keeps glyphs format
+            int glyphFormat = font.glyphs[0].image.format;
+            int bytesPerPixel = (glyphFormat == RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8) ? 3 : 1;
 
-                // NOTE: Using simple packaging, one char after another
-                for (int i = 0; i < font.glyphCount; i++) {
-                    byte[] fcData = font.glyphs[i].image.getData();
-                    // Copy pixel data from fc.data to atlas
-                    for (int y = 0; y < font.glyphs[i].image.height; y++) {
-                        for (int x = 0; x < font.glyphs[i].image.width; x++) {
-                            atlasData[(offsetY + y) * atlas.width + (offsetX + x)] = fcData[y * font.glyphs[i].image.width + x];
-                        }
-                    }
+            atlas.setWidth(packer.getWidth());  // Atlas bitmap width
+            atlas.setHeight(packer.getHeight());  // Atlas bitmap height
+            byte[] atlasData = new byte[atlas.width * atlas.height * bytesPerPixel];
+            // Create a bitmap to store characters (8 bpp, 24 bpp for MSDF)
+            atlas.setFormat((bytesPerPixel == 3) ? RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8 : RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE);
+            atlas.setMipmaps(1);
 
-                    // Fill chars rectangles in atlas info
-                    recs[i].x = (float) offsetX;
-                    recs[i].y = (float) offsetY;
-                    recs[i].width = (float) font.glyphs[i].image.width;
-                    recs[i].height = (float) font.glyphs[i].image.height;
-
-                    // Move atlas position X for next character drawing
-                    offsetX += (font.glyphs[i].image.getWidth() + 2 * font.glyphPadding);
-
-                    if (offsetX >= (atlas.getWidth() - font.glyphs[i].image.getWidth() - 2 * font.glyphPadding)) {
-                        offsetX = font.glyphPadding;
-
-                        // NOTE: Be careful on offsetY for SDF fonts, by default SDF
-                        // use an internal padding of 4 pixels, it means char rectangle
-                        // height is bigger than fontSize, it could be up to (fontSize + 8)
-                        offsetY += (font.baseSize + 2 * font.glyphPadding);
-
-                        if (offsetY > (atlas.height - font.baseSize - font.glyphPadding)) {
-                            for (int j = i + 1; j < font.glyphCount; j++) {
-                                Tracelog(LOG_WARNING, "FONT: Failed to package character (" + j + ")");
-                                // make sure remaining recs contain valid data
-                                recs[j].x = 0;
-                                recs[j].y = 0;
-                                recs[j].width = 0;
-                                recs[j].height = 0;
-                            }
-                            break;
-                        }
-                    }
+            for (int i = 0; i < font.glyphCount; i++) {
+                // Fill chars rectangles in atlas info
+                recs[i].x += font.glyphPadding;
+                recs[i].y += font.glyphPadding;
+                recs[i].width = font.glyphs[i].image.width;
+                recs[i].height = font.glyphs[i].image.height;
+
+                byte[] fcData = font.glyphs[i].image.getData();
+                int offsetX = (int) recs[i].x;
+                int offsetY = (int) recs[i].y;
+
+                // Copy pixel data from fc.data to atlas
+                for (int y = 0; y < font.glyphs[i].image.height; y++) {
+                    System.arraycopy(fcData, y * font.glyphs[i].image.width * bytesPerPixel, atlasData,
+                                     ((offsetY + y) * atlas.width + offsetX) * bytesPerPixel, font.glyphs[i].image.width * bytesPerPixel);
                 }
             }
-            else if (packMethod == 1) { // Use Skyline rect packing algorithm (stb_pack_rect)
-                STBRPContext context = STBRPContext.create();
-
-                ByteBuffer nBB = ByteBuffer.allocateDirect(font.glyphCount * STBRPNode.SIZEOF);
-                STBRPNode.Buffer nodes = new STBRPNode.Buffer(nBB);
-
-                for (int i = 0; i < font.glyphCount; i++) {
-                    nodes.put(i, STBRPNode.create());
-                }
-
-                STBRectPack.stbrp_init_target(context, atlas.width, atlas.height, nodes);
 
-                ByteBuffer rBB = ByteBuffer.allocateDirect(font.glyphCount * STBRPRect.SIZEOF);
-                STBRPRect.Buffer rects = new STBRPRect.Buffer(rBB);
+            Tracelog(LOG_DEBUG, "FONT: Font atlas packed (" + atlas.width + "x" + atlas.height + "), efficiency: " +
+                     (int) (packer.GetEfficiency()*100) + "%");
 
-                for (int i = 0; i < font.glyphCount; i++) {
-                     rects.put(i, STBRPRect.create());
+            if (bytesPerPixel == 1) {
+                // Convert image data from GRAYSCALE to GRAY_ALPHA
+                byte[] dataGrayAlpha = new byte[atlas.width * atlas.height * 2]; // Two channels
+                for (int i = 0, k = 0; i < atlas.width * atlas.height; i++, k += 2) {
+                    dataGrayAlpha[k] = (byte) 255;
+                    dataGrayAlpha[k + 1] = atlasData[i];
                 }
 
-                // Fill rectangles for packaging
-                for (int i = 0; i < font.glyphCount; i++) {
-                    rects.get(i).id(i);
-                    rects.get(i).w((short) (font.glyphs[i].image.width + 2 * font.glyphPadding));
-                    rects.get(i).h((short) (font.glyphs[i].image.height + 2 * font.glyphPadding));
-                }
-
-                // Package rectangles into atlas
-                STBRectPack.stbrp_pack_rects(context, rects);
-
-                for (int i = 0; i < font.glyphCount; i++) {
-                    // It return char rectangles in atlas
-                    recs[i].x = rects.get(i).x() + font.glyphPadding;
-                    recs[i].y = rects.get(i).y() + font.glyphPadding;
-                    recs[i].width = font.glyphs[i].image.width;
-                    recs[i].height = font.glyphs[i].image.height;
-
-                    if (rects.get(i).was_packed()) {
-                        byte[] fcData = font.glyphs[i].image.getData();
-                        // Copy pixel data from fc.data to atlas
-                        for (int y = 0; y < font.glyphs[i].image.height; y++) {
-                            for (int x = 0; x < font.glyphs[i].image.width; x++) {
-                                atlasData[(rects.get(i).y() + font.glyphPadding + y) * atlas.width + (rects.get(i).x() + font.glyphPadding + x)] =
-                                        fcData[y * font.glyphs[i].image.width + x];
-                            }
-                        }
-                    }
-                    else{
-                        Tracelog(LOG_WARNING, "FONT: Failed to package character (" + i + ")");
-                    }
-                }
+                atlas.setData(dataGrayAlpha);
+                atlas.setFormat(RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA);
             }
-
-            // Convert image data from GRAYSCALE to GRAY_ALPHA
-            byte[] dataGrayAlpha = new byte[atlas.width * atlas.height * 2]; // Two channels
-            for (int i = 0, k = 0; i < atlas.width * atlas.height; i++, k += 2) {
-                dataGrayAlpha[k] = (byte) 255;
-                dataGrayAlpha[k + 1] = atlasData[i];
+            else {
+                atlas.setData(atlasData);
             }
 
-            atlas.setData(dataGrayAlpha);
-            atlas.setFormat(RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA);
-
             font.recs = recs;
         }
 
@@ -881,6 +917,13 @@ public class rText{
 
     // Unload Font from GPU memory (VRAM)
     public void UnloadFont(Font f) {
+        UnloadTextLayoutsCached(f);
+
+        if (f.atlas != null) {
+            f.atlas.Unload();
+            f.atlas = null;
+        }
+
         f = null;
     }
 
@@ -1052,6 +1095,40 @@ public class rText{
         return success;
     }
 
+    // Export font as binary file (glyphs metrics, codepoint index and atlas), returns true on success
+    // NOTE: Exported file is loaded with LoadFontBinary(), atlas is read back from font texture
+    public boolean ExportFontBinary(Font font, String fileName) {
+        boolean success = false;
+
+        if (font.atlas != null) {
+            Tracelog(LOG_WARNING, "FILEIO: [" + fileName + "] Dynamic fonts can not be exported as binary");
+            return false;
+        }
+
+        Image atlas = context.textures.LoadImageFromTexture(font.texture);
+
+        if (atlas.getBuffer() == null) {
+            Tracelog(LOG_WARNING, "FILEIO: [" + fileName + "] Failed to export font binary, texture data not available");
+            return false;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(FontBinary.GetFontBinarySize(font, atlas));
+        FontBinary.WriteFontBinary(buffer, font, atlas, FONT_DEFAULT);
+
+        context.textures.UnloadImage(atlas);
+
+        try {
+            success = FileIO.SaveFileData(fileName, buffer.array(), buffer.position());
+            Tracelog(LOG_INFO, "FILEIO: [" + fileName + "] Font binary exported successfully");
+        }
+        catch (IOException e) {
+            success = false;
+            Tracelog(LOG_WARNING, "FILEIO: [" + fileName + "] Failed to export font binary");
+        }
+
+        return success;
+    }
+
     public int getCPBC() {
         return codepointByteCount;
     }
@@ -1096,40 +1173,55 @@ public class rText{
 
     // Draw text using Font
     // NOTE: chars spacing is NOT proportional to fontSize
-    public void DrawTextEx(Font font, String text, Vector2 position, float fontSize, float spacing, Color tint) {
+    public void DrawTextEx(Font font, CharSequence text, Vector2 position, float fontSize, float spacing, Color tint) {
         if (font.texture.id == 0) {
             font = GetFontDefault();  // Security check in case of not valid font
         }
 
-        int length = TextLength(text);      // Total length in bytes of the text, scanned by codepoints in loop
+        // NOTE: Static String texts are laid out once and drawn from the layouts cache (from second draw)
+        if (SUPPORT_TEXT_LAYOUT_CACHE && (text instanceof String) && (text.length() <= MAX_TEXT_LAYOUT_CACHE_CHARS)) {
+            TextLayout layout = GetTextLayoutCached(font, (String) text, fontSize, spacing);
+
+            if (layout != null) {
+                DrawTextLayout(layout, position, tint);
+                return;
+            }
+        }
+
+        AddTextQuads(font, text, position.getX(), position.getY(), fontSize, spacing, context.textures.ColorToInt(tint));
+        DrawGlyphQuads(font);
+    }
+
+    // Add text glyph quads to the pending glyph quads, returns number of text lines
+    private int AddTextQuads(Font font, CharSequence text, float posX, float posY, float fontSize, float spacing, int color) {
+        int length = text.length();     // Total length in chars of the text, scanned by codepoints in loop
+        int lineCount = 1;
 
         int textOffsetY = 0;            // Offset between lines (on line break '\n')
         float textOffsetX = 0.0f;       // Offset X to next character to draw
 
         float scaleFactor = fontSize / font.baseSize;     // Character quad scaling factor
+        int prevIndex = -1;                               // Previous glyph in line, used for kerning
 
         for (int i = 0; i < length; ) {
-            // Get next codepoint from byte string and glyph index in font
-            codepointByteCount = 0;
-            int codepoint = GetCodepoint(text.substring(i).toCharArray(), codepointByteCount);
+            // Get next codepoint from string and glyph index in font
+            int codepoint = GetCodepointNext(text, i);
             int index = GetGlyphIndex(font, codepoint);
 
-            // NOTE: Normally we exit the decoding sequence as soon as a bad byte is found (and return 0x3f)
-            // but we need to draw all of the bad bytes using the '?' symbol moving one byte
-            if (codepoint == 0x3f) {
-                codepointByteCount = 1;
-            }
-
             if (codepoint == '\n') {
                 // NOTE: Fixed line spacing of 1.5 line-height
                 // TODO: Support custom line spacing defined by user
                 textOffsetY += (int)((font.baseSize + font.baseSize/2.0f)*scaleFactor);
                 textOffsetX = 0.0f;
+                lineCount++;
+                prevIndex = -1;
             }
             else{
+                if (prevIndex != -1) textOffsetX += GetGlyphKerning(font, prevIndex, index)*scaleFactor;
+                prevIndex = index;
+
                 if ((codepoint != ' ') && (codepoint != '\t')){
-                    DrawTextCodepoint(font, codepoint, new Vector2(position.getX() + textOffsetX,
-                                                                   position.getY() + textOffsetY), fontSize, tint);
+                    AddGlyphQuad(font, index, posX + textOffsetX, posY + textOffsetY, scaleFactor, color);
                 }
 
                 if (font.glyphs[index].advanceX == 0) {
@@ -1140,8 +1232,357 @@ public class rText{
                 }
             }
 
-            i += codepointByteCount;   // Move text bytes counter to next codepoint
+            i += codepointByteCount;   // Move text chars counter to next codepoint
+        }
+
+        return lineCount;
+    }
+
+    // Load text layout: glyph quads, lines and measures computed once, to be drawn with DrawTextLayout()
+    public TextLayout LoadTextLayout(Font font, String text, float fontSize, float spacing) {
+        if (font.texture.id == 0) {
+            font = GetFontDefault();  // Security check in case of not valid font
+        }
+
+        TextLayout layout = new TextLayout();
+        UpdateTextLayout(layout, font, text, fontSize, spacing);
+
+        return layout;
+    }
+
+    // Load text layout constrained to a box: word wrap, lines alignment, line spacing and ellipsis truncation
+    // NOTE: maxWidth <= 0 disables wrapping, maxHeight <= 0 does not limit lines, lineSpacing <= 0 uses default
+    // spacing (1.5 line-height). Lines are broken on spaces, words wider than maxWidth are broken between chars.
+    // If text does not fit in maxHeight it is truncated, with ellipsis last visible line ends with "..."
+    public TextLayout LoadTextLayoutEx(Font font, String text, float fontSize, float spacing, float lineSpacing,
+                                       float maxWidth, float maxHeight, int alignment, boolean ellipsis) {
+        if (font.texture.id == 0) {
+            font = GetFontDefault();  // Security check in case of not valid font
+        }
+
+        TextLayout layout = new TextLayout();
+        ComputeTextLayout(layout, font, text, fontSize, spacing, lineSpacing, maxWidth, maxHeight, alignment, ellipsis);
+
+        return layout;
+    }
+
+    // Unload text layout data
+    public void UnloadTextLayout(TextLayout layout) {
+        layout.font = null;
+        layout.quads = new float[0];
+        layout.colors = new int[0];
+        layout.textures = new int[0];
+        layout.quadCount = 0;
+    }
+
+    // Draw text layout, glyph quads are submitted to the batch with one rlQuadBatch() call by texture
+    // NOTE: Layout quads are translated by the current transform, text is not measured or decoded again
+    // NOTE: Layout is computed again if font glyphs changed (i.e. dynamic font atlas page evicted)
+    public void DrawTextLayout(TextLayout layout, Vector2 position, Color tint) {
+        if ((layout.font != null) && !layout.isValid(layout.font)) {
+            if (layout.bounded) {
+                ComputeTextLayout(layout, layout.font, layout.text, layout.fontSize, layout.spacing, layout.lineSpacing,
+                                  layout.maxWidth, layout.maxHeight, layout.alignment, layout.ellipsis);
+            }
+            else UpdateTextLayout(layout, layout.font, layout.text, layout.fontSize, layout.spacing);
+        }
+
+        if (layout.quadCount == 0) return;
+
+        int color = context.textures.ColorToInt(tint);
+
+        if (color != layout.color) {
+            Arrays.fill(layout.colors, 0, layout.quadCount, color);
+            layout.color = color;
+        }
+
+        rlPushMatrix();
+        rlTranslatef(position.x, position.y, 0.0f);
+        DrawGlyphQuadsBatch(layout.font, layout.quads, layout.colors, layout.textures, layout.quadCount);
+        rlPopMatrix();
+    }
+
+    // Compute text layout data for provided parameters, same result as DrawTextEx()
+    private void UpdateTextLayout(TextLayout layout, Font font, String text, float fontSize, float spacing) {
+        ComputeTextLayout(layout, font, text, fontSize, spacing, 0.0f, 0.0f, 0.0f, TEXT_ALIGN_LEFT, false);
+
+        layout.bounded = false;
+        layout.size = MeasureTextEx(font, text, fontSize, spacing);
+    }
+
+    // Compute text layout data: lines breaking, lines alignment and glyph quads generation
+    // NOTE: Text is decoded once into glyph advances, break positions are found in a single pass over advances
+    // and lines widths are obtained from advances prefix sums (no text measuring)
+    private void ComputeTextLayout(TextLayout layout, Font font, String text, float fontSize, float spacing,
+                                   float lineSpacing, float maxWidth, float maxHeight, int alignment, boolean ellipsis) {
+        int generation = (font.atlas != null)? font.atlas.getGeneration() : 0;
+        int passes = (font.atlas != null)? font.atlas.getMaxPages() + 1 : 1;
+
+        // NOTE: Dynamic font atlas page evicted while laying out, some glyphs could be lost, compute it again until
+        // no page is evicted. If text glyphs do not fit in atlas, layout generation is left outdated (computed again on draw)
+        glyphQuadsLayout = true;
+        for (int pass = 0; pass < passes; pass++) {
+            generation = (font.atlas != null)? font.atlas.getGeneration() : 0;
+
+            ComputeTextLayoutGlyphs(layout, font, text, fontSize, spacing, lineSpacing, maxWidth, maxHeight, alignment, ellipsis);
+
+            if ((font.atlas == null) || (font.atlas.getGeneration() == generation)) break;
+        }
+        glyphQuadsLayout = false;
+
+        layout.bounded = true;
+        layout.lineSpacing = lineSpacing;
+        layout.maxWidth = maxWidth;
+        layout.maxHeight = maxHeight;
+        layout.alignment = alignment;
+        layout.ellipsis = ellipsis;
+        layout.generation = generation;
+    }
+
+    // Compute text layout lines and glyph quads, see ComputeTextLayout()
+    private void ComputeTextLayoutGlyphs(TextLayout layout, Font font, String text, float fontSize, float spacing,
+                                         float lineSpacing, float maxWidth, float maxHeight, int alignment, boolean ellipsis) {
+        float scaleFactor = fontSize / font.baseSize;     // Character quad scaling factor
+
+        if (lineSpacing <= 0.0f) {
+            lineSpacing = (int)((font.baseSize + font.baseSize/2.0f)*scaleFactor);
+        }
+
+        // Decode text codepoints, glyphs and advances
+        int length = text.length();
+        int count = 0;
+
+        if (layoutCodepoints.length < length) {
+            layoutCodepoints = new int[length];
+            layoutGlyphs = new int[length];
+            layoutOffsets = new int[length + 1];
+            layoutAdvances = new float[length];
+            layoutPositions = new float[length + 1];
+            layoutKernings = new float[length];
+        }
+
+        for (int i = 0; i < length; i += codepointByteCount) {
+            int codepoint = GetCodepointNext(text, i);
+            int index = GetGlyphIndex(font, codepoint);
+
+            layoutCodepoints[count] = codepoint;
+            layoutGlyphs[count] = index;
+            layoutOffsets[count] = i;
+            layoutAdvances[count] = (codepoint == '\n')? 0.0f : GetGlyphAdvance(font, index, scaleFactor, spacing);
+            layoutKernings[count] = 0.0f;
+
+            // NOTE: Kerning with previous glyph is added to previous glyph advance, lines are not kerned between them
+            if ((count > 0) && (codepoint != '\n') && (layoutCodepoints[count - 1] != '\n')) {
+                float kerning = GetGlyphKerning(font, layoutGlyphs[count - 1], index)*scaleFactor;
+
+                layoutKernings[count - 1] = kerning;
+                layoutAdvances[count - 1] += kerning;
+                layoutPositions[count] += kerning;
+            }
+
+            layoutPositions[count + 1] = layoutPositions[count] + layoutAdvances[count];
+            count++;
+        }
+
+        layoutOffsets[count] = length;
+
+        // Break text into lines
+        int maxLines = (maxHeight > 0.0f)? Math.max(1, (int)((maxHeight - fontSize)/lineSpacing) + 1) : Integer.MAX_VALUE;
+        int lineCount = 0;
+        int lineStart = 0;
+        int lastBreak = -1;     // Last space found in current line, line can be broken there
+
+        for (int k = 0; (k <= count) && (lineCount <= maxLines); k++) {
+            int codepoint = (k < count)? layoutCodepoints[k] : '\n';
+
+            if (codepoint == '\n') {
+                lineCount = AddLayoutLine(lineCount, lineStart, k);
+                lineStart = k + 1;
+                lastBreak = -1;
+                continue;
+            }
+
+            // NOTE: Spaces never break a line, they are trimmed at line end
+            while ((maxWidth > 0.0f) && (k > lineStart) && (codepoint != ' ') &&
+                   (GetLayoutWidth(lineStart, k + 1, spacing) > maxWidth)) {
+                if (lastBreak > lineStart) {
+                    lineCount = AddLayoutLine(lineCount, lineStart, lastBreak);
+                    lineStart = lastBreak + 1;
+                }
+                else {
+                    lineCount = AddLayoutLine(lineCount, lineStart, k);
+                    lineStart = k;
+                }
+
+                lastBreak = -1;
+            }
+
+            if (codepoint == ' ') lastBreak = k;
+        }
+
+        layout.truncated = (lineCount > maxLines);
+        if (layout.truncated) lineCount = maxLines;
+
+        // Truncate last visible line to fit the ellipsis
+        int dotIndex = GetGlyphIndex(font, '.');
+        float dotAdvance = GetGlyphAdvance(font, dotIndex, scaleFactor, spacing);
+        boolean addEllipsis = layout.truncated && ellipsis;
+
+        if (addEllipsis) {
+            int start = layoutLines[2*(lineCount - 1)];
+            int end = layoutLines[2*(lineCount - 1) + 1];
+
+            while ((end > start) && ((layoutCodepoints[end - 1] == ' ') ||
+                   ((maxWidth > 0.0f) && (GetLayoutWidth(start, end, spacing) + 3*dotAdvance > maxWidth)))) end--;
+
+            layoutLines[2*(lineCount - 1) + 1] = end;
+        }
+
+        // Lines widths and alignment reference width
+        layout.lineCount = lineCount;
+        layout.lineStarts = new int[lineCount];
+        layout.lineEnds = new int[lineCount];
+        layout.lineWidths = new float[lineCount];
+
+        float textWidth = 0.0f;
+
+        for (int line = 0; line < lineCount; line++) {
+            int start = layoutLines[2*line];
+            int end = layoutLines[2*line + 1];
+
+            layout.lineStarts[line] = layoutOffsets[start];
+            layout.lineEnds[line] = layoutOffsets[end];
+            layout.lineWidths[line] = GetLayoutWidth(start, end, spacing);
+
+            if (addEllipsis && (line == lineCount - 1)) {
+                layout.lineWidths[line] = (end > start)? layout.lineWidths[line] + 3*dotAdvance : 3*dotAdvance - spacing;
+            }
+
+            textWidth = Math.max(textWidth, layout.lineWidths[line]);
+        }
+
+        float alignWidth = (maxWidth > 0.0f)? maxWidth : textWidth;
+
+        // Generate lines glyph quads
+        // NOTE: Quads are generated in pending glyph quads buffer (empty out of DrawTextEx()) and copied
+        int white = 0xffffffff;
+        glyphQuadCount = 0;
+
+        for (int line = 0; line < lineCount; line++) {
+            int start = layoutLines[2*line];
+            int end = layoutLines[2*line + 1];
+
+            float textOffsetX = 0.0f;
+            float textOffsetY = line*lineSpacing;
+
+            if (alignment == TEXT_ALIGN_CENTER) textOffsetX = (alignWidth - layout.lineWidths[line])/2.0f;
+            else if (alignment == TEXT_ALIGN_RIGHT) textOffsetX = alignWidth - layout.lineWidths[line];
+
+            for (int k = start; k < end; k++) {
+                if ((layoutCodepoints[k] != ' ') && (layoutCodepoints[k] != '\t')) {
+                    AddGlyphQuad(font, layoutGlyphs[k], textOffsetX, textOffsetY, scaleFactor, white);
+                }
+
+                textOffsetX += layoutAdvances[k];
+            }
+
+            if (addEllipsis && (line == lineCount - 1)) {
+                if (end > start) textOffsetX -= layoutKernings[end - 1];
+
+                for (int i = 0; i < 3; i++) {
+                    AddGlyphQuad(font, dotIndex, textOffsetX, textOffsetY, scaleFactor, white);
+                    textOffsetX += dotAdvance;
+                }
+            }
+        }
+
+        layout.font = font;
+        layout.glyphs = font.glyphs;
+        layout.textureId = font.texture.id;
+        layout.text = text;
+        layout.fontSize = fontSize;
+        layout.spacing = spacing;
+
+        layout.quadCount = glyphQuadCount;
+        layout.quads = Arrays.copyOf(glyphQuads, glyphQuadCount*16);
+        layout.colors = Arrays.copyOf(glyphColors, glyphQuadCount);
+        layout.textures = Arrays.copyOf(glyphTextures, glyphQuadCount);
+        layout.color = white;
+        glyphQuadCount = 0;
+
+        float minX = 0.0f, minY = 0.0f, maxX = 0.0f, maxY = 0.0f;
+
+        if (layout.quadCount > 0) {
+            minX = maxX = layout.quads[0];
+            minY = maxY = layout.quads[1];
+
+            for (int i = 0; i < layout.quadCount*16; i += 4) {
+                minX = Math.min(minX, layout.quads[i]);
+                maxX = Math.max(maxX, layout.quads[i]);
+                minY = Math.min(minY, layout.quads[i + 1]);
+                maxY = Math.max(maxY, layout.quads[i + 1]);
+            }
+        }
+
+        layout.bounds = new Rectangle(minX, minY, maxX - minX, maxY - minY);
+        layout.size = new Vector2(textWidth, (lineCount > 0)? (lineCount - 1)*lineSpacing + fontSize : 0.0f);
+    }
+
+    // Get glyph advance when drawing text, same advance DrawTextEx() uses
+    private float GetGlyphAdvance(Font font, int index, float scaleFactor, float spacing) {
+        if (font.glyphs[index].advanceX == 0) return font.recs[index].getWidth()*scaleFactor + spacing;
+        else return (float) font.glyphs[index].advanceX*scaleFactor + spacing;
+    }
+
+    // Get layout codepoints range [start, end) width, last char spacing and kerning not included
+    private float GetLayoutWidth(int start, int end, float spacing) {
+        return (end > start)? layoutPositions[end] - layoutPositions[start] - spacing - layoutKernings[end - 1] : 0.0f;
+    }
+
+    // Add a line to layout lines, trailing spaces trimmed, returns lines count
+    private int AddLayoutLine(int lineCount, int start, int end) {
+        while ((end > start) && (layoutCodepoints[end - 1] == ' ')) end--;
+
+        if (layoutLines.length < 2*(lineCount + 1)) layoutLines = Arrays.copyOf(layoutLines, layoutLines.length*2);
+
+        layoutLines[2*lineCount] = start;
+        layoutLines[2*lineCount + 1] = end;
+
+        return lineCount + 1;
+    }
+
+    // Get text layout from layouts cache, layout is computed (and least recently used layout evicted) if required
+    // NOTE: Returns null on first text draw (admission policy), text must be drawn without layout
+    private TextLayout GetTextLayoutCached(Font font, String text, float fontSize, float spacing) {
+        layoutKey.set(font, text, fontSize, spacing);
+
+        TextLayout layout = layoutCache.get(layoutKey);
+
+        if (layout == null) {
+            int hash = layoutKey.hashCode();
+            int slot = (hash & 0x7fffffff)%layoutCandidates.length;
+
+            // Text not seen before (or slot taken by another text), remember it and do not cache it yet
+            if (layoutCandidates[slot] != hash) {
+                layoutCandidates[slot] = hash;
+                return null;
+            }
+
+            layout = new TextLayout();
+            layoutCache.put(new TextLayoutKey().set(font, text, fontSize, spacing), layout);
         }
+        else if (layout.isValid(font)) {
+            return layout;
+        }
+
+        UpdateTextLayout(layout, font, text, fontSize, spacing);
+
+        return layout;
+    }
+
+    // Remove all cached text layouts for a font
+    private void UnloadTextLayoutsCached(Font font) {
+        layoutCache.keySet().removeIf(key -> key.font == font);
     }
 
     // Draw text using Font and pro parameters (rotation)
@@ -1182,7 +1623,8 @@ public class rText{
                 font.recs[index].getHeight() + 2.0f * font.glyphPadding);
 
         // Draw the character texture on the screen
-        context.textures.DrawTexturePro(font.texture, srcRec, dstRec, new Vector2(), 0.0f, tint);
+        if (font.atlas != null) font.atlas.Update();
+        context.textures.DrawTexturePro(GetGlyphTexture(font, index), srcRec, dstRec, new Vector2(), 0.0f, tint);
     }
 
     // Draw multiple characters (codepoints)
@@ -1190,6 +1632,8 @@ public class rText{
         int textOffsetY = 0;            // Offset between lines (on line break '\n')
         float textOffsetX = 0.0f;       // Offset X to next character to draw
         float scaleFactor = fontSize/font.baseSize;         // Character quad scaling factor
+        int color = context.textures.ColorToInt(tint);
+        int prevIndex = -1;                                 // Previous glyph in line, used for kerning
 
         for (int i = 0; i < codepoints.length; i++) {
             int index = GetGlyphIndex(font, codepoints[i]);
@@ -1198,10 +1642,14 @@ public class rText{
                 // TODO: Support custom line spacing defined by user
                 textOffsetY += (int)((font.baseSize + font.baseSize/2.0f)*scaleFactor);
                 textOffsetX = 0.0f;
+                prevIndex = -1;
             }
             else {
+                if (prevIndex != -1) textOffsetX += GetGlyphKerning(font, prevIndex, index)*scaleFactor;
+                prevIndex = index;
+
                 if ((codepoints[i] != ' ') && (codepoints[i] != '\t')) {
-                    DrawTextCodepoint(font, codepoints[i], new Vector2(position.x + textOffsetX, position.y + textOffsetY), fontSize, tint);
+                    AddGlyphQuad(font, index, position.x + textOffsetX, position.y + textOffsetY, scaleFactor, color);
                 }
 
                 if (font.glyphs[index].advanceX == 0) {
@@ -1212,6 +1660,79 @@ public class rText{
                 }
             }
         }
+
+        DrawGlyphQuads(font);
+    }
+
+    // Add one glyph quad to the pending glyph quads, same quad DrawTextCodepoint() generates
+    // NOTE: We consider chars padding when drawing, it could be required for outline/glow shader effects
+    private void AddGlyphQuad(Font font, int index, float posX, float posY, float scaleFactor, int color) {
+        if (glyphQuadCount == glyphColors.length) {
+            glyphQuads = Arrays.copyOf(glyphQuads, glyphQuads.length*2);
+            glyphColors = Arrays.copyOf(glyphColors, glyphColors.length*2);
+            glyphTextures = Arrays.copyOf(glyphTextures, glyphTextures.length*2);
+        }
+
+        float padding = (float) font.glyphPadding;
+        Rectangle rec = font.recs[index];
+        Texture2D texture = GetGlyphTexture(font, index);
+
+        // Character destination rectangle on screen
+        float x = posX + font.glyphs[index].offsetX*scaleFactor - padding*scaleFactor;
+        float y = posY + font.glyphs[index].offsetY*scaleFactor - padding*scaleFactor;
+        float width = (rec.width + 2.0f*padding)*scaleFactor;
+        float height = (rec.height + 2.0f*padding)*scaleFactor;
+
+        // Character source rectangle from font texture atlas
+        float u0 = (rec.x - padding)/texture.width;
+        float v0 = (rec.y - padding)/texture.height;
+        float u1 = (rec.x + rec.width + padding)/texture.width;
+        float v1 = (rec.y + rec.height + padding)/texture.height;
+
+        float[] quad = glyphQuads;
+        int base = glyphQuadCount*16;
+
+        quad[base] = x;                 quad[base + 1] = y;                 quad[base + 2] = u0;    quad[base + 3] = v0;
+        quad[base + 4] = x;             quad[base + 5] = y + height;        quad[base + 6] = u0;    quad[base + 7] = v1;
+        quad[base + 8] = x + width;     quad[base + 9] = y + height;        quad[base + 10] = u1;   quad[base + 11] = v1;
+        quad[base + 12] = x + width;    quad[base + 13] = y;                quad[base + 14] = u1;   quad[base + 15] = v0;
+
+        glyphColors[glyphQuadCount] = color;
+        glyphTextures[glyphQuadCount] = texture.id;
+        glyphQuadCount++;
+    }
+
+    // Draw pending glyph quads, one rlQuadBatch() call by texture
+    private void DrawGlyphQuads(Font font) {
+        if (glyphQuadCount > 0) {
+            DrawGlyphQuadsBatch(font, glyphQuads, glyphColors, glyphTextures, glyphQuadCount);
+            glyphQuadCount = 0;
+        }
+    }
+
+    // Draw glyph quads, consecutive quads using the same texture are submitted together
+    // NOTE: Dynamic font atlas pages are updated before drawing
+    private void DrawGlyphQuadsBatch(Font font, float[] quads, int[] colors, int[] textures, int quadCount) {
+        if (font.atlas != null) font.atlas.Update();
+
+        for (int start = 0, end; start < quadCount; start = end) {
+            end = start + 1;
+            while ((end < quadCount) && (textures[end] == textures[start])) end++;
+
+            rlQuadBatch(textures[start], quads, start*16, colors, start, end - start);
+        }
+    }
+
+    // Get texture containing a glyph, font texture or dynamic font atlas page
+    private Texture2D GetGlyphTexture(Font font, int index) {
+        return (font.atlas != null)? font.atlas.GetGlyphTexture(index) : font.texture;
+    }
+
+    // Submit pending draws before a dynamic font atlas page is evicted (page texture is going to be cleared)
+    // NOTE: Glyph quads being generated for a layout are not drawn, layout is computed again
+    private void FlushGlyphAtlas(Font font) {
+        if (!glyphQuadsLayout) DrawGlyphQuads(font);
+        rlDrawRenderBatchActive();
     }
 
     // Measure string width for default font
@@ -1233,8 +1754,8 @@ public class rText{
     }
 
     // Measure string size for Font
-    public Vector2 MeasureTextEx(Font font, String text, float fontSize, float spacing){
-        int len = TextLength(text);
+    public Vector2 MeasureTextEx(Font font, CharSequence text, float fontSize, float spacing){
+        int len = text.length();
         int tempLen = 0;                // Used to count longer text line num chars
         int lenCounter = 0;
 
@@ -1246,24 +1767,19 @@ public class rText{
 
         int letter;                 // Current character
         int index;                  // Index position in sprite font
+        int prevIndex = -1;         // Previous glyph in line, used for kerning
 
 
-        for (int i = 0; i < len; i++){
+        for (int i = 0; i < len; i += codepointByteCount){
             lenCounter++;
 
-            next = 0;
-            letter = GetCodepoint(text.substring(i).toCharArray(), next);
-            next = codepointByteCount;
+            letter = GetCodepointNext(text, i);
             index = GetGlyphIndex(font, letter);
 
-            // NOTE: normally we exit the decoding sequence as soon as a bad byte is found (and return 0x3f)
-            // but we need to draw all of the bad bytes using the '?' symbol so to not skip any we set next = 1
-            if (letter == 0x3f){
-                next = 1;
-            }
-            i += next - 1;
-
             if (letter != '\n'){
+                if (prevIndex != -1) textWidth += GetGlyphKerning(font, prevIndex, index);
+                prevIndex = index;
+
                 if (font.glyphs[index].advanceX != 0){
                     textWidth += font.glyphs[index].advanceX;
                 }
@@ -1275,6 +1791,7 @@ public class rText{
                 if (tempTextWidth < textWidth) tempTextWidth = textWidth;
                 lenCounter = 0;
                 textWidth = 0;
+                prevIndex = -1;
                 textHeight += ((float) font.baseSize * 1.5f); // NOTE: Fixed line spacing of 1.5 lines
             }
 
@@ -1290,17 +1807,32 @@ public class rText{
         return vec;
     }
 
+    // Get kerning advance between two glyphs (font glyph indices), scaled to font base size
+    // NOTE: Kerning pairs are loaded with TTF/OTF fonts (SUPPORT_FONT_KERNING), 0.0f if not available
+    public float GetGlyphKerning(Font font, int index, int nextIndex){
+        return (font.kerning != null)? font.kerning.getKerning(index, nextIndex) : 0.0f;
+    }
+
     // Returns index position for a unicode character on spritefont
+    // NOTE: Codepoint lookup uses font glyph index table, table is (re)built if font glyphs array or count have been
+    // changed, or if found glyph codepoint does not match (glyphs changed in place, see GlyphIndex)
     public int GetGlyphIndex(Font font, int codepoint){
+        // Dynamic fonts rasterize glyphs on first use
+        if (font.atlas != null) return font.atlas.GetGlyph(font, codepoint);
+
         // Support charsets with any characters order
-        int index = GLYPH_NOTFOUND_CHAR_FALLBACK;
-        for (int i = 0; i < font.glyphCount; i++){
-            if (font.glyphs[i].value == codepoint){
-                index = i;
-                break;
-            }
+        if ((font.glyphIndex == null) || !font.glyphIndex.isValid(font.glyphs, font.glyphCount)){
+            font.glyphIndex = new GlyphIndex(font.glyphs, font.glyphCount);
+        }
+
+        int index = font.glyphIndex.getIndex(codepoint);
+
+        if ((index >= 0) && ((index >= font.glyphCount) || (font.glyphs[index] == null) || (font.glyphs[index].value != codepoint))){
+            font.glyphIndex = new GlyphIndex(font.glyphs, font.glyphCount);
+            index = font.glyphIndex.getIndex(codepoint);
         }
-        return index;
+
+        return (index >= 0)? index : GLYPH_NOTFOUND_CHAR_FALLBACK;
     }
 
     // Get glyph font info data for a codepoint (unicode character)
@@ -1486,21 +2018,18 @@ public class rText{
         return String.valueOf(utf8);
     }
 
-    // Get all codepoints in a string, codepoints count returned by parameters
-    public int[] LoadCodepoints(String text){
-        int[] codepoints = new int[MAX_TEXT_UNICODE_CHARS];
-        Arrays.fill(codepoints, 0);
-
-        int bytesProcessed = 0;
-        int textLength = TextLength(text);
+    // Get all codepoints in a string, codepoints count is the returned array length
+    public int[] LoadCodepoints(CharSequence text){
+        int textLength = text.length();
+        int[] codepoints = new int[textLength];     // NOTE: Codepoints count is never bigger than chars count
         int codepointsCount = 0;
 
         for (int i = 0; i < textLength; codepointsCount++){
-            codepoints[codepointsCount] = GetCodepoint(text.toCharArray(), i);
-            i += bytesProcessed;
+            codepoints[codepointsCount] = GetCodepointNext(text, i);
+            i += codepointByteCount;
         }
 
-        return codepoints;
+        return (codepointsCount < textLength)? Arrays.copyOf(codepoints, codepointsCount) : codepoints;
     }
 
     // Unload codepoints data from memory
@@ -1508,22 +2037,15 @@ public class rText{
         codepoints = null;
     }
 
-    // Returns total number of characters(codepoints) in a UTF8 encoded text, until '\0' is found
-    // NOTE: If an invalid UTF8 sequence is encountered a '?'(0x3f) codepoint is counted instead
-    public int GetCodepointsCount(String text){
+    // Returns total number of characters(codepoints) in a text, until '\0' is found
+    // NOTE: If an unpaired surrogate is encountered a '?'(0x3f) codepoint is counted instead
+    public int GetCodepointsCount(CharSequence text){
         int len = 0;
         int ptr = 0;
 
         while (ptr < text.length() && text.charAt(ptr) != '\0'){
-            next = 0;
-            int letter = GetCodepoint(text.toCharArray(), ptr);
-
-            if (letter == 0x3f){
-                ptr += 1;
-            }
-            else{
-                ptr += next;
-            }
+            GetCodepointNext(text, ptr);
+            ptr += codepointByteCount;
 
             len++;
         }
@@ -1531,136 +2053,61 @@ public class rText{
         return len;
     }
 
-    // Returns next codepoint in a UTF8 encoded text, scanning until '\0' is found
-    // When a invalid UTF8 byte is encountered we exit as soon as possible and a '?'(0x3f) codepoint is returned
-    // Total number of bytes processed are returned as a parameter
-    // NOTE: the standard says U+FFFD should be returned in case of errors
-    // but that character is not supported by the default font in raylib
-    // TODO: optimize this code for speed!!
-    public int GetCodepoint(char[] text, int bytesProcessed){
-        /*
-            UTF8 specs from https://www.ietf.org/rfc/rfc3629.txt
-            Char. number range  |        UTF-8 octet sequence
-              (hexadecimal)     |              (binary)
-            --------------------+---------------------------------------------
-            0000 0000-0000 007F | 0xxxxxxx
-            0000 0080-0000 07FF | 110xxxxx 10xxxxxx
-            0000 0800-0000 FFFF | 1110xxxx 10xxxxxx 10xxxxxx
-            0001 0000-0010 FFFF | 11110xxx 10xxxxxx 10xxxxxx 10xxxxxx
-        */
-        // NOTE: on decode errors we return as soon as possible
-
-        int code = 0x3f;   // Codepoint (defaults to '?')
-        int octet = text.toString().getBytes(StandardCharsets.UTF_8)[0]; // The first UTF8 octet
-        bytesProcessed = 1;
-
-        if (octet <= 0x7f){
-            // Only one octet (ASCII range x00-7F)
-            code = text[0];
-        }
-        else if ((octet & 0xe0) == 0xc0){
-            // Two octets
-            // [0]xC2-DF    [1]UTF8-tail(x80-BF)
-            char octet1 = text[1];
-
-            if ((octet1 == '\0') || ((octet1 >> 6) != 2)){
-                bytesProcessed = 2;
-                return code;
-            } // Unexpected sequence
-
-            if ((octet >= 0xc2) && (octet <= 0xdf)){
-                code = ((octet & 0x1f) << 6) | (octet1 & 0x3f);
-                bytesProcessed = 2;
-            }
-        }
-        else if ((octet & 0xf0) == 0xe0){
-            // Three octets
-            char octet1 = text[1];
-            char octet2;
-
-            if ((octet1 == '\0') || ((octet1 >> 6) != 2)){
-                bytesProcessed = 2;
-                return code;
-            } // Unexpected sequence
-
-            octet2 = text[2];
-
-            if ((octet2 == '\0') || ((octet2 >> 6) != 2)){
-                bytesProcessed = 3;
-                return code;
-            } // Unexpected sequence
-
-        /*
-            [0]xE0    [1]xA0-BF       [2]UTF8-tail(x80-BF)
-            [0]xE1-EC [1]UTF8-tail    [2]UTF8-tail(x80-BF)
-            [0]xED    [1]x80-9F       [2]UTF8-tail(x80-BF)
-            [0]xEE-EF [1]UTF8-tail    [2]UTF8-tail(x80-BF)
-        */
-
-            if (((octet == 0xe0) && !((octet1 >= 0xa0) && (octet1 <= 0xbf))) ||
-                    ((octet == 0xed) && !((octet1 >= 0x80) && (octet1 <= 0x9f)))){
-                bytesProcessed = 2;
-                return code;
-            }
+    // Returns next codepoint in a UTF-16 encoded text (Java String, StringBuilder...) starting at index
+    // Total number of chars processed (1 or 2) is stored in codepointByteCount, see getCPBC()
+    // NOTE: Text is not copied, surrogate pairs are decoded into one codepoint,
+    // an unpaired surrogate is invalid and a '?'(0x3f) codepoint is returned moving one char
+    public int GetCodepointNext(CharSequence text, int index){
+        char ch = text.charAt(index);
+        int code = ch;
 
-            if ((octet >= 0xe0) && (octet <= 0xef)){
-                code = ((octet & 0xf) << 12) | ((octet1 & 0x3f) << 6) | (octet2 & 0x3f);
-                bytesProcessed = 3;
-            }
-        }
-        else if ((octet & 0xf8) == 0xf0){
-            // Four octets
-            if (octet > 0xf4){
-                return code;
-            }
+        codepointByteCount = 1;
+
+        if (Character.isSurrogate(ch)){
+            code = 0x3f;
 
-            char octet1 = text[1];
-            char octet2 = '\0';
-            char octet3 = '\0';
+            if (Character.isHighSurrogate(ch) && (index + 1 < text.length())){
+                char low = text.charAt(index + 1);
 
-            if ((octet1 == '\0') || ((octet1 >> 6) != 2)){
-                bytesProcessed = 2;
-                return code;
-            }  // Unexpected sequence
+                if (Character.isLowSurrogate(low)){
+                    code = Character.toCodePoint(ch, low);
+                    codepointByteCount = 2;
+                }
+            }
+        }
 
-            octet2 = text[2];
+        return code;
+    }
 
-            if ((octet2 == '\0') || ((octet2 >> 6) != 2)){
-                bytesProcessed = 3;
-                return code;
-            }  // Unexpected sequence
+    // Returns first codepoint in a text chars array
+    // NOTE: bytesProcessed is kept from C API (pointer parameter), Java passes it by value so the total number of
+    // chars processed (1 or 2) is stored in codepointByteCount, see getCPBC()
+    public int GetCodepoint(char[] text, int bytesProcessed){
+        return GetCodepointAt(text, 0);
+    }
 
-            octet3 = text[3];
+    // Returns codepoint at index in a text chars array
+    // Total number of chars processed (1 or 2) is stored in codepointByteCount, see getCPBC()
+    // NOTE: Decoding is the same than GetCodepointNext(), array is indexed directly (not copied or wrapped)
+    public int GetCodepointAt(char[] text, int index){
+        char ch = text[index];
+        int code = ch;
 
-            if ((octet3 == '\0') || ((octet3 >> 6) != 2)){
-                bytesProcessed = 4;
-                return code;
-            }  // Unexpected sequence
+        codepointByteCount = 1;
 
-        /*
-            [0]xF0       [1]x90-BF       [2]UTF8-tail  [3]UTF8-tail
-            [0]xF1-F3    [1]UTF8-tail    [2]UTF8-tail  [3]UTF8-tail
-            [0]xF4       [1]x80-8F       [2]UTF8-tail  [3]UTF8-tail
-        */
+        if (Character.isSurrogate(ch)){
+            code = 0x3f;
 
-            if (((octet == 0xf0) && !((octet1 >= 0x90) && (octet1 <= 0xbf))) ||
-                    ((octet == 0xf4) && !((octet1 >= 0x80) && (octet1 <= 0x8f)))){
-                bytesProcessed = 2;
-                return code;
-            } // Unexpected sequence
+            if (Character.isHighSurrogate(ch) && (index + 1 < text.length)){
+                char low = text[index + 1];
 
-            if (octet >= 0xf0){
-                code = ((octet & 0x7) << 18) | ((octet1 & 0x3f) << 12) | ((octet2 & 0x3f) << 6) | (octet3 & 0x3f);
-                bytesProcessed = 4;
+                if (Character.isLowSurrogate(low)){
+                    code = Character.toCodePoint(ch, low);
+                    codepointByteCount = 2;
+                }
             }
         }
 
-        if (code > 0x10ffff){
-            code = 0x3f;     // Codepoints after U+10ffff are invalid
-        }
-
-        codepointByteCount = bytesProcessed;
-
         return code;
     }
 
@@ -1812,6 +2259,8 @@ public class rText{
 
         context.textures.UnloadImage(imFont);
 
+        font.glyphIndex = new GlyphIndex(font.glyphs, font.glyphCount);
+
         if (font.texture.getId() == 0){
             UnloadFont(font);
             font = GetFontDefault();
@@ -1824,4 +2273,41 @@ public class rText{
         return font;
     }
 
-}
\ No newline at end of file
+    // Text layouts cache key: font (by reference), text, fontSize and spacing
+    private static final class TextLayoutKey {
+        Font font;
+        String text;
+        float fontSize;
+        float spacing;
+
+        TextLayoutKey set(Font font, String text, float fontSize, float spacing) {
+            this.font = font;
+            this.text = text;
+            this.fontSize = fontSize;
+            this.spacing = spacing;
+
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof TextLayoutKey)) return false;
+
+            TextLayoutKey key = (TextLayoutKey) o;
+
+            return (font == key.font) && (Float.compare(fontSize, key.fontSize) == 0) &&
+                    (Float.compare(spacing, key.spacing) == 0) && text.equals(key.text);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = System.identityHashCode(font);
+            hash = 31*hash + text.hashCode();
+            hash = 31*hash + Float.floatToIntBits(fontSize);
+            hash = 31*hash + Float.floatToIntBits(spacing);
+
+            return hash;
+        }
+    }
+
+}
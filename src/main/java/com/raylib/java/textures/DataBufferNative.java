@@ -0,0 +1,128 @@
+package com.raylib.java.textures;
+
+import org.lwjgl.system.MemoryUtil;
+
+import java.awt.image.DataBuffer;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.raylib.java.Config.SUPPORT_IMAGE_LEAK_TRACKING;
+import static com.raylib.java.utils.Tracelog.Tracelog;
+import static com.raylib.java.utils.Tracelog.TracelogType.LOG_WARNING;
+
+// Image data buffer backed by a native (direct) ByteBuffer, one byte by element (TYPE_BYTE)
+// NOTE: Buffer is little-endian (as uploaded to GPU), 16bit pixels are read as getShort(index*2), 32bit channels as getFloat()
+// NOTE: Buffer is shared, not copied: image operations modify pixel data in place and textures
+// are uploaded to GPU directly from the buffer (rlLoadTexture())
+// Data allocated by the buffer is owned native memory, released by free() (UnloadImage()/Image.close()),
+// owned data not released is freed by garbage collector once buffer (and views) are no longer reachable
+public final class DataBufferNative extends DataBuffer{
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final AtomicLong allocatedSize = new AtomicLong();   // Owned native data currently allocated (bytes)
+
+    private ByteBuffer buffer;                  // Pixel data, position 0, limit is data size
+    private final Deallocator deallocator;      // Owned data release, null if data is not owned
+    private final Cleaner.Cleanable cleanable;
+
+    // Allocate zeroed native buffer (owned)
+    public DataBufferNative(int size){
+        // NOTE: Allocating at least one byte, calloc(0) could return NULL
+        this(MemoryUtil.memCalloc(Math.max(size, 1)).limit(size), true);
+    }
+
+    // Allocate native buffer (owned) with a copy of data
+    public DataBufferNative(byte[] data){
+        this(data.length);
+        buffer.put(0, data);
+    }
+
+    // Wrap native buffer remaining data, no copy
+    // NOTE: Data is not owned, buffer memory is managed by its provider (i.e. memory mapped file)
+    public DataBufferNative(ByteBuffer buffer){
+        this(buffer, false);
+    }
+
+    // Use native buffer remaining data, no copy
+    // NOTE: Owned buffer must be allocated (at position 0) with LWJGL memory allocator (MemoryUtil, stb libraries results),
+    // it is released by free() and must not be released by its allocator
+    DataBufferNative(ByteBuffer buffer, boolean owned){
+        super(TYPE_BYTE, buffer.remaining());
+
+        if (owned){
+            this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+            deallocator = new Deallocator(MemoryUtil.memAddress(buffer), buffer.capacity());
+            cleanable = CLEANER.register(buffer, deallocator);
+            allocatedSize.addAndGet(buffer.capacity());
+        }
+        else{
+            this.buffer = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+            deallocator = null;
+            cleanable = null;
+        }
+    }
+
+    // Get native buffer (pixel data view, no copy)
+    public ByteBuffer getBuffer(){
+        return buffer;
+    }
+
+    // Release owned native data, buffer (and views) can not be used after release
+    // NOTE: Not owned data is only dropped, calling free() more than once is safe
+    public void free(){
+        if (deallocator != null){
+            deallocator.unloaded = true;
+            cleanable.clean();
+        }
+
+        buffer = null;
+    }
+
+    // Get owned native data currently allocated by images (bytes), used to check for leaks
+    public static long getAllocatedSize(){
+        return allocatedSize.get();
+    }
+
+    @Override
+    public int getElem(int bank, int i){
+        return buffer.get(i) & 0xff;
+    }
+
+    @Override
+    public void setElem(int bank, int i, int val){
+        buffer.put(i, (byte) val);
+    }
+
+    // Owned native data release, run once: on free() or when buffer is no longer reachable
+    // NOTE: It must not reference the buffer, allocation stack trace is only recorded with SUPPORT_IMAGE_LEAK_TRACKING
+    private static final class Deallocator implements Runnable{
+
+        private final long address;
+        private final int size;
+        private final Throwable allocation;
+        volatile boolean unloaded;
+
+        Deallocator(long address, int size){
+            this.address = address;
+            this.size = size;
+            this.allocation = SUPPORT_IMAGE_LEAK_TRACKING? new Throwable("Image data allocation") : null;
+        }
+
+        @Override
+        public void run(){
+            if (!unloaded && (allocation != null)){
+                StringBuilder trace = new StringBuilder();
+                for (StackTraceElement element : allocation.getStackTrace()){
+                    if (!element.getClassName().startsWith(DataBufferNative.class.getName())) trace.append("\n\tat ").append(element);
+                }
+
+                Tracelog(LOG_WARNING, "IMAGE: Image data not unloaded (" + size + " bytes), released by garbage collector" + trace);
+            }
+
+            MemoryUtil.nmemFree(address);
+            allocatedSize.addAndGet(-size);
+        }
+    }
+}
@@ -3,11 +3,15 @@ package com.raylib.java.textures;
 import com.raylib.java.core.Color;
 
 import java.awt.image.DataBuffer;
-import java.awt.image.DataBufferByte;
 import java.awt.image.DataBufferInt;
 import java.awt.image.DataBufferShort;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
-public class Image{
+// NOTE: Byte pixel data is stored in a native buffer (DataBufferNative), image operations work on it in place
+// and textures are uploaded from it with no copies, getData() returns a copy of pixel data
+// Native data is owned by image: it is released by UnloadImage()/close() and when image data is replaced
+public class Image implements AutoCloseable{
 
     protected DataBuffer data;               // Image raw data
     public int width;                        // Image base width
@@ -30,7 +34,7 @@ public class Image{
             dataB[i + 2] = (byte) pixels[j].getB();
             dataB[i + 3] = (byte) pixels[j].getA();
         }
-        data = new DataBufferByte(dataB,dataB.length);
+        data = new DataBufferNative(dataB);
         this.width = width;
         this.height = height;
         this.format = pixForInt;
@@ -38,23 +42,60 @@ public class Image{
     }
 
     public Image(byte[] data, int width, int height, int pixForInt, int mipmaps){
-        this.data = new DataBufferByte(data,data.length);
+        this.data = new DataBufferNative(data);
         this.width = width;
         this.height = height;
         this.format = pixForInt;
         this.mipmaps = mipmaps;
     }
 
+    // Image using provided native buffer as pixel data (remaining bytes), no copy
+    public Image(ByteBuffer data, int width, int height, int pixForInt, int mipmaps){
+        this.data = new DataBufferNative(data);
+        this.width = width;
+        this.height = height;
+        this.format = pixForInt;
+        this.mipmaps = mipmaps;
+    }
+
+    // Get a copy of image data (pixel data bytes)
+    // NOTE: Short/int data (setData(short[])/setData(int[])) elements are stored as 2/4 bytes (little endian),
+    // same layout than pixel data uploaded to GPU, other data types are not supported
     public byte[] getData(){
-        byte[] dataB = new byte[data.getSize()];
-        for(int s = 0;s < dataB.length; s++){
-            dataB[s] = (byte) data.getElem(s);
+        if (data instanceof DataBufferNative){
+            byte[] dataB = new byte[data.getSize()];
+            ((DataBufferNative) data).getBuffer().get(0, dataB);
+
+            return dataB;
         }
-        return dataB;
+
+        int elementSize = DataBuffer.getDataTypeSize(data.getDataType())/8;
+        ByteBuffer dataB = ByteBuffer.allocate(data.getSize()*elementSize).order(ByteOrder.LITTLE_ENDIAN);
+
+        for (int s = 0; s < data.getSize(); s++){
+            switch (data.getDataType()){
+                case DataBuffer.TYPE_BYTE: dataB.put((byte) data.getElem(s)); break;
+                case DataBuffer.TYPE_USHORT:
+                case DataBuffer.TYPE_SHORT: dataB.putShort((short) data.getElem(s)); break;
+                case DataBuffer.TYPE_INT: dataB.putInt(data.getElem(s)); break;
+                default: throw new UnsupportedOperationException("Image data type not supported: " + data.getDataType());
+            }
+        }
+
+        return dataB.array();
+    }
+
+    // Get image data native buffer (view, no copy), image operations and changes on buffer share the same data
+    // NOTE: Data not stored in a native buffer (short/int data) is moved to a native buffer, see getData() layout
+    public ByteBuffer getBuffer(){
+        if (data == null) return null;
+        if (!(data instanceof DataBufferNative)) replaceData(new DataBufferNative(getData()));
+
+        return ((DataBufferNative) data).getBuffer();
     }
 
     public void setData(short[] data){
-        this.data = new DataBufferShort(data, data.length);
+        replaceData(new DataBufferShort(data, data.length));
     }
     public void setData(Color[] data){
         byte[] dataB = new byte[data.length*4];
@@ -66,13 +107,37 @@ public class Image{
             dataB[g+3] = (byte) data[i].a;
             g+=4;
         }
-        this.data = new DataBufferByte(dataB, dataB.length);
+        setData(dataB);
     }
+    // NOTE: Data is copied to image native buffer, reused if it has the same size
+    // WARNING: Previously (heap DataBufferByte) image data was the provided array, changes to the array after setData()
+    // were seen by image. Array is now copied: changes are not seen, use getBuffer() to modify image data in place
     public void setData(byte[] data){
-        this.data = new DataBufferByte(data, data.length);
+        if ((this.data instanceof DataBufferNative) && (this.data.getSize() == data.length) &&
+            !((DataBufferNative) this.data).getBuffer().isReadOnly()){
+            ((DataBufferNative) this.data).getBuffer().put(0, data);
+        }
+        else replaceData(new DataBufferNative(data));
+    }
+    // NOTE: Native buffer is used as image data (remaining bytes), no copy, buffer is not owned by image
+    // WARNING: Buffer can not be a view of current image data, it is released
+    public void setData(ByteBuffer data){
+        replaceData(new DataBufferNative(data));
     }
     public void setData(int[] data){
-        this.data = new DataBufferInt(data, data.length);
+        replaceData(new DataBufferInt(data, data.length));
+    }
+
+    // Replace image data, previous native data is released
+    void replaceData(DataBuffer data){
+        if ((this.data instanceof DataBufferNative) && (this.data != data)) ((DataBufferNative) this.data).free();
+        this.data = data;
+    }
+
+    // Unload image data from memory (native data is released), same as UnloadImage()
+    @Override
+    public void close(){
+        replaceData(null);
     }
 
 
@@ -0,0 +1,38 @@
+package com.raylib.java.textures;
+
+import com.raylib.java.shapes.Rectangle;
+
+// Image atlas (sprite sheet), images packed into a single image: GenImageAtlas()
+public class ImageAtlas{
+
+    Image image;            // Atlas image (R8G8B8A8)
+    Rectangle[] recs;       // Images rectangles in atlas, same order than source images
+    int count;              // Number of images packed
+    float efficiency;       // Packing efficiency: images area / atlas area
+
+    public ImageAtlas(){
+        image = new Image();
+        recs = new Rectangle[0];
+        count = 0;
+    }
+
+    public Image getImage(){
+        return image;
+    }
+
+    public Rectangle[] getRecs(){
+        return recs;
+    }
+
+    public Rectangle getRec(int index){
+        return recs[index];
+    }
+
+    public int getCount(){
+        return count;
+    }
+
+    public float getEfficiency(){
+        return efficiency;
+    }
+}
@@ -0,0 +1,65 @@
+package com.raylib.java.textures;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static com.raylib.java.Config.IMAGE_PARALLEL_BAND_PIXELS;
+import static com.raylib.java.Config.IMAGE_PARALLEL_MIN_PIXELS;
+import static com.raylib.java.Config.SUPPORT_IMAGE_PARALLEL_PROCESSING;
+
+// Image rows processing, big images are processed in row bands using ForkJoin common pool
+// NOTE: Kernels must only write pixels of their own rows (and read data not written by other rows), so every pixel
+// is computed the same way whatever bands order and result is the same than serial processing
+final class ImageRows{
+
+    // Image rows kernel, processes rows [startRow, endRow)
+    @FunctionalInterface
+    interface RowsKernel{
+        void Process(int startRow, int endRow);
+    }
+
+    private ImageRows(){
+    }
+
+    // Process image rows [0, height), in parallel for images with IMAGE_PARALLEL_MIN_PIXELS pixels or more
+    static void ProcessRows(int width, int height, RowsKernel kernel){
+        if (SUPPORT_IMAGE_PARALLEL_PROCESSING && (height > 1) && ((long) width*height >= IMAGE_PARALLEL_MIN_PIXELS)){
+            int bandRows = Math.max(IMAGE_PARALLEL_BAND_PIXELS/Math.max(width, 1), 1);
+
+            ForkJoinPool.commonPool().invoke(new ProcessRowsTask(kernel, 0, height, bandRows));
+        }
+        else kernel.Process(0, height);
+    }
+
+    // Process image pixels [0, width*height), rows processed as ProcessRows(), kernel processes pixels [start, end)
+    static void ProcessPixels(int width, int height, RowsKernel kernel){
+        ProcessRows(width, height, (startRow, endRow) -> kernel.Process(startRow*width, endRow*width));
+    }
+
+    // Image rows processing task, rows range is split until bandRows
+    private static class ProcessRowsTask extends RecursiveAction{
+
+        private static final long serialVersionUID = 1L;
+
+        private final RowsKernel kernel;
+        private final int start, end;
+        private final int bandRows;
+
+        ProcessRowsTask(RowsKernel kernel, int start, int end, int bandRows){
+            this.kernel = kernel;
+            this.start = start;
+            this.end = end;
+            this.bandRows = bandRows;
+        }
+
+        @Override
+        protected void compute(){
+            if (end - start <= bandRows) kernel.Process(start, end);
+            else{
+                int middle = (start + end) >>> 1;
+                invokeAll(new ProcessRowsTask(kernel, start, middle, bandRows),
+                          new ProcessRowsTask(kernel, middle, end, bandRows));
+            }
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package com.raylib.java.textures;
+
+import com.raylib.java.shapes.Rectangle;
+
+import java.util.Arrays;
+
+// Rectangles packer, used to generate font and image atlases
+// NOTE: Three packing methods are available:
+//   - Rows (basic): rectangles are added one after another, a new row is started when width is exceeded
+//   - Skyline (bottom-left): fast, rectangles are added on top of a skyline, good for similar heights (glyphs)
+//   - MaxRects (bottom-left): free space is kept as maximal free rectangles, better for mixed sizes (sprites)
+// Packer can be used incrementally (PackRec()) with a fixed size, or with PackRecsAuto() to find a small
+// (non-POT unless requested) atlas size for a set of rectangles
+public class RectPacker{
+
+    public static class PackMethod{
+        public static final int
+                PACK_ROWS = 0,          // Basic rows packing
+                PACK_SKYLINE = 1,       // Skyline bottom-left packing
+                PACK_MAXRECTS = 2;      // MaxRects bottom-left packing
+    }
+
+    private final int width;        // Packing area width
+    private final int height;       // Packing area height
+    private final int method;       // Packing method (PackMethod)
+
+    // Skyline nodes: x, y, width (sorted by x, covering packing area width)
+    private int[] skyline;
+    private int skylineCount;
+
+    // MaxRects free rectangles: x, y, width, height
+    private int[] freeRecs;
+    private int freeCount;
+
+    // Rows current position and row height
+    private int rowX;
+    private int rowY;
+    private int rowHeight;
+
+    private int usedWidth;          // Packed rectangles bounds width
+    private int usedHeight;         // Packed rectangles bounds height
+    private long usedArea;          // Packed rectangles area
+
+    public RectPacker(int width, int height, int method){
+        this.width = width;
+        this.height = height;
+        this.method = method;
+
+        Reset();
+    }
+
+    // Remove all packed rectangles
+    public void Reset(){
+        if (method == PackMethod.PACK_MAXRECTS){
+            freeRecs = new int[4*16];
+            freeRecs[0] = 0;
+            freeRecs[1] = 0;
+            freeRecs[2] = width;
+            freeRecs[3] = height;
+            freeCount = 1;
+        }
+        else if (method == PackMethod.PACK_SKYLINE){
+            skyline = new int[3*16];
+            skyline[0] = 0;
+            skyline[1] = 0;
+            skyline[2] = width;
+            skylineCount = 1;
+        }
+
+        rowX = 0;
+        rowY = 0;
+        rowHeight = 0;
+        usedWidth = 0;
+        usedHeight = 0;
+        usedArea = 0;
+    }
+
+    // Pack a rectangle, position returned by parameter (x, y), returns false if rectangle does not fit
+    public boolean PackRec(int recWidth, int recHeight, int[] position){
+        if ((recWidth < 0) || (recHeight < 0) || (recWidth > width) || (recHeight > height)) return false;
+
+        boolean packed;
+
+        switch (method){
+            case PackMethod.PACK_SKYLINE: packed = PackSkyline(recWidth, recHeight, position); break;
+            case PackMethod.PACK_MAXRECTS: packed = PackMaxRects(recWidth, recHeight, position); break;
+            default: packed = PackRows(recWidth, recHeight, position); break;
+        }
+
+        if (packed){
+            usedWidth = Math.max(usedWidth, position[0] + recWidth);
+            usedHeight = Math.max(usedHeight, position[1] + recHeight);
+            usedArea += (long) recWidth*recHeight;
+        }
+
+        return packed;
+    }
+
+    // Pack rectangles (width, height), rectangles position is set (x, y), returns number of rectangles packed
+    // NOTE: Rectangles are packed by decreasing height (then width), not packed rectangles are set to (0, 0)
+    public int PackRecs(Rectangle[] recs, int count){
+        int packed = 0;
+        int[] position = new int[2];
+
+        for (int i : GetPackOrder(recs, count)){
+            if (PackRec((int) recs[i].width, (int) recs[i].height, position)){
+                recs[i].x = (float) position[0];
+                recs[i].y = (float) position[1];
+                packed++;
+            }
+            else{
+                recs[i].x = 0;
+                recs[i].y = 0;
+            }
+        }
+
+        return packed;
+    }
+
+    // Pack rectangles (width, height) in a small atlas, rectangles position is set (x, y)
+    // NOTE: Several atlas widths are tried with unbounded height, packing with the lowest area is kept,
+    // atlas size is packer getWidth() x getHeight(), rounded to POT if required
+    public static RectPacker PackRecsAuto(Rectangle[] recs, int count, int method, boolean pot){
+        long area = 0;
+        int maxWidth = 1;
+        int sumHeight = 0;
+
+        for (int i = 0; i < count; i++){
+            area += (long) recs[i].width*(long) recs[i].height;
+            maxWidth = Math.max(maxWidth, (int) recs[i].width);
+            sumHeight += (int) recs[i].height;
+        }
+
+        int side = Math.max(maxWidth, (int) Math.ceil(Math.sqrt((double) area)));
+        int[] order = GetPackOrder(recs, count);
+        int[] position = new int[2];
+        int bestWidth = 1, bestHeight = 1;
+        long bestArea = Long.MAX_VALUE;
+
+        // NOTE: Candidate widths go from 0.75x to 1.5x square side (POT: from max rectangle width to 2x side)
+        int steps = pot? Integer.numberOfTrailingZeros(2*NextPOT(side)/NextPOT(maxWidth)) : 6;
+
+        for (int step = 0; step <= steps; step++){
+            int candidate = pot? NextPOT(maxWidth) << step : Math.max(maxWidth, side*(12 + 2*step)/16);
+
+            RectPacker packer = new RectPacker(candidate, Math.max(sumHeight, 1), method);
+            for (int i : order) packer.PackRec((int) recs[i].width, (int) recs[i].height, position);
+
+            int w = pot? candidate : Math.max(packer.usedWidth, 1);
+            int h = pot? NextPOT(packer.usedHeight) : Math.max(packer.usedHeight, 1);
+
+            // NOTE: On same area, squarer atlas is preferred
+            if (((long) w*h < bestArea) || (((long) w*h == bestArea) && (Math.abs(w - h) < Math.abs(bestWidth - bestHeight)))){
+                bestArea = (long) w*h;
+                bestWidth = w;
+                bestHeight = h;
+            }
+        }
+
+        // Pack again with best size, height is increased in the unlikely case rectangles do not fit
+        // NOTE: Height grows geometrically (POT: x2, NPOT: x1.5), so only a few retries are ever required
+        RectPacker packer = new RectPacker(bestWidth, bestHeight, method);
+
+        while (packer.PackRecs(recs, count) < count){
+            packer = new RectPacker(bestWidth, pot? packer.height*2 : packer.height + Math.max(packer.height/2, 1), method);
+        }
+
+        return packer;
+    }
+
+    public int getWidth(){
+        return width;
+    }
+
+    public int getHeight(){
+        return height;
+    }
+
+    public int getMethod(){
+        return method;
+    }
+
+    public int getUsedWidth(){
+        return usedWidth;
+    }
+
+    public int getUsedHeight(){
+        return usedHeight;
+    }
+
+    public long getUsedArea(){
+        return usedArea;
+    }
+
+    // Get packing efficiency: packed rectangles area / packing area
+    public float GetEfficiency(){
+        return ((width > 0) && (height > 0))? (float) ((double) usedArea/((double) width*height)) : 0.0f;
+    }
+
+    // Rows: rectangle is placed after previous one, on a new row if it does not fit in current row width
+    private boolean PackRows(int recWidth, int recHeight, int[] position){
+        if (rowX + recWidth > width){
+            rowY += rowHeight;
+            rowX = 0;
+            rowHeight = 0;
+        }
+
+        if (rowY + recHeight > height) return false;
+
+        position[0] = rowX;
+        position[1] = rowY;
+
+        rowX += recWidth;
+        rowHeight = Math.max(rowHeight, recHeight);
+
+        return true;
+    }
+
+    // Skyline bottom-left: rectangle is placed at the lowest position, on tie, at the narrowest node
+    private boolean PackSkyline(int recWidth, int recHeight, int[] position){
+        int bestNode = -1, bestY = Integer.MAX_VALUE, bestNodeWidth = Integer.MAX_VALUE;
+
+        for (int n = 0; n < skylineCount; n++){
+            int x = skyline[3*n];
+            if (x + recWidth > width) break;
+
+            // Rectangle y is the highest skyline node y below rectangle width
+            int y = skyline[3*n + 1];
+            for (int k = n + 1; (k < skylineCount) && (skyline[3*k] < x + recWidth); k++) y = Math.max(y, skyline[3*k + 1]);
+
+            if ((y + recHeight <= height) && ((y < bestY) || ((y == bestY) && (skyline[3*n + 2] < bestNodeWidth)))){
+                bestNode = n;
+                bestY = y;
+                bestNodeWidth = skyline[3*n + 2];
+            }
+        }
+
+        if (bestNode < 0) return false;
+
+        int x = skyline[3*bestNode];
+        position[0] = x;
+        position[1] = bestY;
+
+        // Insert new node and shrink/remove nodes covered by rectangle
+        if (recWidth > 0){
+            int end = x + recWidth;
+            int last = bestNode;
+            while ((last < skylineCount) && (skyline[3*last] + skyline[3*last + 2] <= end)) last++;
+
+            // Nodes [bestNode, last) are fully covered, node last (if any) is partially covered
+            if (last < skylineCount){
+                int nodeEnd = skyline[3*last] + skyline[3*last + 2];
+                skyline[3*last] = end;
+                skyline[3*last + 2] = nodeEnd - end;
+            }
+
+            int removed = last - bestNode;
+            int newCount = skylineCount - removed + 1;
+            if (3*newCount > skyline.length) skyline = Arrays.copyOf(skyline, Math.max(skyline.length*2, 3*newCount));
+
+            System.arraycopy(skyline, 3*last, skyline, 3*(bestNode + 1), 3*(skylineCount - last));
+            skylineCount = newCount;
+
+            skyline[3*bestNode] = x;
+            skyline[3*bestNode + 1] = bestY + recHeight;
+            skyline[3*bestNode + 2] = recWidth;
+
+            MergeSkyline();
+        }
+
+        return true;
+    }
+
+    // Merge consecutive skyline nodes with same y
+    private void MergeSkyline(){
+        int count = 1;
+
+        for (int n = 1; n < skylineCount; n++){
+            if (skyline[3*n + 1] == skyline[3*(count - 1) + 1]) skyline[3*(count - 1) + 2] += skyline[3*n + 2];
+            else{
+                skyline[3*count] = skyline[3*n];
+                skyline[3*count + 1] = skyline[3*n + 1];
+                skyline[3*count + 2] = skyline[3*n + 2];
+                count++;
+            }
+        }
+
+        skylineCount = count;
+    }
+
+    // MaxRects bottom-left: rectangle is placed at the free rectangle giving the lowest bottom, on tie, leftmost
+    private boolean PackMaxRects(int recWidth, int recHeight, int[] position){
+        int bestBottom = Integer.MAX_VALUE, bestX = Integer.MAX_VALUE, best = -1;
+
+        for (int f = 0; f < freeCount; f++){
+            int fx = freeRecs[4*f], fy = freeRecs[4*f + 1];
+
+            if ((freeRecs[4*f + 2] >= recWidth) && (freeRecs[4*f + 3] >= recHeight)){
+                int bottom = fy + recHeight;
+
+                if ((bottom < bestBottom) || ((bottom == bestBottom) && (fx < bestX))){
+                    best = f;
+                    bestBottom = bottom;
+                    bestX = fx;
+                }
+            }
+        }
+
+        if (best < 0) return false;
+
+        position[0] = freeRecs[4*best];
+        position[1] = freeRecs[4*best + 1];
+
+        if ((recWidth > 0) && (recHeight > 0)) SplitFreeRecs(position[0], position[1], recWidth, recHeight);
+
+        return true;
+    }
+
+    // Split free rectangles intersecting used rectangle, new free rectangles not contained in others are kept
+    private void SplitFreeRecs(int x, int y, int w, int h){
+        int oldCount = freeCount;
+
+        for (int f = 0; f < oldCount; f++){
+            int fx = freeRecs[4*f], fy = freeRecs[4*f + 1], fw = freeRecs[4*f + 2], fh = freeRecs[4*f + 3];
+
+            if ((x >= fx + fw) || (x + w <= fx) || (y >= fy + fh) || (y + h <= fy)) continue;
+
+            // NOTE: Up to 4 maximal rectangles are left around used rectangle
+            if (x > fx) AddFreeRec(fx, fy, x - fx, fh);
+            if (x + w < fx + fw) AddFreeRec(x + w, fy, fx + fw - x - w, fh);
+            if (y > fy) AddFreeRec(fx, fy, fw, y - fy);
+            if (y + h < fy + fh) AddFreeRec(fx, y + h, fw, fy + fh - y - h);
+
+            freeRecs[4*f + 2] = 0;      // Mark as removed
+        }
+
+        // Remove split and contained rectangles
+        // NOTE: Only new rectangles [oldCount, freeCount) can be contained in others or contain others
+        for (int i = oldCount; i < freeCount; i++){
+            if (freeRecs[4*i + 2] == 0) continue;
+
+            for (int j = 0; j < freeCount; j++){
+                if ((i == j) || (freeRecs[4*j + 2] == 0)) continue;
+
+                if (Contains(j, i)){
+                    freeRecs[4*i + 2] = 0;
+                    break;
+                }
+                if (Contains(i, j)) freeRecs[4*j + 2] = 0;
+            }
+        }
+
+        int count = 0;
+        for (int f = 0; f < freeCount; f++){
+            if (freeRecs[4*f + 2] > 0){
+                if (count != f) System.arraycopy(freeRecs, 4*f, freeRecs, 4*count, 4);
+                count++;
+            }
+        }
+
+        freeCount = count;
+    }
+
+    private void AddFreeRec(int x, int y, int w, int h){
+        if (4*(freeCount + 1) > freeRecs.length) freeRecs = Arrays.copyOf(freeRecs, freeRecs.length*2);
+
+        freeRecs[4*freeCount] = x;
+        freeRecs[4*freeCount + 1] = y;
+        freeRecs[4*freeCount + 2] = w;
+        freeRecs[4*freeCount + 3] = h;
+        freeCount++;
+    }
+
+    // Check if free rectangle a contains free rectangle b
+    private boolean Contains(int a, int b){
+        return (freeRecs[4*b] >= freeRecs[4*a]) && (freeRecs[4*b + 1] >= freeRecs[4*a + 1]) &&
+                (freeRecs[4*b] + freeRecs[4*b + 2] <= freeRecs[4*a] + freeRecs[4*a + 2]) &&
+                (freeRecs[4*b + 1] + freeRecs[4*b + 3] <= freeRecs[4*a + 1] + freeRecs[4*a + 3]);
+    }
+
+    // Get rectangles packing order: decreasing height, then decreasing width
+    private static int[] GetPackOrder(Rectangle[] recs, int count){
+        // NOTE: Sort key packs height and width (15 bits each) with index, no boxing
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++){
+            long h = Math.min((int) recs[i].height, 0x7fff);
+            long w = Math.min((int) recs[i].width, 0x7fff);
+            keys[i] = ((0x7fffL - h) << 47) | ((0x7fffL - w) << 32) | i;
+        }
+
+        Arrays.sort(keys);
+
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) order[i] = (int) keys[i];
+
+        return order;
+    }
+
+    // Get next power of two
+    private static int NextPOT(int value){
+        int pot = 1;
+        while (pot < value) pot <<= 1;
+
+        return pot;
+    }
+}
@@ -0,0 +1,44 @@
+package com.raylib.java.textures;
+
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+
+import static com.raylib.java.Config.IMAGE_SCRATCH_BUFFER_MAX_SIZE;
+
+// Native scratch buffers pool, temporary buffers used to pass data to native libraries (i.e. stb_image file data)
+// NOTE: One buffer is kept by thread and reused by next requests of same or smaller size, buffers bigger
+// than IMAGE_SCRATCH_BUFFER_MAX_SIZE are never pooled, they are freed on release
+final class ScratchBufferPool{
+
+    private static final ThreadLocal<ByteBuffer> pool = new ThreadLocal<>();
+
+    private ScratchBufferPool(){
+    }
+
+    // Get scratch buffer with a copy of data (size bytes), buffer must be returned with Release()
+    static ByteBuffer Acquire(byte[] data, int size){
+        ByteBuffer buffer = pool.get();
+
+        if ((buffer != null) && (buffer.capacity() >= size)){
+            pool.set(null);
+            buffer.clear().limit(size);
+        }
+        else buffer = MemoryUtil.memAlloc(Math.max(size, 1)).limit(size);
+
+        return buffer.put(0, data, 0, size);
+    }
+
+    // Return scratch buffer to pool, biggest buffer is kept
+    static void Release(ByteBuffer buffer){
+        ByteBuffer pooled = pool.get();
+
+        if ((buffer.capacity() > IMAGE_SCRATCH_BUFFER_MAX_SIZE) || ((pooled != null) && (pooled.capacity() >= buffer.capacity()))){
+            MemoryUtil.memFree(buffer);
+        }
+        else{
+            if (pooled != null) MemoryUtil.memFree(pooled);
+            pool.set(buffer);
+        }
+    }
+}
@@ -24,7 +24,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
+import java.util.Arrays;
 
 import static com.raylib.java.Config.*;
 import static com.raylib.java.core.Color.BLANK;
@@ -45,7 +48,7 @@ import static org.lwjgl.stb.STBImageResize.stbir_resize_uint8;
 
 public class rTextures{
 
-    final int UNCOMPRESSED_R5G5B5A1_ALPHA_THRESHOLD = 50;
+    static final int UNCOMPRESSED_R5G5B5A1_ALPHA_THRESHOLD = 50;
 
     // Cubemap layouts
     public static class CubemapLayoutType{
@@ -59,6 +62,8 @@ public class rTextures{
     }
 
     private final Raylib context;
+    private final float[] quadData = new float[16];     // DrawTexturePro() quad (x, y, u, v by vertex)
+    private final int[] quadColor = new int[1];         // DrawTexturePro() quad color
 
     public rTextures(Raylib context) {
         this.context = context;
@@ -133,12 +138,12 @@ public class rTextures{
         int framesCount = 1;
 
         if (SUPPORT_FILEFORMAT_GIF) {
-            if (context.core.IsFileExtension(fileName, ".gif")) {
+            if (rCore.IsFileExtension(fileName, ".gif")) {
                 byte[] fileData = null;
                 try{
                     BufferedImage tmpImg = ImageIO.read(new File(fileName));
                     ByteArrayOutputStream os = new ByteArrayOutputStream();
-                    ImageIO.write(tmpImg, context.core.GetFileExtension(fileName).substring(1), os);
+                    ImageIO.write(tmpImg, rCore.GetFileExtension(fileName).substring(1), os);
                     fileData = os.toByteArray();
                 } catch (IOException exception) {
                     exception.printStackTrace();
@@ -154,24 +159,23 @@ public class rTextures{
                         IntBuffer framesBuffer = stack.mallocInt(1);
                         framesBuffer.put(framesCount).flip();
 
-                        ByteBuffer fileDataBuffer = MemoryUtil.memAlloc(fileData.length);
-                        fileDataBuffer.put(fileData).flip();
+                        ByteBuffer fileDataBuffer = ScratchBufferPool.Acquire(fileData, fileData.length);
+                        ByteBuffer imgBuffer;
 
-                        ByteBuffer imgBuffer = STBImage.stbi_load_gif_from_memory(fileDataBuffer, delaysBuffer,
-                                                                                  widthBuffer, heightBuffer, framesBuffer, compBuffer, 4);
+                        try {
+                            imgBuffer = STBImage.stbi_load_gif_from_memory(fileDataBuffer, delaysBuffer,
+                                                                           widthBuffer, heightBuffer, framesBuffer, compBuffer, 4);
+                        } finally {
+                            ScratchBufferPool.Release(fileDataBuffer);
+                        }
 
                         image.width = widthBuffer.get();
                         image.height = heightBuffer.get();
                         image.mipmaps = 1;
                         image.format = RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
 
-                        if (imgBuffer != null) {
-                            byte[] bytes = new byte[imgBuffer.capacity()];
-                            for (int i = 0; i < bytes.length; i++) {
-                                bytes[i] = imgBuffer.get();
-                            }
-                            image.setData(bytes);
-                        }
+                        // NOTE: Decoded frames buffer is used as image data, no copy, released on UnloadImage()
+                        if (imgBuffer != null) image.replaceData(new DataBufferNative(imgBuffer, true));
                         fileData = null;
                     }
                 }
@@ -193,106 +197,98 @@ public class rTextures{
     public Image LoadImageFromMemory(String fileType, byte[] fileData, int dataSize) {
         Image image = new Image();
 
-        if (SUPPORT_FILEFORMAT_PNG || SUPPORT_FILEFORMAT_BMP || SUPPORT_FILEFORMAT_TGA || SUPPORT_FILEFORMAT_JPG ||
-                SUPPORT_FILEFORMAT_GIF || SUPPORT_FILEFORMAT_PIC || SUPPORT_FILEFORMAT_PSD) {
-            if (fileType.equals(".png") || fileType.equals(".bmp") || fileType.equals(".tga") ||
-                    (fileType.equals(".jpeg") || fileType.equals(".jpg")) || fileType.equals(".gif") ||
-                    fileType.equals(".pic") || fileType.equals(".psd")) {
-
-                if (fileData != null) {
-                    int comp = 0;
-                    try (MemoryStack stack = MemoryStack.stackPush()) {
-                        IntBuffer widthBuffer = stack.mallocInt(1);
-                        IntBuffer heightBuffer = stack.mallocInt(1);
-                        IntBuffer compBuffer = stack.mallocInt(1);
-
-                        ByteBuffer fileDataBuffer = MemoryUtil.memAlloc(fileData.length);
-                        fileDataBuffer.put(fileData).flip();
-
-                        ByteBuffer imgBuffer = STBImage.stbi_load_from_memory(fileDataBuffer, widthBuffer,
-                                                                              heightBuffer, compBuffer, 0);
-                        if (imgBuffer == null) {
-                            Tracelog(LOG_WARNING, "Failed to load image: " + fileType + "\t" + STBImage.stbi_failure_reason());
-                        }
-                        image.width = widthBuffer.get();
-                        image.height = heightBuffer.get();
-                        comp = compBuffer.get();
-                        if (imgBuffer != null) {
-                            byte[] bytes = new byte[imgBuffer.capacity()];
-                            for (int i = 0; i < bytes.length; i++) {
-                                bytes[i] = imgBuffer.get();
-                            }
-                            image.setData(bytes);
-                            //STBImage.stbi_image_free(imgBuffer);
-                        }
-                    } catch (Exception e) {
-                        e.printStackTrace();
+        if ((SUPPORT_FILEFORMAT_PNG || SUPPORT_FILEFORMAT_BMP || SUPPORT_FILEFORMAT_TGA || SUPPORT_FILEFORMAT_JPG ||
+                SUPPORT_FILEFORMAT_GIF || SUPPORT_FILEFORMAT_PIC || SUPPORT_FILEFORMAT_PSD) &&
+                (fileType.equals(".png") || fileType.equals(".bmp") || fileType.equals(".tga") ||
+                fileType.equals(".jpeg") || fileType.equals(".jpg") || fileType.equals(".gif") ||
+                fileType.equals(".pic") || fileType.equals(".psd"))) {
+            if (fileData != null) {
+                int comp = 0;
+                try (MemoryStack stack = MemoryStack.stackPush()) {
+                    IntBuffer widthBuffer = stack.mallocInt(1);
+                    IntBuffer heightBuffer = stack.mallocInt(1);
+                    IntBuffer compBuffer = stack.mallocInt(1);
+
+                    ByteBuffer fileDataBuffer = ScratchBufferPool.Acquire(fileData, fileData.length);
+                    ByteBuffer imgBuffer;
+
+                    try {
+                        imgBuffer = STBImage.stbi_load_from_memory(fileDataBuffer, widthBuffer, heightBuffer, compBuffer, 0);
+                    } finally {
+                        ScratchBufferPool.Release(fileDataBuffer);
+                    }
+                    if (imgBuffer == null) {
+                        Tracelog(LOG_WARNING, "Failed to load image: " + fileType + "\t" + STBImage.stbi_failure_reason());
                     }
+                    image.width = widthBuffer.get();
+                    image.height = heightBuffer.get();
+                    comp = compBuffer.get();
+                    // NOTE: Decoded pixels buffer is used as image data, no copy, released on UnloadImage()
+                    if (imgBuffer != null) image.replaceData(new DataBufferNative(imgBuffer, true));
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
 
-                    image.mipmaps = 1;
+                image.mipmaps = 1;
 
-                    if (comp == 1) {
-                        image.format = RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE;
-                    }
-                    else if (comp == 2) {
-                        image.format = RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA;
-                    }
-                    else if (comp == 3) {
-                        image.format = RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8;
-                    }
-                    else if (comp == 4) {
-                        image.format = RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
-                    }
+                if (comp == 1) {
+                    image.format = RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE;
+                }
+                else if (comp == 2) {
+                    image.format = RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA;
+                }
+                else if (comp == 3) {
+                    image.format = RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8;
+                }
+                else if (comp == 4) {
+                    image.format = RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
                 }
             }
         }
-        else if(SUPPORT_FILEFORMAT_HDR) {
-            if (fileType.equals(".hdr")) {
-                if (fileData != null) {
-                    int comp = 0;
-                    try (MemoryStack stack = MemoryStack.stackPush()) {
-                        IntBuffer widthBuffer = stack.mallocInt(1);
-                        IntBuffer heightBuffer = stack.mallocInt(1);
-                        IntBuffer compBuffer = stack.mallocInt(1);
+        else if (SUPPORT_FILEFORMAT_HDR && fileType.equals(".hdr")) {
+            if (fileData != null) {
+                int comp = 0;
+                try (MemoryStack stack = MemoryStack.stackPush()) {
+                    IntBuffer widthBuffer = stack.mallocInt(1);
+                    IntBuffer heightBuffer = stack.mallocInt(1);
+                    IntBuffer compBuffer = stack.mallocInt(1);
 
-                        ByteBuffer fileDataBuffer = MemoryUtil.memAlloc(fileData.length);
-                        fileDataBuffer.put(fileData).flip();
+                    ByteBuffer fileDataBuffer = ScratchBufferPool.Acquire(fileData, fileData.length);
+                    ByteBuffer imgBuffer;
 
-                        ByteBuffer imgBuffer = STBImage.stbi_load_from_memory(fileDataBuffer, widthBuffer,
-                                                                              heightBuffer, compBuffer, 0);
-                        if (imgBuffer == null) {
-                            Tracelog(LOG_WARNING, "Failed to load image " + fileType + "\n\t" + STBImage.stbi_failure_reason());
-                        }
-                        image.width = widthBuffer.get();
-                        image.height = heightBuffer.get();
-                        comp = compBuffer.get();
-                        if (imgBuffer != null) {
-                            byte[] bytes = new byte[imgBuffer.capacity()];
-                            for (int i = 0; i < bytes.length; i++) {
-                                bytes[i] = imgBuffer.get();
-                            }
-                            image.setData(bytes);
-                            //STBImage.stbi_image_free(imgBuffer);
-                        }
-                    } catch (Exception e) {
-                        e.printStackTrace();
+                    // NOTE: HDR data is decoded as 32bit float channels, float buffer memory is used as image data
+                    try {
+                        FloatBuffer hdrBuffer = STBImage.stbi_loadf_from_memory(fileDataBuffer, widthBuffer, heightBuffer, compBuffer, 0);
+                        imgBuffer = (hdrBuffer != null)? MemoryUtil.memByteBuffer(hdrBuffer) : null;
+                    } finally {
+                        ScratchBufferPool.Release(fileDataBuffer);
                     }
+                    if (imgBuffer == null) {
+                        Tracelog(LOG_WARNING, "Failed to load image " + fileType + "\n\t" + STBImage.stbi_failure_reason());
+                    }
+                    image.width = widthBuffer.get();
+                    image.height = heightBuffer.get();
+                    comp = compBuffer.get();
+                    // NOTE: Decoded pixels buffer is used as image data, no copy, released on UnloadImage()
+                    if (imgBuffer != null) image.replaceData(new DataBufferNative(imgBuffer, true));
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
 
-                    image.mipmaps = 1;
+                image.mipmaps = 1;
 
-                    if (comp == 1) {
-                        image.format = RL_PIXELFORMAT_UNCOMPRESSED_R32;
-                    }
-                    else if (comp == 3) {
-                        image.format = RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32;
-                    }
-                    else if (comp == 4) {
-                        image.format = RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32;
-                    }
-                    else {
-                        Tracelog(LOG_WARNING, "IMAGE: HDR file format not supported");
-                        UnloadImage(image);
-                    }
+                if (comp == 1) {
+                    image.format = RL_PIXELFORMAT_UNCOMPRESSED_R32;
+                }
+                else if (comp == 3) {
+                    image.format = RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32;
+                }
+                else if (comp == 4) {
+                    image.format = RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32;
+                }
+                else {
+                    Tracelog(LOG_WARNING, "IMAGE: HDR file format not supported");
+                    UnloadImage(image);
                 }
             }
         }
@@ -320,8 +316,9 @@ public class rTextures{
         return image;
     }
 
+    // Unload image from CPU memory (RAM), image native data is released
     public Image UnloadImage(Image image) {
-        image.data = null;
+        image.close();
         return image;
     }
 
@@ -368,23 +365,23 @@ public class rTextures{
             imgBuffer.put(imgData).flip();
 
             if (SUPPORT_FILEFORMAT_PNG) {
-                if (context.core.IsFileExtension(fileName, ".png")) {
+                if (rCore.IsFileExtension(fileName, ".png")) {
                     success = STBImageWrite.stbi_write_png(fileName, image.width, image.height,
                                                            channels, imgBuffer, image.width*channels);
                 }
             }
             if (SUPPORT_FILEFORMAT_BMP) {
-                if (context.core.IsFileExtension(fileName, ".bmp")) {
+                if (rCore.IsFileExtension(fileName, ".bmp")) {
                     success = STBImageWrite.stbi_write_bmp(fileName, image.width, image.height, channels, imgBuffer);
                 }
             }
             if (SUPPORT_FILEFORMAT_TGA) {
-                if (context.core.IsFileExtension(fileName, ".tga")) {
+                if (rCore.IsFileExtension(fileName, ".tga")) {
                     success = STBImageWrite.stbi_write_tga(fileName, image.width, image.height, channels, imgBuffer);
                 }
             }
             if (SUPPORT_FILEFORMAT_JPG) {
-                if (context.core.IsFileExtension(fileName, ".jpeg")) {
+                if (rCore.IsFileExtension(fileName, ".jpeg")) {
                     success = STBImageWrite.stbi_write_jpg(fileName, image.width, image.height, channels, imgBuffer, 90);  // JPG quality: between 1 and 100
                 }
             }
@@ -397,7 +394,7 @@ public class rTextures{
                 * PVR
                 * ASTC
             */
-            else if (context.core.IsFileExtension(fileName, ".raw")) {
+            else if (rCore.IsFileExtension(fileName, ".raw")) {
                 // Export raw pixel data (without header)
                 // NOTE: It's up to the user to track image parameters
                 try{
@@ -620,10 +617,7 @@ public class rTextures{
 
     // Generate image: cellular algorithm. Bigger tileSize means bigger cells
     public Image GenImageCellular(int width, int height, int tileSize) {
-        Color[] pixels = new Color[width * height];
-        for (int i = 0; i < pixels.length; i++) {
-            pixels[i] = new Color();
-        }
+        int[] pixels = new int[width * height];
 
         int seedsPerRow = width / tileSize;
         int seedsPerCol = height / tileSize;
@@ -637,40 +631,116 @@ public class rTextures{
             seeds[i] = new Vector2((float) x, (float) y);
         }
 
-        for (int y = 0; y < height; y++) {
-            int tileY = y / tileSize;
+        // NOTE: Seeds are generated first, then every row is computed independently (parallel row bands for big images)
+        ImageRows.ProcessRows(width, height, (startRow, endRow) -> {
+            for (int y = startRow; y < endRow; y++) {
+                int tileY = y / tileSize;
 
-            for (int x = 0; x < width; x++) {
-                int tileX = x / tileSize;
+                for (int x = 0; x < width; x++) {
+                    int tileX = x / tileSize;
 
-                float minDistance = 65536.0f;
+                    float minDistance = 65536.0f;
 
-                // Check all adjacent tiles
-                for (int i = -1; i < 2; i++) {
-                    if ((tileX + i < 0) || (tileX + i >= seedsPerRow)) continue;
+                    // Check all adjacent tiles
+                    for (int i = -1; i < 2; i++) {
+                        if ((tileX + i < 0) || (tileX + i >= seedsPerRow)) continue;
 
-                    for (int j = -1; j < 2; j++) {
-                        if ((tileY + j < 0) || (tileY + j >= seedsPerCol)) continue;
+                        for (int j = -1; j < 2; j++) {
+                            if ((tileY + j < 0) || (tileY + j >= seedsPerCol)) continue;
 
-                        Vector2 neighborSeed = seeds[(tileY + j) * seedsPerRow + tileX + i];
+                            Vector2 neighborSeed = seeds[(tileY + j) * seedsPerRow + tileX + i];
 
-                        float dist = (float) Math.hypot(x - (int) neighborSeed.x, y - (int) neighborSeed.y);
-                        minDistance = Math.min(minDistance, dist);
+                            float dist = (float) Math.hypot(x - (int) neighborSeed.x, y - (int) neighborSeed.y);
+                            minDistance = Math.min(minDistance, dist);
+                        }
                     }
+
+                    // I made this up but it seems to give good results at all tile sizes
+                    int intensity = (int) (minDistance * 256.0f / tileSize);
+                    if (intensity > 255) intensity = 255;
+
+                    pixels[y * width + x] = PackPixel(intensity, intensity, intensity, 255);
                 }
+            }
+        });
+
+        Image image = new Image();
+        image.replaceData(new DataBufferNative(width * height * 4));
+        image.width = width;
+        image.height = height;
+        image.format = RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
+        image.mipmaps = 1;
+
+        UpdateImagePixels(image, pixels);
+
+        return image;
+    }
+
+    //End Support image generation
+
+    // Generate image atlas (sprite sheet) from images, atlas image format is R8G8B8A8
+    // NOTE: Packing method (RectPacker.PackMethod): 0-Basic (rows), 1-Skyline (glyphs/similar heights), 2-MaxRects (mixed sizes),
+    // same values than GenImageFontAtlas(), padding is left around images, atlas size is computed by packer (not POT)
+    public ImageAtlas GenImageAtlas(Image[] images, int count, int padding, int packMethod) {
+        ImageAtlas atlas = new ImageAtlas();
+
+        if ((images == null) || (count <= 0)) {
+            Tracelog(LOG_WARNING, "IMAGE: Provided images not valid, returning empty image atlas");
+            return atlas;
+        }
+
+        Rectangle[] recs = new Rectangle[count];
+        long imagesArea = 0;
+
+        for (int i = 0; i < count; i++) {
+            recs[i] = new Rectangle(0, 0, images[i].width + 2*padding, images[i].height + 2*padding);
+            imagesArea += (long) images[i].width*images[i].height;
+        }
 
-                // I made this up but it seems to give good results at all tile sizes
-                int intensity = (int) (minDistance * 256.0f / tileSize);
-                if (intensity > 255) intensity = 255;
+        RectPacker packer = RectPacker.PackRecsAuto(recs, count, packMethod, false);
 
-                pixels[y * width + x] = new Color(intensity, intensity, intensity, 255);
+        int width = packer.getWidth();
+        byte[] atlasData = new byte[width*packer.getHeight()*4];
+
+        for (int i = 0; i < count; i++) {
+            recs[i].x += padding;
+            recs[i].y += padding;
+            recs[i].width = images[i].width;
+            recs[i].height = images[i].height;
+
+            if ((images[i].width == 0) || (images[i].height == 0)) continue;
+
+            Color[] pixels = LoadImageColors(images[i]);
+
+            for (int y = 0, k = 0; y < images[i].height; y++) {
+                int offset = (((int) recs[i].y + y)*width + (int) recs[i].x)*4;
+
+                for (int x = 0; x < images[i].width; x++, k++, offset += 4) {
+                    atlasData[offset] = (byte) pixels[k].r;
+                    atlasData[offset + 1] = (byte) pixels[k].g;
+                    atlasData[offset + 2] = (byte) pixels[k].b;
+                    atlasData[offset + 3] = (byte) pixels[k].a;
+                }
             }
         }
 
-        return new Image(pixels, width, height, RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8, 1);
+        atlas.image = new Image(atlasData, width, packer.getHeight(), RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8, 1);
+        atlas.recs = recs;
+        atlas.count = count;
+        atlas.efficiency = (float) ((double) imagesArea/((double) width*packer.getHeight()));
+
+        Tracelog(LOG_INFO, "IMAGE: Image atlas generated (" + width + "x" + packer.getHeight() + ", " + count +
+                 " images), efficiency: " + (int) (atlas.efficiency*100) + "%");
+
+        return atlas;
     }
 
-    //End Support image generation
+    // Unload image atlas data
+    public void UnloadImageAtlas(ImageAtlas atlas) {
+        UnloadImage(atlas.image);
+        atlas.recs = new Rectangle[0];
+        atlas.count = 0;
+    }
 
     //------------------------------------------------------------------------------------
     // Image manipulation functions
@@ -697,11 +767,13 @@ public class rTextures{
             }
         }
 
-        newImage.setData(new byte[size]);
-
-        if (newImage.data != null) {
+        if (image.data != null) {
             // NOTE: Size must be provided in bytes
-            newImage.setData(image.getData());
+            DataBufferNative data = new DataBufferNative(size);
+            ByteBuffer imgData = image.getBuffer();
+            data.getBuffer().put(0, imgData, 0, Math.min(size, imgData.limit()));
+
+            newImage.replaceData(data);
 
             newImage.width = image.width;
             newImage.height = image.height;
@@ -722,16 +794,16 @@ public class rTextures{
         result.format = image.format;
         result.mipmaps = 1;
 
-        byte[] data = new byte[(int) (rectangle.width*rectangle.height*bytesPerPixel)];
-        byte[] srcData = image.getData();
+        // NOTE: Source rows are read in place from image native buffer and copied to result native buffer (no heap copies)
+        int rowSize = result.width*bytesPerPixel;
+        DataBufferNative data = new DataBufferNative(rowSize*result.height);
+        ByteBuffer srcData = image.getBuffer();
 
-        for(int y = 0; y < rectangle.height; y++) {
-            for (int x = 0; x < rectangle.width*bytesPerPixel; x++) {
-                data[(int) ((y*rectangle.width*bytesPerPixel)+x)] = srcData[(((y + (int)rectangle.y)*image.width + (int)rectangle.x)*bytesPerPixel)+x];
-            }
+        for (int y = 0; y < result.height; y++) {
+            data.getBuffer().put(y*rowSize, srcData, ((y + (int) rectangle.y)*image.width + (int) rectangle.x)*bytesPerPixel, rowSize);
         }
 
-        result.setData(data);
+        result.replaceData(data);
 
         return result;
     }
@@ -766,15 +838,12 @@ public class rTextures{
             int bytesPerPixel = GetPixelDataSize(1, 1, image.format);
 
             byte[] croppedData = new byte[(int) (crop.width * crop.height) * bytesPerPixel];
+            ByteBuffer imgData = image.getBuffer();
 
-            // Move cropped data pixel-by-pixel or byte-by-byte
+            // Move cropped data line-by-line
             for (int y = (int) crop.y; y < (int) (crop.y + crop.height); y++) {
-                for (int x = (int) crop.x; x < (int) (crop.x + crop.width); x++) {
-                    for (int i = 0; i < bytesPerPixel; i++) {
-                        croppedData[((y - (int) crop.y) * (int) crop.width + (x - (int) crop.x)) * bytesPerPixel + i] =
-                                image.getData()[(y * image.width + x) * bytesPerPixel + i];
-                    }
-                }
+                imgData.get((y * image.width + (int) crop.x) * bytesPerPixel, croppedData,
+                            (y - (int) crop.y) * (int) crop.width * bytesPerPixel, (int) crop.width * bytesPerPixel);
             }
 
             image.setData(croppedData);
@@ -795,144 +864,19 @@ public class rTextures{
                 Vector4[] pixels = LoadImageDataNormalized(image);     // Supports 8 to 32 bit per channel
 
                 // WARNING! We loose mipmaps data --> Regenerated at the end...
-                image.data = null;
+                image.close();
                 image.format = newFormat;
 
-                int k = 0;
+                int elements = GetPixelElements(newFormat);
 
-                switch (image.getFormat()) {
-                    case RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE:{
-                        byte[] data = new byte[image.width * image.height];
+                if (elements > 0) {
+                    DataBufferNative data = new DataBufferNative(GetPixelDataSize(image.width, image.height, newFormat));
+                    ByteBuffer buffer = data.getBuffer();
 
-                        for (int i = 0; i < image.width * image.height; i++) {
-                            data[i] =
-                                    (byte)(((pixels[i].x * 0.299f) + (pixels[i].y * 0.587f) + (pixels[i].z * 0.114f))*255);
-                        }
-                        image.setData(data);
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA:{
-                        byte[] data = new byte[image.width * image.height * 2];
+                    // NOTE: Every pixel is converted independently, big images are converted in parallel row bands
+                    ImageRows.ProcessPixels(image.width, image.height, (start, end) -> FormatPixelsNormalized(pixels, buffer, newFormat, start, end));
 
-                        for (int i = 0; i < image.width * image.height * 2; i += 2, k++) {
-                            data[i] =
-                                    (byte) ((pixels[k].x * 0.299f + pixels[k].y * 0.587f + pixels[k].z * 0.114f) * 255.0f);
-                            data[i + 1] = (byte) (pixels[k].w * 255.0f);
-                        }
-                        image.setData(data);
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R5G6B5:{
-                        byte[] data = new byte[image.width * image.height];
-
-                        short r, g, b;
-
-                        for (int i = 0; i < image.width * image.height; i++) {
-                            r = (byte) Math.round(pixels[i].x * 31.0f);
-                            g = (byte) Math.round(pixels[i].y * 63.0f);
-                            b = (byte) Math.round(pixels[i].z * 31.0f);
-
-                            data[i] = (byte) (r << 11 | g << 5 | b);
-                        }
-                        image.setData(data);
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8:{
-                        byte[] data = new byte[image.width * image.height * 3];
-                        k = 0;
-                        for (int i = 0; i < image.width * image.height * 3; i += 3, k++) {
-                            data[i] = (byte) (pixels[k].x * 255.0f);
-                            data[i + 1] = (byte) (pixels[k].y * 255.0f);
-                            data[i + 2] = (byte) (pixels[k].z * 255.0f);
-                        }
-                        image.setData(data);
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R5G5B5A1:{
-                        byte[] data = new byte[image.width * image.height];
-
-                        short r, g, b, a;
-
-                        for (int i = 0; i < image.width * image.height; i++) {
-                            r = (byte) (Math.round(pixels[i].x * 31.0f));
-                            g = (byte) (Math.round(pixels[i].y * 31.0f));
-                            b = (byte) (Math.round(pixels[i].z * 31.0f));
-                            a = (byte) ((pixels[i].w > ((float) UNCOMPRESSED_R5G5B5A1_ALPHA_THRESHOLD / 255.0f)) ?
-                                    1 : 0);
-
-                            data[i] = (byte) (r << 11 | g << 6 | b << 1 | a);
-                        }
-                        image.setData(data);
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R4G4B4A4:{
-                        byte[] data = new byte[image.width * image.height];
-
-                        short r, g, b, a;
-
-                        for (int i = 0; i < image.width * image.height; i++) {
-                            r = (byte) (Math.round(pixels[i].x * 15.0f));
-                            g = (byte) (Math.round(pixels[i].y * 15.0f));
-                            b = (byte) (Math.round(pixels[i].z * 15.0f));
-                            a = (byte) (Math.round(pixels[i].w * 15.0f));
-
-                            data[i] = (byte) (r << 12 | g << 8 | b << 4 | a);
-                        }
-                        image.setData(data);
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8:{
-                        byte[] data = new byte[image.width * image.height * 4];
-
-                        k = 0;
-                        for (int i = 0; i < image.width * image.height * 4; i += 4, k++) {
-                            data[i] = (byte) (pixels[k].x * 255.0f);
-                            data[i + 1] = (byte) (pixels[k].y * 255.0f);
-                            data[i + 2] = (byte) (pixels[k].z * 255.0f);
-                            data[i + 3] = (byte) (pixels[k].w * 255.0f);
-                        }
-                        image.setData(data);
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R32:{
-                        // WARNING: Image is converted to GRAYSCALE eqeuivalent 32bit
-
-                        byte[] data = new byte[image.width * image.height];
-
-                        for (int i = 0; i < image.width * image.height; i++) {
-                            data[i] =
-                                    (byte) (pixels[i].x * 0.299f + pixels[i].y * 0.587f + pixels[i].z * 0.114f);
-                        }
-                        image.setData(data);
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32:{
-                        byte[] data = new byte[image.width * image.height * 3];
-
-                        k = 0;
-                        for (int i = 0; i < image.width * image.height * 3; i += 3, k++) {
-                            data[i] = (byte) pixels[k].x;
-                            data[i + 1] = (byte) pixels[k].y;
-                            data[i + 2] = (byte) pixels[k].z;
-                        }
-                        image.setData(data);
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32:{
-                        byte[] data = new byte[image.width * image.height * 4];
-
-                        k = 0;
-                        for (int i = 0; i < image.width * image.height * 4; i += 4, k++) {
-                            data[i] = (byte) pixels[k].x;
-                            data[i + 1] = (byte) pixels[k].y;
-                            data[i + 2] = (byte) pixels[k].z;
-                            data[i + 3] = (byte) pixels[k].w;
-                        }
-                        image.setData(data);
-                    }
-                    break;
-                    default:
-                        break;
+                    image.replaceData(data);
                 }
 
                 // In case original image had mipmaps, generate mipmaps for formated image
@@ -974,7 +918,7 @@ public class rTextures{
     //support image manipulation
 
     // Create an image from text (default font)
-    public Image ImageText(String text, int fontSize, Color color) {
+    public Image ImageText(CharSequence text, int fontSize, Color color) {
         int defaultFontSize = 10;   // Default Font chars height in pixel
         if (fontSize < defaultFontSize) {
             fontSize = defaultFontSize;
@@ -985,7 +929,7 @@ public class rTextures{
     }
 
     // Create an image from text (custom sprite font)
-    public Image ImageTextEx(Font font, String text, float fontSize, float spacing, Color tint) {
+    public Image ImageTextEx(Font font, CharSequence text, float fontSize, float spacing, Color tint) {
         int length = text.length();
 
         int textOffsetX = 0;            // Image drawing position X
@@ -996,38 +940,37 @@ public class rTextures{
 
         // Create image to store text
         Image imText = GenImageColor((int) imSize.x, (int) imSize.y, BLANK);
+        int prevIndex = -1;             // Previous glyph in line, used for kerning
 
-        for (int i = 0; i < length; i++) {
-            // Get next codepoint from byte string and glyph index in font
-            int codepointByteCount = 0;
-            int codepoint = context.text.GetCodepoint(text.toCharArray(), i);
+        for (int i = 0; i < length; ) {
+            // Get next codepoint from string and glyph index in font
+            int codepoint = context.text.GetCodepointNext(text, i);
             int index = context.text.GetGlyphIndex(font, codepoint);
 
-            codepointByteCount = context.text.getCPBC();
-
-            // NOTE: Normally we exit the decoding sequence as soon as a bad byte is found (and return 0x3f)
-            // but we need to draw all of the bad bytes using the '?' symbol moving one byte
-            if (codepoint == 0x3f) {
-                codepointByteCount = 1;
-            }
+            int codepointByteCount = context.text.getCPBC();
 
             if (codepoint == '\n') {
                 // NOTE: Fixed line spacing of 1.5 line-height
                 // TODO: Support custom line spacing defined by user
                 textOffsetY += (font.getBaseSize() + font.getBaseSize() / 2);
                 textOffsetX = 0;
+                prevIndex = -1;
             }
             else{
+                if (prevIndex != -1) textOffsetX += Math.round(context.text.GetGlyphKerning(font, prevIndex, index));
+                prevIndex = index;
+
                 if ((codepoint != ' ') && (codepoint != '\t')) {
                     Rectangle rec = new Rectangle((float) (textOffsetX + font.getGlyphs()[index].getOffsetX()),
                                                   (float) (textOffsetY + font.getGlyphs()[index].getOffsetY()),
                                                   font.getRecs()[index].getWidth(), font.getRecs()[index].getHeight());
 
+                    // NOTE: Dynamic fonts glyphs images are not kept, glyph image is loaded from atlas page
+                    Image glyphImage = (font.atlas != null)? font.atlas.LoadGlyphImage(font, index) : font.getGlyphs()[index].getImage();
 
-                    ImageDraw(imText, font.getGlyphs()[index].getImage(), new Rectangle(0, 0,
-                                                                                        (float) font.getGlyphs()[index].getImage().getWidth(),
-                                                                                        (float) font.getGlyphs()[index].getImage().getHeight()), rec, tint);
+                    ImageDraw(imText, glyphImage, new Rectangle(0, 0, (float) glyphImage.getWidth(), (float) glyphImage.getHeight()), rec, tint);
 
+                    if (font.atlas != null) UnloadImage(glyphImage);
                 }
 
                 if (font.getGlyphs()[index].getAdvanceX() == 0) {
@@ -1038,7 +981,7 @@ public class rTextures{
                 }
             }
 
-            i += (codepointByteCount - 1);   // Move text bytes counter to next codepoint
+            i += codepointByteCount;   // Move text chars counter to next codepoint
         }
 
         // Scale image depending on text size
@@ -1089,13 +1032,16 @@ public class rTextures{
             Tracelog(LOG_WARNING, "Image manipulation not supported for compressed formats");
         }
         else{
+            // NOTE: Image data is modified in place
+            DataBuffer imgData = image.data;
+
             switch (image.format) {
                 case RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA:{
                     char thresholdValue = (char) (threshold * 255.0f);
                     for (int i = 1; i < image.width * image.height * 2; i += 2) {
-                        if (image.getData()[i] <= thresholdValue) {
-                            image.getData()[i - 1] = (byte) color.r;
-                            image.getData()[i] = (byte) color.a;
+                        if (imgData.getElem(i) <= thresholdValue) {
+                            imgData.setElem(i - 1, color.r);
+                            imgData.setElem(i, color.a);
                         }
                     }
                 }
@@ -1109,8 +1055,8 @@ public class rTextures{
                     byte a = (byte) ((color.a < 128) ? 0 : 1);
 
                     for (int i = 0; i < image.width * image.height; i++) {
-                        if ((image.getData()[i] & 0b0000000000000001) <= thresholdValue) {
-                            image.getData()[i] = (byte) (r << 11 | g << 6 | b << 1 | a);
+                        if ((imgData.getElem(i) & 0b0000000000000001) <= thresholdValue) {
+                            imgData.setElem(i, r << 11 | g << 6 | b << 1 | a);
                         }
                     }
                 }
@@ -1124,31 +1070,31 @@ public class rTextures{
                     char a = (char) (Math.round((float) color.a * 15.0f));
 
                     for (int i = 0; i < image.width * image.height; i++) {
-                        if ((image.getData()[i] & 0x000f) <= thresholdValue) {
-                            image.getData()[i] = (byte) (r << 12 | g << 8 | b << 4 | a);
+                        if ((imgData.getElem(i) & 0x000f) <= thresholdValue) {
+                            imgData.setElem(i, r << 12 | g << 8 | b << 4 | a);
                         }
                     }
                 }
                 break;
                 case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8:{
                     char thresholdValue = (char) (threshold * 255.0f);
-                    for (int i = 3; i < image.width * image.height * 4; i += 4) {
-                        if (image.getData()[i] <= thresholdValue) {
-                            image.getData()[i - 3] = (byte) color.r;
-                            image.getData()[i - 2] = (byte) color.g;
-                            image.getData()[i - 1] = (byte) color.b;
-                            image.getData()[i] = (byte) color.a;
+                    ByteBuffer pixels = image.getBuffer();
+                    int clear = PackPixel(color.r, color.g, color.b, color.a);
+
+                    for (int i = 0; i < image.width * image.height; i++) {
+                        if ((pixels.get(i * 4 + 3) & 0xff) <= thresholdValue) {
+                            SetPixelPacked(pixels, i, clear, RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
                         }
                     }
                 }
                 break;
                 case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32:{
                     for (int i = 3; i < image.width * image.height * 4; i += 4) {
-                        if (image.getData()[i] <= threshold) {
-                            image.getData()[i - 3] = (byte) ((float) color.r / 255.0f);
-                            image.getData()[i - 2] = (byte) ((float) color.g / 255.0f);
-                            image.getData()[i - 1] = (byte) ((float) color.b / 255.0f);
-                            image.getData()[i] = (byte) ((float) color.a / 255.0f);
+                        if (imgData.getElem(i) <= threshold) {
+                            imgData.setElem(i - 3, (int) ((float) color.r / 255.0f));
+                            imgData.setElem(i - 2, (int) ((float) color.g / 255.0f));
+                            imgData.setElem(i - 1, (int) ((float) color.b / 255.0f));
+                            imgData.setElem(i, (int) ((float) color.a / 255.0f));
                         }
                     }
                 }
@@ -1180,11 +1126,13 @@ public class rTextures{
             // In case image is only grayscale, we just add alpha channel
             if (image.format == RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE) {
                 byte[] data = new byte[image.width * image.height * 2];
+                byte[] imgData = image.getData();
+                byte[] maskData = mask.getData();
 
                 // Apply alpha mask to alpha channel
                 for (int i = 0, k = 0; (i < mask.width * mask.height) || (i < image.width * image.height); i++, k += 2) {
-                    data[k] = image.getData()[i];
-                    data[k + 1] = image.getData()[i];
+                    data[k] = imgData[i];
+                    data[k + 1] = maskData[i];
                 }
 
                 image.setData(data);
@@ -1196,9 +1144,12 @@ public class rTextures{
                     ImageFormat(image, RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
                 }
 
-                // Apply alpha mask to alpha channel
+                // Apply alpha mask to alpha channel, image data is modified in place
+                ByteBuffer imgData = image.getBuffer();
+                ByteBuffer maskData = mask.getBuffer();
+
                 for (int i = 0, k = 3; (i < mask.width * mask.height) || (i < image.width * image.height); i++, k += 4) {
-                    image.getData()[k] = mask.getData()[i];
+                    imgData.put(k, maskData.get(i));
                 }
             }
 
@@ -1211,26 +1162,28 @@ public class rTextures{
         // Security check to avoid program crash
         if ((image.data == null) || (image.width == 0) || (image.height == 0)) return;
 
-        float alpha = 0.0f;
-        Color[] pixels = LoadImageColors(image);
+        int[] pixels = LoadImagePixels(image);
 
-        for (int i = 0; i < image.width * image.height; i++) {
-            if (pixels[i].a == 0) {
-                pixels[i].r = 0;
-                pixels[i].g = 0;
-                pixels[i].b = 0;
-            }
-            else if (pixels[i].a < 255) {
-                alpha = (float) pixels[i].a / 255.0f;
-                pixels[i].r = (byte) ((float) pixels[i].r * alpha);
-                pixels[i].g = (byte) ((float) pixels[i].g * alpha);
-                pixels[i].b = (byte) ((float) pixels[i].b * alpha);
+        ImageRows.ProcessPixels(image.width, image.height, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                int pixel = pixels[i];
+                int a = pixel & 0xff;
+
+                if (a == 0) {
+                    pixels[i] = 0;
+                }
+                else if (a < 255) {
+                    float alpha = (float) a / 255.0f;
+                    pixels[i] = PackPixel((int) ((float) (pixel >>> 24) * alpha), (int) ((float) ((pixel >>> 16) & 0xff) * alpha),
+                                          (int) ((float) ((pixel >>> 8) & 0xff) * alpha), a);
+                }
             }
-        }
+        });
 
         int format = image.format;
-        image.setData(pixels);
+        image.replaceData(new DataBufferNative(image.width * image.height * 4));
         image.format = RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
+        UpdateImagePixels(image, pixels);
 
         ImageFormat(image, format);
     }
@@ -1245,86 +1198,41 @@ public class rTextures{
             return;
         }
 
-        boolean fastPath = (image.format != RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE) && (image.format != RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA)
-                && (image.format != RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8) && (image.format != RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
+        boolean fastPath = (image.format == RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE) || (image.format == RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA)
+                || (image.format == RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8) || (image.format == RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
 
-        ByteBuffer tmpb = MemoryUtil.memAlloc(image.data.getSize());
+        int format = image.format;
 
-        for (int i = 0; i < image.data.getSize(); i++) {
-            tmpb.put(i, (byte) image.data.getElem(i));
-        }
+        // Get data as 32bit RGBA pixels to work with it
+        if (!fastPath) ImageFormat(image, RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8);
 
+        // NOTE: Image native buffer is resized directly into new image native buffer, no copies required
         int bytesPerPixel = GetPixelDataSize(1, 1, image.format);
-        ByteBuffer output = MemoryUtil.memAlloc(newWidth * newHeight * bytesPerPixel);
-        if (fastPath) {
+        DataBufferNative output = new DataBufferNative(newWidth * newHeight * bytesPerPixel);
 
-            switch (image.getFormat()) {
-                case RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE:
-                    stbir_resize_uint8(tmpb, image.width, image.height, 0, output,
-                                       newWidth, newHeight, 0, 1);
-                    break;
-                case RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA:
-                    stbir_resize_uint8(tmpb, image.width, image.height, 0, output,
-                                       newWidth, newHeight, 0, 2);
-                    break;
-                case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8:
-                    stbir_resize_uint8(tmpb, image.width, image.height, 0, output,
-                                       newWidth, newHeight, 0, 3);
-                    break;
-                case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8:
-                    stbir_resize_uint8(tmpb, image.width, image.height, 0, output,
-                                       newWidth, newHeight, 0, 4);
-                    break;
-                default:
-                    break;
-            }
+        stbir_resize_uint8(image.getBuffer(), image.width, image.height, 0, output.getBuffer(),
+                           newWidth, newHeight, 0, bytesPerPixel);
 
-            byte[] outputi = new byte[output.capacity()];
-
-            for (int i = 0; i < outputi.length; i++) {
-                outputi[i] = output.get(i);
-            }
-
-            image.data = null;
-            image.setData(outputi);
-            image.width = newWidth;
-            image.height = newHeight;
-        }
-        else{
-            // Get data as Color pixels array to work with it
-
-            // NOTE: Color data is casted to ( char *), there shouldn't been any problem...
-            stbir_resize_uint8(tmpb, image.width, image.height, 0, output,
-                               newWidth, newHeight, 0, 4);
-
-            int format = image.format;
-
-            image.data = null;
-
-            byte[] outputi = new byte[output.capacity()];
-
-            for (int i = 0; i < outputi.length; i++) {
-                outputi[i] = output.get(i);
-            }
-
-            image.setData(outputi);
-            image.width = newWidth;
-            image.height = newHeight;
-            image.format = RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
+        image.replaceData(output);     // Previous data released
+        image.width = newWidth;
+        image.height = newHeight;
 
-            ImageFormat(image, format);  // Reformat 32bit RGBA image to original format
-        }
+        if (!fastPath) ImageFormat(image, format);  // Reformat 32bit RGBA image to original format
     }
 
     // Resize and image to new size using Nearest-Neighbor scaling algorithm
+    // NOTE: Packed pixels are resized, image keeps its format
     public void ImageResizeNN(Image image, int newWidth, int newHeight) {
         // Security check to avoid program crash
         if ((image.data == null) || (image.width == 0) || (image.height == 0)) {
             return;
         }
 
-        Color[] pixels = LoadImageColors(image);
-        byte[] output = new byte[newWidth * newHeight * 4];
+        // NOTE: R8G8B8A8 pixels are read from image data and written to new data in place, no pixels copies
+        IntBuffer pixels = LoadImagePixelsBuffer(image);
+        DataBufferNative data = new DataBufferNative(GetPixelDataSize(newWidth, newHeight, image.format));
+        IntBuffer output = pixels.hasArray() ? IntBuffer.allocate(newWidth * newHeight) :
+                data.getBuffer().duplicate().order(ByteOrder.BIG_ENDIAN).asIntBuffer();
 
         // EDIT: added +1 to account for an early rounding problem
         int xRatio = ((image.width << 16) / newWidth) + 1;
@@ -1336,21 +1244,15 @@ public class rTextures{
                 x2 = ((x * xRatio) >> 16);
                 y2 = ((y * yRatio) >> 16);
 
-                //output[(y * newWidth) + x] = pixels[(y2 * image.width) + x2];
+                output.put((y * newWidth) + x, pixels.get((y2 * image.width) + x2));
             }
         }
 
-        int format = image.format;
-
-        image.data = null;
-
-        image.setData(output);
+        image.replaceData(data);
         image.width = newWidth;
         image.height = newHeight;
-        image.format = RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
-
-        ImageFormat(image, format);  // Reformat 32bit RGBA image to original format
 
+        UpdateImagePixelsBuffer(image, output);
     }
 
     // Resize canvas and fill with color
@@ -1390,15 +1292,12 @@ public class rTextures{
             // TODO: Fill resizedData with fill color (must be formatted to image.format)
 
             int dstOffsetSize = ((int) dstPos.y * newWidth + (int) dstPos.x) * bytesPerPixel;
-            for (int x = 0; x < srcRec.width; x++) {
-                for (int y = 0; y < (int) srcRec.height; y++) {
-                    //memcpy(resizedData + dstOffsetSize, ((unsigned char *)image.data) + ((y + (int)srcRec.y)*image.width + (int)srcRec.x)*bytesPerPixel, (int)srcRec.width*bytesPerPixel);
-                    //dstOffsetSize += (newWidth*bytesPerPixel);
-                    for (int i = 0; i < bytesPerPixel; i++) {
-                        resizedData[(y * image.width + x) * bytesPerPixel + i] =
-                                image.getData()[(y * image.width + (image.width - 1 - x)) * bytesPerPixel + i];
-                    }
-                }
+            ByteBuffer imgData = image.getBuffer();
+
+            for (int y = 0; y < (int) srcRec.height; y++) {
+                imgData.get(((y + (int) srcRec.y) * image.width + (int) srcRec.x) * bytesPerPixel, resizedData,
+                            dstOffsetSize, (int) srcRec.width * bytesPerPixel);
+                dstOffsetSize += (newWidth * bytesPerPixel);
             }
 
 
@@ -1447,17 +1346,14 @@ public class rTextures{
         }
 
         if (image.mipmaps < mipCount) {
-            DataBuffer temp = image.data;
+            // NOTE: Base level is copied to new native buffer (mipmaps size), next levels are copied after it
+            DataBufferNative temp = new DataBufferNative(mipSize);
+            ByteBuffer mipData = temp.getBuffer();
+            int baseSize = GetPixelDataSize(image.width, image.height, image.format);
+            mipData.put(0, image.getBuffer(), 0, baseSize);
 
-            if (temp != null) {
-                image.data = temp;      // Assign new pointer (new size) to store mipmaps data
-            }
-            else{
-                Tracelog(LOG_WARNING, "IMAGE: Mipmaps required memory could not be allocated");
-            }
-
-            // Pointer to allocated memory point where store next mipmap level data
-            int nextmip = image.data.getSize() + GetPixelDataSize(image.width, image.height, image.format);
+            // Offset in allocated memory where store next mipmap level data
+            int nextmip = baseSize;
 
             mipWidth = image.width / 2;
             mipHeight = image.height / 2;
@@ -1470,7 +1366,7 @@ public class rTextures{
 
                 ImageResize(imCopy, mipWidth, mipHeight);  // Uses internally Mitchell cubic downscale filter
 
-                nextmip = imCopy.data.getSize();
+                mipData.put(nextmip, imCopy.getBuffer(), 0, mipSize);
                 nextmip += mipSize;
                 image.mipmaps++;
 
@@ -1488,6 +1384,7 @@ public class rTextures{
                 mipSize = GetPixelDataSize(mipWidth, mipHeight, image.format);
             }
 
+            image.replaceData(temp);
             UnloadImage(imCopy);
         }
         else{
@@ -1511,9 +1408,10 @@ public class rTextures{
             Tracelog(LOG_WARNING, "IMAGE: Unsupported dithering bpps (" + (rBpp + gBpp + bBpp + aBpp) + "bpp), only 16bpp or lower modes supported");
         }
         else{
+            // NOTE: Pixels are loaded in parallel row bands for big images (LoadImageColors()), error diffusion is kept
+            // sequential, every pixel depends on the error of previous pixels (same row and previous row)
             Color[] pixels = LoadImageColors(image);
 
-
             if ((image.format != RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8) && (image.format != RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8)) {
                 Tracelog(LOG_WARNING, "IMAGE: Format is already 16bpp or lower, dithering could have no effect");
             }
@@ -1591,8 +1489,10 @@ public class rTextures{
                     bPixel = (byte) newPixel.b;
                     aPixel = (byte) newPixel.a;
 
-                    image.getData()[y * image.width + x] = (byte) ((rPixel << (gBpp + bBpp + aBpp)) |
-                            (gPixel << (bBpp + aBpp)) | (bPixel << aBpp) | aPixel);
+                    // NOTE: 16bit pixel stored in place, little endian (same as GPU upload)
+                    int pixel = (rPixel << (gBpp + bBpp + aBpp)) | (gPixel << (bBpp + aBpp)) | (bPixel << aBpp) | aPixel;
+                    image.data.setElem(2 * (y * image.width + x), pixel & 0xff);
+                    image.data.setElem(2 * (y * image.width + x) + 1, (pixel >> 8) & 0xff);
                 }
             }
 
@@ -1611,15 +1511,17 @@ public class rTextures{
         }
         else{
             int bytesPerPixel = GetPixelDataSize(1, 1, image.format);
-            byte[] flippedData = new byte[image.width * image.height * bytesPerPixel];
-            byte[] imgData = image.getData();
+            // NOTE: Pixels are read in place from image data and written to new image data, no intermediate copies
+            ByteBuffer imgData = image.getBuffer();
+            DataBufferNative flipped = new DataBufferNative(image.width * image.height * bytesPerPixel);
+            ByteBuffer flippedData = flipped.getBuffer();
 
             for (int i = (image.height - 1), offsetSize = 0; i >= 0; i--) {
-                System.arraycopy(imgData, i*image.width*bytesPerPixel, flippedData, offsetSize, image.width*bytesPerPixel);
+                flippedData.put(offsetSize, imgData, i*image.width*bytesPerPixel, image.width*bytesPerPixel);
                 offsetSize += image.width*bytesPerPixel;
             }
 
-            image.setData(flippedData);
+            image.replaceData(flipped);
         }
     }
 
@@ -1634,19 +1536,19 @@ public class rTextures{
         }
         else{
             int bytesPerPixel = GetPixelDataSize(1, 1, image.format);
-            byte[] flippedData = new byte[image.width * image.height * bytesPerPixel];
-            byte[] imgData = image.getData();
+            // NOTE: Pixels are read in place from image data and written to new image data, no intermediate copies
+            ByteBuffer imgData = image.getBuffer();
+            DataBufferNative flipped = new DataBufferNative(image.width * image.height * bytesPerPixel);
+            ByteBuffer flippedData = flipped.getBuffer();
 
             for (int y = 0; y < image.height; y++) {
                 for (int x = 0; x < image.width; x++) {
                     //copy data pixel by pixel
-                    for (int i = 0; i < bytesPerPixel; i++) {
-                        flippedData[(y * image.width + x) * bytesPerPixel + i] = imgData[(y * image.width + (image.width - 1 - x)) * bytesPerPixel + i];
-                    }
+                    flippedData.put((y * image.width + x) * bytesPerPixel, imgData, (y * image.width + (image.width - 1 - x)) * bytesPerPixel, bytesPerPixel);
                 }
             }
 
-            image.setData(flippedData);
+            image.replaceData(flipped);
         }
     }
 
@@ -1661,19 +1563,18 @@ public class rTextures{
         }
         else{
             int bytesPerPixel = GetPixelDataSize(1, 1, image.format);
-            byte[] rotatedData = new byte[image.width * image.height * bytesPerPixel];
+            // NOTE: Pixels are read in place from image data and written to new image data, no intermediate copies
+            ByteBuffer imgData = image.getBuffer();
+            DataBufferNative rotated = new DataBufferNative(image.width * image.height * bytesPerPixel);
+            ByteBuffer rotatedData = rotated.getBuffer();
 
             for (int y = 0; y < image.height; y++) {
                 for (int x = 0; x < image.width; x++) {
-                    //memcpy(rotatedData + (x*image.height + (image.height - y - 1))*bytesPerPixel, (( char *)image.data) + (y*image.width + x)*bytesPerPixel, bytesPerPixel);
-                    for (int i = 0; i < bytesPerPixel; i++) {
-                        rotatedData[(x * image.height + (image.height - y - 1)) * bytesPerPixel + i] =
-                                image.getData()[(y * image.width + x) * bytesPerPixel + i];
-                    }
+                    rotatedData.put((x * image.height + (image.height - y - 1)) * bytesPerPixel, imgData, (y * image.width + x) * bytesPerPixel, bytesPerPixel);
                 }
             }
 
-            image.setData(rotatedData);
+            image.replaceData(rotated);
             int width = image.width;
 
             image.width = image.height;
@@ -1692,19 +1593,18 @@ public class rTextures{
         }
         else{
             int bytesPerPixel = GetPixelDataSize(1, 1, image.format);
-            byte[] rotatedData = new byte[image.width * image.height * bytesPerPixel];
+            // NOTE: Pixels are read in place from image data and written to new image data, no intermediate copies
+            ByteBuffer imgData = image.getBuffer();
+            DataBufferNative rotated = new DataBufferNative(image.width * image.height * bytesPerPixel);
+            ByteBuffer rotatedData = rotated.getBuffer();
 
             for (int y = 0; y < image.height; y++) {
                 for (int x = 0; x < image.width; x++) {
-                    //memcpy(rotatedData + (x*image.height + y))*bytesPerPixel, (( char *)image.data) + (y*image.width + (image.width - x - 1))*bytesPerPixel, bytesPerPixel);
-                    for (int i = 0; i < bytesPerPixel; i++) {
-                        rotatedData[(x * image.height + y) * bytesPerPixel + i] =
-                                image.getData()[(y * image.width + (image.width - x - 1)) * bytesPerPixel + i];
-                    }
+                    rotatedData.put((x * image.height + y) * bytesPerPixel, imgData, (y * image.width + (image.width - x - 1)) * bytesPerPixel, bytesPerPixel);
                 }
             }
 
-            image.setData(rotatedData);
+            image.replaceData(rotated);
             int width = image.width;
 
             image.width = image.height;
@@ -1717,34 +1617,24 @@ public class rTextures{
         // Security check to avoid program crash
         if ((image.data == null) || (image.width == 0) || (image.height == 0)) return;
 
-        Color[] pixels = LoadImageColors(image);
+        IntBuffer pixels = LoadImagePixelsBuffer(image);
 
         float cR = (float) color.r / 255;
         float cG = (float) color.g / 255;
         float cB = (float) color.b / 255;
         float cA = (float) color.a / 255;
 
-        for (int y = 0; y < image.height; y++) {
-            for (int x = 0; x < image.width; x++) {
-                int index = y * image.width + x;
-                byte r = (byte) (((float) pixels[index].r / 255 * cR) * 255.0f);
-                byte g = (byte) (((float) pixels[index].g / 255 * cG) * 255.0f);
-                byte b = (byte) (((float) pixels[index].b / 255 * cB) * 255.0f);
-                byte a = (byte) (((float) pixels[index].a / 255 * cA) * 255.0f);
+        for (int i = 0; i < pixels.limit(); i++) {
+            int pixel = pixels.get(i);
+            int r = (int) (((float) (pixel >>> 24) / 255 * cR) * 255.0f);
+            int g = (int) (((float) ((pixel >>> 16) & 0xff) / 255 * cG) * 255.0f);
+            int b = (int) (((float) ((pixel >>> 8) & 0xff) / 255 * cB) * 255.0f);
+            int a = (int) (((float) (pixel & 0xff) / 255 * cA) * 255.0f);
 
-                pixels[index].r = r;
-                pixels[index].g = g;
-                pixels[index].b = b;
-                pixels[index].a = a;
-            }
+            pixels.put(i, PackPixel(r, g, b, a));
         }
 
-        int format = image.format;
-
-        image.setData(pixels);
-        image.format = RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
-
-        ImageFormat(image, format);
+        UpdateImagePixelsBuffer(image, pixels);
     }
 
     // Modify image color: invert
@@ -1752,22 +1642,14 @@ public class rTextures{
         // Security check to avoid program crash
         if ((image.data == null) || (image.width == 0) || (image.height == 0)) return;
 
-        Color[] pixels = LoadImageColors(image);
+        IntBuffer pixels = LoadImagePixelsBuffer(image);
 
-        for (int y = 0; y < image.height; y++) {
-            for (int x = 0; x < image.width; x++) {
-                pixels[y * image.width + x].r = (byte) (255 - pixels[y * image.width + x].r);
-                pixels[y * image.width + x].g = (byte) (255 - pixels[y * image.width + x].g);
-                pixels[y * image.width + x].b = (byte) (255 - pixels[y * image.width + x].b);
-            }
+        // NOTE: Inverting red, green and blue channels, alpha is kept
+        for (int i = 0; i < pixels.limit(); i++) {
+            pixels.put(i, pixels.get(i) ^ 0xffffff00);
         }
 
-        int format = image.format;
-
-        image.setData(pixels);
-        image.format = RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
-
-        ImageFormat(image, format);
+        UpdateImagePixelsBuffer(image, pixels);
     }
 
     // Modify image color: grayscale
@@ -1784,49 +1666,44 @@ public class rTextures{
         if (contrast < -100) contrast = -100;
         if (contrast > 100) contrast = 100;
 
-        contrast = (100.0f + contrast) / 100.0f;
-        contrast *= contrast;
+        float factor = (100.0f + contrast) / 100.0f;
+        float contrastFactor = factor * factor;
 
-        Color[] pixels = LoadImageColors(image);
+        IntBuffer pixels = LoadImagePixelsBuffer(image);
 
-        for (int y = 0; y < image.height; y++) {
-            for (int x = 0; x < image.width; x++) {
-                float pR = pixels[y * image.width + x].r / 255.0f;
+        ImageRows.ProcessPixels(image.width, image.height, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                int pixel = pixels.get(i);
+
+                float pR = (pixel >>> 24) / 255.0f;
                 pR -= 0.5f;
-                pR *= contrast;
+                pR *= contrastFactor;
                 pR += 0.5f;
                 pR *= 255;
                 if (pR < 0) pR = 0;
                 if (pR > 255) pR = 255;
 
-                float pG = pixels[y * image.width + x].g / 255.0f;
+                float pG = ((pixel >>> 16) & 0xff) / 255.0f;
                 pG -= 0.5f;
-                pG *= contrast;
+                pG *= contrastFactor;
                 pG += 0.5f;
                 pG *= 255;
                 if (pG < 0) pG = 0;
                 if (pG > 255) pG = 255;
 
-                float pB = pixels[y * image.width + x].b / 255.0f;
+                float pB = ((pixel >>> 8) & 0xff) / 255.0f;
                 pB -= 0.5f;
-                pB *= contrast;
+                pB *= contrastFactor;
                 pB += 0.5f;
                 pB *= 255;
                 if (pB < 0) pB = 0;
                 if (pB > 255) pB = 255;
 
-                pixels[y * image.width + x].r = (byte) pR;
-                pixels[y * image.width + x].g = (byte) pG;
-                pixels[y * image.width + x].b = (byte) pB;
+                pixels.put(i, PackPixel((int) pR, (int) pG, (int) pB, pixel & 0xff));
             }
-        }
-
-        int format = image.format;
+        });
 
-        image.setData(pixels);
-        image.format = RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
-
-        ImageFormat(image, format);
+        UpdateImagePixelsBuffer(image, pixels);
     }
 
     // Modify image color: brightness
@@ -1835,16 +1712,16 @@ public class rTextures{
         // Security check to avoid program crash
         if ((image.data == null) || (image.width == 0) || (image.height == 0)) return;
 
-        if (brightness < -255) brightness = -255;
-        if (brightness > 255) brightness = 255;
+        int offset = Math.max(-255, Math.min(brightness, 255));
+        IntBuffer pixels = LoadImagePixelsBuffer(image);
 
-        Color[] pixels = LoadImageColors(image);
+        ImageRows.ProcessPixels(image.width, image.height, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                int pixel = pixels.get(i);
 
-        for (int y = 0; y < image.height; y++) {
-            for (int x = 0; x < image.width; x++) {
-                int cR = pixels[y * image.width + x].r + brightness;
-                int cG = pixels[y * image.width + x].g + brightness;
-                int cB = pixels[y * image.width + x].b + brightness;
+                int cR = (pixel >>> 24) + offset;
+                int cG = ((pixel >>> 16) & 0xff) + offset;
+                int cB = ((pixel >>> 8) & 0xff) + offset;
 
                 if (cR < 0) cR = 1;
                 if (cR > 255) cR = 255;
@@ -1855,18 +1732,11 @@ public class rTextures{
                 if (cB < 0) cB = 1;
                 if (cB > 255) cB = 255;
 
-                pixels[y * image.width + x].r = (byte) cR;
-                pixels[y * image.width + x].g = (byte) cG;
-                pixels[y * image.width + x].b = (byte) cB;
+                pixels.put(i, PackPixel(cR, cG, cB, pixel & 0xff));
             }
-        }
-
-        int format = image.format;
+        });
 
-        image.setData(pixels);
-        image.format = RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
-
-        ImageFormat(image, format);
+        UpdateImagePixelsBuffer(image, pixels);
     }
 
     // Modify image color: replace color
@@ -1874,44 +1744,29 @@ public class rTextures{
         // Security check to avoid program crash
         if ((image.data == null) || (image.width == 0) || (image.height == 0)) return;
 
-        Color[] pixels = LoadImageColors(image);
+        IntBuffer pixels = LoadImagePixelsBuffer(image);
+        int colorPixel = PackPixel(color.r, color.g, color.b, color.a);
+        int replacePixel = PackPixel(replace.r, replace.g, replace.b, replace.a);
 
-        for (int y = 0; y < image.height; y++) {
-            for (int x = 0; x < image.width; x++) {
-                if ((pixels[y * image.width + x].r == color.r) &&
-                        (pixels[y * image.width + x].g == color.g) &&
-                        (pixels[y * image.width + x].b == color.b) &&
-                        (pixels[y * image.width + x].a == color.a)) {
-                    pixels[y * image.width + x].r = replace.r;
-                    pixels[y * image.width + x].g = replace.g;
-                    pixels[y * image.width + x].b = replace.b;
-                    pixels[y * image.width + x].a = replace.a;
-                }
-            }
+        for (int i = 0; i < pixels.limit(); i++) {
+            if (pixels.get(i) == colorPixel) pixels.put(i, replacePixel);
         }
 
-        int format = image.format;
-
-        image.setData(pixels);
-        image.format = RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
-
-        ImageFormat(image, format);
+        UpdateImagePixelsBuffer(image, pixels);
     }
 
-    // Load color data from image as a Color array (RGBA - 32bit)
-    // NOTE: Memory allocated should be freed using UnloadImageColors();
-    public Color[] LoadImageColors(Image image) {
-        if ((image.width == 0) || (image.height == 0)) {
+    // Load pixel data from image as packed RGBA pixels (0xRRGGBBAA, same as ColorToInt()), no Color objects
+    // NOTE: R8G8B8A8 data is copied in bulk, other formats are converted pixel by pixel (row bands in parallel for big images)
+    public int[] LoadImagePixels(Image image) {
+        if ((image.data == null) || (image.width == 0) || (image.height == 0)) {
             return null;
         }
 
-        Color[] pixels = new Color[image.width * image.height];
-        for (int i = 0; i < pixels.length; i++) {
-            pixels[i] = new Color();
-        }
+        int[] pixels = new int[image.width * image.height];
 
         if (image.format >= RL_PIXELFORMAT_COMPRESSED_DXT1_RGB) {
             Tracelog(LOG_WARNING, "IMAGE: Pixel data retrieval not supported for compressed image formats");
+            Arrays.fill(pixels, 0x000000ff);
         }
         else{
             if ((image.format == RL_PIXELFORMAT_UNCOMPRESSED_R32) || (image.format == RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32) ||
@@ -1919,106 +1774,81 @@ public class rTextures{
                 Tracelog(LOG_WARNING, "IMAGE: Pixel format converted from 32bit to 8bit per channel");
             }
 
-            byte[] imgData = image.getData();
+            ByteBuffer imgData = image.getBuffer();
 
-            for (int i = 0, k = 0; i < image.width * image.height; i++) {
-                switch (image.getFormat()) {
-                    case RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE:{
-                        pixels[i].setR(Byte.toUnsignedInt(imgData[i]));
-                        pixels[i].setG(Byte.toUnsignedInt(imgData[i]));
-                        pixels[i].setB(Byte.toUnsignedInt(imgData[i]));
-                        pixels[i].setA(Byte.toUnsignedInt((byte) 255));
+            if (image.format == RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8) {
+                imgData.duplicate().order(ByteOrder.BIG_ENDIAN).asIntBuffer().get(0, pixels);
+            }
+            else{
+                int format = image.format;
 
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA:{
-                        pixels[i].setR(Byte.toUnsignedInt(imgData[k]));
-                        pixels[i].setG(Byte.toUnsignedInt(imgData[k]));
-                        pixels[i].setB(Byte.toUnsignedInt(imgData[k]));
-                        pixels[i].setA(Byte.toUnsignedInt(imgData[k + 1]));
+                ImageRows.ProcessPixels(image.width, image.height, (start, end) -> {
+                    for (int i = start; i < end; i++) pixels[i] = GetPixelPacked(imgData, i, format);
+                });
+            }
+        }
 
-                        k += 2;
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R5G5B5A1:{
-                        short pixel = imgData[i];
+        return pixels;
+    }
 
-                        pixels[i].setR(Byte.toUnsignedInt((byte) (((pixel & 0b1111100000000000) >> 11) * (255 / 31))));
-                        pixels[i].setG(Byte.toUnsignedInt((byte) (((pixel & 0b0000011111000000) >> 6) * (255 / 31))));
-                        pixels[i].setB(Byte.toUnsignedInt((byte) (((pixel & 0b0000000000111110) >> 1) * (255 / 31))));
-                        pixels[i].setA(Byte.toUnsignedInt((byte) ((pixel & 0b0000000000000001) * 255)));
+    // Update image pixel data from packed RGBA pixels (0xRRGGBBAA), pixels are converted to image format
+    // NOTE: Image data is updated in place (base mipmap level), image.width*image.height pixels are required
+    public void UpdateImagePixels(Image image, int[] pixels) {
+        if ((image.data == null) || (image.width == 0) || (image.height == 0)) {
+            return;
+        }
 
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R5G6B5:{
-                        short pixel = imgData[i];
+        if (image.format >= RL_PIXELFORMAT_COMPRESSED_DXT1_RGB) {
+            Tracelog(LOG_WARNING, "IMAGE: Pixel data update not supported for compressed image formats");
+        }
+        else{
+            ByteBuffer imgData = image.getBuffer();
 
-                        pixels[i].setR(Byte.toUnsignedInt((byte) (((pixel & 0b1111100000000000) >> 11) * (255 / 31))));
-                        pixels[i].setG(Byte.toUnsignedInt((byte) (((pixel & 0b0000011111100000) >> 5) * (255 / 63))));
-                        pixels[i].setB(Byte.toUnsignedInt((byte) ((pixel & 0b0000000000011111) * (255 / 31))));
-                        pixels[i].setA(Byte.toUnsignedInt((byte) 255));
+            if (image.format == RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8) {
+                imgData.duplicate().order(ByteOrder.BIG_ENDIAN).asIntBuffer().put(0, pixels, 0, image.width * image.height);
+            }
+            else{
+                int format = image.format;
 
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R4G4B4A4:{
-                        short pixel = imgData[i];
+                ImageRows.ProcessPixels(image.width, image.height, (start, end) -> {
+                    for (int i = start; i < end; i++) SetPixelPacked(imgData, i, pixels[i], format);
+                });
+            }
+        }
+    }
 
-                        pixels[i].setR(Byte.toUnsignedInt((byte) (((pixel & 0b1111000000000000) >> 12) * (255 / 15))));
-                        pixels[i].setG(Byte.toUnsignedInt((byte) (((pixel & 0b0000111100000000) >> 8) * (255 / 15))));
-                        pixels[i].setB(Byte.toUnsignedInt((byte) (((pixel & 0b0000000011110000) >> 4) * (255 / 15))));
-                        pixels[i].setA(Byte.toUnsignedInt((byte) ((pixel & 0b0000000000001111) * (255 / 15))));
+    // Load image packed RGBA pixels (0xRRGGBBAA) buffer to be processed and updated with UpdateImagePixelsBuffer()
+    // NOTE: R8G8B8A8 pixels buffer is a view of image data (processed in place, no copy),
+    // other formats pixels are a LoadImagePixels() copy, converted back to image format on update
+    private IntBuffer LoadImagePixelsBuffer(Image image) {
+        ByteBuffer imgData = image.getBuffer();
 
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8:{
-                        pixels[i].setR(Byte.toUnsignedInt(imgData[k]));
-                        pixels[i].setG(Byte.toUnsignedInt(imgData[k + 1]));
-                        pixels[i].setB(Byte.toUnsignedInt(imgData[k + 2]));
-                        pixels[i].setA(Byte.toUnsignedInt(imgData[k + 3]));
+        if ((image.format == RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8) && !imgData.isReadOnly()) {
+            return imgData.duplicate().order(ByteOrder.BIG_ENDIAN).asIntBuffer().limit(image.width * image.height);
+        }
 
-                        k += 4;
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8:{
-                        pixels[i].setR(Byte.toUnsignedInt(imgData[k]));
-                        pixels[i].setG(Byte.toUnsignedInt(imgData[k + 1]));
-                        pixels[i].setB(Byte.toUnsignedInt(imgData[k + 2]));
-                        pixels[i].setA(255);
+        return IntBuffer.wrap(LoadImagePixels(image));
+    }
 
-                        k += 3;
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R32:{
-                        pixels[i].setR(Byte.toUnsignedInt((byte) (imgData[k] * 255.0f)));
-                        pixels[i].setG(Byte.toUnsignedInt((byte) 0));
-                        pixels[i].setB(Byte.toUnsignedInt((byte) 0));
-                        pixels[i].setA(Byte.toUnsignedInt((byte) 255));
+    // Update image pixel data from pixels buffer loaded with LoadImagePixelsBuffer(), nothing to do for in place pixels
+    private void UpdateImagePixelsBuffer(Image image, IntBuffer pixels) {
+        if (pixels.hasArray()) UpdateImagePixels(image, pixels.array());
+    }
 
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32:{
-                        pixels[i].setR(Byte.toUnsignedInt((byte) (imgData[k] * 255.0f)));
-                        pixels[i].setG(Byte.toUnsignedInt((byte) (imgData[k + 1] * 255.0f)));
-                        pixels[i].setB(Byte.toUnsignedInt((byte) (imgData[k + 2] * 255.0f)));
-                        pixels[i].setA(Byte.toUnsignedInt((byte)255));
+    // Load color data from image as a Color array (RGBA - 32bit)
+    // NOTE: Memory allocated should be freed using UnloadImageColors();
+    // NOTE: One Color object is allocated by pixel, LoadImagePixels() returns packed pixels with no objects
+    public Color[] LoadImageColors(Image image) {
+        if ((image.width == 0) || (image.height == 0)) {
+            return null;
+        }
 
-                        k += 3;
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32:{
-                        pixels[i].setR(Byte.toUnsignedInt((byte)(imgData[k] * 255.0f)));
-                        pixels[i].setG(Byte.toUnsignedInt((byte)(imgData[k] * 255.0f)));
-                        pixels[i].setB(Byte.toUnsignedInt((byte)(imgData[k] * 255.0f)));
-                        pixels[i].setA(Byte.toUnsignedInt((byte)(imgData[k] * 255.0f)));
+        int[] packed = LoadImagePixels(image);
+        Color[] pixels = new Color[image.width * image.height];
 
-                        k += 4;
-                    }
-                    break;
-                    default:
-                        break;
-                }
-            }
-        }
+        ImageRows.ProcessPixels(image.width, image.height, (start, end) -> {
+            for (int i = start; i < end; i++) pixels[i] = GetColor(packed[i]);
+        });
 
         return pixels;
     }
@@ -2083,114 +1913,118 @@ public class rTextures{
     public Vector4[] LoadImageDataNormalized(Image image) {
         Vector4[] pixels = new Vector4[image.width * image.height];
 
-        for (int i = 0; i < pixels.length; i++) {
-            pixels[i] = new Vector4();
-        }
-
         if (image.format >= RL_PIXELFORMAT_COMPRESSED_DXT1_RGB) {
             Tracelog(LOG_WARNING, "IMAGE: Pixel data retrieval not supported for compressed image formats");
+
+            for (int i = 0; i < pixels.length; i++) {
+                pixels[i] = new Vector4();
+            }
         }
         else{
-            byte[] imgData = image.getData();
-            for (int i = 0, k = 0; i < image.width * image.height; i++) {
-                switch (image.getFormat()) {
-                    case RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE:{
-                        pixels[i].setX(imgData[i] / 255.0f);
-                        pixels[i].setY(imgData[i] / 255.0f);
-                        pixels[i].setZ(imgData[i] / 255.0f);
-                        pixels[i].setW(1.0f);
+            // NOTE: Pixels are read in place from image data, no pixels copy required
+            ByteBuffer imgData = image.getBuffer();
+            int format = image.format;
 
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA:{
-                        pixels[i].setX(imgData[k] / 255.0f);
-                        pixels[i].setY(imgData[k] / 255.0f);
-                        pixels[i].setZ(imgData[k] / 255.0f);
-                        pixels[i].setW(imgData[k + 1] / 255.0f);
+            ImageRows.ProcessPixels(image.width, image.height, (start, end) -> LoadPixelsNormalized(imgData, format, pixels, start, end));
+        }
 
-                        k += 2;
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R5G5B5A1:{
-                        short pixel = imgData[i];
+        return pixels;
+    }
 
-                        pixels[i].setX((float) ((pixel & 0b1111100000000000) >> 11) * (1.0f / 31));
-                        pixels[i].setY((float) ((pixel & 0b0000011111000000) >> 6) * (1.0f / 31));
-                        pixels[i].setZ((float) ((pixel & 0b0000000000111110) >> 1) * (1.0f / 31));
-                        pixels[i].setW(((pixel & 0b0000000000000001) == 0) ? 0.0f : 1.0f);
+    // Load normalized pixels [start, end) from format data, used by LoadImageDataNormalized()
+    // NOTE: 8bit channels are unsigned, bytes are masked (& 0xff) before normalization
+    private static void LoadPixelsNormalized(ByteBuffer imgData, int format, Vector4[] pixels, int start, int end) {
+        int elements = GetPixelElements(format);
 
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R5G6B5:{
-                        short pixel = imgData[i];
+        for (int i = start, k = start * elements; i < end; i++, k += elements) {
+            pixels[i] = new Vector4();
 
-                        pixels[i].setX((float) ((pixel & 0b1111100000000000) >> 11) * (1.0f / 31));
-                        pixels[i].setY((float) ((pixel & 0b0000011111100000) >> 5) * (1.0f / 63));
-                        pixels[i].setZ((float) (pixel & 0b0000000000011111) * (1.0f / 31));
-                        pixels[i].setW(1.0f);
+            switch (format) {
+                case RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE:{
+                    pixels[i].setX((imgData.get(i) & 0xff) / 255.0f);
+                    pixels[i].setY((imgData.get(i) & 0xff) / 255.0f);
+                    pixels[i].setZ((imgData.get(i) & 0xff) / 255.0f);
+                    pixels[i].setW(1.0f);
 
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R4G4B4A4:{
-                        short pixel = imgData[i];
+                }
+                break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA:{
+                    pixels[i].setX((imgData.get(k) & 0xff) / 255.0f);
+                    pixels[i].setY((imgData.get(k) & 0xff) / 255.0f);
+                    pixels[i].setZ((imgData.get(k) & 0xff) / 255.0f);
+                    pixels[i].setW((imgData.get(k + 1) & 0xff) / 255.0f);
+                }
+                break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_R5G5B5A1:{
+                    int pixel = imgData.getShort(i * 2) & 0xffff;
 
-                        pixels[i].setX((float) ((pixel & 0b1111000000000000) >> 12) * (1.0f / 15));
-                        pixels[i].setY((float) ((pixel & 0b0000111100000000) >> 8) * (1.0f / 15));
-                        pixels[i].setZ((float) ((pixel & 0b0000000011110000) >> 4) * (1.0f / 15));
-                        pixels[i].setW((float) (pixel & 0b0000000000001111) * (1.0f / 15));
+                    pixels[i].setX((float) ((pixel & 0b1111100000000000) >> 11) * (1.0f / 31));
+                    pixels[i].setY((float) ((pixel & 0b0000011111000000) >> 6) * (1.0f / 31));
+                    pixels[i].setZ((float) ((pixel & 0b0000000000111110) >> 1) * (1.0f / 31));
+                    pixels[i].setW(((pixel & 0b0000000000000001) == 0) ? 0.0f : 1.0f);
 
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8:{
-                        pixels[i].setX(imgData[k] / 255.0f);
-                        pixels[i].setY(imgData[k + 1] / 255.0f);
-                        pixels[i].setZ(imgData[k + 2] / 255.0f);
-                        pixels[i].setW(imgData[k + 3] / 255.0f);
+                }
+                break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_R5G6B5:{
+                    int pixel = imgData.getShort(i * 2) & 0xffff;
 
-                        k += 4;
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8:{
-                        pixels[i].setX(imgData[k] / 255.0f);
-                        pixels[i].setY(imgData[k + 1] / 255.0f);
-                        pixels[i].setZ(imgData[k + 2] / 255.0f);
-                        pixels[i].setW(1.0f);
+                    pixels[i].setX((float) ((pixel & 0b1111100000000000) >> 11) * (1.0f / 31));
+                    pixels[i].setY((float) ((pixel & 0b0000011111100000) >> 5) * (1.0f / 63));
+                    pixels[i].setZ((float) (pixel & 0b0000000000011111) * (1.0f / 31));
+                    pixels[i].setW(1.0f);
 
-                        k += 3;
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R32:{
-                        pixels[i].setX(imgData[k]);
-                        pixels[i].setY(0.0f);
-                        pixels[i].setZ(0.0f);
-                        pixels[i].setW(1.0f);
+                }
+                break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_R4G4B4A4:{
+                    int pixel = imgData.getShort(i * 2) & 0xffff;
 
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32:{
-                        pixels[i].setX(imgData[k]);
-                        pixels[i].setY(imgData[k + 1]);
-                        pixels[i].setZ(imgData[k + 2]);
-                        pixels[i].setW(1.0f);
+                    pixels[i].setX((float) ((pixel & 0b1111000000000000) >> 12) * (1.0f / 15));
+                    pixels[i].setY((float) ((pixel & 0b0000111100000000) >> 8) * (1.0f / 15));
+                    pixels[i].setZ((float) ((pixel & 0b0000000011110000) >> 4) * (1.0f / 15));
+                    pixels[i].setW((float) (pixel & 0b0000000000001111) * (1.0f / 15));
 
-                        k += 3;
-                    }
-                    break;
-                    case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32:{
-                        pixels[i].setX(imgData[i]);
-                        pixels[i].setY(imgData[k + 1]);
-                        pixels[i].setZ(imgData[k + 2]);
-                        pixels[i].setW(imgData[k + 3]);
+                }
+                break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8:{
+                    pixels[i].setX((imgData.get(k) & 0xff) / 255.0f);
+                    pixels[i].setY((imgData.get(k + 1) & 0xff) / 255.0f);
+                    pixels[i].setZ((imgData.get(k + 2) & 0xff) / 255.0f);
+                    pixels[i].setW((imgData.get(k + 3) & 0xff) / 255.0f);
+                }
+                break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8:{
+                    pixels[i].setX((imgData.get(k) & 0xff) / 255.0f);
+                    pixels[i].setY((imgData.get(k + 1) & 0xff) / 255.0f);
+                    pixels[i].setZ((imgData.get(k + 2) & 0xff) / 255.0f);
+                    pixels[i].setW(1.0f);
+                }
+                break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_R32:{
+                    pixels[i].setX(imgData.getFloat(k * 4));
+                    pixels[i].setY(0.0f);
+                    pixels[i].setZ(0.0f);
+                    pixels[i].setW(1.0f);
 
-                        k += 4;
-                    }
-                    default:
-                        break;
                 }
+                break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32:{
+                    pixels[i].setX(imgData.getFloat(k * 4));
+                    pixels[i].setY(imgData.getFloat((k + 1) * 4));
+                    pixels[i].setZ(imgData.getFloat((k + 2) * 4));
+                    pixels[i].setW(1.0f);
+                }
+                break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32:{
+                    pixels[i].setX(imgData.getFloat(k * 4));
+                    pixels[i].setY(imgData.getFloat((k + 1) * 4));
+                    pixels[i].setZ(imgData.getFloat((k + 2) * 4));
+                    pixels[i].setW(imgData.getFloat((k + 3) * 4));
+                }
+                break;
+                default:
+                    break;
             }
         }
-
-        return pixels;
     }
 
     // Get image alpha border rectangle
@@ -2198,9 +2032,9 @@ public class rTextures{
     public Rectangle GetImageAlphaBorder(Image image, float threshold) {
         Rectangle crop = new Rectangle();
 
-        Color[] pixels = LoadImageColors(image);
-
-        if (pixels != null) {
+        if ((image.data != null) && (image.width != 0) && (image.height != 0)) {
+            // NOTE: Pixels alpha is read in place, no pixels copy required
+            ByteBuffer pixels = image.getBuffer();
             int xMin = 65536;   // Define a big enough number
             int xMax = 0;
             int yMin = 65536;
@@ -2208,7 +2042,7 @@ public class rTextures{
 
             for (int y = 0; y < image.height; y++) {
                 for (int x = 0; x < image.width; x++) {
-                    if (pixels[y * image.width + x].a > (threshold * 255.0f)) {
+                    if ((GetPixelPacked(pixels, y * image.width + x, image.format) & 0xff) > (threshold * 255.0f)) {
                         if (x < xMin) xMin = x;
                         if (x > xMax) xMax = x;
                         if (y < yMin) yMin = y;
@@ -2221,8 +2055,6 @@ public class rTextures{
             if ((xMin != 65536) && (xMax != 65536)) {
                 crop = new Rectangle((float) xMin, (float) yMin, (float) ((xMax + 1) - xMin), (float) ((yMax + 1) - yMin));
             }
-
-            UnloadImageColors(pixels);
         }
 
         return crop;
@@ -2264,196 +2096,78 @@ public class rTextures{
                     color.r = (byte) (((pixel & 0b1111100000000000) >> 11)*(255/31));
                     color.g = (byte) (((pixel & 0b0000011111100000) >> 5)*(255/63));
                     color.b = (byte) ((pixel & 0b0000000000011111)*(255/31));
-                    color.a = (byte) 255;
-
-                } break;
-                case RL_PIXELFORMAT_UNCOMPRESSED_R4G4B4A4: {
-                    short pixel = imgData[y*image.width + x];
-
-                    color.r = (byte) (((pixel & 0b1111000000000000) >> 12)*(255/15));
-                    color.g = (byte) (((pixel & 0b0000111100000000) >> 8)*(255/15));
-                    color.b = (byte) (((pixel & 0b0000000011110000) >> 4)*(255/15));
-                    color.a = (byte) ((pixel & 0b0000000000001111)*(255/15));
-
-                } break;
-                case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8: {
-                    color.r = imgData[(y*image.width + x)*4];
-                    color.g = imgData[(y*image.width + x)*4 + 1];
-                    color.b = imgData[(y*image.width + x)*4 + 2];
-                    color.a = imgData[(y*image.width + x)*4 + 3];
-
-                } break;
-                case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8: {
-                    color.r = imgData[(y*image.width + x)*3];
-                    color.g = imgData[(y*image.width + x)*3 + 1];
-                    color.b = imgData[(y*image.width + x)*3 + 2];
-                    color.a = (byte) 255;
-
-                } break;
-                case RL_PIXELFORMAT_UNCOMPRESSED_R32: {
-                    color.r = (byte) (imgData[y*image.width + x]*255.0f);
-                    color.g = 0;
-                    color.b = 0;
-                    color.a = (byte) 255;
-
-                } break;
-                case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32: {
-                    color.r = (byte) (imgData[(y*image.width + x)*3]*255.0f);
-                    color.g = (byte) (imgData[(y*image.width + x)*3 + 1]*255.0f);
-                    color.b = (byte) (imgData[(y*image.width + x)*3 + 2]*255.0f);
-                    color.a = (byte) 255;
-
-                } break;
-                case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32: {
-                    color.r = (byte) (imgData[(y*image.width + x)*4]*255.0f);
-                    color.g = (byte) (imgData[(y*image.width + x)*4]*255.0f);
-                    color.b = (byte) (imgData[(y*image.width + x)*4]*255.0f);
-                    color.a = (byte) (imgData[(y*image.width + x)*4]*255.0f);
-
-                } break;
-                default:
-                    Tracelog(LOG_WARNING, "Compressed image format does not support color reading");
-                    break;
-            }
-        }
-        else Tracelog(LOG_WARNING, "Requested image pixel (" + x + ", " + y + ") out of bounds");
-
-        return color;
-    }
-
-    //IMAGE DRAWING FUNCTIONS
-
-    void ImageClearBackground(Image dst, Color color) {
-
-        // Security check to avoid program crash
-        if ((dst.data == null) || (dst.width == 0) || (dst.height == 0)) {
-            return;
-        }
-
-        for (int i = 0; i < dst.width * dst.height; ++i) {
-            ImageDrawPixel(dst, i % dst.width, i / dst.width, color);
-        }
-    }
-
-    void ImageDrawPixel(Image dst, int x, int y, Color color) {
-        // Security check to avoid program crash
-        if ((dst.data == null) || (x < 0) || (x >= dst.getWidth()) || (y < 0) || (y >= dst.getHeight())) {
-            return;
-        }
-
-        switch (dst.getFormat()) {
-            case RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE:{
-                // NOTE: Calculate grayscale equivalent color
-                Vector3 coln = new Vector3((float) color.r / 255.0f, (float) color.g / 255.0f,
-                                           (float) color.b / 255.0f);
-                short gray = (byte) ((coln.x * 0.299f + coln.y * 0.587f + coln.z * 0.114f) * 255.0f);
-
-                dst.data.setElem(y * dst.getWidth() + x, gray);
-
-            }
-            break;
-            case RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA:{
-                // NOTE: Calculate grayscale equivalent color
-                Vector3 coln = new Vector3((float) color.r / 255.0f, (float) color.g / 255.0f,
-                                           (float) color.b / 255.0f);
-                short gray = (byte) ((coln.x * 0.299f + coln.y * 0.587f + coln.z * 0.114f) * 255.0f);
-
-                dst.data.setElem((y * dst.getWidth() + x) * 2, gray);
-                dst.data.setElem(y * dst.getWidth() + x * 2 + 1, color.getA());
-
-            }
-            break;
-            case RL_PIXELFORMAT_UNCOMPRESSED_R5G6B5:{
-                // NOTE: Calculate R5G6B5 equivalent color
-                Vector3 coln = new Vector3((float) color.r / 255.0f, (float) color.g / 255.0f,
-                                           (float) color.b / 255.0f);
-
-                int r = (Math.round(coln.x * 31.0f));
-                int g = (Math.round(coln.y * 63.0f));
-                int b = (Math.round(coln.z * 31.0f));
-
-                dst.data.setElem(y * dst.getWidth() + x, (r << 11 | g << 5 | b));
-
-            }
-            break;
-            case RL_PIXELFORMAT_UNCOMPRESSED_R5G5B5A1:{
-                // NOTE: Calculate R5G5B5A1 equivalent color
-                Vector4 coln = new Vector4((float) color.r / 255.0f, (float) color.g / 255.0f,
-                                           (float) color.b / 255.0f, (float) color.a / 255.0f);
-
-                short r = (byte) (Math.round(coln.x * 31.0f));
-                short g = (byte) (Math.round(coln.y * 31.0f));
-                short b = (byte) (Math.round(coln.z * 31.0f));
-                short a = (byte) ((coln.x > (float) UNCOMPRESSED_R5G5B5A1_ALPHA_THRESHOLD / 255.0f) ? 1 : 0);
-
-                dst.data.setElem(y * dst.getWidth() + x, (r << 11 | g << 6 | b << 1 | a));
-
-            }
-            break;
-            case RL_PIXELFORMAT_UNCOMPRESSED_R4G4B4A4:{
-                // NOTE: Calculate R5G5B5A1 equivalent color
-                Vector4 coln = new Vector4((float) color.r / 255.0f, (float) color.g / 255.0f,
-                                           (float) color.b / 255.0f, (float) color.a / 255.0f);
+                    color.a = (byte) 255;
 
-                short r = (byte) (Math.round(coln.x * 15.0f));
-                short g = (byte) (Math.round(coln.y * 15.0f));
-                short b = (byte) (Math.round(coln.z * 15.0f));
-                short a = (byte) (Math.round(coln.w * 15.0f));
+                } break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_R4G4B4A4: {
+                    short pixel = imgData[y*image.width + x];
 
-                dst.data.setElem(y * dst.getWidth() + x, (r << 12 | g << 8 | b << 4 | a));
+                    color.r = (byte) (((pixel & 0b1111000000000000) >> 12)*(255/15));
+                    color.g = (byte) (((pixel & 0b0000111100000000) >> 8)*(255/15));
+                    color.b = (byte) (((pixel & 0b0000000011110000) >> 4)*(255/15));
+                    color.a = (byte) ((pixel & 0b0000000000001111)*(255/15));
 
-            }
-            break;
-            case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8:{
-                dst.data.setElem((y * dst.getWidth() + x) * 3, color.getR());
-                dst.data.setElem((y * dst.getWidth() + x) * 3 + 1, color.getG());
-                dst.data.setElem((y * dst.getWidth() + x) * 3 + 2, color.getB());
+                } break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8: {
+                    color.r = imgData[(y*image.width + x)*4];
+                    color.g = imgData[(y*image.width + x)*4 + 1];
+                    color.b = imgData[(y*image.width + x)*4 + 2];
+                    color.a = imgData[(y*image.width + x)*4 + 3];
 
-            }
-            break;
-            case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8:{
-                dst.data.setElem((y * dst.getWidth() + x) * 4, color.getR());
-                dst.data.setElem((y * dst.getWidth() + x) * 4 + 1, color.getG());
-                dst.data.setElem((y * dst.getWidth() + x) * 4 + 2, color.getB());
-                dst.data.setElem((y * dst.getWidth() + x) * 4 + 3, color.getA());
+                } break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8: {
+                    color.r = imgData[(y*image.width + x)*3];
+                    color.g = imgData[(y*image.width + x)*3 + 1];
+                    color.b = imgData[(y*image.width + x)*3 + 2];
+                    color.a = (byte) 255;
 
-            }
-            break;
-            case RL_PIXELFORMAT_UNCOMPRESSED_R32:{
-                // NOTE: Calculate grayscale equivalent color (normalized to 32bit)
-                Vector3 coln = new Vector3((float) color.r / 255.0f, (float) color.g / 255.0f,
-                                           (float) color.b / 255.0f);
+                } break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_R32: {
+                    color.r = (byte) (imgData[y*image.width + x]*255.0f);
+                    color.g = 0;
+                    color.b = 0;
+                    color.a = (byte) 255;
 
-                dst.data.setElem(y * dst.width + x,
-                                 (int) (coln.x * 0.299f + coln.y * 0.587f + coln.z * 0.114f));
+                } break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32: {
+                    color.r = (byte) (imgData[(y*image.width + x)*3]*255.0f);
+                    color.g = (byte) (imgData[(y*image.width + x)*3 + 1]*255.0f);
+                    color.b = (byte) (imgData[(y*image.width + x)*3 + 2]*255.0f);
+                    color.a = (byte) 255;
 
-            }
-            break;
-            case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32:{
-                // NOTE: Calculate R32G32B32 equivalent color (normalized to 32bit)
-                Vector3 coln = new Vector3((float) color.r / 255.0f, (float) color.g / 255.0f,
-                                           (float) color.b / 255.0f);
+                } break;
+                case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32: {
+                    color.r = (byte) (imgData[(y*image.width + x)*4]*255.0f);
+                    color.g = (byte) (imgData[(y*image.width + x)*4]*255.0f);
+                    color.b = (byte) (imgData[(y*image.width + x)*4]*255.0f);
+                    color.a = (byte) (imgData[(y*image.width + x)*4]*255.0f);
 
-                dst.data.setElem((y * dst.getWidth() + x) * 3, (int) coln.getX());
-                dst.data.setElem((y * dst.getWidth() + x) * 3 + 1, (int) coln.getY());
-                dst.data.setElem((y * dst.getWidth() + x) * 3 + 2, (int) coln.getZ());
+                } break;
+                default:
+                    Tracelog(LOG_WARNING, "Compressed image format does not support color reading");
+                    break;
             }
-            break;
-            case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32:{
-                // NOTE: Calculate R32G32B32A32 equivalent color (normalized to 32bit)
-                Vector4 coln = new Vector4((float) color.r / 255.0f, (float) color.g / 255.0f,
-                                           (float) color.b / 255.0f, (float) color.a / 255.0f);
+        }
+        else Tracelog(LOG_WARNING, "Requested image pixel (" + x + ", " + y + ") out of bounds");
 
-                dst.data.setElem((y * dst.getWidth() + x) * 4, (int) coln.getX());
-                dst.data.setElem((y * dst.getWidth() + x) * 4 + 1, (int) coln.getY());
-                dst.data.setElem((y * dst.getWidth() + x) * 4 + 2, (int) coln.getZ());
-                dst.data.setElem((y * dst.getWidth() + x) * 4 + 3, (int) coln.getW());
+        return color;
+    }
 
-            }
-            break;
-            default:
-                break;
+    //IMAGE DRAWING FUNCTIONS
+
+    // Clear image background with given color
+    void ImageClearBackground(Image dst, Color color) {
+        ImageDrawRectangle(dst, 0, 0, dst.width, dst.height, color);
+    }
+
+    // Draw pixel within an image
+    void ImageDrawPixel(Image dst, int x, int y, Color color) {
+        // Security check to avoid program crash
+        if ((dst.data == null) || (x < 0) || (x >= dst.getWidth()) || (y < 0) || (y >= dst.getHeight())) {
+            return;
         }
+
+        SetPixelPacked(dst.getBuffer(), y * dst.getWidth() + x, PackPixel(color.r, color.g, color.b, color.a), dst.getFormat());
     }
 
     // Draw pixel within an image (Vector version)
@@ -2530,15 +2244,40 @@ public class rTextures{
             return;
         }
 
-        int sy = (int) rec.y;
-        int ey = sy + (int) rec.height;
+        // NOTE: Rectangle is clipped to image bounds
+        int sy = Math.max((int) rec.y, 0);
+        int ey = Math.min((int) rec.y + (int) rec.height, dst.height);
+
+        int sx = Math.max((int) rec.x, 0);
+        int ex = Math.min((int) rec.x + (int) rec.width, dst.width);
 
-        int sx = (int) rec.x;
-        int ex = sx + (int) rec.width;
+        if ((sx >= ex) || (sy >= ey)) return;
+
+        if ((dst.format == RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE) || (dst.format == RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA) ||
+            (dst.format == RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8) || (dst.format == RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8)) {
+            ByteBuffer dstData = dst.getBuffer();
+            int bytesPerPixel = GetPixelDataSize(1, 1, dst.format);
+            int rowOffset = (sy * dst.width + sx) * bytesPerPixel;
+            int rowSize = (ex - sx) * bytesPerPixel;
+
+            // Fill in the first pixel of the first row based on image format
+            ImageDrawPixel(dst, sx, sy, color);
+
+            // Repeat the first pixel data throughout the row (copied size doubles every copy)
+            for (int filled = bytesPerPixel; filled < rowSize; filled *= 2) {
+                dstData.put(rowOffset + filled, dstData, rowOffset, Math.min(filled, rowSize - filled));
+            }
 
-        for (int y = sy; y < ey; y++) {
-            for (int x = sx; x < ex; x++) {
-                ImageDrawPixel(dst, x, y, color);
+            // Repeat the first row data for all other rows
+            for (int y = sy + 1; y < ey; y++) {
+                dstData.put(rowOffset + (y - sy) * dst.width * bytesPerPixel, dstData, rowOffset, rowSize);
+            }
+        }
+        else{
+            for (int y = sy; y < ey; y++) {
+                for (int x = sx; x < ex; x++) {
+                    ImageDrawPixel(dst, x, y, color);
+                }
             }
         }
     }
@@ -2638,47 +2377,38 @@ public class rTextures{
             //    [x] Consider fast path: same src/dst format with no alpha -> direct line copy
             //    [-] GetPixelColor(): Return Vector4 instead of Color, easier for ColorAlphaBlend()
 
-            Color colSrc, colDst, blend;
             boolean blendRequired = (tint.a != 255) || ((srcPtr.getFormat() != RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE) &&
                     (srcPtr.getFormat() != RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8) && (srcPtr.getFormat() != RL_PIXELFORMAT_UNCOMPRESSED_R5G6B5));
 
-            // Fast path: Avoid blend if source has no alpha to blend
+            // NOTE: Pixels are blended as packed RGBA (0xRRGGBBAA) directly from/to images data, no copies
+            ByteBuffer srcData = srcPtr.getBuffer();
+            ByteBuffer dstData = dst.getBuffer();
+            int tintPixel = PackPixel(tint.r, tint.g, tint.b, tint.a);
 
-            int strideDst = GetPixelDataSize(dst.width, 1, dst.format);
-            int bytesPerPixelDst = strideDst / (dst.width);
-
-            int strideSrc = GetPixelDataSize(srcPtr.width, 1, srcPtr.format);
-            int bytesPerPixelSrc = strideSrc / (srcPtr.width);
-
-            byte[] pSrcBase = srcPtr.getData();
-            byte[] pDstBase = dst.getData();
+            int bytesPerPixelSrc = GetPixelDataSize(1, 1, srcPtr.format);
+            int bytesPerPixelDst = GetPixelDataSize(1, 1, dst.format);
 
             for (int y = 0; y < (int) srcRec.getHeight(); y++) {
-                byte[] pSrc = pSrcBase;
-                byte[] pDst = pDstBase;
+                int pSrc = ((int) srcRec.y + y) * srcPtr.width + (int) srcRec.x;
+                int pDst = ((int) dstRec.y + y) * dst.width + (int) dstRec.x;
 
                 // Fast path: Avoid moving pixel by pixel if no blend required and same format
-                if (!blendRequired && (srcPtr.format == dst.format)) {
-                    //memcpy(pDst, pSrc, (int) (srcRec.getWidth()) * bytesPerPixelSrc);
-                    pDst = pSrc;
+                // NOTE: Only for 8bit channels formats, data is copied by line
+                if (!blendRequired && (srcPtr.format == dst.format) && (srcPtr.format != RL_PIXELFORMAT_UNCOMPRESSED_R5G6B5)) {
+                    dstData.put(pDst * bytesPerPixelDst, srcData, pSrc * bytesPerPixelSrc, (int) srcRec.getWidth() * bytesPerPixelSrc);
                 }
                 else{
                     for (int x = 0; x < (int) srcRec.getWidth(); x++) {
-                        colSrc = GetPixelColor(pSrc, srcPtr.getFormat());
-                        colDst = GetPixelColor(pDst, dst.getFormat());
+                        int colSrc = GetPixelPacked(srcData, pSrc + x, srcPtr.format);
 
                         // Fast path: Avoid blend if source has no alpha to blend
                         if (blendRequired) {
-                            blend = ColorAlphaBlend(colDst, colSrc, tint);
-                        }
-                        else{
-                            blend = colSrc;
+                            colSrc = ColorAlphaBlendPacked(GetPixelPacked(dstData, pDst + x, dst.format), colSrc, tintPixel);
                         }
 
-                        SetPixelColor(pDst, blend, dst.getFormat());
+                        SetPixelPacked(dstData, pDst + x, colSrc, dst.format);
                     }
                 }
-
             }
 
             if (useSrcMod) UnloadImage(srcMod);     // Unload source modified image
@@ -2686,7 +2416,7 @@ public class rTextures{
     }
 
     // Draw text (default font) within an image (destination)
-    public void ImageDrawText(Image dst, String text, int posX, int posY, int fontSize, Color color) {
+    public void ImageDrawText(Image dst, CharSequence text, int posX, int posY, int fontSize, Color color) {
         Vector2 position = new Vector2((float) posX, (float) posY);
 
         // NOTE: For default font, sapcing is set to desired font size / default font size (10)
@@ -2694,7 +2424,7 @@ public class rTextures{
     }
 
     // Draw text (custom sprite font) within an image (destination)
-    public void ImageDrawTextEx(Image dst, Font font, String text, Vector2 position, float fontSize, float spacing, Color tint) {
+    public void ImageDrawTextEx(Image dst, Font font, CharSequence text, Vector2 position, float fontSize, float spacing, Color tint) {
         Image imText = ImageTextEx(font, text, fontSize, spacing, tint);
 
         Rectangle srcRec = new Rectangle(0.0f, 0.0f, (float) imText.width, (float) imText.height);
@@ -2822,11 +2552,11 @@ public class rTextures{
                 ImageFormat(faces, image.format);
 
                 // TODO: Image formating does not work with compressed textures!
-            }
 
-            for (int i = 0; i < 6; i++) {
-                ImageDraw(faces, image, faceRecs[i], new Rectangle(0, (float) size * i, (float) size, (float) size),
-                          Color.WHITE);
+                for (int i = 0; i < 6; i++) {
+                    ImageDraw(faces, image, faceRecs[i], new Rectangle(0, (float) size * i, (float) size, (float) size),
+                              Color.WHITE);
+                }
             }
 
             cubemap.id = RLGL.rlLoadTextureCubemap(faces.getData(), size, faces.format);
@@ -2834,7 +2564,8 @@ public class rTextures{
                 Tracelog(LOG_WARNING, "IMAGE: Failed to load cubemap image");
             }
 
-            UnloadImage(faces);
+            // NOTE: Vertical line layout uses provided image as faces image, it is not unloaded
+            if (faces != image) UnloadImage(faces);
         }
         else{
             Tracelog(LOG_WARNING, "IMAGE: Failed to detect cubemap image layout");
@@ -3231,19 +2962,21 @@ public class rTextures{
             }
             if (source.height < 0) source.y -= source.height;
 
-            Vector2 topLeft = new Vector2();
-            Vector2 topRight = new Vector2();
-            Vector2 bottomLeft = new Vector2();
-            Vector2 bottomRight = new Vector2();
+            float topLeftX, topLeftY, topRightX, topRightY;
+            float bottomLeftX, bottomLeftY, bottomRightX, bottomRightY;
 
             // Only calculate rotation if needed
             if (rotation == 0.0f) {
                 float x = dest.x - origin.x;
                 float y = dest.y - origin.y;
-                topLeft = new Vector2(x, y);
-                topRight = new Vector2(x + dest.width, y);
-                bottomLeft = new Vector2(x, y + dest.height);
-                bottomRight = new Vector2(x + dest.width, y + dest.height);
+                topLeftX = x;
+                topLeftY = y;
+                topRightX = x + dest.width;
+                topRightY = y;
+                bottomLeftX = x;
+                bottomLeftY = y + dest.height;
+                bottomRightX = x + dest.width;
+                bottomRightY = y + dest.height;
             }
             else{
                 float sinRotation = (float) Math.sin(rotation * DEG2RAD);
@@ -3253,65 +2986,51 @@ public class rTextures{
                 float dx = -origin.x;
                 float dy = -origin.y;
 
-                topLeft.x = x + dx * cosRotation - dy * sinRotation;
-                topLeft.y = y + dx * sinRotation + dy * cosRotation;
+                topLeftX = x + dx * cosRotation - dy * sinRotation;
+                topLeftY = y + dx * sinRotation + dy * cosRotation;
 
-                topRight.x = x + (dx + dest.width) * cosRotation - dy * sinRotation;
-                topRight.y = y + (dx + dest.width) * sinRotation + dy * cosRotation;
+                topRightX = x + (dx + dest.width) * cosRotation - dy * sinRotation;
+                topRightY = y + (dx + dest.width) * sinRotation + dy * cosRotation;
 
-                bottomLeft.x = x + dx * cosRotation - (dy + dest.height) * sinRotation;
-                bottomLeft.y = y + dx * sinRotation + (dy + dest.height) * cosRotation;
+                bottomLeftX = x + dx * cosRotation - (dy + dest.height) * sinRotation;
+                bottomLeftY = y + dx * sinRotation + (dy + dest.height) * cosRotation;
 
-                bottomRight.x = x + (dx + dest.width) * cosRotation - (dy + dest.height) * sinRotation;
-                bottomRight.y = y + (dx + dest.width) * sinRotation + (dy + dest.height) * cosRotation;
+                bottomRightX = x + (dx + dest.width) * cosRotation - (dy + dest.height) * sinRotation;
+                bottomRightY = y + (dx + dest.width) * sinRotation + (dy + dest.height) * cosRotation;
             }
 
-            rlCheckRenderBatchLimit(4);     // Make sure there is enough free space on the batch buffer
-
-            rlSetTexture(texture.id);
-            rlBegin(RL_QUADS);
-
-            rlColor4ub(tint.r, tint.g, tint.b, tint.a);
-            rlNormal3f(0.0f, 0.0f, 1.0f);                          // Normal vector pointing towards viewer
+            float leftU = (flipX ? (source.x + source.width) : source.x) / width;
+            float rightU = (flipX ? source.x : (source.x + source.width)) / width;
+            float topV = source.y / height;
+            float bottomV = (source.y + source.height) / height;
 
             // Top-left corner for texture and quad
-            if (flipX) {
-                rlTexCoord2f((source.x + source.width) / width, source.y / height);
-            }
-            else{
-                rlTexCoord2f(source.x / width, source.y / height);
-            }
-            rlVertex2f(topLeft.x, topLeft.y);
+            quadData[0] = topLeftX;
+            quadData[1] = topLeftY;
+            quadData[2] = leftU;
+            quadData[3] = topV;
 
             // Bottom-left corner for texture and quad
-            if (flipX) {
-                rlTexCoord2f((source.x + source.width) / width, (source.y + source.height) / height);
-            }
-            else{
-                rlTexCoord2f(source.x / width, (source.y + source.height) / height);
-            }
-            rlVertex2f(bottomLeft.x, bottomLeft.y);
+            quadData[4] = bottomLeftX;
+            quadData[5] = bottomLeftY;
+            quadData[6] = leftU;
+            quadData[7] = bottomV;
 
             // Bottom-right corner for texture and quad
-            if (flipX) {
-                rlTexCoord2f(source.x / width, (source.y + source.height) / height);
-            }
-            else{
-                rlTexCoord2f((source.x + source.width) / width, (source.y + source.height) / height);
-            }
-            rlVertex2f(bottomRight.x, bottomRight.y);
+            quadData[8] = bottomRightX;
+            quadData[9] = bottomRightY;
+            quadData[10] = rightU;
+            quadData[11] = bottomV;
 
             // Top-right corner for texture and quad
-            if (flipX) {
-                rlTexCoord2f(source.x / width, source.y / height);
-            }
-            else{
-                rlTexCoord2f((source.x + source.width) / width, source.y / height);
-            }
-            rlVertex2f(topRight.x, topRight.y);
+            quadData[12] = topRightX;
+            quadData[13] = topRightY;
+            quadData[14] = rightU;
+            quadData[15] = topV;
 
-            rlEnd();
-            rlSetTexture(0);
+            quadColor[0] = ColorToInt(tint);
+
+            rlQuadBatch(texture.id, quadData, quadColor, 1);
         }
     }
 
@@ -3724,63 +3443,32 @@ public class rTextures{
 
     // Returns src alpha-blended into dst color with tint
     public Color ColorAlphaBlend(Color dst, Color src, Color tint) {
-        Color out = Color.WHITE;
+        return GetColor(ColorAlphaBlendPacked(PackPixel(dst.r, dst.g, dst.b, dst.a), PackPixel(src.r, src.g, src.b, src.a),
+                                              PackPixel(tint.r, tint.g, tint.b, tint.a)));
+    }
 
+    // Returns src alpha-blended into dst packed RGBA pixel (0xRRGGBBAA) with tint, integer operations
+    private static int ColorAlphaBlendPacked(int dst, int src, int tint) {
         // Apply color tint to source color
-        src.setR((byte) ((src.r * tint.r + 1) >> 8));
-        src.setG((byte) ((src.g * tint.g + 1) >> 8));
-        src.setB((byte) ((src.b * tint.b + 1) >> 8));
-        src.setA((byte) ((src.a * tint.a + 1) >> 8));
-
-        boolean COLORALPHABLEND_FLOAT = false;
-        boolean COLORALPHABLEND_INTEGERS = true;
-        if (COLORALPHABLEND_INTEGERS) {
-            if (src.a == 0) {
-                out = dst;
-            }
-            else if (src.a == 255) {
-                out = src;
-            }
-            else{
-                int alpha = src.a + 1;
-                // We are shifting by 8 (dividing by 256), so we need to take that excess into account
-
-                out.setA((byte) ((alpha * 256 + dst.a * (256 - alpha)) >> 8));
-
-                if (out.a > 0) {
-                    out.setR((byte) (((src.r * alpha * 256 + dst.r * dst.a * (256 - alpha)) / out.getA()) >> 8));
-                    out.setG((byte) (((src.g * alpha * 256 + dst.g * dst.a * (256 - alpha)) / out.getA()) >> 8));
-                    out.setB((byte) (((src.b * alpha * 256 + dst.b * dst.a * (256 - alpha)) / out.getA()) >> 8));
-                }
-            }
-        }
-        if (COLORALPHABLEND_FLOAT) {
-            if (src.a == 0) {
-                out = dst;
-            }
-            else if (src.a == 255) {
-                out = src;
-            }
-            else{
-                Vector4 fdst = ColorNormalize(dst);
-                Vector4 fsrc = ColorNormalize(src);
-                Vector4 ftint = ColorNormalize(tint);
-                Vector4 fout = new Vector4();
+        int srcR = ((src >>> 24) * ((tint >>> 24) + 1)) >> 8;
+        int srcG = (((src >>> 16) & 0xff) * (((tint >>> 16) & 0xff) + 1)) >> 8;
+        int srcB = (((src >>> 8) & 0xff) * (((tint >>> 8) & 0xff) + 1)) >> 8;
+        int srcA = ((src & 0xff) * ((tint & 0xff) + 1)) >> 8;
 
-                fout.setW(fsrc.w + fdst.w * (1.0f - fsrc.getW()));
+        if (srcA == 0) return dst;
+        else if (srcA == 255) return PackPixel(srcR, srcG, srcB, srcA);
 
-                if (fout.w > 0.0f) {
-                    fout.setX(fsrc.x * fsrc.w + fdst.x * fdst.w * (1 - fsrc.getW()) / fout.getW());
-                    fout.setY(fsrc.y * fsrc.w + fdst.y * fdst.w * (1 - fsrc.getW()) / fout.getW());
-                    fout.setZ(fsrc.z * fsrc.w + fdst.z * fdst.w * (1 - fsrc.getW()) / fout.getW());
-                }
+        int dstA = dst & 0xff;
+        int alpha = srcA + 1;
+        // We are shifting by 8 (dividing by 256), so we need to take that excess into account
+        int outA = (alpha * 256 + dstA * (256 - alpha)) >> 8;
 
-                out = new Color((int) (fout.x * 255.0f), (int) (fout.y * 255.0f),
-                                (int) (fout.z * 255.0f), (int) (fout.w * 255.0f));
-            }
-        }
+        // NOTE: outA is never 0 here (alpha >= 2)
+        int outR = ((srcR * alpha * 256 + (dst >>> 24) * dstA * (256 - alpha)) / outA) >> 8;
+        int outG = ((srcG * alpha * 256 + ((dst >>> 16) & 0xff) * dstA * (256 - alpha)) / outA) >> 8;
+        int outB = ((srcB * alpha * 256 + ((dst >>> 8) & 0xff) * dstA * (256 - alpha)) / outA) >> 8;
 
-        return out;
+        return PackPixel(outR, outG, outB, outA);
     }
 
     // Returns a Color struct from hexadecimal value
@@ -3951,6 +3639,272 @@ public class rTextures{
         return result;
     }
 
+    // Get number of data elements by pixel for uncompressed format, as stored on image data
+    // NOTE: 8bit formats elements are bytes (one by channel), 16bit formats are one short (2 bytes) by pixel,
+    // 32bit formats elements are floats (4 bytes, one by channel), multi-byte elements are little-endian
+    private static int GetPixelElements(int format) {
+        switch (format) {
+            case RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE:
+            case RL_PIXELFORMAT_UNCOMPRESSED_R5G6B5:
+            case RL_PIXELFORMAT_UNCOMPRESSED_R5G5B5A1:
+            case RL_PIXELFORMAT_UNCOMPRESSED_R4G4B4A4:
+            case RL_PIXELFORMAT_UNCOMPRESSED_R32:
+                return 1;
+            case RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA:
+                return 2;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8:
+            case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32:
+                return 3;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8:
+            case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32:
+                return 4;
+            default:
+                return 0;
+        }
+    }
+
+    // Convert normalized pixels [start, end) to format data, used by ImageFormat()
+    private static void FormatPixelsNormalized(Vector4[] pixels, ByteBuffer data, int format, int start, int end) {
+        switch (format) {
+            case RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE:{
+                for (int i = start; i < end; i++) {
+                    data.put(i, (byte)(((pixels[i].x * 0.299f) + (pixels[i].y * 0.587f) + (pixels[i].z * 0.114f))*255));
+                }
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA:{
+                for (int k = start, i = start * 2; k < end; i += 2, k++) {
+                    data.put(i, (byte) ((pixels[k].x * 0.299f + pixels[k].y * 0.587f + pixels[k].z * 0.114f) * 255.0f));
+                    data.put(i + 1, (byte) (pixels[k].w * 255.0f));
+                }
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R5G6B5:{
+                short r, g, b;
+
+                for (int i = start; i < end; i++) {
+                    r = (byte) Math.round(pixels[i].x * 31.0f);
+                    g = (byte) Math.round(pixels[i].y * 63.0f);
+                    b = (byte) Math.round(pixels[i].z * 31.0f);
+
+                    data.putShort(i * 2, (short) (r << 11 | g << 5 | b));
+                }
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8:{
+                for (int k = start, i = start * 3; k < end; i += 3, k++) {
+                    data.put(i, (byte) (pixels[k].x * 255.0f));
+                    data.put(i + 1, (byte) (pixels[k].y * 255.0f));
+                    data.put(i + 2, (byte) (pixels[k].z * 255.0f));
+                }
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R5G5B5A1:{
+                short r, g, b, a;
+
+                for (int i = start; i < end; i++) {
+                    r = (byte) (Math.round(pixels[i].x * 31.0f));
+                    g = (byte) (Math.round(pixels[i].y * 31.0f));
+                    b = (byte) (Math.round(pixels[i].z * 31.0f));
+                    a = (byte) ((pixels[i].w > ((float) UNCOMPRESSED_R5G5B5A1_ALPHA_THRESHOLD / 255.0f)) ? 1 : 0);
+
+                    data.putShort(i * 2, (short) (r << 11 | g << 6 | b << 1 | a));
+                }
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R4G4B4A4:{
+                short r, g, b, a;
+
+                for (int i = start; i < end; i++) {
+                    r = (byte) (Math.round(pixels[i].x * 15.0f));
+                    g = (byte) (Math.round(pixels[i].y * 15.0f));
+                    b = (byte) (Math.round(pixels[i].z * 15.0f));
+                    a = (byte) (Math.round(pixels[i].w * 15.0f));
+
+                    data.putShort(i * 2, (short) (r << 12 | g << 8 | b << 4 | a));
+                }
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8:{
+                for (int k = start, i = start * 4; k < end; i += 4, k++) {
+                    data.put(i, (byte) (pixels[k].x * 255.0f));
+                    data.put(i + 1, (byte) (pixels[k].y * 255.0f));
+                    data.put(i + 2, (byte) (pixels[k].z * 255.0f));
+                    data.put(i + 3, (byte) (pixels[k].w * 255.0f));
+                }
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R32:{
+                // WARNING: Image is converted to GRAYSCALE eqeuivalent 32bit
+                for (int i = start; i < end; i++) {
+                    data.putFloat(i * 4, pixels[i].x * 0.299f + pixels[i].y * 0.587f + pixels[i].z * 0.114f);
+                }
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32:{
+                for (int k = start, i = start * 3; k < end; i += 3, k++) {
+                    data.putFloat(i * 4, pixels[k].x);
+                    data.putFloat((i + 1) * 4, pixels[k].y);
+                    data.putFloat((i + 2) * 4, pixels[k].z);
+                }
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32:{
+                for (int k = start, i = start * 4; k < end; i += 4, k++) {
+                    data.putFloat(i * 4, pixels[k].x);
+                    data.putFloat((i + 1) * 4, pixels[k].y);
+                    data.putFloat((i + 2) * 4, pixels[k].z);
+                    data.putFloat((i + 3) * 4, pixels[k].w);
+                }
+            }
+            break;
+            default:
+                break;
+        }
+    }
+
+    // Pack RGBA channels into packed pixel (0xRRGGBBAA), channels are truncated to 8bit
+    private static int PackPixel(int r, int g, int b, int a) {
+        return ((r & 0xff) << 24) | ((g & 0xff) << 16) | ((b & 0xff) << 8) | (a & 0xff);
+    }
+
+    // Get packed RGBA pixel (0xRRGGBBAA) from image data pixel index, pixel is converted from format
+    private static int GetPixelPacked(ByteBuffer data, int index, int format) {
+        switch (format) {
+            case RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE: {
+                int gray = data.get(index);
+                return PackPixel(gray, gray, gray, 255);
+            }
+            case RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA: {
+                int gray = data.get(index * 2);
+                return PackPixel(gray, gray, gray, data.get(index * 2 + 1));
+            }
+            case RL_PIXELFORMAT_UNCOMPRESSED_R5G5B5A1: {
+                int pixel = data.getShort(index * 2) & 0xffff;
+
+                return PackPixel((byte) (((pixel & 0b1111100000000000) >> 11) * (255 / 31)),
+                                 (byte) (((pixel & 0b0000011111000000) >> 6) * (255 / 31)),
+                                 (byte) (((pixel & 0b0000000000111110) >> 1) * (255 / 31)),
+                                 (byte) ((pixel & 0b0000000000000001) * 255));
+            }
+            case RL_PIXELFORMAT_UNCOMPRESSED_R5G6B5: {
+                int pixel = data.getShort(index * 2) & 0xffff;
+
+                return PackPixel((byte) (((pixel & 0b1111100000000000) >> 11) * (255 / 31)),
+                                 (byte) (((pixel & 0b0000011111100000) >> 5) * (255 / 63)),
+                                 (byte) ((pixel & 0b0000000000011111) * (255 / 31)), 255);
+            }
+            case RL_PIXELFORMAT_UNCOMPRESSED_R4G4B4A4: {
+                int pixel = data.getShort(index * 2) & 0xffff;
+
+                return PackPixel((byte) (((pixel & 0b1111000000000000) >> 12) * (255 / 15)),
+                                 (byte) (((pixel & 0b0000111100000000) >> 8) * (255 / 15)),
+                                 (byte) (((pixel & 0b0000000011110000) >> 4) * (255 / 15)),
+                                 (byte) ((pixel & 0b0000000000001111) * (255 / 15)));
+            }
+            case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8:
+                return PackPixel(data.get(index * 4), data.get(index * 4 + 1), data.get(index * 4 + 2), data.get(index * 4 + 3));
+            case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8:
+                return PackPixel(data.get(index * 3), data.get(index * 3 + 1), data.get(index * 3 + 2), 255);
+            case RL_PIXELFORMAT_UNCOMPRESSED_R32:
+                return PackPixel((int) (data.getFloat(index * 4) * 255.0f), 0, 0, 255);
+            case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32:
+                return PackPixel((int) (data.getFloat(index * 12) * 255.0f), (int) (data.getFloat(index * 12 + 4) * 255.0f),
+                                 (int) (data.getFloat(index * 12 + 8) * 255.0f), 255);
+            case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32:
+                return PackPixel((int) (data.getFloat(index * 16) * 255.0f), (int) (data.getFloat(index * 16 + 4) * 255.0f),
+                                 (int) (data.getFloat(index * 16 + 8) * 255.0f), (int) (data.getFloat(index * 16 + 12) * 255.0f));
+            default:
+                return 0x000000ff;
+        }
+    }
+
+    // Set packed RGBA pixel (0xRRGGBBAA) into image data pixel index, pixel is converted to format
+    private static void SetPixelPacked(ByteBuffer data, int index, int pixel, int format) {
+        int r = pixel >>> 24;
+        int g = (pixel >>> 16) & 0xff;
+        int b = (pixel >>> 8) & 0xff;
+        int a = pixel & 0xff;
+
+        switch (format) {
+            case RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE: {
+                // NOTE: Calculate grayscale equivalent color
+                data.put(index, (byte) (((float) r / 255.0f * 0.299f + (float) g / 255.0f * 0.587f + (float) b / 255.0f * 0.114f) * 255.0f));
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA: {
+                // NOTE: Calculate grayscale equivalent color
+                data.put(index * 2, (byte) (((float) r / 255.0f * 0.299f + (float) g / 255.0f * 0.587f + (float) b / 255.0f * 0.114f) * 255.0f));
+                data.put(index * 2 + 1, (byte) a);
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R5G6B5: {
+                // NOTE: Calculate R5G6B5 equivalent color
+                int r5 = Math.round((float) r / 255.0f * 31.0f);
+                int g6 = Math.round((float) g / 255.0f * 63.0f);
+                int b5 = Math.round((float) b / 255.0f * 31.0f);
+
+                data.putShort(index * 2, (short) (r5 << 11 | g6 << 5 | b5));
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R5G5B5A1: {
+                // NOTE: Calculate R5G5B5A1 equivalent color
+                int r5 = Math.round((float) r / 255.0f * 31.0f);
+                int g5 = Math.round((float) g / 255.0f * 31.0f);
+                int b5 = Math.round((float) b / 255.0f * 31.0f);
+                int a1 = (a > UNCOMPRESSED_R5G5B5A1_ALPHA_THRESHOLD) ? 1 : 0;
+
+                data.putShort(index * 2, (short) (r5 << 11 | g5 << 6 | b5 << 1 | a1));
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R4G4B4A4: {
+                // NOTE: Calculate R4G4B4A4 equivalent color
+                int r4 = Math.round((float) r / 255.0f * 15.0f);
+                int g4 = Math.round((float) g / 255.0f * 15.0f);
+                int b4 = Math.round((float) b / 255.0f * 15.0f);
+                int a4 = Math.round((float) a / 255.0f * 15.0f);
+
+                data.putShort(index * 2, (short) (r4 << 12 | g4 << 8 | b4 << 4 | a4));
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8: {
+                data.put(index * 3, (byte) r);
+                data.put(index * 3 + 1, (byte) g);
+                data.put(index * 3 + 2, (byte) b);
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8: {
+                data.put(index * 4, (byte) r);
+                data.put(index * 4 + 1, (byte) g);
+                data.put(index * 4 + 2, (byte) b);
+                data.put(index * 4 + 3, (byte) a);
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R32: {
+                // NOTE: Calculate grayscale equivalent color (normalized to 32bit)
+                data.putFloat(index * 4, (float) r / 255.0f * 0.299f + (float) g / 255.0f * 0.587f + (float) b / 255.0f * 0.114f);
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32: {
+                // NOTE: Calculate R32G32B32 equivalent color (normalized to 32bit)
+                data.putFloat(index * 12, (float) r / 255.0f);
+                data.putFloat(index * 12 + 4, (float) g / 255.0f);
+                data.putFloat(index * 12 + 8, (float) b / 255.0f);
+            }
+            break;
+            case RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32: {
+                // NOTE: Calculate R32G32B32A32 equivalent color (normalized to 32bit)
+                data.putFloat(index * 16, (float) r / 255.0f);
+                data.putFloat(index * 16 + 4, (float) g / 255.0f);
+                data.putFloat(index * 16 + 8, (float) b / 255.0f);
+                data.putFloat(index * 16 + 12, (float) a / 255.0f);
+            }
+            break;
+            default:
+                break;
+        }
+    }
+
     // Get pixel data size in bytes for certain format
     // NOTE: Size can be requested for Image or Texture data
     public int GetPixelDataSize(int width, int height, int format) {
@@ -0,0 +1,149 @@
+package com.raylib.java.rlgl;
+
+import com.raylib.java.Config;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.raylib.java.rlgl.RLGL.rlBlendMode.RL_BLEND_CUSTOM;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Deferred 2D mode with GL stand-in: records are sorted (stable) by state, merged and drawn through the backend
+class DeferredBatchTest{
+
+    private static final int TEXTURE_A = 100;
+    private static final int TEXTURE_B = 200;
+
+    private final boolean interleaved = Config.SUPPORT_BATCH_INTERLEAVED_VERTICES;
+
+    private RLGL rlgl;
+    private RecordingBackend backend;
+
+    @AfterEach
+    void Close(){
+        RLGL.rlDisableDeferredMode();
+        RLGL.rlSetDrawLayer(0);
+        RLGL.rlglClose();
+        Config.SUPPORT_BATCH_INTERLEAVED_VERTICES = interleaved;
+    }
+
+    private void Init(){
+        Config.SUPPORT_BATCH_INTERLEAVED_VERTICES = false;     // Positions read back from split vertices buffer
+        backend = new RecordingBackend(new RecordingBatchGL());
+
+        rlgl = new RLGL();
+        RLGL.rlglInitBackend(backend, 64, 64);
+    }
+
+    // Draw one quad with x as position, quads first vertex x identifies the record
+    private static void DrawQuad(int textureId, float x){
+        float[] quad = {
+                x, 0, 0, 0,
+                x, 1, 0, 1,
+                x + 1, 1, 1, 1,
+                x + 1, 0, 1, 0
+        };
+
+        RLGL.rlQuadBatch(textureId, quad, new int[]{ 0xffffffff }, 1);
+    }
+
+    // Get drawn quads first vertex coordinate (0: x, 2: z)
+    private float[] DrawnQuads(int coordinate){
+        float[] quads = new float[backend.lastPositions.length/12];
+        for (int i = 0; i < quads.length; i++) quads[i] = backend.lastPositions[i*12 + coordinate];
+
+        return quads;
+    }
+
+    @Test
+    void MergesRecordsSharingState(){
+        Init();
+
+        // Baseline: immediate mode, every texture change is a draw
+        for (int i = 0; i < 6; i++) DrawQuad(((i%2) == 0)? TEXTURE_A : TEXTURE_B, i);
+        RLGL.rlDrawRenderBatchActive();
+
+        assertEquals(6, backend.draws.size());
+
+        backend.draws.clear();
+        RLGL.rlEnableDeferredMode();
+
+        for (int i = 0; i < 6; i++) DrawQuad(((i%2) == 0)? TEXTURE_A : TEXTURE_B, i);
+        RLGL.rlDrawRenderBatchActive();
+
+        assertEquals(6, RLGL.rlGetDeferredDrawsRecorded());
+        assertEquals(2, RLGL.rlGetDeferredDrawsMerged());
+        assertEquals(List.of("texture " + TEXTURE_A + " vertices 12", "texture " + TEXTURE_B + " vertices 12"), backend.draws);
+    }
+
+    @Test
+    void SortIsStable(){
+        Init();
+        RLGL.rlEnableDeferredMode();
+
+        RLGL.rlSetDrawLayer(1);
+        DrawQuad(TEXTURE_A, 0);
+        RLGL.rlSetDrawLayer(0);
+        DrawQuad(TEXTURE_B, 1);
+        DrawQuad(TEXTURE_A, 2);
+        DrawQuad(TEXTURE_B, 3);
+        DrawQuad(TEXTURE_A, 4);
+        RLGL.rlDrawRenderBatchActive();
+
+        // NOTE: Layer first, then texture, records sharing the key keep recording order
+        assertArrayEquals(new float[]{ 2, 4, 1, 3, 0 }, DrawnQuads(0));
+        assertEquals(List.of("texture " + TEXTURE_A + " vertices 8", "texture " + TEXTURE_B + " vertices 8",
+                "texture " + TEXTURE_A + " vertices 4"), backend.draws);
+        assertEquals(5, RLGL.rlGetDeferredDrawsRecorded());
+        assertEquals(3, RLGL.rlGetDeferredDrawsMerged());
+    }
+
+    @Test
+    void KeepsRecordingDepth(){
+        Init();
+        RLGL.rlEnableDeferredMode();
+
+        float depth = RLGL.rlglData.getCurrentBatch().getCurrentDepth();
+        DrawQuad(TEXTURE_A, 0);
+
+        float nextDepth = RLGL.rlglData.getCurrentBatch().getCurrentDepth();
+        RLGL.rlMatrixMode(RLGL.RL_MODELVIEW);
+        RLGL.rlPushMatrix();
+        RLGL.rlTranslatef(10, 0, 5);
+        DrawQuad(TEXTURE_B, 0);
+        RLGL.rlPopMatrix();
+
+        RLGL.rlDrawRenderBatchActive();
+
+        assertTrue(nextDepth > depth);
+        assertArrayEquals(new float[]{ depth, nextDepth + 5 }, DrawnQuads(2));
+        assertArrayEquals(new float[]{ 0, 10 }, DrawnQuads(0));
+    }
+
+    @Test
+    void CustomBlendFactorsAreNotMerged(){
+        Init();
+        RLGL.rlEnableDeferredMode();
+        RLGL.rlSetBlendMode(RL_BLEND_CUSTOM);
+
+        rlgl.rlSetBlendFactors(0x0302, 0x0303, 0x8006);
+        DrawQuad(TEXTURE_A, 0);
+        rlgl.rlSetBlendFactors(1, 1, 0x8006);
+        DrawQuad(TEXTURE_A, 1);
+        rlgl.rlSetBlendFactors(0x0302, 0x0303, 0x8006);
+        DrawQuad(TEXTURE_A, 2);
+        rlgl.rlSetBlendFactors(0x0302, 1, 0x8006);
+
+        backend.blendModes.clear();
+        RLGL.rlDrawRenderBatchActive();
+
+        assertEquals(3, RLGL.rlGetDeferredDrawsRecorded());
+        assertEquals(2, RLGL.rlGetDeferredDrawsMerged());
+        assertEquals(List.of("texture " + TEXTURE_A + " vertices 8", "texture " + TEXTURE_A + " vertices 4"), backend.draws);
+
+        // NOTE: Current custom factors are restored after submission
+        assertEquals(List.of(RL_BLEND_CUSTOM + " 770 771 32774", RL_BLEND_CUSTOM + " 1 1 32774",
+                RL_BLEND_CUSTOM + " 770 1 32774"), backend.blendModes);
+    }
+}
@@ -0,0 +1,99 @@
+package com.raylib.java.rlgl;
+
+import com.raylib.java.Config;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static com.raylib.java.Config.RL_BATCH_TEXTURE_SLOTS;
+import static com.raylib.java.Config.RL_DEFAULT_BATCH_MAX_TEXTURE_UNITS;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Multi-texture batch with GL stand-in: draws sharing up to RL_BATCH_TEXTURE_SLOTS textures are a single draw call
+class MultiTextureBatchTest{
+
+    private static final int FIRST_TEXTURE = 100;
+
+    private final boolean multiTexture = Config.SUPPORT_BATCH_MULTI_TEXTURE;
+
+    private RecordingBatchGL gl;
+
+    @AfterEach
+    void Close(){
+        RLGL.rlglClose();
+        Config.SUPPORT_BATCH_MULTI_TEXTURE = multiTexture;
+    }
+
+    private void Init(boolean multiTexture){
+        Config.SUPPORT_BATCH_MULTI_TEXTURE = multiTexture;
+        gl = new RecordingBatchGL();
+
+        new RLGL();
+        RLGL.rlglInitBackend(new RecordingBackend(gl), 64, 64);
+        gl.Reset();
+    }
+
+    // Draw quadCount quads cycling over textureCount textures, every quad changes texture
+    private static void DrawQuads(int quadCount, int textureCount){
+        float[] quad = {
+                0, 0, 0, 0,
+                0, 1, 0, 1,
+                1, 1, 1, 1,
+                1, 0, 1, 0
+        };
+        int[] colors = { 0xffffffff };
+
+        for (int i = 0; i < quadCount; i++){
+            RLGL.rlQuadBatch(FIRST_TEXTURE + (i%textureCount), quad, colors, 1);
+        }
+
+        RLGL.rlDrawRenderBatchActive();
+    }
+
+    @Test
+    void SingleDrawCallForTextureSlots(){
+        // Baseline: one draw call (and texture bind) by texture change
+        Init(false);
+        DrawQuads(2*RL_BATCH_TEXTURE_SLOTS, RL_BATCH_TEXTURE_SLOTS);
+
+        assertEquals(2*RL_BATCH_TEXTURE_SLOTS, RLGL.rlGetRenderBatchDrawCalls());
+        assertEquals(2*RL_BATCH_TEXTURE_SLOTS, gl.drawCalls);
+        RLGL.rlglClose();
+
+        Init(true);
+        DrawQuads(2*RL_BATCH_TEXTURE_SLOTS, RL_BATCH_TEXTURE_SLOTS);
+
+        assertEquals(1, RLGL.rlGetRenderBatchDrawCalls());
+        assertEquals(RL_BATCH_TEXTURE_SLOTS, RLGL.rlGetRenderBatchTextureBinds());
+        assertEquals(1, gl.drawCalls);
+
+        // NOTE: One more texture than slots available starts a new draw call
+        gl.Reset();
+        DrawQuads(RL_BATCH_TEXTURE_SLOTS + 4, RL_BATCH_TEXTURE_SLOTS + 4);
+
+        assertEquals(2, RLGL.rlGetRenderBatchDrawCalls());
+        assertEquals(2, gl.drawCalls);
+    }
+
+    @Test
+    void TextureSlotsSkipActiveTextureUnits(){
+        Init(true);
+
+        int activeTexture = 999;
+        RLGL.rlglData.getState().getActiveTextureId()[0] = activeTexture;    // Same as rlSetUniformSampler(), texture unit 1
+        DrawQuads(RL_BATCH_TEXTURE_SLOTS, RL_BATCH_TEXTURE_SLOTS);
+
+        assertTrue(gl.textureBinds.contains("unit 1 texture " + activeTexture));
+
+        for (int t = 0; t < RL_BATCH_TEXTURE_SLOTS; t++){
+            int unit = RLGL.rlGetTextureSlotUnit(t);
+
+            assertFalse((unit >= 1) && (unit <= RL_DEFAULT_BATCH_MAX_TEXTURE_UNITS), "slot " + t + " uses active texture unit " + unit);
+            assertTrue(gl.textureBinds.contains("unit " + unit + " texture " + (FIRST_TEXTURE + t)));
+        }
+
+        // Active texture unit only bound with active texture (or unbound)
+        for (String bind : gl.textureBinds){
+            if (bind.startsWith("unit 1 ")) assertTrue(bind.endsWith(" " + activeTexture) || bind.endsWith(" 0"), bind);
+        }
+    }
+}
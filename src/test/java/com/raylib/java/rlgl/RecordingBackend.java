@@ -0,0 +1,96 @@
+package com.raylib.java.rlgl;
+
+import com.raylib.java.rlgl.data.State;
+
+import java.awt.image.DataBuffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+// GL_33 backend with render batch uploads and draws going to a GL stand-in, all other GL calls are skipped
+class RecordingBackend extends GL_33{
+
+    final RecordingBatchGL gl;
+    int nextId = 1;         // Fake GL objects ids
+    int drawBatches;        // rlDrawBatchCalls() calls
+    int drawVertices;       // Vertex drawn by rlDrawBatchCalls()
+    final List<String> draws = new ArrayList<>();           // Batch draws with vertices, i.e. "texture 3 vertices 8"
+    final List<String> blendModes = new ArrayList<>();      // Blend modes applied, i.e. "6 770 771 32774"
+    float[] lastPositions;  // Last drawn vertex positions (x, y, z), split vertex layout only
+
+    RecordingBackend(RecordingBatchGL gl){
+        super(gl);
+        this.gl = gl;
+    }
+
+    @Override
+    public void rlLoadBatchBuffers(rlRenderBatch batch){
+        for (rlVertexBuffer vertexBuffer : batch.rlVertexBuffer){
+            for (int i = 0; i < vertexBuffer.vboId.length; i++){
+                vertexBuffer.vboId[i] = nextId++;
+            }
+        }
+    }
+
+    @Override
+    public void rlUnloadBatchBuffers(rlRenderBatch batch){
+    }
+
+    @Override
+    protected void rlDrawBatchCalls(rlRenderBatch batch){
+        int vertexCount = RLGL.rlglData.getState().vertexCounter;
+        rlVertexBuffer vertexBuffer = batch.rlVertexBuffer[batch.currentBuffer];
+
+        drawBatches++;
+        drawVertices += vertexCount;
+
+        if (vertexCount > 0) rlDrawBatchDraws(batch);
+
+        for (int i = 0; i < batch.drawCounter; i++){
+            if (batch.draws[i].vertexCount > 0){
+                draws.add("texture " + batch.draws[i].textureId + " vertices " + batch.draws[i].vertexCount);
+            }
+        }
+
+        if (vertexBuffer.vertices != null){
+            lastPositions = new float[vertexCount*3];
+            vertexBuffer.vertices.get(0, lastPositions);
+        }
+    }
+
+    @Override
+    public int rlLoadTexture(DataBuffer data, int width, int height, int format, int mipmapCount){
+        return nextId++;
+    }
+
+    @Override
+    public int rlLoadTextureBuffer(ByteBuffer data, int width, int height, int format){
+        return nextId++;
+    }
+
+    @Override
+    public void rlUpdateTexture(int id, int offsetX, int offsetY, int width, int height, int format, byte[] data){
+    }
+
+    @Override
+    public void rlUnloadTexture(int id){
+    }
+
+    @Override
+    public void rlBlendMode(int mode){
+        State state = RLGL.rlglData.getState();
+        blendModes.add(mode + " " + state.glBlendSrcFactor + " " + state.glBlendDstFactor + " " + state.glBlendEquation);
+    }
+
+    @Override
+    public void rlViewport(int x, int y, int width, int height){
+    }
+
+    @Override
+    public void rlClearColor(float r, float g, float b, float a){
+    }
+
+    @Override
+    public void rlClearScreenBuffers(){
+    }
+}
@@ -0,0 +1,122 @@
+package com.raylib.java.rlgl;
+
+import org.lwjgl.system.MemoryUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.lwjgl.opengl.GL32.*;
+
+// GL stand-in recording render batch buffer calls, no OpenGL context required
+// NOTE: Fences are signaled depending on gpuBusy, a busy GPU requires a blocking wait to signal them
+class RecordingBatchGL implements rlBatchGL{
+
+    final List<String> calls = new ArrayList<>();   // Recorded calls, i.e. "bind 1", "data 1 1024", "subdata 1 0 96"
+    long subDataBytes;                              // Bytes uploaded with nglBufferSubData()
+    long mappedBytes;                               // Bytes written to mapped buffers
+    byte[] lastMapped;                              // Last mapped buffer content on unmap
+    boolean mapFails;                               // nglMapBufferRange() returns 0
+    boolean gpuBusy;                                // Fences not signaled until a blocking glClientWaitSync()
+    int boundBuffer;
+
+    // NOTE: Draws are recorded apart from buffer calls
+    final List<String> textureBinds = new ArrayList<>();    // Texture binds by unit, i.e. "unit 0 texture 3"
+    int drawCalls;                                          // glDrawArrays() and glDrawElements() calls
+    int activeUnit;
+
+    private long nextFence = 1;
+    private long mapAddress;
+    private long mapLength;
+
+    @Override
+    public void glBindBuffer(int target, int buffer){
+        boundBuffer = buffer;
+        calls.add("bind " + buffer);
+    }
+
+    @Override
+    public void glBufferData(int target, long size, int usage){
+        calls.add("data " + boundBuffer + " " + size);
+    }
+
+    @Override
+    public void nglBufferSubData(int target, long offset, long size, long data){
+        subDataBytes += size;
+        calls.add("subdata " + boundBuffer + " " + offset + " " + size);
+    }
+
+    @Override
+    public long nglMapBufferRange(int target, long offset, long length, int access){
+        calls.add("map " + boundBuffer + " " + offset + " " + length + " " + access);
+        if (mapFails) return 0;
+
+        mapAddress = MemoryUtil.nmemAlloc(length);
+        mapLength = length;
+
+        return mapAddress;
+    }
+
+    @Override
+    public boolean glUnmapBuffer(int target){
+        calls.add("unmap " + boundBuffer);
+
+        lastMapped = new byte[(int)mapLength];
+        MemoryUtil.memByteBuffer(mapAddress, (int)mapLength).get(lastMapped);
+        MemoryUtil.nmemFree(mapAddress);
+        mappedBytes += mapLength;
+        mapAddress = 0;
+
+        return true;
+    }
+
+    @Override
+    public long glFenceSync(int condition, int flags){
+        calls.add("fence " + nextFence);
+        return nextFence++;
+    }
+
+    @Override
+    public int glClientWaitSync(long sync, int flags, long timeout){
+        calls.add("wait " + sync + " " + flags + " " + timeout);
+
+        if (!gpuBusy) return GL_ALREADY_SIGNALED;
+        return (timeout == 0)? GL_TIMEOUT_EXPIRED : GL_CONDITION_SATISFIED;
+    }
+
+    @Override
+    public void glDeleteSync(long sync){
+        calls.add("delete " + sync);
+    }
+
+    @Override
+    public void glActiveTexture(int texture){
+        activeUnit = texture - GL_TEXTURE0;
+    }
+
+    @Override
+    public void glBindTexture(int target, int texture){
+        textureBinds.add("unit " + activeUnit + " texture " + texture);
+    }
+
+    @Override
+    public void glDrawArrays(int mode, int first, int count){
+        drawCalls++;
+    }
+
+    @Override
+    public void glDrawElements(int mode, int count, int type, long indices){
+        drawCalls++;
+    }
+
+    long Count(String call){
+        return calls.stream().filter(c -> c.startsWith(call + " ")).count();
+    }
+
+    void Reset(){
+        calls.clear();
+        subDataBytes = 0;
+        mappedBytes = 0;
+        textureBinds.clear();
+        drawCalls = 0;
+    }
+}
@@ -0,0 +1,132 @@
+package com.raylib.java.rlgl;
+
+import com.raylib.java.Config;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.system.MemoryUtil;
+
+import static com.raylib.java.Config.RL_BATCH_FENCE_TIMEOUT;
+import static com.raylib.java.rlgl.RLGL.RL_BATCH_VERTEX_SIZE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL32.GL_SYNC_FLUSH_COMMANDS_BIT;
+
+// Multi-buffered render batch with GL stand-in: buffers are mapped unsynchronized and only written once their fence is signaled
+class RenderBatchFenceTest{
+
+    private final boolean interleaved = Config.SUPPORT_BATCH_INTERLEAVED_VERTICES;
+    private final int bufferCount = Config.RL_DEFAULT_BATCH_BUFFERS;
+
+    private RecordingBatchGL gl;
+    private rlRenderBatch batch;
+
+    @BeforeEach
+    void Init(){
+        Config.SUPPORT_BATCH_INTERLEAVED_VERTICES = true;
+        Config.RL_DEFAULT_BATCH_BUFFERS = 2;
+
+        gl = new RecordingBatchGL();
+        new RLGL();
+        RLGL.rlglInitBackend(new RecordingBackend(gl), 64, 64);
+        batch = RLGL.rlglData.getCurrentBatch();
+        gl.Reset();
+    }
+
+    @AfterEach
+    void Close(){
+        RLGL.rlglClose();
+        Config.SUPPORT_BATCH_INTERLEAVED_VERTICES = interleaved;
+        Config.RL_DEFAULT_BATCH_BUFFERS = bufferCount;
+    }
+
+    private static void DrawQuad(){
+        RLGL.rlBegin(RLGL.RL_QUADS);
+        RLGL.rlColor4ub(10, 20, 30, 255);
+        RLGL.rlTexCoord2f(0, 0); RLGL.rlVertex2f(0, 0);
+        RLGL.rlTexCoord2f(0, 1); RLGL.rlVertex2f(0, 1);
+        RLGL.rlTexCoord2f(1, 1); RLGL.rlVertex2f(1, 1);
+        RLGL.rlTexCoord2f(1, 0); RLGL.rlVertex2f(1, 0);
+        RLGL.rlEnd();
+    }
+
+    private static void Flush(){
+        DrawQuad();
+        RLGL.rlDrawRenderBatchActive();
+    }
+
+    @Test
+    void MapsBufferUnsynchronized(){
+        DrawQuad();
+        DrawQuad();
+
+        int size = 2*4*RL_BATCH_VERTEX_SIZE;
+        byte[] expected = new byte[size];
+        MemoryUtil.memByteBuffer(MemoryUtil.memAddress(batch.rlVertexBuffer[0].interleaved), size).get(expected);
+
+        RLGL.rlDrawRenderBatchActive();
+
+        int access = GL_MAP_WRITE_BIT | GL_MAP_INVALIDATE_RANGE_BIT | GL_MAP_UNSYNCHRONIZED_BIT;
+        assertEquals("map " + batch.rlVertexBuffer[0].vboId[0] + " 0 " + size + " " + access, gl.calls.get(1));
+        assertArrayEquals(expected, gl.lastMapped);
+        assertEquals(size, batch.getUploadedBytes());
+        assertEquals(0, gl.Count("subdata"));
+        assertEquals(0, gl.Count("data"));
+
+        // Buffer is fenced after its draw
+        assertTrue(gl.calls.indexOf("fence 1") > gl.calls.indexOf("unmap " + batch.rlVertexBuffer[0].vboId[0]));
+    }
+
+    @Test
+    void WaitsBeforeReusingBusyBuffer(){
+        gl.gpuBusy = true;
+
+        Flush();    // Buffer 0, fence 1
+        Flush();    // Buffer 1, fence 2
+        assertEquals(0, gl.Count("wait"));
+        assertEquals(0, batch.getFenceWaits());
+
+        Flush();    // Buffer 0 again, waits fence 1 before mapping it
+
+        int vboId = batch.rlVertexBuffer[0].vboId[0];
+        int wait = gl.calls.indexOf("wait 1 0 0");
+        assertTrue(wait >= 0);
+        assertEquals("wait 1 " + GL_SYNC_FLUSH_COMMANDS_BIT + " " + RL_BATCH_FENCE_TIMEOUT, gl.calls.get(wait + 1));
+        assertEquals("delete 1", gl.calls.get(wait + 2));
+        assertEquals("bind " + vboId, gl.calls.get(wait + 3));
+        assertTrue(gl.calls.get(wait + 4).startsWith("map " + vboId));
+        assertEquals(1, batch.getFenceWaits());
+    }
+
+    @Test
+    void SignaledFenceDoesNotBlock(){
+        for (int i = 0; i < 6; i++) Flush();
+
+        // Every buffer reuse polls its fence once, no blocking wait required
+        assertEquals(4, gl.Count("wait"));
+        assertEquals(0, gl.calls.stream().filter(c -> c.endsWith(" " + RL_BATCH_FENCE_TIMEOUT)).count());
+        assertEquals(0, batch.getFenceWaits());
+        assertEquals(6, gl.Count("fence"));
+    }
+
+    @Test
+    void EmptyFlushIsNotFenced(){
+        RLGL.rlDrawRenderBatchActive();
+        RLGL.rlDrawRenderBatchActive();
+
+        assertTrue(gl.calls.isEmpty());
+        assertEquals(0, batch.fences[0]);
+        assertEquals(0, batch.fences[1]);
+    }
+
+    @Test
+    void FallsBackToSubDataWhenMapFails(){
+        gl.mapFails = true;
+
+        Flush();
+
+        assertEquals(4*RL_BATCH_VERTEX_SIZE, gl.subDataBytes);
+        assertEquals(0, gl.mappedBytes);
+        assertEquals(1, gl.Count("fence"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.raylib.java.rlgl;
+
+import com.raylib.java.Config;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static com.raylib.java.rlgl.RLGL.RL_BATCH_VERTEX_SIZE;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Render batch uploads with GL stand-in: only the written vertex range is uploaded on every flush
+class RenderBatchUploadTest{
+
+    private final boolean orphaning = Config.SUPPORT_BATCH_BUFFER_ORPHANING;
+    private final boolean interleaved = Config.SUPPORT_BATCH_INTERLEAVED_VERTICES;
+    private final int bufferCount = Config.RL_DEFAULT_BATCH_BUFFERS;
+
+    private RecordingBatchGL gl;
+
+    @AfterEach
+    void Close(){
+        RLGL.rlglClose();
+        Config.SUPPORT_BATCH_BUFFER_ORPHANING = orphaning;
+        Config.SUPPORT_BATCH_INTERLEAVED_VERTICES = interleaved;
+        Config.RL_DEFAULT_BATCH_BUFFERS = bufferCount;
+    }
+
+    private RecordingBackend Init(){
+        gl = new RecordingBatchGL();
+        RecordingBackend backend = new RecordingBackend(gl);
+
+        new RLGL();
+        RLGL.rlglInitBackend(backend, 64, 64);
+        gl.Reset();
+
+        return backend;
+    }
+
+    private static void DrawQuads(int count){
+        RLGL.rlBegin(RLGL.RL_QUADS);
+        for (int i = 0; i < count; i++){
+            RLGL.rlColor4ub(255, 255, 255, 255);
+            RLGL.rlTexCoord2f(0, 0); RLGL.rlVertex2f(i, 0);
+            RLGL.rlTexCoord2f(0, 1); RLGL.rlVertex2f(i, 1);
+            RLGL.rlTexCoord2f(1, 1); RLGL.rlVertex2f(i + 1, 1);
+            RLGL.rlTexCoord2f(1, 0); RLGL.rlVertex2f(i + 1, 0);
+        }
+        RLGL.rlEnd();
+    }
+
+    @Test
+    void UploadsWrittenRangeOnly(){
+        Config.SUPPORT_BATCH_INTERLEAVED_VERTICES = false;
+        RecordingBackend backend = Init();
+
+        DrawQuads(10);
+        RLGL.rlDrawRenderBatchActive();
+
+        // Positions (3 float), texcoords (2 float) and colors (4 bytes) of 10 quads
+        long expected = 10*4*(3*Float.BYTES + 2*Float.BYTES + 4);
+        assertEquals(expected, gl.subDataBytes);
+        assertEquals(expected, RLGL.rlglData.getCurrentBatch().getUploadedBytes());
+        assertEquals(40, backend.drawVertices);
+
+        gl.Reset();
+        DrawQuads(3);
+        RLGL.rlDrawRenderBatchActive();
+
+        assertEquals(3*4*(3*Float.BYTES + 2*Float.BYTES + 4), gl.subDataBytes);
+    }
+
+    @Test
+    void UploadsInterleavedRange(){
+        Config.SUPPORT_BATCH_INTERLEAVED_VERTICES = true;
+        Init();
+
+        DrawQuads(10);
+        RLGL.rlDrawRenderBatchActive();
+
+        assertEquals(10*4*RL_BATCH_VERTEX_SIZE, gl.subDataBytes);
+        assertEquals(1, gl.Count("subdata"));
+    }
+
+    @Test
+    void EmptyFlushUploadsNothing(){
+        RecordingBackend backend = Init();
+
+        RLGL.rlDrawRenderBatchActive();
+
+        assertEquals(0, gl.subDataBytes);
+        assertTrue(gl.calls.isEmpty());
+        assertEquals(1, backend.drawBatches);
+    }
+
+    @Test
+    void OrphansBeforeSubData(){
+        Config.SUPPORT_BATCH_BUFFER_ORPHANING = true;
+        Config.SUPPORT_BATCH_INTERLEAVED_VERTICES = true;
+        Config.RL_DEFAULT_BATCH_BUFFERS = 1;
+        Init();
+
+        DrawQuads(2);
+        RLGL.rlDrawRenderBatchActive();
+
+        int vboId = RLGL.rlglData.getCurrentBatch().rlVertexBuffer[0].vboId[0];
+        long capacity = RLGL.rlglData.getCurrentBatch().rlVertexBuffer[0].interleaved.capacity();
+        assertEquals(3, gl.calls.size());
+        assertEquals("bind " + vboId, gl.calls.get(0));
+        assertEquals("data " + vboId + " " + capacity, gl.calls.get(1));
+        assertEquals("subdata " + vboId + " 0 " + 2*4*RL_BATCH_VERTEX_SIZE, gl.calls.get(2));
+    }
+
+    @Test
+    void NoOrphaningWhenDisabled(){
+        Config.SUPPORT_BATCH_BUFFER_ORPHANING = false;
+        Config.SUPPORT_BATCH_INTERLEAVED_VERTICES = true;
+        Init();
+
+        DrawQuads(2);
+        RLGL.rlDrawRenderBatchActive();
+
+        assertEquals(0, gl.Count("data"));
+    }
+}
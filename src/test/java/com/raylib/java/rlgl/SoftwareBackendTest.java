@@ -0,0 +1,194 @@
+package com.raylib.java.rlgl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.DataBufferByte;
+
+import static com.raylib.java.rlgl.RLGL.rlBlendMode.*;
+import static com.raylib.java.rlgl.RLGL.rlPixelFormat.RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Software backend renders known scenes, framebuffer pixels (packed RGBA) are compared against expected values
+class SoftwareBackendTest{
+
+    private static final int SIZE = 8;
+    private static final int BLACK = 0x000000ff;
+    private static final int WHITE = 0xffffffff;
+
+    private rlSoftwareBackend backend;
+
+    @BeforeEach
+    void Init(){
+        backend = new rlSoftwareBackend(SIZE, SIZE);
+
+        new RLGL();
+        RLGL.rlglInitBackend(backend, SIZE, SIZE);
+
+        // 2D projection, top-left origin, one unit by pixel
+        RLGL.rlMatrixMode(RLGL.RL_PROJECTION);
+        RLGL.rlLoadIdentity();
+        RLGL.rlOrtho(0, SIZE, SIZE, 0, 0.0f, 1.0f);
+        RLGL.rlMatrixMode(RLGL.RL_MODELVIEW);
+        RLGL.rlLoadIdentity();
+
+        Clear(0, 0, 0, 255);
+    }
+
+    @AfterEach
+    void Close(){
+        RLGL.rlglClose();
+    }
+
+    private static void Clear(int r, int g, int b, int a){
+        RLGL.rlClearColor(r, g, b, a);
+        RLGL.rlClearScreenBuffers();
+    }
+
+    private static void DrawQuad(float x0, float y0, float x1, float y1, float u1, float v1, int r, int g, int b, int a){
+        RLGL.rlBegin(RLGL.RL_QUADS);
+        RLGL.rlColor4ub(r, g, b, a);
+        RLGL.rlTexCoord2f(0, 0); RLGL.rlVertex2f(x0, y0);
+        RLGL.rlTexCoord2f(0, v1); RLGL.rlVertex2f(x0, y1);
+        RLGL.rlTexCoord2f(u1, v1); RLGL.rlVertex2f(x1, y1);
+        RLGL.rlTexCoord2f(u1, 0); RLGL.rlVertex2f(x1, y0);
+        RLGL.rlEnd();
+    }
+
+    private int Pixel(int x, int y){
+        return backend.getPixels()[y*SIZE + x];
+    }
+
+    @Test
+    void FilledQuadTopLeftRule(){
+        DrawQuad(2, 2, 6, 6, 1, 1, 255, 255, 255, 255);
+        RLGL.rlDrawRenderBatchActive();
+
+        // NOTE: Pixel centers inside [2, 6) are covered, right and bottom edges are not
+        for (int y = 0; y < SIZE; y++){
+            for (int x = 0; x < SIZE; x++){
+                boolean inside = (x >= 2) && (x < 6) && (y >= 2) && (y < 6);
+                assertEquals(inside? WHITE : BLACK, Pixel(x, y), "pixel " + x + ", " + y);
+            }
+        }
+    }
+
+    @Test
+    void SharedEdgesDrawnOnce(){
+        // Adjacent quads (and quad diagonals) share edges, added colors show any pixel drawn twice
+        RLGL.rlSetBlendMode(RL_BLEND_ADD_COLORS);
+        DrawQuad(0, 0, 4, 8, 1, 1, 10, 10, 10, 0);
+        DrawQuad(4, 0, 8, 8, 1, 1, 10, 10, 10, 0);
+        RLGL.rlDrawRenderBatchActive();
+
+        for (int i = 0; i < SIZE*SIZE; i++){
+            assertEquals(0x0a0a0aff, backend.getPixels()[i], "pixel " + i);
+        }
+    }
+
+    @Test
+    void TexturedQuadRepeatSampling(){
+        int[] texels = { 0xff0000ff, 0x00ff00ff, 0x0000ffff, 0xffffffff };     // 2x2: red, green / blue, white
+        byte[] data = new byte[16];
+        for (int i = 0; i < 4; i++){
+            data[i*4] = (byte)(texels[i] >>> 24);
+            data[i*4 + 1] = (byte)(texels[i] >>> 16);
+            data[i*4 + 2] = (byte)(texels[i] >>> 8);
+            data[i*4 + 3] = (byte)texels[i];
+        }
+
+        int id = RLGL.rlLoadTexture(new DataBufferByte(data, data.length), 2, 2, RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8, 1);
+
+        // Texture coordinates 0..2, texture repeated twice, every texel covers 2x2 pixels
+        RLGL.rlSetTexture(id);
+        DrawQuad(0, 0, SIZE, SIZE, 2, 2, 255, 255, 255, 255);
+        RLGL.rlSetTexture(0);
+        RLGL.rlDrawRenderBatchActive();
+
+        for (int y = 0; y < SIZE; y++){
+            for (int x = 0; x < SIZE; x++){
+                assertEquals(texels[((y/2)%2)*2 + (x/2)%2], Pixel(x, y), "pixel " + x + ", " + y);
+            }
+        }
+
+        RLGL.rlUnloadTexture(id);
+    }
+
+    // Draw a quad covering the framebuffer with provided blend mode, source (200, 100, 0, 128) over (100, 50, 200, 255)
+    private int Blend(int mode){
+        Clear(100, 50, 200, 255);
+
+        RLGL.rlSetBlendMode(mode);
+        DrawQuad(0, 0, SIZE, SIZE, 1, 1, 200, 100, 0, 128);
+        RLGL.rlDrawRenderBatchActive();
+        RLGL.rlSetBlendMode(RL_BLEND_ALPHA);
+
+        int color = Pixel(0, 0);
+        for (int i = 0; i < SIZE*SIZE; i++) assertEquals(color, backend.getPixels()[i]);
+
+        return color;
+    }
+
+    @Test
+    void BlendModes(){
+        // NOTE: Expected values from OpenGL blend equations (unsigned normalized, rounded)
+        assertEquals(0x964b64bf, Blend(RL_BLEND_ALPHA));          // src*srcAlpha + dst*(1 - srcAlpha): (150, 75, 100, 191)
+        assertEquals(0xc864c8ff, Blend(RL_BLEND_ADDITIVE));       // src*srcAlpha + dst: (200, 100, 200, 255)
+        assertEquals(0x802d64ff, Blend(RL_BLEND_MULTIPLIED));     // src*dst + dst*(1 - srcAlpha): (128, 45, 100, 255)
+    }
+
+    @Test
+    void Lines(){
+        RLGL.rlBegin(RLGL.RL_LINES);
+        RLGL.rlColor4ub(255, 0, 0, 255);
+        RLGL.rlVertex2f(1, 3.5f);
+        RLGL.rlVertex2f(7, 3.5f);
+        RLGL.rlColor4ub(0, 255, 0, 255);
+        RLGL.rlVertex2f(0.5f, 0.5f);
+        RLGL.rlVertex2f(3.5f, 3.5f);
+        RLGL.rlEnd();
+        RLGL.rlDrawRenderBatchActive();
+
+        // Horizontal line: pixels 1..6 on row 3, last pixel not drawn
+        for (int x = 0; x < SIZE; x++){
+            assertEquals(((x >= 1) && (x < 7))? 0xff0000ff : BLACK, Pixel(x, 3), "pixel " + x + ", 3");
+        }
+
+        // Diagonal line: pixels (0, 0) to (2, 2)
+        for (int i = 0; i < 3; i++) assertEquals(0x00ff00ff, Pixel(i, i), "pixel " + i + ", " + i);
+        assertEquals(BLACK, Pixel(1, 0));
+        assertEquals(BLACK, Pixel(0, 1));
+    }
+
+    @Test
+    void CloseRestoresGraphicsApi(){
+        RLGL.rlglClose();
+
+        boolean opengl11 = RLGL.GRAPHICS_API_OPENGL_11;
+        boolean opengl33 = RLGL.GRAPHICS_API_OPENGL_33;
+        rlBackend previous = RLGL.backend;
+
+        try{
+            RLGL.GRAPHICS_API_OPENGL_11 = true;
+            RLGL.GRAPHICS_API_OPENGL_33 = false;
+
+            new RLGL();
+            RLGL.rlglInitBackend(backend, SIZE, SIZE);
+            assertTrue(RLGL.GRAPHICS_API_OPENGL_33);
+            assertSame(backend, RLGL.backend);
+
+            RLGL.rlglClose();
+            assertTrue(RLGL.GRAPHICS_API_OPENGL_11);
+            assertFalse(RLGL.GRAPHICS_API_OPENGL_33);
+            assertSame(previous, RLGL.backend);
+            assertEquals(0, RLGL.rlglData.getState().getDefaultShaderId());
+        }
+        finally{
+            RLGL.GRAPHICS_API_OPENGL_11 = opengl11;
+            RLGL.GRAPHICS_API_OPENGL_33 = opengl33;
+        }
+
+        Init();     // Closed again after test
+    }
+}
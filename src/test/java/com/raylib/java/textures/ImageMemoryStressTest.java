@@ -0,0 +1,55 @@
+package com.raylib.java.textures;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static com.raylib.java.rlgl.RLGL.rlPixelFormat.RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Images native data is released on UnloadImage(): repeated load/unload keeps native memory flat
+class ImageMemoryStressTest{
+
+    private static final int ITERATIONS = 10000;
+
+    private static byte[] EncodePNG(int width, int height) throws IOException{
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        for (int y = 0; y < height; y++){
+            for (int x = 0; x < width; x++) image.setRGB(x, y, 0x80000000 | (x*8 << 16) | (y*8 << 8) | (x ^ y));
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+
+        return output.toByteArray();
+    }
+
+    @Test
+    void LoadUnloadKeepsNativeMemoryFlat() throws IOException{
+        rTextures textures = new rTextures(null);
+        byte[] fileData = EncodePNG(32, 16);
+
+        // NOTE: First load warms up scratch buffers pool (not image data, not counted). Baseline can only go down
+        // while looping: native data left by other tests can be released by garbage collector (Cleaner) at any time
+        textures.UnloadImage(textures.LoadImageFromMemory(".png", fileData, fileData.length));
+        long allocated = DataBufferNative.getAllocatedSize();
+
+        for (int i = 0; i < ITERATIONS; i++){
+            Image image = textures.LoadImageFromMemory(".png", fileData, fileData.length);
+
+            assertEquals(RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8, image.format);
+            assertEquals(32*16*4, image.getBuffer().remaining());
+
+            textures.ImageFlipVertical(image);
+            textures.ImageRotateCW(image);
+            textures.UnloadImage(image);
+        }
+
+        long leaked = DataBufferNative.getAllocatedSize() - allocated;
+        assertTrue(leaked <= 0, "Native image data leaked: " + leaked + " bytes after " + ITERATIONS + " iterations");
+    }
+}
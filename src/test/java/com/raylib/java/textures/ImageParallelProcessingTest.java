@@ -0,0 +1,141 @@
+package com.raylib.java.textures;
+
+import com.raylib.java.Config;
+import com.raylib.java.core.Color;
+import com.raylib.java.raymath.Vector4;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.raylib.java.Config.IMAGE_PARALLEL_MIN_PIXELS;
+import static com.raylib.java.rlgl.RLGL.rlPixelFormat.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Image kernels processed in parallel row bands (SUPPORT_IMAGE_PARALLEL_PROCESSING) return the same bytes than serial processing
+class ImageParallelProcessingTest{
+
+    // NOTE: Odd size, bigger than IMAGE_PARALLEL_MIN_PIXELS, last row band is not complete
+    private static final int WIDTH = 523;
+    private static final int HEIGHT = 311;
+
+    private static final int[] FORMATS = {
+            RL_PIXELFORMAT_UNCOMPRESSED_GRAYSCALE, RL_PIXELFORMAT_UNCOMPRESSED_GRAY_ALPHA, RL_PIXELFORMAT_UNCOMPRESSED_R5G6B5,
+            RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8, RL_PIXELFORMAT_UNCOMPRESSED_R5G5B5A1, RL_PIXELFORMAT_UNCOMPRESSED_R4G4B4A4,
+            RL_PIXELFORMAT_UNCOMPRESSED_R32, RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32, RL_PIXELFORMAT_UNCOMPRESSED_R32G32B32A32
+    };
+
+    private final rTextures textures = new rTextures(null);
+    private final boolean parallelProcessing = Config.SUPPORT_IMAGE_PARALLEL_PROCESSING;
+
+    @AfterEach
+    void RestoreConfig(){
+        Config.SUPPORT_IMAGE_PARALLEL_PROCESSING = parallelProcessing;
+    }
+
+    private static Image GenImage(int format, rTextures textures){
+        byte[] data = new byte[WIDTH*HEIGHT*4];
+        new Random(7).nextBytes(data);
+
+        Image image = new Image(data, WIDTH, HEIGHT, RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8, 1);
+        textures.ImageFormat(image, format);
+
+        return image;
+    }
+
+    // Apply kernel on image data with parallel processing disabled and enabled, returns both results bytes
+    private byte[][] Run(int format, Consumer<Image> kernel){
+        byte[][] results = new byte[2][];
+
+        for (int i = 0; i < 2; i++){
+            Config.SUPPORT_IMAGE_PARALLEL_PROCESSING = (i == 1);
+
+            Image image = GenImage(format, textures);
+            kernel.accept(image);
+            results[i] = image.getData();
+            textures.UnloadImage(image);
+        }
+
+        return results;
+    }
+
+    private void AssertSameBytes(String kernelName, Consumer<Image> kernel){
+        assertTrue(WIDTH*HEIGHT >= IMAGE_PARALLEL_MIN_PIXELS);
+
+        for (int format : FORMATS){
+            byte[][] results = Run(format, kernel);
+            assertArrayEquals(results[0], results[1], kernelName + " parallel result differs, format " + format);
+        }
+
+        byte[][] results = Run(RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8, kernel);
+        assertArrayEquals(results[0], results[1], kernelName + " parallel result differs, format R8G8B8A8");
+    }
+
+    // Load data from image with parallel processing disabled and enabled, results are compared as bytes
+    private <T> void AssertSameLoad(String loadName, Function<Image, T> load, Function<T, byte[]> toBytes){
+        for (int format : FORMATS){
+            byte[][] results = Run(format, image -> image.setData(toBytes.apply(load.apply(image))));
+            assertArrayEquals(results[0], results[1], loadName + " parallel result differs, format " + format);
+        }
+    }
+
+    @Test
+    void ImageFormatMatchesSerial(){
+        // NOTE: Every format converted to R8G8B8A8 (LoadPixelsNormalized()), R8G8B8A8 converted to every format (FormatPixelsNormalized())
+        AssertSameBytes("ImageFormat(R8G8B8A8)", image -> textures.ImageFormat(image, RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8));
+
+        for (int format : FORMATS){
+            byte[][] results = Run(RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8, image -> textures.ImageFormat(image, format));
+            assertArrayEquals(results[0], results[1], "ImageFormat parallel result differs, format " + format);
+        }
+    }
+
+    @Test
+    void ImageColorKernelsMatchSerial(){
+        AssertSameBytes("ImageColorTint", image -> textures.ImageColorTint(image, new Color(200, 120, 40, 230)));
+        AssertSameBytes("ImageColorInvert", textures::ImageColorInvert);
+        AssertSameBytes("ImageColorContrast", image -> textures.ImageColorContrast(image, 35.0f));
+        AssertSameBytes("ImageColorBrightness", image -> textures.ImageColorBrightness(image, -60));
+        AssertSameBytes("ImageAlphaPremultiply", textures::ImageAlphaPremultiply);
+    }
+
+    @Test
+    void LoadPixelsMatchSerial(){
+        AssertSameLoad("LoadImagePixels", textures::LoadImagePixels, pixels -> {
+            ByteBuffer bytes = ByteBuffer.allocate(pixels.length*4);
+            bytes.asIntBuffer().put(pixels);
+            return bytes.array();
+        });
+        AssertSameLoad("LoadImageColors", textures::LoadImageColors, colors -> {
+            byte[] bytes = new byte[colors.length*4];
+            for (int i = 0; i < colors.length; i++){
+                bytes[i*4] = (byte) colors[i].r;
+                bytes[i*4 + 1] = (byte) colors[i].g;
+                bytes[i*4 + 2] = (byte) colors[i].b;
+                bytes[i*4 + 3] = (byte) colors[i].a;
+            }
+            return bytes;
+        });
+        AssertSameLoad("LoadImageDataNormalized", textures::LoadImageDataNormalized, pixels -> {
+            ByteBuffer bytes = ByteBuffer.allocate(pixels.length*16);
+            for (Vector4 pixel : pixels) bytes.putFloat(pixel.x).putFloat(pixel.y).putFloat(pixel.z).putFloat(pixel.w);
+            return bytes.array();
+        });
+    }
+
+    @Test
+    void LoadPixelsNormalizedAreUnsigned(){
+        Image image = new Image(new byte[]{ (byte) 200, (byte) 100, (byte) 40, (byte) 255 }, 1, 1, RL_PIXELFORMAT_UNCOMPRESSED_R8G8B8A8, 1);
+        Vector4 pixel = textures.LoadImageDataNormalized(image)[0];
+
+        assertEquals(200/255.0f, pixel.x, 1e-6f);
+        assertEquals(100/255.0f, pixel.y, 1e-6f);
+        assertEquals(40/255.0f, pixel.z, 1e-6f);
+        assertEquals(1.0f, pixel.w, 1e-6f);
+
+        textures.UnloadImage(image);
+    }
+}
